@@ -0,0 +1,152 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.bean.enumeration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link DecoratedEnumRegistryBenchmark} compares the decoration of enum
+ * constants and new values with a new {@link DecoratedEnum} per lookup with the canonical
+ * instances of the {@link DecoratedEnumRegistry}. Each benchmark decorates all enum constants of
+ * {@link TimeUnit} and compares them with a previously decorated constant. Run it with the gc
+ * profiler (<code>-PjmhProfilers=gc</code>) to see the allocation per lookup
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DecoratedEnumRegistryBenchmark
+{
+
+	/** The enum constants */
+	TimeUnit[] constants;
+
+	/** The new values */
+	String[] values;
+
+	/** The new decorated enum of the expected constant */
+	DecoratedEnum<TimeUnit, String> newExpected;
+
+	/** The canonical decorated enum of the expected constant */
+	DecoratedEnum<TimeUnit, String> canonicalExpected;
+
+	/**
+	 * Creates the enum constants, the new values and the expected decorated enums
+	 */
+	@Setup
+	public void setup()
+	{
+		this.constants = TimeUnit.values();
+		this.values = new String[] { "WEEKS", "MONTHS", "YEARS" };
+		this.newExpected = new DecoratedEnum<>(TimeUnit.SECONDS, null);
+		this.canonicalExpected = DecoratedEnum.of(TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Benchmark for the decoration of the enum constants with a new {@link DecoratedEnum} per
+	 * lookup
+	 *
+	 * @return the number of matches
+	 */
+	@Benchmark
+	public int newDecoratedEnum()
+	{
+		int matches = 0;
+		for (final TimeUnit constant : this.constants)
+		{
+			if (new DecoratedEnum<TimeUnit, String>(constant, null).equals(this.newExpected))
+			{
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Benchmark for the decoration of the enum constants with the canonical {@link DecoratedEnum}
+	 * instances
+	 *
+	 * @return the number of matches
+	 */
+	@Benchmark
+	public int canonicalDecoratedEnum()
+	{
+		int matches = 0;
+		for (final TimeUnit constant : this.constants)
+		{
+			if (DecoratedEnum.<TimeUnit, String> of(constant) == this.canonicalExpected)
+			{
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Benchmark for the decoration of the new values with a new {@link DecoratedEnum} per lookup
+	 *
+	 * @return the number of new values
+	 */
+	@Benchmark
+	public int newDecoratedValue()
+	{
+		int count = 0;
+		for (final String value : this.values)
+		{
+			if (new DecoratedEnum<TimeUnit, String>(null, value).getValue() != null)
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Benchmark for the decoration of the new values with the interned {@link DecoratedEnum}
+	 * instances
+	 *
+	 * @return the number of new values
+	 */
+	@Benchmark
+	public int internedDecoratedValue()
+	{
+		int count = 0;
+		for (final String value : this.values)
+		{
+			if (DecoratedEnum.ofValue(TimeUnit.class, value).getValue() != null)
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,242 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.bean.enumeration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link DecoratedEnumResolverBenchmark} compares the resolution of
+ * {@link TimeUnit} names to {@link DecoratedEnum} instances with a linear scan over the enum
+ * constants, with a {@link HashMap} and with the {@link DecoratedEnumResolver}. The tokens are
+ * resolved from strings and from slices of one byte array, one of eight tokens is unknown
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class DecoratedEnumResolverBenchmark
+{
+
+	/** The number of tokens */
+	@Param({ "1000", "100000" })
+	int size;
+
+	/** The tokens as strings */
+	String[] tokens;
+
+	/** The tokens as one byte array */
+	byte[] bytes;
+
+	/** The offsets of the tokens in the byte array */
+	int[] offsets;
+
+	/** The lengths of the tokens in the byte array */
+	int[] lengths;
+
+	/** The decorated enums by name */
+	Map<String, DecoratedEnum<TimeUnit, String>> decoratedEnumsByName;
+
+	/** The resolver */
+	DecoratedEnumResolver<TimeUnit> resolver;
+
+	/**
+	 * Creates the tokens, the map and the resolver
+	 */
+	@Setup
+	public void setup()
+	{
+		final TimeUnit[] constants = TimeUnit.values();
+		final Random random = new Random(42);
+		final StringBuilder text = new StringBuilder();
+		this.tokens = new String[this.size];
+		this.offsets = new int[this.size];
+		this.lengths = new int[this.size];
+		for (int i = 0; i < this.size; i++)
+		{
+			String token = constants[random.nextInt(constants.length)].name();
+			if (random.nextInt(8) == 0)
+			{
+				token = "WEEKS";
+			}
+			this.tokens[i] = new String(token.toCharArray());
+			this.offsets[i] = text.length();
+			this.lengths[i] = token.length();
+			text.append(token).append(',');
+		}
+		this.bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+		this.decoratedEnumsByName = new HashMap<>();
+		for (final TimeUnit constant : constants)
+		{
+			this.decoratedEnumsByName.put(constant.name(), DecoratedEnum.of(constant));
+		}
+		this.resolver = DecoratedEnumResolver.of(TimeUnit.class);
+	}
+
+	/**
+	 * Resolves the given name with a linear scan over the enum constants
+	 *
+	 * @param name
+	 *            the name
+	 * @return the decorated enum
+	 */
+	private static DecoratedEnum<TimeUnit, String> scan(final String name)
+	{
+		for (final TimeUnit constant : TimeUnit.values())
+		{
+			if (constant.name().equals(name))
+			{
+				return DecoratedEnum.of(constant);
+			}
+		}
+		return new DecoratedEnum<>(null, name);
+	}
+
+	/**
+	 * Resolves the given name with the map
+	 *
+	 * @param name
+	 *            the name
+	 * @return the decorated enum
+	 */
+	private DecoratedEnum<TimeUnit, String> lookup(final String name)
+	{
+		final DecoratedEnum<TimeUnit, String> decoratedEnum = this.decoratedEnumsByName.get(name);
+		if (decoratedEnum != null)
+		{
+			return decoratedEnum;
+		}
+		return new DecoratedEnum<>(null, name);
+	}
+
+	/**
+	 * Benchmark for the resolution of the string tokens with a linear scan
+	 *
+	 * @return the number of resolved enum constants
+	 */
+	@Benchmark
+	public int linearScan()
+	{
+		int resolved = 0;
+		for (final String token : this.tokens)
+		{
+			if (scan(token).getEnumtype() != null)
+			{
+				resolved++;
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Benchmark for the resolution of the string tokens with a {@link HashMap}
+	 *
+	 * @return the number of resolved enum constants
+	 */
+	@Benchmark
+	public int hashMap()
+	{
+		int resolved = 0;
+		for (final String token : this.tokens)
+		{
+			if (lookup(token).getEnumtype() != null)
+			{
+				resolved++;
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Benchmark for the resolution of the string tokens with the {@link DecoratedEnumResolver}
+	 *
+	 * @return the number of resolved enum constants
+	 */
+	@Benchmark
+	public int resolver()
+	{
+		int resolved = 0;
+		for (final String token : this.tokens)
+		{
+			if (this.resolver.resolve(token).getEnumtype() != null)
+			{
+				resolved++;
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Benchmark for the resolution of the byte array slices with a decoded string and a
+	 * {@link HashMap}
+	 *
+	 * @return the number of resolved enum constants
+	 */
+	@Benchmark
+	public int bytesDecodedHashMap()
+	{
+		int resolved = 0;
+		for (int i = 0; i < this.size; i++)
+		{
+			final String token = new String(this.bytes, this.offsets[i], this.lengths[i],
+				StandardCharsets.US_ASCII);
+			if (lookup(token).getEnumtype() != null)
+			{
+				resolved++;
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Benchmark for the resolution of the byte array slices with the {@link DecoratedEnumResolver}
+	 *
+	 * @return the number of resolved enum constants
+	 */
+	@Benchmark
+	public int bytesResolver()
+	{
+		int resolved = 0;
+		for (int i = 0; i < this.size; i++)
+		{
+			if (this.resolver.resolveConstant(this.bytes, this.offsets[i], this.lengths[i]) != null)
+			{
+				resolved++;
+			}
+		}
+		return resolved;
+	}
+}
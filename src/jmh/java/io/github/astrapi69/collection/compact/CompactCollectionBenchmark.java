@@ -0,0 +1,220 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.compact;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.collection.pair.KeySetPair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The benchmark class {@link CompactCollectionBenchmark} compares the compact immutable
+ * collections {@link CompactImmutableList} and {@link CompactImmutableSet} with the unmodifiable
+ * wrappers over an {@link ArrayList} and a {@link LinkedHashSet} that the builders of
+ * {@link KeyValuesPair} and {@link KeySetPair} created before. The build benchmarks create one
+ * pair per invocation, run them with the gc profiler
+ * (<code>-PjmhProfilers=gc</code>) and the normalized allocation rate is the memory per pair
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CompactCollectionBenchmark
+{
+
+	/** The number of values of a pair */
+	@Param({ "4", "16", "64" })
+	int size;
+
+	/** The values */
+	List<String> values;
+
+	/** The values and as many missing values to search */
+	String[] lookups;
+
+	/** The unmodifiable linked hash set */
+	Set<String> linkedHashSet;
+
+	/** The compact immutable set */
+	Set<String> compactImmutableSet;
+
+	/**
+	 * Creates the values and the sets for the current size
+	 */
+	@Setup
+	public void setup()
+	{
+		this.values = new ArrayList<>(this.size);
+		this.lookups = new String[this.size * 2];
+		for (int i = 0; i < this.size; i++)
+		{
+			this.values.add("value" + i);
+			this.lookups[2 * i] = "value" + i;
+			this.lookups[2 * i + 1] = "missing" + i;
+		}
+		this.linkedHashSet = Collections.unmodifiableSet(new LinkedHashSet<>(this.values));
+		this.compactImmutableSet = CompactImmutableSet.copyOf(this.values);
+	}
+
+	/**
+	 * Benchmark for the creation of a key values pair with an unmodifiable array list
+	 *
+	 * @return the key values pair
+	 */
+	@Benchmark
+	public KeyValuesPair<String, String> buildArrayListPair()
+	{
+		return new KeyValuesPair<>("key",
+			Collections.unmodifiableList(new ArrayList<>(this.values)));
+	}
+
+	/**
+	 * Benchmark for the creation of a key values pair with a {@link CompactImmutableList}
+	 *
+	 * @return the key values pair
+	 */
+	@Benchmark
+	public KeyValuesPair<String, String> buildCompactImmutableListPair()
+	{
+		return new KeyValuesPair<>("key", CompactImmutableList.copyOf(this.values));
+	}
+
+	/**
+	 * Benchmark for the creation of a key set pair with an unmodifiable linked hash set
+	 *
+	 * @return the key set pair
+	 */
+	@Benchmark
+	public KeySetPair<String, String> buildLinkedHashSetPair()
+	{
+		return new KeySetPair<>("key",
+			Collections.unmodifiableSet(new LinkedHashSet<>(this.values)));
+	}
+
+	/**
+	 * Benchmark for the creation of a key set pair with a {@link CompactImmutableSet}
+	 *
+	 * @return the key set pair
+	 */
+	@Benchmark
+	public KeySetPair<String, String> buildCompactImmutableSetPair()
+	{
+		return new KeySetPair<>("key", CompactImmutableSet.copyOf(this.values));
+	}
+
+	/**
+	 * Benchmark for the lookup of present and missing values in the linked hash set
+	 *
+	 * @return the number of found values
+	 */
+	@Benchmark
+	public int containsLinkedHashSet()
+	{
+		return contains(this.linkedHashSet);
+	}
+
+	/**
+	 * Benchmark for the lookup of present and missing values in the {@link CompactImmutableSet}
+	 *
+	 * @return the number of found values
+	 */
+	@Benchmark
+	public int containsCompactImmutableSet()
+	{
+		return contains(this.compactImmutableSet);
+	}
+
+	/**
+	 * Benchmark for the iteration over the linked hash set
+	 *
+	 * @return the sum of the hash codes
+	 */
+	@Benchmark
+	public int iterateLinkedHashSet()
+	{
+		return iterate(this.linkedHashSet);
+	}
+
+	/**
+	 * Benchmark for the iteration over the {@link CompactImmutableSet}
+	 *
+	 * @return the sum of the hash codes
+	 */
+	@Benchmark
+	public int iterateCompactImmutableSet()
+	{
+		return iterate(this.compactImmutableSet);
+	}
+
+	/**
+	 * Counts the lookups that are found in the given set
+	 *
+	 * @param set
+	 *            the set
+	 * @return the number of found values
+	 */
+	private int contains(final Set<String> set)
+	{
+		int found = 0;
+		for (final String lookup : this.lookups)
+		{
+			if (set.contains(lookup))
+			{
+				found++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Sums the hash codes of the values of the given set
+	 *
+	 * @param set
+	 *            the set
+	 * @return the sum of the hash codes
+	 */
+	private int iterate(final Set<String> set)
+	{
+		int sum = 0;
+		for (final String value : set)
+		{
+			sum += value.hashCode();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,165 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.compact;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.collection.pair.KeyMapPair;
+
+/**
+ * The benchmark class {@link CompactMapBenchmark} compares the {@link CompactImmutableMap} with a
+ * {@link HashMap} for the small maps of {@link KeyMapPair}'s. The build benchmarks create one key
+ * map pair per invocation, run them with the gc profiler (<code>-PjmhProfilers=gc</code>) and the
+ * normalized allocation rate is the memory per pair
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CompactMapBenchmark
+{
+
+	/** The number of entries of a map */
+	@Param({ "2", "4", "8", "32" })
+	int size;
+
+	/** The keys */
+	String[] keys;
+
+	/** The keys and as many missing keys to search */
+	String[] lookups;
+
+	/** The hash map */
+	Map<String, Integer> hashMap;
+
+	/** The compact immutable map */
+	Map<String, Integer> compactImmutableMap;
+
+	/**
+	 * Creates the keys and the maps for the current size
+	 */
+	@Setup
+	public void setup()
+	{
+		this.keys = new String[this.size];
+		this.lookups = new String[this.size * 2];
+		this.hashMap = new HashMap<>();
+		for (int i = 0; i < this.size; i++)
+		{
+			this.keys[i] = "property.name" + i;
+			this.lookups[2 * i] = this.keys[i];
+			this.lookups[2 * i + 1] = "property.missing" + i;
+			this.hashMap.put(this.keys[i], i);
+		}
+		this.compactImmutableMap = CompactImmutableMap.copyOf(this.hashMap);
+	}
+
+	/**
+	 * Benchmark for the creation of a key map pair with a {@link HashMap}
+	 *
+	 * @return the key map pair
+	 */
+	@Benchmark
+	public KeyMapPair<String, String, Integer> buildHashMapPair()
+	{
+		final Map<String, Integer> map = new HashMap<>();
+		for (int i = 0; i < this.keys.length; i++)
+		{
+			map.put(this.keys[i], i);
+		}
+		return KeyMapPair.<String, String, Integer> builder().key("key").values(map).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a key map pair with the entries of a
+	 * {@link CompactImmutableMap}
+	 *
+	 * @return the key map pair
+	 */
+	@Benchmark
+	public KeyMapPair<String, String, Integer> buildCompactMapPair()
+	{
+		final KeyMapPair.KeyMapPairBuilder<String, String, Integer> builder = KeyMapPair
+			.<String, String, Integer> builder().key("key");
+		for (int i = 0; i < this.keys.length; i++)
+		{
+			builder.entry(this.keys[i], i);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Benchmark for the lookup of present and missing keys in the {@link HashMap}
+	 *
+	 * @return the sum of the found values
+	 */
+	@Benchmark
+	public int getHashMap()
+	{
+		return get(this.hashMap);
+	}
+
+	/**
+	 * Benchmark for the lookup of present and missing keys in the {@link CompactImmutableMap}
+	 *
+	 * @return the sum of the found values
+	 */
+	@Benchmark
+	public int getCompactImmutableMap()
+	{
+		return get(this.compactImmutableMap);
+	}
+
+	/**
+	 * Sums the values of the lookups that are found in the given map
+	 *
+	 * @param map
+	 *            the map
+	 * @return the sum of the found values
+	 */
+	private int get(final Map<String, Integer> map)
+	{
+		int sum = 0;
+		for (final String lookup : this.lookups)
+		{
+			final Integer value = map.get(lookup);
+			if (value != null)
+			{
+				sum += value;
+			}
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,147 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.collection.pair.KeyMapPair;
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The benchmark class {@link KeyComparatorSortBenchmark} measures the sorting of lists with the
+ * comparators {@link KeyValuePairKeyComparator}, {@link KeyValuesPairKeyComparator} and
+ * {@link KeyMapPairKeyComparator}. Every invocation sorts a fresh copy of the same shuffled list,
+ * the copy is part of the measured time
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class KeyComparatorSortBenchmark
+{
+
+	/** The number of elements */
+	@Param({ "100", "10000", "1000000" })
+	int size;
+
+	/** The shuffled key value pairs */
+	List<KeyValuePair<String, Integer>> keyValuePairs;
+
+	/** The shuffled key values pairs */
+	List<KeyValuesPair<String, Integer>> keyValuesPairs;
+
+	/** The shuffled key map pairs */
+	List<KeyMapPair<String, String, Integer>> keyMapPairs;
+
+	/** The comparator for the key value pairs */
+	KeyValuePairKeyComparator<String, Integer> keyValuePairKeyComparator;
+
+	/** The comparator for the key values pairs */
+	KeyValuesPairKeyComparator<String, Integer> keyValuesPairKeyComparator;
+
+	/** The comparator for the key map pairs */
+	KeyMapPairKeyComparator<String, String, Integer> keyMapPairKeyComparator;
+
+	/**
+	 * Creates the comparators and the shuffled lists for the current size with a fixed seed
+	 */
+	@Setup
+	public void setup()
+	{
+		this.keyValuePairKeyComparator = new KeyValuePairKeyComparator<>();
+		this.keyValuesPairKeyComparator = new KeyValuesPairKeyComparator<>();
+		this.keyMapPairKeyComparator = new KeyMapPairKeyComparator<>();
+		final List<String> keys = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++)
+		{
+			keys.add("key" + i);
+		}
+		Collections.shuffle(keys, new Random(42L));
+		this.keyValuePairs = new ArrayList<>(this.size);
+		this.keyValuesPairs = new ArrayList<>(this.size);
+		this.keyMapPairs = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++)
+		{
+			final String key = keys.get(i);
+			this.keyValuePairs.add(new KeyValuePair<>(key, i));
+			this.keyValuesPairs.add(new KeyValuesPair<>(key, List.of(i)));
+			this.keyMapPairs.add(new KeyMapPair<>(key, Map.of(key, i)));
+		}
+	}
+
+	/**
+	 * Benchmark for sorting with the {@link KeyValuePairKeyComparator}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuePair<String, Integer>> sortKeyValuePairs()
+	{
+		final List<KeyValuePair<String, Integer>> list = new ArrayList<>(this.keyValuePairs);
+		list.sort(this.keyValuePairKeyComparator);
+		return list;
+	}
+
+	/**
+	 * Benchmark for sorting with the {@link KeyValuesPairKeyComparator}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuesPair<String, Integer>> sortKeyValuesPairs()
+	{
+		final List<KeyValuesPair<String, Integer>> list = new ArrayList<>(this.keyValuesPairs);
+		list.sort(this.keyValuesPairKeyComparator);
+		return list;
+	}
+
+	/**
+	 * Benchmark for sorting with the {@link KeyMapPairKeyComparator}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyMapPair<String, String, Integer>> sortKeyMapPairs()
+	{
+		final List<KeyMapPair<String, String, Integer>> list = new ArrayList<>(this.keyMapPairs);
+		list.sort(this.keyMapPairKeyComparator);
+		return list;
+	}
+
+}
@@ -0,0 +1,176 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.collection.pair.IntIntPair;
+import io.github.astrapi69.collection.pair.Pair;
+import io.github.astrapi69.collection.pair.Quattro;
+import io.github.astrapi69.collection.pair.Triple;
+
+/**
+ * The benchmark class {@link TupleComparatorSortBenchmark} measures the sorting of lists of tuples
+ * with the comparators {@link PairComparator}, {@link TripleComparator}, {@link QuattroComparator}
+ * and {@link PrimitiveTupleComparators} compared to comparators that are composed with
+ * {@link Comparator#comparing(java.util.function.Function)}. The components are drawn from a small
+ * range, so most comparisons have to look at more than the first component. Every invocation sorts
+ * a fresh copy of the same shuffled list, the copy is part of the measured time
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class TupleComparatorSortBenchmark
+{
+
+	/** The exclusive upper bound of the components */
+	static final int BOUND = 16;
+
+	/** The number of elements */
+	@Param({ "10000", "1000000" })
+	int size;
+
+	/** The shuffled pairs */
+	List<Pair<Integer, Integer>> pairs;
+
+	/** The shuffled primitive pairs with the same values as the pairs */
+	List<IntIntPair> intIntPairs;
+
+	/** The shuffled triples */
+	List<Triple<Integer, Integer, String>> triples;
+
+	/** The shuffled quattros */
+	List<Quattro<Integer, Integer, Integer, String>> quattros;
+
+	/** The comparator for the triples composed with the comparator combinators */
+	Comparator<Triple<Integer, Integer, String>> composedTripleComparator;
+
+	/**
+	 * Creates the shuffled lists for the current size with a fixed seed
+	 */
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(42L);
+		this.pairs = new ArrayList<>(this.size);
+		this.intIntPairs = new ArrayList<>(this.size);
+		this.triples = new ArrayList<>(this.size);
+		this.quattros = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++)
+		{
+			final int left = random.nextInt(BOUND);
+			final int right = random.nextInt();
+			final String name = "name" + random.nextInt(BOUND);
+			this.pairs.add(new Pair<>(left, right));
+			this.intIntPairs.add(new IntIntPair(left, right));
+			this.triples.add(new Triple<>(left, random.nextInt(BOUND), name));
+			this.quattros
+				.add(new Quattro<>(random.nextInt(BOUND), name, left, random.nextInt(BOUND)));
+		}
+		this.composedTripleComparator = Comparator
+			.comparing((Triple<Integer, Integer, String> triple) -> triple.getLeft())
+			.thenComparing(Triple::getMiddle).thenComparing(Triple::getRight);
+	}
+
+	/**
+	 * Benchmark for sorting with the {@link PairComparator}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<Pair<Integer, Integer>> sortPairs()
+	{
+		final List<Pair<Integer, Integer>> list = new ArrayList<>(this.pairs);
+		list.sort(new PairComparator<>());
+		return list;
+	}
+
+	/**
+	 * Benchmark for sorting with {@link PrimitiveTupleComparators#INT_INT_PAIR}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<IntIntPair> sortIntIntPairs()
+	{
+		final List<IntIntPair> list = new ArrayList<>(this.intIntPairs);
+		list.sort(PrimitiveTupleComparators.INT_INT_PAIR);
+		return list;
+	}
+
+	/**
+	 * Benchmark for sorting with the {@link TripleComparator}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<Triple<Integer, Integer, String>> sortTriples()
+	{
+		final List<Triple<Integer, Integer, String>> list = new ArrayList<>(this.triples);
+		list.sort(new TripleComparator<>());
+		return list;
+	}
+
+	/**
+	 * Benchmark for sorting with a triple comparator that is composed with the comparator
+	 * combinators
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<Triple<Integer, Integer, String>> sortTriplesWithComposedComparator()
+	{
+		final List<Triple<Integer, Integer, String>> list = new ArrayList<>(this.triples);
+		list.sort(this.composedTripleComparator);
+		return list;
+	}
+
+	/**
+	 * Benchmark for sorting with the {@link QuattroComparator}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<Quattro<Integer, Integer, Integer, String>> sortQuattros()
+	{
+		final List<Quattro<Integer, Integer, Integer, String>> list = new ArrayList<>(
+			this.quattros);
+		list.sort(new QuattroComparator<>());
+		return list;
+	}
+}
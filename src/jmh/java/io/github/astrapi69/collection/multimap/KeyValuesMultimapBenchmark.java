@@ -0,0 +1,138 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.multimap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The benchmark class {@link KeyValuesMultimapBenchmark} compares the grouping of key value pairs
+ * into key values pairs with {@link Collectors#groupingBy(java.util.function.Function)} and a
+ * {@link KeyValuesPair.KeyValuesPairBuilder} for every group with the collectors of
+ * {@link KeyValuesMultimapCollectors}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class KeyValuesMultimapBenchmark
+{
+
+	/** The number of distinct keys */
+	@Param({ "10", "10000" })
+	int keys;
+
+	/** The number of key value pairs */
+	@Param({ "100000" })
+	int size;
+
+	/** The key value pairs with random keys */
+	List<KeyValuePair<String, Integer>> keyValuePairs;
+
+	/**
+	 * Creates the key value pairs for the current parameters with a fixed seed
+	 */
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(42L);
+		this.keyValuePairs = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++)
+		{
+			this.keyValuePairs.add(new KeyValuePair<>("key" + random.nextInt(this.keys), i));
+		}
+	}
+
+	/**
+	 * Benchmark for the grouping into a map of lists and the creation of every key values pair
+	 * with a builder
+	 *
+	 * @return the key values pairs
+	 */
+	@Benchmark
+	public List<KeyValuesPair<String, Integer>> groupingByWithBuilder()
+	{
+		final Map<String, List<Integer>> groups = this.keyValuePairs.stream()
+			.collect(Collectors.groupingBy(KeyValuePair::getKey, LinkedHashMap::new,
+				Collectors.mapping(KeyValuePair::getValue, Collectors.toList())));
+		final List<KeyValuesPair<String, Integer>> keyValuesPairs = new ArrayList<>(
+			groups.size());
+		groups.forEach((key, values) -> keyValuesPairs
+			.add(KeyValuesPair.<String, Integer> builder().key(key).values(values).build()));
+		return keyValuesPairs;
+	}
+
+	/**
+	 * Benchmark for {@link KeyValuesMultimapCollectors#toKeyValuesPairs()}
+	 *
+	 * @return the key values pairs
+	 */
+	@Benchmark
+	public List<KeyValuesPair<String, Integer>> toKeyValuesPairs()
+	{
+		return this.keyValuePairs.stream().collect(KeyValuesMultimapCollectors.toKeyValuesPairs());
+	}
+
+	/**
+	 * Benchmark for {@link KeyValuesMultimapCollectors#toMultimap()} with a parallel stream
+	 *
+	 * @return the multimap
+	 */
+	@Benchmark
+	public KeyValuesMultimap<String, Integer> parallelToMultimap()
+	{
+		return this.keyValuePairs.parallelStream()
+			.collect(KeyValuesMultimapCollectors.toMultimap());
+	}
+
+	/**
+	 * Benchmark for {@link KeyValuesMultimapCollectors#toConcurrentMultimap()} with a parallel
+	 * stream
+	 *
+	 * @return the multimap
+	 */
+	@Benchmark
+	public KeyValuesMultimap<String, Integer> parallelToConcurrentMultimap()
+	{
+		return this.keyValuePairs.parallelStream()
+			.collect(KeyValuesMultimapCollectors.toConcurrentMultimap());
+	}
+}
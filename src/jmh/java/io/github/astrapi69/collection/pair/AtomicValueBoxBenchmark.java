@@ -0,0 +1,104 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The benchmark class {@link AtomicValueBoxBenchmark} compares contended updates of one shared
+ * {@link ValueBox} that is guarded by its monitor with the lock free updates of one shared
+ * {@link AtomicValueBox}. All benchmark threads update the same box
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class AtomicValueBoxBenchmark
+{
+
+	/** The shared value box that is guarded by its monitor */
+	ValueBox<Long> valueBox;
+
+	/** The shared atomic value box */
+	AtomicValueBox<Long> atomicValueBox;
+
+	/**
+	 * Creates the shared boxes
+	 */
+	@Setup
+	public void setup()
+	{
+		this.valueBox = new ValueBox<>(0L);
+		this.atomicValueBox = new AtomicValueBox<>(0L);
+	}
+
+	/**
+	 * Benchmark for the increment of the {@link ValueBox} in a synchronized block
+	 *
+	 * @return the incremented value
+	 */
+	@Benchmark
+	public Long synchronizedValueBox()
+	{
+		synchronized (this.valueBox)
+		{
+			final Long value = this.valueBox.getValue() + 1;
+			this.valueBox.setValue(value);
+			return value;
+		}
+	}
+
+	/**
+	 * Benchmark for the increment of the {@link AtomicValueBox} with
+	 * {@link AtomicValueBox#updateAndGet(java.util.function.UnaryOperator)}
+	 *
+	 * @return the incremented value
+	 */
+	@Benchmark
+	public Long atomicValueBoxUpdateAndGet()
+	{
+		return this.atomicValueBox.updateAndGet(value -> value + 1);
+	}
+
+	/**
+	 * Benchmark for the read of the {@link AtomicValueBox} with acquire semantics
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public Long atomicValueBoxGetAcquire()
+	{
+		return this.atomicValueBox.getAcquire();
+	}
+}
@@ -0,0 +1,297 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link CollectionTupleConstructionBenchmark} compares the creation of the
+ * tuple classes with collection values with the constructor, the builder and the to builder
+ * method
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CollectionTupleConstructionBenchmark
+{
+
+	/** The key */
+	String key = "key";
+
+	/** The values as list */
+	List<String> list = List.of("first", "second", "third", "fourth");
+
+	/** The values as set */
+	Set<String> set = Set.of("first", "second", "third", "fourth");
+
+	/** The values as map */
+	Map<String, Integer> map = Map.of("first", 1, "second", 2, "third", 3, "fourth", 4);
+
+	/** The {@link KeyValuesPair} for the to builder benchmark */
+	KeyValuesPair<String, String> keyValuesPair;
+
+	/** The {@link ImmutableKeyValuesPair} for the to builder benchmark */
+	ImmutableKeyValuesPair<String, String> immutableKeyValuesPair;
+
+	/** The {@link KeySetPair} for the to builder benchmark */
+	KeySetPair<String, String> keySetPair;
+
+	/** The {@link ImmutableKeySetPair} for the to builder benchmark */
+	ImmutableKeySetPair<String, String> immutableKeySetPair;
+
+	/** The {@link KeyMapPair} for the to builder benchmark */
+	KeyMapPair<String, String, Integer> keyMapPair;
+
+	/** The {@link ImmutableKeyMapPair} for the to builder benchmark */
+	ImmutableKeyMapPair<String, String, Integer> immutableKeyMapPair;
+
+	/**
+	 * Creates the instances for the to builder benchmarks
+	 */
+	@Setup
+	public void setup()
+	{
+		this.keyValuesPair = new KeyValuesPair<>(this.key, this.list);
+		this.immutableKeyValuesPair = new ImmutableKeyValuesPair<>(this.key, this.list);
+		this.keySetPair = new KeySetPair<>(this.key, this.set);
+		this.immutableKeySetPair = new ImmutableKeySetPair<>(this.key, this.set);
+		this.keyMapPair = new KeyMapPair<>(this.key, this.map);
+		this.immutableKeyMapPair = new ImmutableKeyMapPair<>(this.key, this.map);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyValuesPair} with the constructor
+	 *
+	 * @return the new {@link KeyValuesPair}
+	 */
+	@Benchmark
+	public KeyValuesPair<String, String> keyValuesPairConstructor()
+	{
+		return new KeyValuesPair<>(this.key, this.list);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyValuesPair} with the builder
+	 *
+	 * @return the new {@link KeyValuesPair}
+	 */
+	@Benchmark
+	public KeyValuesPair<String, String> keyValuesPairBuilder()
+	{
+		return KeyValuesPair.<String, String> builder().key(this.key).values(this.list).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyValuesPair} with the to builder method
+	 *
+	 * @return the new {@link KeyValuesPair}
+	 */
+	@Benchmark
+	public KeyValuesPair<String, String> keyValuesPairToBuilder()
+	{
+		return this.keyValuesPair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyValuesPair} with the constructor
+	 *
+	 * @return the new {@link ImmutableKeyValuesPair}
+	 */
+	@Benchmark
+	public ImmutableKeyValuesPair<String, String> immutableKeyValuesPairConstructor()
+	{
+		return new ImmutableKeyValuesPair<>(this.key, this.list);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyValuesPair} with the builder
+	 *
+	 * @return the new {@link ImmutableKeyValuesPair}
+	 */
+	@Benchmark
+	public ImmutableKeyValuesPair<String, String> immutableKeyValuesPairBuilder()
+	{
+		return ImmutableKeyValuesPair.<String, String> builder().key(this.key).values(this.list)
+			.build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyValuesPair} with the to builder method
+	 *
+	 * @return the new {@link ImmutableKeyValuesPair}
+	 */
+	@Benchmark
+	public ImmutableKeyValuesPair<String, String> immutableKeyValuesPairToBuilder()
+	{
+		return this.immutableKeyValuesPair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeySetPair} with the constructor
+	 *
+	 * @return the new {@link KeySetPair}
+	 */
+	@Benchmark
+	public KeySetPair<String, String> keySetPairConstructor()
+	{
+		return new KeySetPair<>(this.key, this.set);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeySetPair} with the builder
+	 *
+	 * @return the new {@link KeySetPair}
+	 */
+	@Benchmark
+	public KeySetPair<String, String> keySetPairBuilder()
+	{
+		return KeySetPair.<String, String> builder().key(this.key).values(this.set).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeySetPair} with the to builder method
+	 *
+	 * @return the new {@link KeySetPair}
+	 */
+	@Benchmark
+	public KeySetPair<String, String> keySetPairToBuilder()
+	{
+		return this.keySetPair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeySetPair} with the constructor
+	 *
+	 * @return the new {@link ImmutableKeySetPair}
+	 */
+	@Benchmark
+	public ImmutableKeySetPair<String, String> immutableKeySetPairConstructor()
+	{
+		return new ImmutableKeySetPair<>(this.key, this.set);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeySetPair} with the builder
+	 *
+	 * @return the new {@link ImmutableKeySetPair}
+	 */
+	@Benchmark
+	public ImmutableKeySetPair<String, String> immutableKeySetPairBuilder()
+	{
+		return ImmutableKeySetPair.<String, String> builder().key(this.key).values(this.set)
+			.build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeySetPair} with the to builder method
+	 *
+	 * @return the new {@link ImmutableKeySetPair}
+	 */
+	@Benchmark
+	public ImmutableKeySetPair<String, String> immutableKeySetPairToBuilder()
+	{
+		return this.immutableKeySetPair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyMapPair} with the constructor
+	 *
+	 * @return the new {@link KeyMapPair}
+	 */
+	@Benchmark
+	public KeyMapPair<String, String, Integer> keyMapPairConstructor()
+	{
+		return new KeyMapPair<>(this.key, this.map);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyMapPair} with the builder
+	 *
+	 * @return the new {@link KeyMapPair}
+	 */
+	@Benchmark
+	public KeyMapPair<String, String, Integer> keyMapPairBuilder()
+	{
+		return KeyMapPair.<String, String, Integer> builder().key(this.key).values(this.map)
+			.build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyMapPair} with the to builder method
+	 *
+	 * @return the new {@link KeyMapPair}
+	 */
+	@Benchmark
+	public KeyMapPair<String, String, Integer> keyMapPairToBuilder()
+	{
+		return this.keyMapPair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyMapPair} with the constructor
+	 *
+	 * @return the new {@link ImmutableKeyMapPair}
+	 */
+	@Benchmark
+	public ImmutableKeyMapPair<String, String, Integer> immutableKeyMapPairConstructor()
+	{
+		return new ImmutableKeyMapPair<>(this.key, this.map);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyMapPair} with the builder
+	 *
+	 * @return the new {@link ImmutableKeyMapPair}
+	 */
+	@Benchmark
+	public ImmutableKeyMapPair<String, String, Integer> immutableKeyMapPairBuilder()
+	{
+		return ImmutableKeyMapPair.<String, String, Integer> builder().key(this.key)
+			.values(this.map).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyMapPair} with the to builder method
+	 *
+	 * @return the new {@link ImmutableKeyMapPair}
+	 */
+	@Benchmark
+	public ImmutableKeyMapPair<String, String, Integer> immutableKeyMapPairToBuilder()
+	{
+		return this.immutableKeyMapPair.toBuilder().build();
+	}
+
+}
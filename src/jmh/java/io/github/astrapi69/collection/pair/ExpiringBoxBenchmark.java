@@ -0,0 +1,123 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The benchmark class {@link ExpiringBoxBenchmark} compares the shared read of an
+ * {@link ExpiringBox} that reloads its value in the calling thread after the expiration with the
+ * read of an {@link ExpiringBox} that reloads its value asynchronously in the refresh ahead
+ * window. The loader blocks for half a millisecond and the value lives for five milliseconds, so
+ * the readers of the first box stall regularly
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class ExpiringBoxBenchmark
+{
+
+	/** The time to live of the values */
+	private static final Duration TIME_TO_LIVE = Duration.ofMillis(5);
+
+	/** The executor of the asynchronous reloads */
+	ExecutorService executorService;
+
+	/** The shared expiring box that reloads in the calling thread */
+	ExpiringBox<Long> inlineExpiringBox;
+
+	/** The shared expiring box that reloads asynchronously */
+	ExpiringBox<Long> refreshAheadExpiringBox;
+
+	/**
+	 * Loads a value and blocks for half a millisecond
+	 *
+	 * @return the value
+	 */
+	private static Long load()
+	{
+		LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(500));
+		return System.nanoTime();
+	}
+
+	/**
+	 * Creates the shared boxes
+	 */
+	@Setup
+	public void setup()
+	{
+		this.executorService = Executors.newSingleThreadExecutor();
+		this.inlineExpiringBox = ExpiringBox.of(ExpiringBoxBenchmark::load, TIME_TO_LIVE);
+		this.refreshAheadExpiringBox = ExpiringBox.<Long> builder()
+			.loader(ExpiringBoxBenchmark::load).timeToLive(TIME_TO_LIVE)
+			.refreshAhead(Duration.ofMillis(2)).executor(this.executorService).build();
+	}
+
+	/**
+	 * Shuts the executor of the asynchronous reloads down
+	 */
+	@TearDown
+	public void tearDown()
+	{
+		this.executorService.shutdownNow();
+	}
+
+	/**
+	 * Benchmark for the read of the {@link ExpiringBox} that reloads in the calling thread
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public Long readInlineExpiringBox()
+	{
+		return this.inlineExpiringBox.getValue();
+	}
+
+	/**
+	 * Benchmark for the read of the {@link ExpiringBox} that reloads asynchronously
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public Long readRefreshAheadExpiringBox()
+	{
+		return this.refreshAheadExpiringBox.getValue();
+	}
+}
@@ -0,0 +1,201 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link KeyValuePairConversionBenchmark} measures the conversion methods
+ * {@link KeyValuePair#toMap(java.util.Collection)}, its variants with a merge function and the
+ * {@link KeyValuePairCollectors}, {@link KeyValuePair#toKeyValuePairs(Map)} and the lazy view
+ * {@link KeyValuePair#asKeyValuePairs(Map)} for different sizes
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class KeyValuePairConversionBenchmark
+{
+
+	/** The number of entries */
+	@Param({ "10", "1000", "100000" })
+	int size;
+
+	/** The key value pairs */
+	List<KeyValuePair<String, Integer>> keyValuePairs;
+
+	/** The map with the same entries as the key value pairs */
+	Map<String, Integer> map;
+
+	/** The properties with the same entries as the key value pairs */
+	Properties properties;
+
+	/**
+	 * Creates the key value pairs, the map and the properties for the current size
+	 */
+	@Setup
+	public void setup()
+	{
+		this.keyValuePairs = new ArrayList<>(this.size);
+		this.map = new HashMap<>();
+		this.properties = new Properties();
+		for (int i = 0; i < this.size; i++)
+		{
+			final String key = "key" + i;
+			this.keyValuePairs.add(new KeyValuePair<>(key, i));
+			this.map.put(key, i);
+			this.properties.setProperty(key, String.valueOf(i));
+		}
+	}
+
+	/**
+	 * Benchmark for {@link KeyValuePair#toMap(java.util.Collection)}
+	 *
+	 * @return the map
+	 */
+	@Benchmark
+	public Map<String, Integer> toMap()
+	{
+		return KeyValuePair.toMap(this.keyValuePairs);
+	}
+
+	/**
+	 * Benchmark for {@link KeyValuePair#toMap(java.util.Collection, BinaryOperator)}
+	 *
+	 * @return the map
+	 */
+	@Benchmark
+	public Map<String, Integer> toMapWithMergeFunction()
+	{
+		return KeyValuePair.toMap(this.keyValuePairs, Integer::sum);
+	}
+
+	/**
+	 * Benchmark for {@link KeyValuePair#toConcurrentMap(java.util.Collection, BinaryOperator)}
+	 *
+	 * @return the concurrent map
+	 */
+	@Benchmark
+	public ConcurrentMap<String, Integer> toConcurrentMap()
+	{
+		return KeyValuePair.toConcurrentMap(this.keyValuePairs, Integer::sum);
+	}
+
+	/**
+	 * Benchmark for the collector {@link KeyValuePairCollectors#toMap()}
+	 *
+	 * @return the map
+	 */
+	@Benchmark
+	public Map<String, Integer> collectToMap()
+	{
+		return this.keyValuePairs.stream().collect(KeyValuePairCollectors.toMap());
+	}
+
+	/**
+	 * Benchmark for {@link KeyValuePair#toKeyValuePairs(Map)}
+	 *
+	 * @return the key value pairs
+	 */
+	@Benchmark
+	public List<KeyValuePair<String, Integer>> toKeyValuePairsFromMap()
+	{
+		return KeyValuePair.toKeyValuePairs(this.map);
+	}
+
+	/**
+	 * Benchmark for iterating the copied list of {@link KeyValuePair#toKeyValuePairs(Map)}
+	 *
+	 * @return the sum of the values
+	 */
+	@Benchmark
+	public long iterateToKeyValuePairsFromMap()
+	{
+		long sum = 0;
+		for (final KeyValuePair<String, Integer> keyValuePair : KeyValuePair
+			.toKeyValuePairs(this.map))
+		{
+			sum += keyValuePair.getValue();
+		}
+		return sum;
+	}
+
+	/**
+	 * Benchmark for iterating the lazy view of {@link KeyValuePair#asKeyValuePairs(Map)}
+	 *
+	 * @return the sum of the values
+	 */
+	@Benchmark
+	public long iterateAsKeyValuePairsFromMap()
+	{
+		long sum = 0;
+		for (final KeyValuePair<String, Integer> keyValuePair : KeyValuePair
+			.asKeyValuePairs(this.map))
+		{
+			sum += keyValuePair.getValue();
+		}
+		return sum;
+	}
+
+	/**
+	 * Benchmark for the parallel stream of the lazy view of
+	 * {@link KeyValuePair#asKeyValuePairs(Map)}
+	 *
+	 * @return the sum of the values
+	 */
+	@Benchmark
+	public long parallelStreamAsKeyValuePairsFromMap()
+	{
+		return KeyValuePair.asKeyValuePairs(this.map).parallelStream()
+			.mapToLong(KeyValuePair::getValue).sum();
+	}
+
+	/**
+	 * Benchmark for {@link KeyValuePair#toKeyValuePairs(Properties)}
+	 *
+	 * @return the key value pairs
+	 */
+	@Benchmark
+	public List<KeyValuePair<String, String>> toKeyValuePairsFromProperties()
+	{
+		return KeyValuePair.toKeyValuePairs(this.properties);
+	}
+
+}
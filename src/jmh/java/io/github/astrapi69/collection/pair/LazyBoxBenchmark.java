@@ -0,0 +1,155 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The benchmark class {@link LazyBoxBenchmark} compares the shared read of an already computed
+ * {@link LazyBox} with the read of an {@link ImmutableBox} and with a lazy holder that
+ * synchronizes every read. The creation benchmarks compare the eager creation of an
+ * {@link ImmutableBox} with the creation of a {@link LazyBox} whose value is never used
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class LazyBoxBenchmark
+{
+
+	/** The regular expression of the compiled patterns */
+	private static final String REGEX = "([a-z]+)-(\\d{1,4})(?:\\.([a-z]{2,3}))?";
+
+	/** The shared immutable box */
+	ImmutableBox<Pattern> immutableBox;
+
+	/** The shared and computed lazy box */
+	LazyBox<Pattern> lazyBox;
+
+	/** The shared lazy holder with a synchronized read */
+	SynchronizedLazyHolder synchronizedLazyHolder;
+
+	/**
+	 * Creates the shared boxes and computes the lazy values
+	 */
+	@Setup
+	public void setup()
+	{
+		this.immutableBox = new ImmutableBox<>(Pattern.compile(REGEX));
+		this.lazyBox = LazyBox.of(() -> Pattern.compile(REGEX));
+		this.lazyBox.getValue();
+		this.synchronizedLazyHolder = new SynchronizedLazyHolder();
+		this.synchronizedLazyHolder.getValue();
+	}
+
+	/**
+	 * Benchmark for the read of the {@link ImmutableBox}
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public Pattern readImmutableBox()
+	{
+		return this.immutableBox.getValue();
+	}
+
+	/**
+	 * Benchmark for the read of the computed {@link LazyBox}
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public Pattern readLazyBox()
+	{
+		return this.lazyBox.getValue();
+	}
+
+	/**
+	 * Benchmark for the synchronized read of the lazy holder
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public Pattern readSynchronizedLazyHolder()
+	{
+		return this.synchronizedLazyHolder.getValue();
+	}
+
+	/**
+	 * Benchmark for the eager creation of an {@link ImmutableBox}
+	 *
+	 * @return the immutable box
+	 */
+	@Benchmark
+	public ImmutableBox<Pattern> createImmutableBox()
+	{
+		return new ImmutableBox<>(Pattern.compile(REGEX));
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link LazyBox} that is never computed
+	 *
+	 * @return the lazy box
+	 */
+	@Benchmark
+	public LazyBox<Pattern> createLazyBox()
+	{
+		return LazyBox.of(() -> Pattern.compile(REGEX));
+	}
+
+	/**
+	 * A lazy holder that synchronizes every read
+	 */
+	static final class SynchronizedLazyHolder
+	{
+
+		/** The value */
+		private Pattern value;
+
+		/**
+		 * The value. Computes the value on the first call
+		 *
+		 * @return the value
+		 */
+		synchronized Pattern getValue()
+		{
+			if (this.value == null)
+			{
+				this.value = Pattern.compile(REGEX);
+			}
+			return this.value;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link PrimitiveBoxBenchmark} compares a counting and summing loop that
+ * captures a {@link ValueBox} with boxed values in a lambda with the same loop over the primitive
+ * boxes {@link LongBox} and {@link DoubleBox}. Run it with the gc profiler
+ * (<code>-PjmhProfilers=gc</code>) to see the allocation per iteration of the boxed values
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class PrimitiveBoxBenchmark
+{
+
+	/** The number of values */
+	@Param({ "1000", "100000" })
+	int size;
+
+	/** The values to count and sum */
+	double[] values;
+
+	/**
+	 * Creates the values for the current size
+	 */
+	@Setup
+	public void setup()
+	{
+		this.values = new double[this.size];
+		for (int i = 0; i < this.size; i++)
+		{
+			this.values[i] = i % 1000 + 0.5;
+		}
+	}
+
+	/**
+	 * Benchmark for counting and summing with {@link ValueBox}'s of {@link Long} and
+	 * {@link Double}
+	 *
+	 * @return the sum divided by the count
+	 */
+	@Benchmark
+	public double valueBox()
+	{
+		final ValueBox<Long> count = new ValueBox<>(0L);
+		final ValueBox<Double> sum = new ValueBox<>(0.0);
+		Arrays.stream(this.values).forEach(value -> {
+			count.setValue(count.getValue() + 1);
+			sum.setValue(sum.getValue() + value);
+		});
+		return sum.getValue() / count.getValue();
+	}
+
+	/**
+	 * Benchmark for counting and summing with a {@link LongBox} and a {@link DoubleBox}
+	 *
+	 * @return the sum divided by the count
+	 */
+	@Benchmark
+	public double primitiveBox()
+	{
+		final LongBox count = new LongBox();
+		final DoubleBox sum = new DoubleBox();
+		Arrays.stream(this.values).forEach(value -> {
+			count.incrementAndGet();
+			sum.addAndGet(value);
+		});
+		return sum.getValue() / count.getValue();
+	}
+}
@@ -0,0 +1,656 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link TupleConstructionBenchmark} compares the creation of the tuple
+ * classes with the constructor, the builder, the reusable builder and the to builder method
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TupleConstructionBenchmark
+{
+
+	/** The left content */
+	String left = "left";
+
+	/** The middle content */
+	String middle = "middle";
+
+	/** The right content */
+	String right = "right";
+
+	/** The value */
+	String value = "value";
+
+	/** The left primitive int content */
+	int intLeft = 1;
+
+	/** The right primitive int content */
+	int intRight = 2;
+
+	/** The right primitive long content */
+	long longRight = 3L;
+
+	/** The right primitive double content */
+	double doubleRight = 4.0d;
+
+	/** The {@link Pair} for the to builder benchmark */
+	Pair<String, String> pair;
+
+	/** The {@link ImmutablePair} for the to builder benchmark */
+	ImmutablePair<String, String> immutablePair;
+
+	/** The {@link Triple} for the to builder benchmark */
+	Triple<String, String, String> triple;
+
+	/** The {@link ImmutableTriple} for the to builder benchmark */
+	ImmutableTriple<String, String, String> immutableTriple;
+
+	/** The {@link Quattro} for the to builder benchmark */
+	Quattro<String, String, String, String> quattro;
+
+	/** The {@link ImmutableQuattro} for the to builder benchmark */
+	ImmutableQuattro<String, String, String, String> immutableQuattro;
+
+	/** The {@link KeyValuePair} for the to builder benchmark */
+	KeyValuePair<String, String> keyValuePair;
+
+	/** The {@link ImmutableKeyValuePair} for the to builder benchmark */
+	ImmutableKeyValuePair<String, String> immutableKeyValuePair;
+
+	/** The {@link ValueBox} for the to builder benchmark */
+	ValueBox<String> valueBox;
+
+	/** The {@link ImmutableBox} for the to builder benchmark */
+	ImmutableBox<String> immutableBox;
+
+	/** The {@link IntIntPair} for the to builder benchmark */
+	IntIntPair intIntPair;
+
+	/** The {@link IntLongPair} for the to builder benchmark */
+	IntLongPair intLongPair;
+
+	/** The {@link LongObjPair} for the to builder benchmark */
+	LongObjPair<String> longObjPair;
+
+	/** The {@link IntIntDoubleTriple} for the to builder benchmark */
+	IntIntDoubleTriple intIntDoubleTriple;
+
+	/**
+	 * Creates the instances for the to builder benchmarks
+	 */
+	@Setup
+	public void setup()
+	{
+		this.pair = new Pair<>(this.left, this.right);
+		this.immutablePair = new ImmutablePair<>(this.left, this.right);
+		this.triple = new Triple<>(this.left, this.middle, this.right);
+		this.immutableTriple = new ImmutableTriple<>(this.left, this.middle, this.right);
+		this.quattro = new Quattro<>(this.left, this.middle, this.right, this.value);
+		this.immutableQuattro = new ImmutableQuattro<>(this.left, this.middle, this.right,
+			this.value);
+		this.keyValuePair = new KeyValuePair<>(this.left, this.value);
+		this.immutableKeyValuePair = new ImmutableKeyValuePair<>(this.left, this.value);
+		this.valueBox = new ValueBox<>(this.value);
+		this.immutableBox = new ImmutableBox<>(this.value);
+		this.intIntPair = new IntIntPair(this.intLeft, this.intRight);
+		this.intLongPair = new IntLongPair(this.intLeft, this.longRight);
+		this.longObjPair = new LongObjPair<>(this.longRight, this.value);
+		this.intIntDoubleTriple = new IntIntDoubleTriple(this.intLeft, this.intRight,
+			this.doubleRight);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Pair} with the constructor
+	 *
+	 * @return the new {@link Pair}
+	 */
+	@Benchmark
+	public Pair<String, String> pairConstructor()
+	{
+		return new Pair<>(this.left, this.right);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Pair} with the builder
+	 *
+	 * @return the new {@link Pair}
+	 */
+	@Benchmark
+	public Pair<String, String> pairBuilder()
+	{
+		return Pair.<String, String> builder().leftContent(this.left).rightContent(this.right)
+			.build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Pair} with the to builder method
+	 *
+	 * @return the new {@link Pair}
+	 */
+	@Benchmark
+	public Pair<String, String> pairToBuilder()
+	{
+		return this.pair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Pair} with the reusable builder
+	 *
+	 * @return the new {@link Pair}
+	 */
+	@Benchmark
+	public Pair<String, String> pairReusableBuilder()
+	{
+		return Pair.<String, String> reusableBuilder().leftContent(this.left)
+			.rightContent(this.right).buildAndReset();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutablePair} with the constructor
+	 *
+	 * @return the new {@link ImmutablePair}
+	 */
+	@Benchmark
+	public ImmutablePair<String, String> immutablePairConstructor()
+	{
+		return new ImmutablePair<>(this.left, this.right);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutablePair} with the builder
+	 *
+	 * @return the new {@link ImmutablePair}
+	 */
+	@Benchmark
+	public ImmutablePair<String, String> immutablePairBuilder()
+	{
+		return ImmutablePair.<String, String> builder().leftContent(this.left)
+			.rightContent(this.right).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutablePair} with the to builder method
+	 *
+	 * @return the new {@link ImmutablePair}
+	 */
+	@Benchmark
+	public ImmutablePair<String, String> immutablePairToBuilder()
+	{
+		return this.immutablePair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Triple} with the constructor
+	 *
+	 * @return the new {@link Triple}
+	 */
+	@Benchmark
+	public Triple<String, String, String> tripleConstructor()
+	{
+		return new Triple<>(this.left, this.middle, this.right);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Triple} with the builder
+	 *
+	 * @return the new {@link Triple}
+	 */
+	@Benchmark
+	public Triple<String, String, String> tripleBuilder()
+	{
+		return Triple.<String, String, String> builder().left(this.left).middle(this.middle)
+			.right(this.right).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Triple} with the to builder method
+	 *
+	 * @return the new {@link Triple}
+	 */
+	@Benchmark
+	public Triple<String, String, String> tripleToBuilder()
+	{
+		return this.triple.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Triple} with the reusable builder
+	 *
+	 * @return the new {@link Triple}
+	 */
+	@Benchmark
+	public Triple<String, String, String> tripleReusableBuilder()
+	{
+		return Triple.<String, String, String> reusableBuilder().left(this.left)
+			.middle(this.middle).right(this.right).buildAndReset();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableTriple} with the constructor
+	 *
+	 * @return the new {@link ImmutableTriple}
+	 */
+	@Benchmark
+	public ImmutableTriple<String, String, String> immutableTripleConstructor()
+	{
+		return new ImmutableTriple<>(this.left, this.middle, this.right);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableTriple} with the builder
+	 *
+	 * @return the new {@link ImmutableTriple}
+	 */
+	@Benchmark
+	public ImmutableTriple<String, String, String> immutableTripleBuilder()
+	{
+		return ImmutableTriple.<String, String, String> builder().left(this.left)
+			.middle(this.middle).right(this.right).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableTriple} with the to builder method
+	 *
+	 * @return the new {@link ImmutableTriple}
+	 */
+	@Benchmark
+	public ImmutableTriple<String, String, String> immutableTripleToBuilder()
+	{
+		return this.immutableTriple.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Quattro} with the constructor
+	 *
+	 * @return the new {@link Quattro}
+	 */
+	@Benchmark
+	public Quattro<String, String, String, String> quattroConstructor()
+	{
+		return new Quattro<>(this.left, this.middle, this.right, this.value);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Quattro} with the builder
+	 *
+	 * @return the new {@link Quattro}
+	 */
+	@Benchmark
+	public Quattro<String, String, String, String> quattroBuilder()
+	{
+		return Quattro.<String, String, String, String> builder().bottomLeft(this.left)
+			.bottomRight(this.middle).topLeft(this.right).topRight(this.value).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Quattro} with the to builder method
+	 *
+	 * @return the new {@link Quattro}
+	 */
+	@Benchmark
+	public Quattro<String, String, String, String> quattroToBuilder()
+	{
+		return this.quattro.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link Quattro} with the reusable builder
+	 *
+	 * @return the new {@link Quattro}
+	 */
+	@Benchmark
+	public Quattro<String, String, String, String> quattroReusableBuilder()
+	{
+		return Quattro.<String, String, String, String> reusableBuilder().bottomLeft(this.left)
+			.bottomRight(this.middle).topLeft(this.right).topRight(this.value).buildAndReset();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableQuattro} with the constructor
+	 *
+	 * @return the new {@link ImmutableQuattro}
+	 */
+	@Benchmark
+	public ImmutableQuattro<String, String, String, String> immutableQuattroConstructor()
+	{
+		return new ImmutableQuattro<>(this.left, this.middle, this.right, this.value);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableQuattro} with the builder
+	 *
+	 * @return the new {@link ImmutableQuattro}
+	 */
+	@Benchmark
+	public ImmutableQuattro<String, String, String, String> immutableQuattroBuilder()
+	{
+		return ImmutableQuattro.<String, String, String, String> builder().bottomLeft(this.left)
+			.bottomRight(this.middle).topLeft(this.right).topRight(this.value).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableQuattro} with the to builder method
+	 *
+	 * @return the new {@link ImmutableQuattro}
+	 */
+	@Benchmark
+	public ImmutableQuattro<String, String, String, String> immutableQuattroToBuilder()
+	{
+		return this.immutableQuattro.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyValuePair} with the constructor
+	 *
+	 * @return the new {@link KeyValuePair}
+	 */
+	@Benchmark
+	public KeyValuePair<String, String> keyValuePairConstructor()
+	{
+		return new KeyValuePair<>(this.left, this.value);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyValuePair} with the builder
+	 *
+	 * @return the new {@link KeyValuePair}
+	 */
+	@Benchmark
+	public KeyValuePair<String, String> keyValuePairBuilder()
+	{
+		return KeyValuePair.<String, String> builder().key(this.left).value(this.value).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyValuePair} with the to builder method
+	 *
+	 * @return the new {@link KeyValuePair}
+	 */
+	@Benchmark
+	public KeyValuePair<String, String> keyValuePairToBuilder()
+	{
+		return this.keyValuePair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link KeyValuePair} with the reusable builder
+	 *
+	 * @return the new {@link KeyValuePair}
+	 */
+	@Benchmark
+	public KeyValuePair<String, String> keyValuePairReusableBuilder()
+	{
+		return KeyValuePair.<String, String> reusableBuilder().key(this.left).value(this.value)
+			.buildAndReset();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyValuePair} with the constructor
+	 *
+	 * @return the new {@link ImmutableKeyValuePair}
+	 */
+	@Benchmark
+	public ImmutableKeyValuePair<String, String> immutableKeyValuePairConstructor()
+	{
+		return new ImmutableKeyValuePair<>(this.left, this.value);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyValuePair} with the builder
+	 *
+	 * @return the new {@link ImmutableKeyValuePair}
+	 */
+	@Benchmark
+	public ImmutableKeyValuePair<String, String> immutableKeyValuePairBuilder()
+	{
+		return ImmutableKeyValuePair.<String, String> builder().key(this.left).value(this.value)
+			.build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableKeyValuePair} with the to builder method
+	 *
+	 * @return the new {@link ImmutableKeyValuePair}
+	 */
+	@Benchmark
+	public ImmutableKeyValuePair<String, String> immutableKeyValuePairToBuilder()
+	{
+		return this.immutableKeyValuePair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ValueBox} with the constructor
+	 *
+	 * @return the new {@link ValueBox}
+	 */
+	@Benchmark
+	public ValueBox<String> valueBoxConstructor()
+	{
+		return new ValueBox<>(this.value);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ValueBox} with the builder
+	 *
+	 * @return the new {@link ValueBox}
+	 */
+	@Benchmark
+	public ValueBox<String> valueBoxBuilder()
+	{
+		return ValueBox.<String> builder().value(this.value).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ValueBox} with the to builder method
+	 *
+	 * @return the new {@link ValueBox}
+	 */
+	@Benchmark
+	public ValueBox<String> valueBoxToBuilder()
+	{
+		return this.valueBox.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableBox} with the constructor
+	 *
+	 * @return the new {@link ImmutableBox}
+	 */
+	@Benchmark
+	public ImmutableBox<String> immutableBoxConstructor()
+	{
+		return new ImmutableBox<>(this.value);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableBox} with the builder
+	 *
+	 * @return the new {@link ImmutableBox}
+	 */
+	@Benchmark
+	public ImmutableBox<String> immutableBoxBuilder()
+	{
+		return ImmutableBox.<String> builder().value(this.value).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link ImmutableBox} with the to builder method
+	 *
+	 * @return the new {@link ImmutableBox}
+	 */
+	@Benchmark
+	public ImmutableBox<String> immutableBoxToBuilder()
+	{
+		return this.immutableBox.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntIntPair} with the constructor
+	 *
+	 * @return the new {@link IntIntPair}
+	 */
+	@Benchmark
+	public IntIntPair intIntPairConstructor()
+	{
+		return new IntIntPair(this.intLeft, this.intRight);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntIntPair} with the builder
+	 *
+	 * @return the new {@link IntIntPair}
+	 */
+	@Benchmark
+	public IntIntPair intIntPairBuilder()
+	{
+		return IntIntPair.builder().leftContent(this.intLeft).rightContent(this.intRight).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntIntPair} with the to builder method
+	 *
+	 * @return the new {@link IntIntPair}
+	 */
+	@Benchmark
+	public IntIntPair intIntPairToBuilder()
+	{
+		return this.intIntPair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntLongPair} with the constructor
+	 *
+	 * @return the new {@link IntLongPair}
+	 */
+	@Benchmark
+	public IntLongPair intLongPairConstructor()
+	{
+		return new IntLongPair(this.intLeft, this.longRight);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntLongPair} with the builder
+	 *
+	 * @return the new {@link IntLongPair}
+	 */
+	@Benchmark
+	public IntLongPair intLongPairBuilder()
+	{
+		return IntLongPair.builder().leftContent(this.intLeft).rightContent(this.longRight).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntLongPair} with the to builder method
+	 *
+	 * @return the new {@link IntLongPair}
+	 */
+	@Benchmark
+	public IntLongPair intLongPairToBuilder()
+	{
+		return this.intLongPair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link LongObjPair} with the constructor
+	 *
+	 * @return the new {@link LongObjPair}
+	 */
+	@Benchmark
+	public LongObjPair<String> longObjPairConstructor()
+	{
+		return new LongObjPair<>(this.longRight, this.value);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link LongObjPair} with the builder
+	 *
+	 * @return the new {@link LongObjPair}
+	 */
+	@Benchmark
+	public LongObjPair<String> longObjPairBuilder()
+	{
+		return LongObjPair.<String> builder().leftContent(this.longRight).rightContent(this.value)
+			.build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link LongObjPair} with the to builder method
+	 *
+	 * @return the new {@link LongObjPair}
+	 */
+	@Benchmark
+	public LongObjPair<String> longObjPairToBuilder()
+	{
+		return this.longObjPair.toBuilder().build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntIntDoubleTriple} with the constructor
+	 *
+	 * @return the new {@link IntIntDoubleTriple}
+	 */
+	@Benchmark
+	public IntIntDoubleTriple intIntDoubleTripleConstructor()
+	{
+		return new IntIntDoubleTriple(this.intLeft, this.intRight, this.doubleRight);
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntIntDoubleTriple} with the builder
+	 *
+	 * @return the new {@link IntIntDoubleTriple}
+	 */
+	@Benchmark
+	public IntIntDoubleTriple intIntDoubleTripleBuilder()
+	{
+		return IntIntDoubleTriple.builder().left(this.intLeft).middle(this.intRight)
+			.right(this.doubleRight).build();
+	}
+
+	/**
+	 * Benchmark for the creation of a {@link IntIntDoubleTriple} with the to builder method
+	 *
+	 * @return the new {@link IntIntDoubleTriple}
+	 */
+	@Benchmark
+	public IntIntDoubleTriple intIntDoubleTripleToBuilder()
+	{
+		return this.intIntDoubleTriple.toBuilder().build();
+	}
+
+}
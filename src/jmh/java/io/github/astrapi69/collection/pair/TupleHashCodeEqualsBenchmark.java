@@ -0,0 +1,194 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link TupleHashCodeEqualsBenchmark} measures the methods
+ * {@link Object#hashCode()} and {@link Object#equals(Object)} of the classes {@link Pair},
+ * {@link Triple} and {@link Quattro}. The compared instances are equal but not identical, so the
+ * equals benchmarks compare all contents, the not equal benchmarks differ only in the last
+ * compared content
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TupleHashCodeEqualsBenchmark
+{
+
+	/** The pair */
+	Pair<String, Integer> pair;
+
+	/** The pair with equal content */
+	Pair<String, Integer> equalPair;
+
+	/** The pair with other content */
+	Pair<String, Integer> otherPair;
+
+	/** The triple */
+	Triple<String, Integer, Long> triple;
+
+	/** The triple with equal content */
+	Triple<String, Integer, Long> equalTriple;
+
+	/** The triple with other content */
+	Triple<String, Integer, Long> otherTriple;
+
+	/** The quattro */
+	Quattro<Long, Double, String, Integer> quattro;
+
+	/** The quattro with equal content */
+	Quattro<Long, Double, String, Integer> equalQuattro;
+
+	/** The quattro with other content */
+	Quattro<Long, Double, String, Integer> otherQuattro;
+
+	/**
+	 * Creates the compared instances. The contents are created with new so that equals can not
+	 * return early on identical references
+	 */
+	@Setup
+	public void setup()
+	{
+		this.pair = new Pair<>(new String("left content"), 1000);
+		this.equalPair = new Pair<>(new String("left content"), 1000);
+		this.otherPair = new Pair<>(new String("left content"), 1001);
+		this.triple = new Triple<>(new String("left content"), 1000, 2000L);
+		this.equalTriple = new Triple<>(new String("left content"), 1000, 2000L);
+		this.otherTriple = new Triple<>(new String("left content"), 1000, 2001L);
+		this.quattro = new Quattro<>(new String("bottom left"), 1000, 2000L, 3000.0d);
+		this.equalQuattro = new Quattro<>(new String("bottom left"), 1000, 2000L, 3000.0d);
+		this.otherQuattro = new Quattro<>(new String("bottom left"), 1000, 2000L, 3001.0d);
+	}
+
+	/**
+	 * Benchmark for {@link Pair#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	@Benchmark
+	public int pairHashCode()
+	{
+		return this.pair.hashCode();
+	}
+
+	/**
+	 * Benchmark for {@link Pair#equals(Object)} with an equal pair
+	 *
+	 * @return the result of equals
+	 */
+	@Benchmark
+	public boolean pairEquals()
+	{
+		return this.pair.equals(this.equalPair);
+	}
+
+	/**
+	 * Benchmark for {@link Pair#equals(Object)} with a not equal pair
+	 *
+	 * @return the result of equals
+	 */
+	@Benchmark
+	public boolean pairNotEquals()
+	{
+		return this.pair.equals(this.otherPair);
+	}
+
+	/**
+	 * Benchmark for {@link Triple#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	@Benchmark
+	public int tripleHashCode()
+	{
+		return this.triple.hashCode();
+	}
+
+	/**
+	 * Benchmark for {@link Triple#equals(Object)} with an equal triple
+	 *
+	 * @return the result of equals
+	 */
+	@Benchmark
+	public boolean tripleEquals()
+	{
+		return this.triple.equals(this.equalTriple);
+	}
+
+	/**
+	 * Benchmark for {@link Triple#equals(Object)} with a not equal triple
+	 *
+	 * @return the result of equals
+	 */
+	@Benchmark
+	public boolean tripleNotEquals()
+	{
+		return this.triple.equals(this.otherTriple);
+	}
+
+	/**
+	 * Benchmark for {@link Quattro#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	@Benchmark
+	public int quattroHashCode()
+	{
+		return this.quattro.hashCode();
+	}
+
+	/**
+	 * Benchmark for {@link Quattro#equals(Object)} with an equal quattro
+	 *
+	 * @return the result of equals
+	 */
+	@Benchmark
+	public boolean quattroEquals()
+	{
+		return this.quattro.equals(this.equalQuattro);
+	}
+
+	/**
+	 * Benchmark for {@link Quattro#equals(Object)} with a not equal quattro
+	 *
+	 * @return the result of equals
+	 */
+	@Benchmark
+	public boolean quattroNotEquals()
+	{
+		return this.quattro.equals(this.otherQuattro);
+	}
+
+}
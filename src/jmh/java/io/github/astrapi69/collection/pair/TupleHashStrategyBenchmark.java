@@ -0,0 +1,233 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The abstract benchmark class {@link TupleHashStrategyBenchmark} measures the bucket
+ * distribution and the {@link HashMap} throughput of common tuple key shapes. As the
+ * {@link TupleHashStrategy} is resolved once per virtual machine the subclasses
+ * {@link LegacyTupleHashStrategyBenchmark} and {@link MixedTupleHashStrategyBenchmark} run the
+ * same benchmarks in forks with the system property {@value TupleHashStrategy#PROPERTY_NAME}
+ * set to the respective strategy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public abstract class TupleHashStrategyBenchmark
+{
+
+	/** The number of keys */
+	static final int SIZE = 1 << 16;
+
+	/** The shape of the keys */
+	@Param({ "GRID_PAIR", "INT_INT_PAIR", "INT_TRIPLE", "STRING_PAIR" })
+	String keyShape;
+
+	/** The keys */
+	Object[] keys;
+
+	/** The keys for the lookups, equal but not identical to the keys */
+	Object[] probes;
+
+	/** The map with all keys */
+	Map<Object, Integer> map;
+
+	/**
+	 * Creates the keys of the current shape
+	 *
+	 * @param shape
+	 *            the shape of the keys
+	 * @return the keys
+	 */
+	static Object[] newKeys(final String shape)
+	{
+		final Object[] keys = new Object[SIZE];
+		for (int i = 0; i < SIZE; i++)
+		{
+			final int x = i >>> 8;
+			final int y = i & 0xFF;
+			switch (shape)
+			{
+				case "GRID_PAIR" :
+					keys[i] = new Pair<>(x, y);
+					break;
+				case "INT_INT_PAIR" :
+					keys[i] = new IntIntPair(x, y);
+					break;
+				case "INT_TRIPLE" :
+					keys[i] = new Triple<>(i >>> 10, (i >>> 5) & 0x1F, i & 0x1F);
+					break;
+				case "STRING_PAIR" :
+					keys[i] = new Pair<>("row" + x, "column" + y);
+					break;
+				default :
+					throw new IllegalArgumentException("Unknown key shape: " + shape);
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Gets the expected hash strategy of the forked virtual machine
+	 *
+	 * @return the expected hash strategy
+	 */
+	abstract TupleHashStrategy expectedStrategy();
+
+	/**
+	 * Creates the keys, the probes and the map
+	 */
+	@Setup
+	public void setup()
+	{
+		if (TupleHashStrategy.current() != expectedStrategy())
+		{
+			throw new IllegalStateException("Expected the hash strategy " + expectedStrategy()
+				+ " but was " + TupleHashStrategy.current() + ", run this benchmark forked");
+		}
+		this.keys = newKeys(this.keyShape);
+		this.probes = newKeys(this.keyShape);
+		this.map = new HashMap<>(SIZE * 2);
+		for (int i = 0; i < SIZE; i++)
+		{
+			this.map.put(this.keys[i], i);
+		}
+	}
+
+	/**
+	 * Benchmark for {@link HashMap#put(Object, Object)} into an empty presized map
+	 *
+	 * @return the map
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public Map<Object, Integer> put()
+	{
+		final Map<Object, Integer> target = new HashMap<>(SIZE * 2);
+		for (int i = 0; i < SIZE; i++)
+		{
+			target.put(this.keys[i], i);
+		}
+		return target;
+	}
+
+	/**
+	 * Benchmark for {@link HashMap#get(Object)} with keys that are equal but not identical to the
+	 * contained keys
+	 *
+	 * @return the sum of the values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public long get()
+	{
+		long sum = 0;
+		for (int i = 0; i < SIZE; i++)
+		{
+			sum += this.map.get(this.probes[i]);
+		}
+		return sum;
+	}
+
+	/**
+	 * Benchmark that computes the bucket distribution of the keys in a table with the size that a
+	 * {@link HashMap} with all keys would have. The distribution is reported with the secondary
+	 * results of the given counters
+	 *
+	 * @param counters
+	 *            the counters for the distribution
+	 * @return the number of occupied buckets
+	 */
+	@Benchmark
+	public int bucketDistribution(final BucketCounters counters)
+	{
+		final int tableSize = Integer.highestOneBit(SIZE * 2 - 1) << 1;
+		final int[] buckets = new int[tableSize];
+		int occupied = 0;
+		int maxBucketSize = 0;
+		for (int i = 0; i < SIZE; i++)
+		{
+			final int hash = this.keys[i].hashCode();
+			final int index = (hash ^ (hash >>> 16)) & (tableSize - 1);
+			final int bucketSize = ++buckets[index];
+			if (bucketSize == 1)
+			{
+				occupied++;
+			}
+			maxBucketSize = Math.max(maxBucketSize, bucketSize);
+		}
+		counters.occupiedBuckets = occupied;
+		counters.collidingKeys = SIZE - occupied;
+		counters.maxBucketSize = maxBucketSize;
+		return occupied;
+	}
+
+	/**
+	 * The class {@link BucketCounters} holds the bucket distribution of the last invocation of
+	 * {@link TupleHashStrategyBenchmark#bucketDistribution(BucketCounters)}
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class BucketCounters
+	{
+
+		/** The number of buckets with at least one key */
+		public long occupiedBuckets;
+
+		/** The number of keys that share the bucket with a previous key */
+		public long collidingKeys;
+
+		/** The number of keys in the fullest bucket */
+		public long maxBucketSize;
+
+		/**
+		 * Resets the counters before every iteration
+		 */
+		@Setup(Level.Iteration)
+		public void reset()
+		{
+			this.occupiedBuckets = 0;
+			this.collidingKeys = 0;
+			this.maxBucketSize = 0;
+		}
+	}
+
+}
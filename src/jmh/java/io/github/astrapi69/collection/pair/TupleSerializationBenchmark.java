@@ -0,0 +1,316 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class {@link TupleSerializationBenchmark} compares the compact binary layout of
+ * the {@link TupleSerializationProxy} with the default serialization of the tuple classes. The
+ * default serialization is measured with subclasses that do not inherit the private method
+ * writeReplace, so the baseline carries one additional class descriptor, and with a copy of the
+ * field layout for the final class {@link KeyValuesPair}. The size of the
+ * serialized form is reported as the auxiliary counter serializedBytes
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TupleSerializationBenchmark
+{
+
+	/** The shape of the serialized tuple */
+	@Param({ "PAIR", "TRIPLE", "KEY_VALUES_PAIR" })
+	String shape;
+
+	/** The serialization format, either COMPACT or DEFAULT */
+	@Param({ "COMPACT", "DEFAULT" })
+	String format;
+
+	/** The tuple to serialize */
+	Serializable tuple;
+
+	/** The serialized form of the tuple */
+	byte[] serialized;
+
+	/**
+	 * Creates the tuple for the current shape and format
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Setup
+	public void setup() throws IOException
+	{
+		final boolean compact = "COMPACT".equals(this.format);
+		switch (this.shape)
+		{
+			case "PAIR" :
+				this.tuple = compact ? new Pair<>("key", 1) : new DefaultPair<>("key", 1);
+				break;
+			case "TRIPLE" :
+				this.tuple = compact
+					? new Triple<>("left", 2L, 3.0d)
+					: new DefaultTriple<>("left", 2L, 3.0d);
+				break;
+			case "KEY_VALUES_PAIR" :
+				final List<String> values = new ArrayList<>();
+				for (int i = 0; i < 16; i++)
+				{
+					values.add("value" + i);
+				}
+				this.tuple = compact
+					? new KeyValuesPair<>("key", values)
+					: new DefaultKeyValuesPair<>("key", values);
+				break;
+			default :
+				throw new IllegalArgumentException("Unknown shape: " + this.shape);
+		}
+		this.serialized = serialize(this.tuple);
+	}
+
+	/**
+	 * Serializes the given object
+	 *
+	 * @param object
+	 *            the object
+	 * @return the serialized form
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	static byte[] serialize(final Serializable object) throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Deserializes the given serialized form
+	 *
+	 * @param serialized
+	 *            the serialized form
+	 * @return the object
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of a serialized object cannot be found
+	 */
+	static Object deserialize(final byte[] serialized) throws IOException, ClassNotFoundException
+	{
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized)))
+		{
+			return in.readObject();
+		}
+	}
+
+	/**
+	 * Benchmark for the serialization of the tuple
+	 *
+	 * @param counters
+	 *            the counters for the size of the serialized form
+	 * @return the serialized form
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Benchmark
+	public byte[] serialize(final SizeCounters counters) throws IOException
+	{
+		final byte[] bytes = serialize(this.tuple);
+		counters.serializedBytes = bytes.length;
+		return bytes;
+	}
+
+	/**
+	 * Benchmark for the deserialization of the tuple
+	 *
+	 * @return the deserialized tuple
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of a serialized object cannot be found
+	 */
+	@Benchmark
+	public Object deserialize() throws IOException, ClassNotFoundException
+	{
+		return deserialize(this.serialized);
+	}
+
+	/**
+	 * Benchmark for the serialization and the following deserialization of the tuple
+	 *
+	 * @return the deserialized tuple
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of a serialized object cannot be found
+	 */
+	@Benchmark
+	public Object roundtrip() throws IOException, ClassNotFoundException
+	{
+		return deserialize(serialize(this.tuple));
+	}
+
+	/**
+	 * The class {@link SizeCounters} holds the size of the serialized form of the last invocation
+	 * of {@link TupleSerializationBenchmark#serialize(SizeCounters)}
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class SizeCounters
+	{
+
+		/** The number of bytes of the serialized form */
+		public long serializedBytes;
+
+		/**
+		 * Resets the counters before every iteration
+		 */
+		@Setup(Level.Iteration)
+		public void reset()
+		{
+			this.serializedBytes = 0;
+		}
+	}
+
+	/**
+	 * A {@link Pair} that is written with the default serialization
+	 *
+	 * @param <L>
+	 *            the generic type of the left content
+	 * @param <R>
+	 *            the generic type of the right content
+	 */
+	static class DefaultPair<L, R> extends Pair<L, R>
+	{
+
+		/** The serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Instantiates a new {@link DefaultPair}
+		 *
+		 * @param left
+		 *            the left content
+		 * @param right
+		 *            the right content
+		 */
+		DefaultPair(final L left, final R right)
+		{
+			super(left, right);
+		}
+	}
+
+	/**
+	 * A {@link Triple} that is written with the default serialization
+	 *
+	 * @param <L>
+	 *            the generic type of the left content
+	 * @param <M>
+	 *            the generic type of the middle content
+	 * @param <R>
+	 *            the generic type of the right content
+	 */
+	static class DefaultTriple<L, M, R> extends Triple<L, M, R>
+	{
+
+		/** The serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Instantiates a new {@link DefaultTriple}
+		 *
+		 * @param left
+		 *            the left content
+		 * @param middle
+		 *            the middle content
+		 * @param right
+		 *            the right content
+		 */
+		DefaultTriple(final L left, final M middle, final R right)
+		{
+			super(left, middle, right);
+		}
+	}
+
+	/**
+	 * A copy of the field layout of the final class {@link KeyValuesPair} that is written with the
+	 * default serialization
+	 *
+	 * @param <K>
+	 *            the generic type of the key
+	 * @param <V>
+	 *            the generic type of the values
+	 */
+	static final class DefaultKeyValuesPair<K, V> implements Serializable
+	{
+
+		/** The serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** The key. */
+		final K key;
+
+		/** The collection with the values. */
+		final Collection<V> values;
+
+		/**
+		 * Instantiates a new {@link DefaultKeyValuesPair}
+		 *
+		 * @param key
+		 *            the key
+		 * @param values
+		 *            the values
+		 */
+		DefaultKeyValuesPair(final K key, final Collection<V> values)
+		{
+			this.key = key;
+			this.values = values;
+		}
+	}
+
+}
@@ -0,0 +1,188 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.sort;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.collection.comparator.KeyValuePairKeyComparator;
+import io.github.astrapi69.collection.pair.KeyValuePair;
+
+/**
+ * The benchmark class {@link PairSorterBenchmark} compares the sequential sort of
+ * {@link List#sort(java.util.Comparator)} with the parallel and the radix sorts of
+ * {@link PairSorter}. Every invocation sorts a fresh copy of the same shuffled list, the copy is
+ * part of the measured time. The collator benchmarks compare a comparator that collates the keys
+ * on every comparison with the derived key sort that computes every collation key once
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class PairSorterBenchmark
+{
+
+	/** The length of the string keys */
+	static final int KEY_LENGTH = 10;
+
+	/** The number of elements */
+	@Param({ "10000", "1000000" })
+	int size;
+
+	/** The shuffled key value pairs with int keys */
+	List<KeyValuePair<Integer, Integer>> intKeyValuePairs;
+
+	/** The shuffled key value pairs with fixed length string keys */
+	List<KeyValuePair<String, Integer>> stringKeyValuePairs;
+
+	/** The locale aware collator for the derived key benchmarks */
+	final Collator collator = Collator.getInstance(Locale.GERMAN);
+
+	/**
+	 * Creates the shuffled lists for the current size with a fixed seed
+	 */
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(42L);
+		this.intKeyValuePairs = new ArrayList<>(this.size);
+		this.stringKeyValuePairs = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++)
+		{
+			final int key = random.nextInt();
+			this.intKeyValuePairs.add(new KeyValuePair<>(key, i));
+			this.stringKeyValuePairs
+				.add(new KeyValuePair<>(String.format("%010d", key & Integer.MAX_VALUE), i));
+		}
+	}
+
+	/**
+	 * Benchmark for the sequential sort with the {@link KeyValuePairKeyComparator}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuePair<String, Integer>> sequentialSort()
+	{
+		final List<KeyValuePair<String, Integer>> list = new ArrayList<>(this.stringKeyValuePairs);
+		list.sort(new KeyValuePairKeyComparator<>());
+		return list;
+	}
+
+	/**
+	 * Benchmark for {@link PairSorter#parallelSortKeyValuePairs(List)}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuePair<String, Integer>> parallelSort()
+	{
+		final List<KeyValuePair<String, Integer>> list = new ArrayList<>(this.stringKeyValuePairs);
+		PairSorter.parallelSortKeyValuePairs(list);
+		return list;
+	}
+
+	/**
+	 * Benchmark for
+	 * {@link PairSorter#radixSortByFixedLengthStringKey(List, java.util.function.Function, int)}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuePair<String, Integer>> radixSortByFixedLengthStringKey()
+	{
+		final List<KeyValuePair<String, Integer>> list = new ArrayList<>(this.stringKeyValuePairs);
+		PairSorter.radixSortByFixedLengthStringKey(list, KeyValuePair::getKey, KEY_LENGTH);
+		return list;
+	}
+
+	/**
+	 * Benchmark for the sequential sort of int keys with the {@link KeyValuePairKeyComparator}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuePair<Integer, Integer>> sequentialSortByIntKey()
+	{
+		final List<KeyValuePair<Integer, Integer>> list = new ArrayList<>(this.intKeyValuePairs);
+		list.sort(new KeyValuePairKeyComparator<>());
+		return list;
+	}
+
+	/**
+	 * Benchmark for {@link PairSorter#radixSortByIntKey(List, java.util.function.ToIntFunction)}
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuePair<Integer, Integer>> radixSortByIntKey()
+	{
+		final List<KeyValuePair<Integer, Integer>> list = new ArrayList<>(this.intKeyValuePairs);
+		PairSorter.radixSortByIntKey(list, KeyValuePair::getKey);
+		return list;
+	}
+
+	/**
+	 * Benchmark for the sequential sort with a comparator that collates the keys on every
+	 * comparison
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuePair<String, Integer>> sequentialSortWithCollator()
+	{
+		final List<KeyValuePair<String, Integer>> list = new ArrayList<>(this.stringKeyValuePairs);
+		list.sort(Comparator.comparing(KeyValuePair::getKey, this.collator));
+		return list;
+	}
+
+	/**
+	 * Benchmark for {@link PairSorter#sortByDerivedKey(List, java.util.function.Function)} with the
+	 * collation keys
+	 *
+	 * @return the sorted list
+	 */
+	@Benchmark
+	public List<KeyValuePair<String, Integer>> sortByCollationKey()
+	{
+		final List<KeyValuePair<String, Integer>> list = new ArrayList<>(this.stringKeyValuePairs);
+		PairSorter.sortByDerivedKey(list,
+			keyValuePair -> this.collator.getCollationKey(keyValuePair.getKey()));
+		return list;
+	}
+}
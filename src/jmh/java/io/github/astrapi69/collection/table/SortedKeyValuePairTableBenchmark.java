@@ -0,0 +1,169 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+
+/**
+ * The benchmark class {@link SortedKeyValuePairTableBenchmark} compares the lookup by key in a
+ * {@link SortedKeyValuePairTable} with a {@link TreeMap} and with a linear scan over a sorted list
+ * of {@link KeyValuePair}'s
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class SortedKeyValuePairTableBenchmark
+{
+
+	/** The number of lookups per invocation */
+	static final int LOOKUPS = 1024;
+
+	/** The number of entries */
+	@Param({ "1000", "100000" })
+	int size;
+
+	/** The sorted list of key value pairs */
+	List<KeyValuePair<String, Integer>> keyValuePairs;
+
+	/** The table with the same entries */
+	SortedKeyValuePairTable<String, Integer> table;
+
+	/** The tree map with the same entries */
+	TreeMap<String, Integer> treeMap;
+
+	/** The keys to look up */
+	String[] lookupKeys;
+
+	/**
+	 * Creates the list, the table, the tree map and the lookup keys for the current size
+	 */
+	@Setup
+	public void setup()
+	{
+		this.keyValuePairs = new ArrayList<>(this.size);
+		this.treeMap = new TreeMap<>();
+		for (int i = 0; i < this.size; i++)
+		{
+			final String key = String.format("key%08d", i);
+			this.keyValuePairs.add(new KeyValuePair<>(key, i));
+			this.treeMap.put(key, i);
+		}
+		this.table = SortedKeyValuePairTable.ofSorted(this.keyValuePairs);
+		final Random random = new Random(42);
+		this.lookupKeys = new String[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++)
+		{
+			this.lookupKeys[i] = String.format("key%08d", random.nextInt(this.size));
+		}
+	}
+
+	/**
+	 * Benchmark for {@link SortedKeyValuePairTable#get(Object)}
+	 *
+	 * @return the sum of the found values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(LOOKUPS)
+	public long tableGet()
+	{
+		long sum = 0;
+		for (final String key : this.lookupKeys)
+		{
+			sum += this.table.get(key);
+		}
+		return sum;
+	}
+
+	/**
+	 * Benchmark for {@link TreeMap#get(Object)}
+	 *
+	 * @return the sum of the found values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(LOOKUPS)
+	public long treeMapGet()
+	{
+		long sum = 0;
+		for (final String key : this.lookupKeys)
+		{
+			sum += this.treeMap.get(key);
+		}
+		return sum;
+	}
+
+	/**
+	 * Benchmark for a linear scan over the sorted list of key value pairs, it is only measured for
+	 * the first lookup keys to keep the invocation short
+	 *
+	 * @return the sum of the found values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(16)
+	public long linearScan()
+	{
+		long sum = 0;
+		for (int i = 0; i < 16; i++)
+		{
+			final String key = this.lookupKeys[i];
+			for (final KeyValuePair<String, Integer> keyValuePair : this.keyValuePairs)
+			{
+				if (keyValuePair.getKey().equals(key))
+				{
+					sum += keyValuePair.getValue();
+					break;
+				}
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Benchmark for {@link SortedKeyValuePairTable#of(java.util.Collection)} with already sorted
+	 * input
+	 *
+	 * @return the table
+	 */
+	@Benchmark
+	public SortedKeyValuePairTable<String, Integer> buildTable()
+	{
+		return SortedKeyValuePairTable.of(this.keyValuePairs);
+	}
+}
@@ -24,15 +24,22 @@
  */
 package io.github.astrapi69.bean.enumeration;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * The class {@link DecoratedEnum} can decorate an enum with a new value that may be extended in a
- * future release.
+ * future release. A decorated enum is serialized with the compact binary layout of
+ * {@link DecoratedEnumSerializationProxy}, so the value must be serializable.
  */
-public final class DecoratedEnum<E extends Enum<E>, T>
+public final class DecoratedEnum<E extends Enum<E>, T> implements Serializable
 {
 
+	/** The serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
 	/** The enumtype. */
 	private final E enumtype;
 
@@ -62,6 +69,48 @@ public final class DecoratedEnum<E extends Enum<E>, T>
 		return new DecoratedEnumBuilder<E, T>();
 	}
 
+	/**
+	 * Gets the canonical {@link DecoratedEnum} of the given enum constant from the
+	 * {@link DecoratedEnumRegistry} of its enum type. Repeated calls return the same instance
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param <T>
+	 *            the generic type of the value
+	 * @param enumtype
+	 *            the enum constant
+	 * @return the canonical decorated enum of the given enum constant
+	 */
+	public static <E extends Enum<E>, T> DecoratedEnum<E, T> of(final E enumtype)
+	{
+		if (enumtype == null)
+		{
+			throw new NullPointerException("enumtype is marked non-null but is null");
+		}
+		return DecoratedEnumRegistry.of(enumtype.getDeclaringClass()).get(enumtype);
+	}
+
+	/**
+	 * Gets the canonical {@link DecoratedEnum} of the given new value from the
+	 * {@link DecoratedEnumRegistry} of the given enum type. Repeated calls with equal values
+	 * return the same instance
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param <T>
+	 *            the generic type of the value
+	 * @param enumType
+	 *            the enum type
+	 * @param value
+	 *            the new value
+	 * @return the canonical decorated enum of the given value
+	 */
+	public static <E extends Enum<E>, T> DecoratedEnum<E, T> ofValue(final Class<E> enumType,
+		final T value)
+	{
+		return DecoratedEnumRegistry.of(enumType).intern(value);
+	}
+
 	/**
 	 * Returns the name of the decorated enum or if it is a new value it will return the result of
 	 * the toString method of value
@@ -95,9 +144,8 @@ public final class DecoratedEnum<E extends Enum<E>, T>
 		if (!(o instanceof DecoratedEnum))
 			return false;
 		final DecoratedEnum<?, ?> other = (DecoratedEnum<?, ?>)o;
-		final Object this$enumtype = this.getEnumtype();
-		final Object other$enumtype = other.getEnumtype();
-		if (this$enumtype == null ? other$enumtype != null : !this$enumtype.equals(other$enumtype))
+		// enum constants are singletons, so they are compared by identity
+		if (this.getEnumtype() != other.getEnumtype())
 			return false;
 		final Object this$value = this.getValue();
 		final Object other$value = other.getValue();
@@ -122,6 +170,30 @@ public final class DecoratedEnum<E extends Enum<E>, T>
 		return "DecoratedEnum(enumtype=" + this.getEnumtype() + ", value=" + this.getValue() + ")";
 	}
 
+	/**
+	 * Replaces this decorated enum with a {@link DecoratedEnumSerializationProxy}
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new DecoratedEnumSerializationProxy(this);
+	}
+
+	/**
+	 * Prevents the deserialization of a decorated enum that was not written with the
+	 * serialization proxy
+	 *
+	 * @param stream
+	 *            the stream
+	 * @throws InvalidObjectException
+	 *             always
+	 */
+	private void readObject(final ObjectInputStream stream) throws InvalidObjectException
+	{
+		throw new InvalidObjectException("DecoratedEnumSerializationProxy required");
+	}
+
 	public static class DecoratedEnumBuilder<E extends Enum<E>, T>
 	{
 		private E enumtype;
@@ -0,0 +1,214 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.bean.enumeration;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The class {@link DecoratedEnumRegistry} hands out canonical {@link DecoratedEnum} instances of
+ * one enum type. There is exactly one decorated enum for every enum constant, held in an
+ * {@link EnumMap} that is filled on creation, and one decorated enum for every new value that is
+ * interned in a concurrent table on its first use. The lookups allocate nothing after the first
+ * use of a value and the canonical instances can be compared by identity.<br>
+ * <br>
+ * The registry of an enum type is created once and shared, see {@link #of(Class)}. Interned
+ * values are never removed, so only a bounded set of values should be interned
+ *
+ * @param <E>
+ *            the generic type of the enum
+ */
+public final class DecoratedEnumRegistry<E extends Enum<E>>
+{
+
+	/** The registries of the enum types */
+	private static final ClassValue<DecoratedEnumRegistry<?>> REGISTRIES = new ClassValue<>()
+	{
+		@Override
+		protected DecoratedEnumRegistry<?> computeValue(final Class<?> type)
+		{
+			return newRegistry(type);
+		}
+	};
+
+	/** The enum type */
+	private final Class<E> enumType;
+
+	/** The decorated enums of the enum constants */
+	private final Map<E, DecoratedEnum<E, ?>> constants;
+
+	/** The decorated enums of the interned values */
+	private final ConcurrentMap<Object, DecoratedEnum<E, ?>> values;
+
+	/**
+	 * Instantiates a new {@link DecoratedEnumRegistry} for the given enum type
+	 *
+	 * @param enumType
+	 *            the enum type
+	 */
+	private DecoratedEnumRegistry(final Class<E> enumType)
+	{
+		this.enumType = enumType;
+		this.constants = new EnumMap<>(enumType);
+		for (final E constant : enumType.getEnumConstants())
+		{
+			this.constants.put(constant, new DecoratedEnum<>(constant, null));
+		}
+		this.values = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Gets the shared registry of the given enum type
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param enumType
+	 *            the enum type
+	 * @return the shared registry of the given enum type
+	 */
+	public static <E extends Enum<E>> DecoratedEnumRegistry<E> of(final Class<E> enumType)
+	{
+		if (enumType == null)
+		{
+			throw new NullPointerException("enumType is marked non-null but is null");
+		}
+		if (!enumType.isEnum())
+		{
+			throw new IllegalArgumentException(enumType.getName() + " is not an enum type");
+		}
+		return elementAt(REGISTRIES.get(enumType));
+	}
+
+	/**
+	 * Creates the registry of the given enum type
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param enumType
+	 *            the enum type
+	 * @return the new registry
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <E extends Enum<E>> DecoratedEnumRegistry<E> newRegistry(final Class enumType)
+	{
+		return new DecoratedEnumRegistry<>((Class<E>)enumType);
+	}
+
+	/**
+	 * Casts the given object to the expected type
+	 *
+	 * @param <T>
+	 *            the expected type
+	 * @param object
+	 *            the object
+	 * @return the object as the expected type
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object object)
+	{
+		return (T)object;
+	}
+
+	/**
+	 * Gets the canonical decorated enum of the given enum constant
+	 *
+	 * @param <T>
+	 *            the generic type of the value
+	 * @param enumtype
+	 *            the enum constant
+	 * @return the canonical decorated enum of the given enum constant
+	 */
+	public <T> DecoratedEnum<E, T> get(final E enumtype)
+	{
+		if (enumtype == null)
+		{
+			throw new NullPointerException("enumtype is marked non-null but is null");
+		}
+		return elementAt(this.constants.get(enumtype));
+	}
+
+	/**
+	 * Gets the enum type of this registry
+	 *
+	 * @return the enum type
+	 */
+	public Class<E> getEnumType()
+	{
+		return this.enumType;
+	}
+
+	/**
+	 * Gets the canonical decorated enum of the given new value. The decorated enum is created and
+	 * interned on the first call with an equal value
+	 *
+	 * @param <T>
+	 *            the generic type of the value
+	 * @param value
+	 *            the new value
+	 * @return the canonical decorated enum of the given value
+	 */
+	public <T> DecoratedEnum<E, T> intern(final T value)
+	{
+		if (value == null)
+		{
+			throw new NullPointerException("value is marked non-null but is null");
+		}
+		final DecoratedEnum<E, ?> existing = this.values.get(value);
+		if (existing != null)
+		{
+			return elementAt(existing);
+		}
+		final DecoratedEnum<E, T> decoratedEnum = new DecoratedEnum<>(null, value);
+		final DecoratedEnum<E, ?> raced = this.values.putIfAbsent(value, decoratedEnum);
+		if (raced != null)
+		{
+			return elementAt(raced);
+		}
+		return decoratedEnum;
+	}
+
+	/**
+	 * Gets the number of interned values
+	 *
+	 * @return the number of interned values
+	 */
+	public int internedSize()
+	{
+		return this.values.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "DecoratedEnumRegistry(enumType=" + this.enumType.getName() + ", internedSize="
+			+ internedSize() + ")";
+	}
+
+}
@@ -0,0 +1,509 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.bean.enumeration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The class {@link DecoratedEnumResolver} resolves the names of the constants of one enum type to
+ * the canonical {@link DecoratedEnum} instances of the {@link DecoratedEnumRegistry}. It is meant
+ * for parsers that resolve a high volume of tokens.<br>
+ * <br>
+ * On creation the resolver searches a seed for which the polynomial hash of the names, that is
+ * the hash of {@link String#hashCode()}, spreads the names into a table without collisions. The
+ * lookup of a name then costs one hash, one table read and one comparison of the characters.
+ * Names are resolved from a {@link CharSequence} and from a slice of a UTF-8 encoded byte array.
+ * A known name is resolved without creating a string, for a byte slice only if all names of the
+ * enum type are ASCII. Otherwise the byte slice is decoded to a string before the lookup. If no
+ * collision free seed is found, for instance because two names have the same hash, the table
+ * falls back to short linear probing.<br>
+ * <br>
+ * Unknown names are resolved to a new value based {@link DecoratedEnum} with the name as value.
+ * These instances are not interned, because the tokens of a parser are unbounded, use
+ * {@link DecoratedEnumRegistry#intern(Object)} for a bounded set of new values
+ *
+ * @param <E>
+ *            the generic type of the enum
+ */
+public final class DecoratedEnumResolver<E extends Enum<E>>
+{
+
+	/** The number of seeds that are tried for every table capacity */
+	static final int SEED_ATTEMPTS = 64;
+
+	/** The resolvers of the enum types */
+	private static final ClassValue<DecoratedEnumResolver<?>> RESOLVERS = new ClassValue<>()
+	{
+		@Override
+		protected DecoratedEnumResolver<?> computeValue(final Class<?> type)
+		{
+			return newResolver(type);
+		}
+	};
+
+	/** The registry of the enum type */
+	private final DecoratedEnumRegistry<E> registry;
+
+	/** The enum constants */
+	private final E[] constants;
+
+	/** The names of the enum constants */
+	private final String[] names;
+
+	/** The hashes of the names */
+	private final int[] hashes;
+
+	/** The flag if all names consist of ascii characters and match their UTF-8 bytes */
+	private final boolean ascii;
+
+	/** The length of the shortest name */
+	private final int minLength;
+
+	/** The length of the longest name */
+	private final int maxLength;
+
+	/** The table with the index plus one of the enum constants or zero for an empty slot */
+	private final int[] table;
+
+	/** The seed of the hash */
+	private final int seed;
+
+	/** The flag if the table is free of collisions */
+	private final boolean perfect;
+
+	/**
+	 * Instantiates a new {@link DecoratedEnumResolver} for the given enum type
+	 *
+	 * @param enumType
+	 *            the enum type
+	 */
+	private DecoratedEnumResolver(final Class<E> enumType)
+	{
+		this.registry = DecoratedEnumRegistry.of(enumType);
+		this.constants = enumType.getEnumConstants();
+		final int size = this.constants.length;
+		this.names = new String[size];
+		this.hashes = new int[size];
+		boolean asciiNames = true;
+		int min = Integer.MAX_VALUE;
+		int max = 0;
+		for (int i = 0; i < size; i++)
+		{
+			final String name = this.constants[i].name();
+			this.names[i] = name;
+			this.hashes[i] = name.hashCode();
+			min = Math.min(min, name.length());
+			max = Math.max(max, name.length());
+			for (int j = 0; j < name.length(); j++)
+			{
+				if (0x7F < name.charAt(j))
+				{
+					asciiNames = false;
+				}
+			}
+		}
+		this.ascii = asciiNames;
+		this.minLength = size == 0 ? 0 : min;
+		this.maxLength = max;
+		final int baseCapacity = Integer.highestOneBit(Math.max(1, size * 2 - 1)) << 1;
+		for (int capacity = baseCapacity; capacity <= baseCapacity << 3; capacity <<= 1)
+		{
+			for (int attempt = 0; attempt < SEED_ATTEMPTS; attempt++)
+			{
+				final int candidate = attempt * 0x61C88647;
+				final int[] perfectTable = perfectTable(this.hashes, capacity, candidate);
+				if (perfectTable != null)
+				{
+					this.table = perfectTable;
+					this.seed = candidate;
+					this.perfect = true;
+					return;
+				}
+			}
+		}
+		this.table = probingTable(this.hashes, baseCapacity);
+		this.seed = 0;
+		this.perfect = false;
+	}
+
+	/**
+	 * Gets the shared resolver of the given enum type
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param enumType
+	 *            the enum type
+	 * @return the shared resolver of the given enum type
+	 */
+	public static <E extends Enum<E>> DecoratedEnumResolver<E> of(final Class<E> enumType)
+	{
+		if (enumType == null)
+		{
+			throw new NullPointerException("enumType is marked non-null but is null");
+		}
+		if (!enumType.isEnum())
+		{
+			throw new IllegalArgumentException(enumType.getName() + " is not an enum type");
+		}
+		return elementAt(RESOLVERS.get(enumType));
+	}
+
+	/**
+	 * Creates the resolver of the given enum type
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param enumType
+	 *            the enum type
+	 * @return the new resolver
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <E extends Enum<E>> DecoratedEnumResolver<E> newResolver(final Class enumType)
+	{
+		return new DecoratedEnumResolver<>((Class<E>)enumType);
+	}
+
+	/**
+	 * Casts the given object to the expected type
+	 *
+	 * @param <T>
+	 *            the expected type
+	 * @param object
+	 *            the object
+	 * @return the object as the expected type
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object object)
+	{
+		return (T)object;
+	}
+
+	/**
+	 * Computes the slot of the given hash in a table with the given mask
+	 *
+	 * @param hash
+	 *            the hash
+	 * @param seed
+	 *            the seed
+	 * @param mask
+	 *            the mask of the table
+	 * @return the slot
+	 */
+	private static int slot(final int hash, final int seed, final int mask)
+	{
+		final int mixed = (hash ^ seed) * 0x9E3779B9;
+		return (mixed ^ (mixed >>> 16)) & mask;
+	}
+
+	/**
+	 * Creates a table without collisions for the given hashes
+	 *
+	 * @param hashes
+	 *            the hashes
+	 * @param capacity
+	 *            the capacity of the table, a power of two
+	 * @param seed
+	 *            the seed
+	 * @return the table or null if two hashes collide
+	 */
+	private static int[] perfectTable(final int[] hashes, final int capacity, final int seed)
+	{
+		final int[] table = new int[capacity];
+		final int mask = capacity - 1;
+		for (int i = 0; i < hashes.length; i++)
+		{
+			final int slot = slot(hashes[i], seed, mask);
+			if (table[slot] != 0)
+			{
+				return null;
+			}
+			table[slot] = i + 1;
+		}
+		return table;
+	}
+
+	/**
+	 * Creates a table with linear probing for the given hashes
+	 *
+	 * @param hashes
+	 *            the hashes
+	 * @param capacity
+	 *            the capacity of the table, a power of two
+	 * @return the table
+	 */
+	private static int[] probingTable(final int[] hashes, final int capacity)
+	{
+		final int[] table = new int[capacity];
+		final int mask = capacity - 1;
+		for (int i = 0; i < hashes.length; i++)
+		{
+			int slot = slot(hashes[i], 0, mask);
+			while (table[slot] != 0)
+			{
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = i + 1;
+		}
+		return table;
+	}
+
+	/**
+	 * Gets the enum type of this resolver
+	 *
+	 * @return the enum type
+	 */
+	public Class<E> getEnumType()
+	{
+		return this.registry.getEnumType();
+	}
+
+	/**
+	 * Gets the index of the enum constant with the given name
+	 *
+	 * @param name
+	 *            the name
+	 * @return the index of the enum constant or -1 if the name is unknown
+	 */
+	private int indexOf(final CharSequence name)
+	{
+		final int length = name.length();
+		if (length < this.minLength || this.maxLength < length)
+		{
+			return -1;
+		}
+		int hash;
+		if (name instanceof String)
+		{
+			hash = name.hashCode();
+		}
+		else
+		{
+			hash = 0;
+			for (int i = 0; i < length; i++)
+			{
+				hash = 31 * hash + name.charAt(i);
+			}
+		}
+		final int mask = this.table.length - 1;
+		int slot = slot(hash, this.seed, mask);
+		for (int index = this.table[slot]; index != 0; index = this.table[slot])
+		{
+			final String candidate = this.names[index - 1];
+			if (this.hashes[index - 1] == hash && candidate.contentEquals(name))
+			{
+				return index - 1;
+			}
+			if (this.perfect)
+			{
+				return -1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the index of the enum constant with the given UTF-8 encoded name. The bytes are compared
+	 * directly if all names are ASCII, otherwise the name is decoded to a string first
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param offset
+	 *            the offset of the name
+	 * @param length
+	 *            the length of the name in bytes
+	 * @return the index of the enum constant or -1 if the name is unknown
+	 */
+	private int indexOf(final byte[] bytes, final int offset, final int length)
+	{
+		if (!this.ascii)
+		{
+			return indexOf(new String(bytes, offset, length, StandardCharsets.UTF_8));
+		}
+		if (length < this.minLength || this.maxLength < length)
+		{
+			return -1;
+		}
+		int hash = 0;
+		for (int i = offset; i < offset + length; i++)
+		{
+			hash = 31 * hash + (bytes[i] & 0xFF);
+		}
+		final int mask = this.table.length - 1;
+		int slot = slot(hash, this.seed, mask);
+		for (int index = this.table[slot]; index != 0; index = this.table[slot])
+		{
+			if (this.hashes[index - 1] == hash && matches(this.names[index - 1], bytes, offset))
+			{
+				return index - 1;
+			}
+			if (this.perfect)
+			{
+				return -1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks if the table of this resolver is free of collisions, so every lookup reads one slot
+	 *
+	 * @return true, if the table is free of collisions
+	 */
+	public boolean isPerfect()
+	{
+		return this.perfect;
+	}
+
+	/**
+	 * Checks if the given ascii name matches the bytes at the given offset. The length is already
+	 * checked by the caller
+	 *
+	 * @param name
+	 *            the ascii name
+	 * @param bytes
+	 *            the bytes
+	 * @param offset
+	 *            the offset of the name
+	 * @return true, if the name matches the bytes
+	 */
+	private static boolean matches(final String name, final byte[] bytes, final int offset)
+	{
+		for (int i = 0; i < name.length(); i++)
+		{
+			if (name.charAt(i) != bytes[offset + i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Resolves the given UTF-8 encoded name to the canonical decorated enum of the enum constant
+	 * with this name. An unknown name is resolved to a new decorated enum with the decoded name
+	 * as value, so only a known name of an enum type with ASCII names is resolved without creating
+	 * a string
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param offset
+	 *            the offset of the name
+	 * @param length
+	 *            the length of the name in bytes
+	 * @return the decorated enum
+	 */
+	public DecoratedEnum<E, String> resolve(final byte[] bytes, final int offset, final int length)
+	{
+		final E constant = resolveConstant(bytes, offset, length);
+		if (constant != null)
+		{
+			return this.registry.get(constant);
+		}
+		return new DecoratedEnum<>(null, new String(bytes, offset, length, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Resolves the given name to the canonical decorated enum of the enum constant with this
+	 * name. An unknown name is resolved to a new decorated enum with the name as value
+	 *
+	 * @param name
+	 *            the name
+	 * @return the decorated enum
+	 */
+	public DecoratedEnum<E, String> resolve(final CharSequence name)
+	{
+		final E constant = resolveConstant(name);
+		if (constant != null)
+		{
+			return this.registry.get(constant);
+		}
+		return new DecoratedEnum<>(null, name.toString());
+	}
+
+	/**
+	 * Resolves the given UTF-8 encoded name to the enum constant with this name
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param offset
+	 *            the offset of the name
+	 * @param length
+	 *            the length of the name in bytes
+	 * @return the enum constant or null if the name is unknown
+	 */
+	public E resolveConstant(final byte[] bytes, final int offset, final int length)
+	{
+		if (bytes == null)
+		{
+			throw new NullPointerException("bytes is marked non-null but is null");
+		}
+		if (offset < 0 || length < 0 || bytes.length - length < offset)
+		{
+			throw new IndexOutOfBoundsException("offset " + offset + " and length " + length
+				+ " are out of bounds for length " + bytes.length);
+		}
+		final int index = indexOf(bytes, offset, length);
+		if (index < 0)
+		{
+			return null;
+		}
+		return this.constants[index];
+	}
+
+	/**
+	 * Resolves the given name to the enum constant with this name
+	 *
+	 * @param name
+	 *            the name
+	 * @return the enum constant or null if the name is unknown
+	 */
+	public E resolveConstant(final CharSequence name)
+	{
+		if (name == null)
+		{
+			throw new NullPointerException("name is marked non-null but is null");
+		}
+		final int index = indexOf(name);
+		if (index < 0)
+		{
+			return null;
+		}
+		return this.constants[index];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "DecoratedEnumResolver(enumType=" + getEnumType().getName() + ", names="
+			+ Arrays.toString(this.names) + ", perfect=" + this.perfect + ")";
+	}
+
+}
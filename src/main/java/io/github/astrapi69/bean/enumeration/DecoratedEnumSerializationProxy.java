@@ -0,0 +1,168 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.bean.enumeration;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+
+/**
+ * The class {@link DecoratedEnumSerializationProxy} is the serialized form of
+ * {@link DecoratedEnum}. It writes a version byte, a flag byte for the present parts, the enum
+ * constant and the value without the class descriptor and the field names of
+ * {@link DecoratedEnum}
+ */
+final class DecoratedEnumSerializationProxy implements Externalizable
+{
+
+	/** The current version of the binary layout */
+	static final byte VERSION = 1;
+
+	/** The flag for a present enum constant */
+	private static final int ENUMTYPE_FLAG = 1;
+
+	/** The flag for a present value */
+	private static final int VALUE_FLAG = 2;
+
+	/** The serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The enum constant */
+	private Enum<?> enumtype;
+
+	/** The value */
+	private Object value;
+
+	/**
+	 * Instantiates a new {@link DecoratedEnumSerializationProxy}, this constructor is only used
+	 * from the serialization
+	 */
+	public DecoratedEnumSerializationProxy()
+	{
+	}
+
+	/**
+	 * Instantiates a new {@link DecoratedEnumSerializationProxy} for the given decorated enum
+	 *
+	 * @param decoratedEnum
+	 *            the decorated enum
+	 */
+	DecoratedEnumSerializationProxy(final DecoratedEnum<?, ?> decoratedEnum)
+	{
+		this.enumtype = decoratedEnum.getEnumtype();
+		this.value = decoratedEnum.getValue();
+	}
+
+	/**
+	 * Creates the decorated enum with the given enum constant and value. A decorated enum with
+	 * only an enum constant is resolved to the canonical instance of the
+	 * {@link DecoratedEnumRegistry}
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param enumtype
+	 *            the enum constant
+	 * @param value
+	 *            the value
+	 * @return the decorated enum
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E extends Enum<E>> DecoratedEnum<E, Object> newDecoratedEnum(
+		final Enum<?> enumtype, final Object value)
+	{
+		if (value == null)
+		{
+			return DecoratedEnum.of((E)enumtype);
+		}
+		return new DecoratedEnum<>((E)enumtype, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void writeExternal(final ObjectOutput out) throws IOException
+	{
+		out.writeByte(VERSION);
+		out.writeByte((this.enumtype != null ? ENUMTYPE_FLAG : 0)
+			| (this.value != null ? VALUE_FLAG : 0));
+		if (this.enumtype != null)
+		{
+			out.writeObject(this.enumtype);
+		}
+		if (this.value != null)
+		{
+			out.writeObject(this.value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		final byte version = in.readByte();
+		if (version < 1 || VERSION < version)
+		{
+			throw new InvalidObjectException(
+				"Unsupported decorated enum serialization version: " + version);
+		}
+		final byte flags = in.readByte();
+		if ((flags & ENUMTYPE_FLAG) != 0)
+		{
+			final Object object = in.readObject();
+			if (!(object instanceof Enum))
+			{
+				throw new InvalidObjectException("Expected an enum constant but was " + object);
+			}
+			this.enumtype = (Enum<?>)object;
+		}
+		if ((flags & VALUE_FLAG) != 0)
+		{
+			this.value = in.readObject();
+		}
+	}
+
+	/**
+	 * Replaces this proxy with the decorated enum
+	 *
+	 * @return the decorated enum
+	 * @throws ObjectStreamException
+	 *             if neither an enum constant nor a value was read
+	 */
+	private Object readResolve() throws ObjectStreamException
+	{
+		if (this.enumtype == null && this.value == null)
+		{
+			throw new InvalidObjectException("A decorated enum needs an enum constant or a value");
+		}
+		return newDecoratedEnum(this.enumtype, this.value);
+	}
+
+}
@@ -1,5 +1,6 @@
 /**
- * This package provides enums that decorate an existing enum with a new value and an enum with
- * modification modes
+ * This package provides enums that decorate an existing enum with a new value, a registry and a
+ * name resolver for the canonical decorated enums of an enum type and an enum with modification
+ * modes
  */
-package io.github.astrapi69.bean.enumeration;
\ No newline at end of file
+package io.github.astrapi69.bean.enumeration;
@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The interface {@link Codec} encodes values of a given type into a {@link ByteBuffer} and decodes
+ * them back. A codec is either fixed width, so every value takes the same number of bytes, or
+ * variable width, so the caller has to store the encoded length along with the encoded bytes. All
+ * methods use absolute indexes and do not change the position of the given buffer
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public interface Codec<T>
+{
+
+	/**
+	 * The constant that signals a variable width codec
+	 */
+	int VARIABLE_WIDTH = -1;
+
+	/**
+	 * Decodes a value from the given number of bytes starting at the given offset of the given
+	 * buffer
+	 *
+	 * @param source
+	 *            the source buffer
+	 * @param offset
+	 *            the offset of the first byte
+	 * @param length
+	 *            the number of encoded bytes
+	 * @return the decoded value
+	 */
+	T decode(ByteBuffer source, int offset, int length);
+
+	/**
+	 * Encodes the given value into the given buffer starting at the given offset. Exactly
+	 * {@link #encodedLength(Object)} bytes will be written
+	 *
+	 * @param value
+	 *            the value
+	 * @param target
+	 *            the target buffer
+	 * @param offset
+	 *            the offset of the first byte
+	 */
+	void encode(T value, ByteBuffer target, int offset);
+
+	/**
+	 * Computes the number of bytes of the encoded form of the given value
+	 *
+	 * @param value
+	 *            the value
+	 * @return the number of encoded bytes
+	 */
+	int encodedLength(T value);
+
+	/**
+	 * Gets the number of bytes of every encoded value or {@link #VARIABLE_WIDTH} if the encoded
+	 * length depends on the value
+	 *
+	 * @return the fixed width or {@link #VARIABLE_WIDTH}
+	 */
+	int fixedWidth();
+
+	/**
+	 * Checks if this codec is fixed width
+	 *
+	 * @return true, if every encoded value has the same number of bytes
+	 */
+	default boolean isFixedWidth()
+	{
+		return fixedWidth() != VARIABLE_WIDTH;
+	}
+}
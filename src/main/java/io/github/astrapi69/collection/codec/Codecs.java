@@ -0,0 +1,381 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * The class {@link Codecs} provides the {@link Codec} implementations for the common value types.
+ * The provided codecs do not accept null values, wrap them with {@link #nullable(Codec)} for
+ * nullable values
+ */
+public final class Codecs
+{
+
+	/**
+	 * The fixed width codec for {@link Integer} values
+	 */
+	public static final Codec<Integer> INTEGER = new IntegerCodec();
+
+	/**
+	 * The fixed width codec for {@link Long} values
+	 */
+	public static final Codec<Long> LONG = new LongCodec();
+
+	/**
+	 * The fixed width codec for {@link Double} values
+	 */
+	public static final Codec<Double> DOUBLE = new DoubleCodec();
+
+	/**
+	 * The variable width codec for {@link String} values in the UTF-8 encoding
+	 */
+	public static final Codec<String> STRING = new StringCodec();
+
+	/**
+	 * The variable width codec for byte arrays
+	 */
+	public static final Codec<byte[]> BYTE_ARRAY = new ByteArrayCodec();
+
+	private Codecs()
+	{
+	}
+
+	/**
+	 * Factory method for create a codec that accepts null values by writing a leading flag byte in
+	 * front of the encoded form of the given codec
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param codec
+	 *            the codec for the non null values
+	 * @return the new codec that accepts null values
+	 */
+	public static <T> Codec<T> nullable(final Codec<T> codec)
+	{
+		return new NullableCodec<>(Objects.requireNonNull(codec));
+	}
+
+	/**
+	 * The codec for {@link Integer} values
+	 */
+	private static final class IntegerCodec implements Codec<Integer>
+	{
+
+		@Override
+		public Integer decode(final ByteBuffer source, final int offset, final int length)
+		{
+			return source.getInt(offset);
+		}
+
+		@Override
+		public void encode(final Integer value, final ByteBuffer target, final int offset)
+		{
+			target.putInt(offset, value);
+		}
+
+		@Override
+		public int encodedLength(final Integer value)
+		{
+			return Integer.BYTES;
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return Integer.BYTES;
+		}
+	}
+
+	/**
+	 * The codec for {@link Long} values
+	 */
+	private static final class LongCodec implements Codec<Long>
+	{
+
+		@Override
+		public Long decode(final ByteBuffer source, final int offset, final int length)
+		{
+			return source.getLong(offset);
+		}
+
+		@Override
+		public void encode(final Long value, final ByteBuffer target, final int offset)
+		{
+			target.putLong(offset, value);
+		}
+
+		@Override
+		public int encodedLength(final Long value)
+		{
+			return Long.BYTES;
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return Long.BYTES;
+		}
+	}
+
+	/**
+	 * The codec for {@link Double} values
+	 */
+	private static final class DoubleCodec implements Codec<Double>
+	{
+
+		@Override
+		public Double decode(final ByteBuffer source, final int offset, final int length)
+		{
+			return source.getDouble(offset);
+		}
+
+		@Override
+		public void encode(final Double value, final ByteBuffer target, final int offset)
+		{
+			target.putDouble(offset, value);
+		}
+
+		@Override
+		public int encodedLength(final Double value)
+		{
+			return Double.BYTES;
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return Double.BYTES;
+		}
+	}
+
+	/**
+	 * The codec for {@link String} values that encodes the characters directly into the target
+	 * buffer without creating an intermediate byte array. Unpaired surrogates are encoded as
+	 * <code>'?'</code> like {@link String#getBytes(java.nio.charset.Charset)} does
+	 */
+	private static final class StringCodec implements Codec<String>
+	{
+
+		@Override
+		public String decode(final ByteBuffer source, final int offset, final int length)
+		{
+			if (source.hasArray())
+			{
+				return new String(source.array(), source.arrayOffset() + offset, length,
+					StandardCharsets.UTF_8);
+			}
+			final byte[] bytes = new byte[length];
+			source.get(offset, bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public void encode(final String value, final ByteBuffer target, final int offset)
+		{
+			int position = offset;
+			final int length = value.length();
+			for (int i = 0; i < length; i++)
+			{
+				final char c = value.charAt(i);
+				if (c < 0x80)
+				{
+					target.put(position++, (byte)c);
+				}
+				else if (c < 0x800)
+				{
+					target.put(position++, (byte)(0xC0 | (c >> 6)));
+					target.put(position++, (byte)(0x80 | (c & 0x3F)));
+				}
+				else if (Character.isSurrogate(c))
+				{
+					if (Character.isHighSurrogate(c) && i + 1 < length
+						&& Character.isLowSurrogate(value.charAt(i + 1)))
+					{
+						final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+						target.put(position++, (byte)(0xF0 | (codePoint >> 18)));
+						target.put(position++, (byte)(0x80 | ((codePoint >> 12) & 0x3F)));
+						target.put(position++, (byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+						target.put(position++, (byte)(0x80 | (codePoint & 0x3F)));
+					}
+					else
+					{
+						target.put(position++, (byte)'?');
+					}
+				}
+				else
+				{
+					target.put(position++, (byte)(0xE0 | (c >> 12)));
+					target.put(position++, (byte)(0x80 | ((c >> 6) & 0x3F)));
+					target.put(position++, (byte)(0x80 | (c & 0x3F)));
+				}
+			}
+		}
+
+		@Override
+		public int encodedLength(final String value)
+		{
+			int encodedLength = 0;
+			final int length = value.length();
+			for (int i = 0; i < length; i++)
+			{
+				final char c = value.charAt(i);
+				if (c < 0x80)
+				{
+					encodedLength += 1;
+				}
+				else if (c < 0x800)
+				{
+					encodedLength += 2;
+				}
+				else if (Character.isSurrogate(c))
+				{
+					if (Character.isHighSurrogate(c) && i + 1 < length
+						&& Character.isLowSurrogate(value.charAt(i + 1)))
+					{
+						encodedLength += 4;
+						i++;
+					}
+					else
+					{
+						encodedLength += 1;
+					}
+				}
+				else
+				{
+					encodedLength += 3;
+				}
+			}
+			return encodedLength;
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return VARIABLE_WIDTH;
+		}
+	}
+
+	/**
+	 * The codec for byte arrays
+	 */
+	private static final class ByteArrayCodec implements Codec<byte[]>
+	{
+
+		@Override
+		public byte[] decode(final ByteBuffer source, final int offset, final int length)
+		{
+			final byte[] bytes = new byte[length];
+			source.get(offset, bytes);
+			return bytes;
+		}
+
+		@Override
+		public void encode(final byte[] value, final ByteBuffer target, final int offset)
+		{
+			target.put(offset, value);
+		}
+
+		@Override
+		public int encodedLength(final byte[] value)
+		{
+			return value.length;
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return VARIABLE_WIDTH;
+		}
+	}
+
+	/**
+	 * The codec that decorates another codec with a leading flag byte for null values
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 */
+	private static final class NullableCodec<T> implements Codec<T>
+	{
+
+		/** The flag for a null value. */
+		private static final byte NULL = 0;
+
+		/** The flag for a non null value. */
+		private static final byte NON_NULL = 1;
+
+		/** The decorated codec. */
+		private final Codec<T> codec;
+
+		NullableCodec(final Codec<T> codec)
+		{
+			this.codec = codec;
+		}
+
+		@Override
+		public T decode(final ByteBuffer source, final int offset, final int length)
+		{
+			if (source.get(offset) == NULL)
+			{
+				return null;
+			}
+			return codec.decode(source, offset + 1, length - 1);
+		}
+
+		@Override
+		public void encode(final T value, final ByteBuffer target, final int offset)
+		{
+			if (value == null)
+			{
+				target.put(offset, NULL);
+				for (int i = 1; i < fixedWidth(); i++)
+				{
+					target.put(offset + i, NULL);
+				}
+				return;
+			}
+			target.put(offset, NON_NULL);
+			codec.encode(value, target, offset + 1);
+		}
+
+		@Override
+		public int encodedLength(final T value)
+		{
+			if (codec.isFixedWidth())
+			{
+				return fixedWidth();
+			}
+			return value == null ? 1 : 1 + codec.encodedLength(value);
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return codec.isFixedWidth() ? codec.fixedWidth() + 1 : VARIABLE_WIDTH;
+		}
+	}
+}
@@ -0,0 +1,525 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.Pair;
+import io.github.astrapi69.collection.pair.Quattro;
+import io.github.astrapi69.collection.pair.Triple;
+
+/**
+ * The class {@link TupleCodecs} provides factory methods for {@link Codec}'s that encode the tuple
+ * classes from the given per component codecs. Fixed width components are written without a
+ * length, every variable width component is written with a leading int length. The resulting
+ * codec is fixed width if all component codecs are fixed width. The components are not allowed
+ * to be null unless the component codec is wrapped with {@link Codecs#nullable(Codec)}
+ */
+public final class TupleCodecs
+{
+
+	private TupleCodecs()
+	{
+	}
+
+	/**
+	 * Factory method for create a codec for {@link KeyValuePair} objects
+	 *
+	 * @param <K>
+	 *            the generic type of the key
+	 * @param <V>
+	 *            the generic type of the value
+	 * @param keyCodec
+	 *            the codec for the key
+	 * @param valueCodec
+	 *            the codec for the value
+	 * @return the new codec
+	 */
+	public static <K, V> Codec<KeyValuePair<K, V>> keyValuePair(final Codec<K> keyCodec,
+		final Codec<V> valueCodec)
+	{
+		return new KeyValuePairCodec<>(Objects.requireNonNull(keyCodec),
+			Objects.requireNonNull(valueCodec));
+	}
+
+	/**
+	 * Factory method for create a codec for {@link Pair} objects
+	 *
+	 * @param <K>
+	 *            the generic type of the left content
+	 * @param <V>
+	 *            the generic type of the right content
+	 * @param leftCodec
+	 *            the codec for the left content
+	 * @param rightCodec
+	 *            the codec for the right content
+	 * @return the new codec
+	 */
+	public static <K, V> Codec<Pair<K, V>> pair(final Codec<K> leftCodec,
+		final Codec<V> rightCodec)
+	{
+		return new PairCodec<>(Objects.requireNonNull(leftCodec),
+			Objects.requireNonNull(rightCodec));
+	}
+
+	/**
+	 * Factory method for create a codec for {@link Quattro} objects
+	 *
+	 * @param <TL>
+	 *            the generic type of the top left content
+	 * @param <TR>
+	 *            the generic type of the top right content
+	 * @param <BL>
+	 *            the generic type of the bottom left content
+	 * @param <BR>
+	 *            the generic type of the bottom right content
+	 * @param topLeftCodec
+	 *            the codec for the top left content
+	 * @param topRightCodec
+	 *            the codec for the top right content
+	 * @param bottomLeftCodec
+	 *            the codec for the bottom left content
+	 * @param bottomRightCodec
+	 *            the codec for the bottom right content
+	 * @return the new codec
+	 */
+	public static <TL, TR, BL, BR> Codec<Quattro<TL, TR, BL, BR>> quattro(
+		final Codec<TL> topLeftCodec, final Codec<TR> topRightCodec,
+		final Codec<BL> bottomLeftCodec, final Codec<BR> bottomRightCodec)
+	{
+		return new QuattroCodec<>(Objects.requireNonNull(topLeftCodec),
+			Objects.requireNonNull(topRightCodec), Objects.requireNonNull(bottomLeftCodec),
+			Objects.requireNonNull(bottomRightCodec));
+	}
+
+	/**
+	 * Factory method for create a codec for {@link Triple} objects
+	 *
+	 * @param <L>
+	 *            the generic type of the left content
+	 * @param <M>
+	 *            the generic type of the middle content
+	 * @param <R>
+	 *            the generic type of the right content
+	 * @param leftCodec
+	 *            the codec for the left content
+	 * @param middleCodec
+	 *            the codec for the middle content
+	 * @param rightCodec
+	 *            the codec for the right content
+	 * @return the new codec
+	 */
+	public static <L, M, R> Codec<Triple<L, M, R>> triple(final Codec<L> leftCodec,
+		final Codec<M> middleCodec, final Codec<R> rightCodec)
+	{
+		return new TripleCodec<>(Objects.requireNonNull(leftCodec),
+			Objects.requireNonNull(middleCodec), Objects.requireNonNull(rightCodec));
+	}
+
+	/**
+	 * Computes the fixed width of a tuple from the given component codecs
+	 *
+	 * @param codecs
+	 *            the component codecs
+	 * @return the sum of the fixed widths or {@link Codec#VARIABLE_WIDTH} if one component codec
+	 *         is variable width
+	 */
+	static int fixedWidth(final Codec<?>... codecs)
+	{
+		int width = 0;
+		for (final Codec<?> codec : codecs)
+		{
+			if (!codec.isFixedWidth())
+			{
+				return Codec.VARIABLE_WIDTH;
+			}
+			width += codec.fixedWidth();
+		}
+		return width;
+	}
+
+	/**
+	 * Computes the number of bytes of the given component including the length of a variable width
+	 * component
+	 *
+	 * @param <C>
+	 *            the generic type of the component
+	 * @param codec
+	 *            the component codec
+	 * @param component
+	 *            the component
+	 * @return the number of bytes
+	 */
+	static <C> int componentLength(final Codec<C> codec, final C component)
+	{
+		if (codec.isFixedWidth())
+		{
+			return codec.fixedWidth();
+		}
+		return Integer.BYTES + codec.encodedLength(component);
+	}
+
+	/**
+	 * Encodes the given component at the given offset
+	 *
+	 * @param <C>
+	 *            the generic type of the component
+	 * @param codec
+	 *            the component codec
+	 * @param component
+	 *            the component
+	 * @param target
+	 *            the target buffer
+	 * @param offset
+	 *            the offset of the first byte
+	 * @return the offset after the encoded component
+	 */
+	static <C> int encodeComponent(final Codec<C> codec, final C component,
+		final ByteBuffer target, final int offset)
+	{
+		if (codec.isFixedWidth())
+		{
+			codec.encode(component, target, offset);
+			return offset + codec.fixedWidth();
+		}
+		final int length = codec.encodedLength(component);
+		target.putInt(offset, length);
+		codec.encode(component, target, offset + Integer.BYTES);
+		return offset + Integer.BYTES + length;
+	}
+
+	/**
+	 * Decodes the component at the given offset
+	 *
+	 * @param <C>
+	 *            the generic type of the component
+	 * @param codec
+	 *            the component codec
+	 * @param source
+	 *            the source buffer
+	 * @param offset
+	 *            the offset of the first byte
+	 * @return the decoded component
+	 */
+	static <C> C decodeComponent(final Codec<C> codec, final ByteBuffer source, final int offset)
+	{
+		if (codec.isFixedWidth())
+		{
+			return codec.decode(source, offset, codec.fixedWidth());
+		}
+		return codec.decode(source, offset + Integer.BYTES, source.getInt(offset));
+	}
+
+	/**
+	 * Computes the offset after the component at the given offset
+	 *
+	 * @param codec
+	 *            the component codec
+	 * @param source
+	 *            the source buffer
+	 * @param offset
+	 *            the offset of the first byte
+	 * @return the offset after the encoded component
+	 */
+	static int skipComponent(final Codec<?> codec, final ByteBuffer source, final int offset)
+	{
+		if (codec.isFixedWidth())
+		{
+			return offset + codec.fixedWidth();
+		}
+		return offset + Integer.BYTES + source.getInt(offset);
+	}
+
+	/**
+	 * The codec for {@link Pair} objects
+	 *
+	 * @param <K>
+	 *            the generic type of the left content
+	 * @param <V>
+	 *            the generic type of the right content
+	 */
+	private static final class PairCodec<K, V> implements Codec<Pair<K, V>>
+	{
+
+		/** The codec for the left content. */
+		private final Codec<K> leftCodec;
+
+		/** The codec for the right content. */
+		private final Codec<V> rightCodec;
+
+		/** The fixed width. */
+		private final int fixedWidth;
+
+		PairCodec(final Codec<K> leftCodec, final Codec<V> rightCodec)
+		{
+			this.leftCodec = leftCodec;
+			this.rightCodec = rightCodec;
+			this.fixedWidth = TupleCodecs.fixedWidth(leftCodec, rightCodec);
+		}
+
+		@Override
+		public Pair<K, V> decode(final ByteBuffer source, final int offset, final int length)
+		{
+			final K left = decodeComponent(leftCodec, source, offset);
+			final V right = decodeComponent(rightCodec, source,
+				skipComponent(leftCodec, source, offset));
+			return new Pair<>(left, right);
+		}
+
+		@Override
+		public void encode(final Pair<K, V> value, final ByteBuffer target, final int offset)
+		{
+			final int next = encodeComponent(leftCodec, value.getLeftContent(), target, offset);
+			encodeComponent(rightCodec, value.getRightContent(), target, next);
+		}
+
+		@Override
+		public int encodedLength(final Pair<K, V> value)
+		{
+			return componentLength(leftCodec, value.getLeftContent())
+				+ componentLength(rightCodec, value.getRightContent());
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return fixedWidth;
+		}
+	}
+
+	/**
+	 * The codec for {@link KeyValuePair} objects
+	 *
+	 * @param <K>
+	 *            the generic type of the key
+	 * @param <V>
+	 *            the generic type of the value
+	 */
+	private static final class KeyValuePairCodec<K, V> implements Codec<KeyValuePair<K, V>>
+	{
+
+		/** The codec for the key. */
+		private final Codec<K> keyCodec;
+
+		/** The codec for the value. */
+		private final Codec<V> valueCodec;
+
+		/** The fixed width. */
+		private final int fixedWidth;
+
+		KeyValuePairCodec(final Codec<K> keyCodec, final Codec<V> valueCodec)
+		{
+			this.keyCodec = keyCodec;
+			this.valueCodec = valueCodec;
+			this.fixedWidth = TupleCodecs.fixedWidth(keyCodec, valueCodec);
+		}
+
+		@Override
+		public KeyValuePair<K, V> decode(final ByteBuffer source, final int offset,
+			final int length)
+		{
+			final K key = decodeComponent(keyCodec, source, offset);
+			final V value = decodeComponent(valueCodec, source,
+				skipComponent(keyCodec, source, offset));
+			return new KeyValuePair<>(key, value);
+		}
+
+		@Override
+		public void encode(final KeyValuePair<K, V> value, final ByteBuffer target,
+			final int offset)
+		{
+			final int next = encodeComponent(keyCodec, value.getKey(), target, offset);
+			encodeComponent(valueCodec, value.getValue(), target, next);
+		}
+
+		@Override
+		public int encodedLength(final KeyValuePair<K, V> value)
+		{
+			return componentLength(keyCodec, value.getKey())
+				+ componentLength(valueCodec, value.getValue());
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return fixedWidth;
+		}
+	}
+
+	/**
+	 * The codec for {@link Triple} objects
+	 *
+	 * @param <L>
+	 *            the generic type of the left content
+	 * @param <M>
+	 *            the generic type of the middle content
+	 * @param <R>
+	 *            the generic type of the right content
+	 */
+	private static final class TripleCodec<L, M, R> implements Codec<Triple<L, M, R>>
+	{
+
+		/** The codec for the left content. */
+		private final Codec<L> leftCodec;
+
+		/** The codec for the middle content. */
+		private final Codec<M> middleCodec;
+
+		/** The codec for the right content. */
+		private final Codec<R> rightCodec;
+
+		/** The fixed width. */
+		private final int fixedWidth;
+
+		TripleCodec(final Codec<L> leftCodec, final Codec<M> middleCodec,
+			final Codec<R> rightCodec)
+		{
+			this.leftCodec = leftCodec;
+			this.middleCodec = middleCodec;
+			this.rightCodec = rightCodec;
+			this.fixedWidth = TupleCodecs.fixedWidth(leftCodec, middleCodec, rightCodec);
+		}
+
+		@Override
+		public Triple<L, M, R> decode(final ByteBuffer source, final int offset,
+			final int length)
+		{
+			final L left = decodeComponent(leftCodec, source, offset);
+			final int middleOffset = skipComponent(leftCodec, source, offset);
+			final M middle = decodeComponent(middleCodec, source, middleOffset);
+			final R right = decodeComponent(rightCodec, source,
+				skipComponent(middleCodec, source, middleOffset));
+			return new Triple<>(left, middle, right);
+		}
+
+		@Override
+		public void encode(final Triple<L, M, R> value, final ByteBuffer target,
+			final int offset)
+		{
+			int next = encodeComponent(leftCodec, value.getLeft(), target, offset);
+			next = encodeComponent(middleCodec, value.getMiddle(), target, next);
+			encodeComponent(rightCodec, value.getRight(), target, next);
+		}
+
+		@Override
+		public int encodedLength(final Triple<L, M, R> value)
+		{
+			return componentLength(leftCodec, value.getLeft())
+				+ componentLength(middleCodec, value.getMiddle())
+				+ componentLength(rightCodec, value.getRight());
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return fixedWidth;
+		}
+	}
+
+	/**
+	 * The codec for {@link Quattro} objects
+	 *
+	 * @param <TL>
+	 *            the generic type of the top left content
+	 * @param <TR>
+	 *            the generic type of the top right content
+	 * @param <BL>
+	 *            the generic type of the bottom left content
+	 * @param <BR>
+	 *            the generic type of the bottom right content
+	 */
+	private static final class QuattroCodec<TL, TR, BL, BR>
+		implements
+			Codec<Quattro<TL, TR, BL, BR>>
+	{
+
+		/** The codec for the top left content. */
+		private final Codec<TL> topLeftCodec;
+
+		/** The codec for the top right content. */
+		private final Codec<TR> topRightCodec;
+
+		/** The codec for the bottom left content. */
+		private final Codec<BL> bottomLeftCodec;
+
+		/** The codec for the bottom right content. */
+		private final Codec<BR> bottomRightCodec;
+
+		/** The fixed width. */
+		private final int fixedWidth;
+
+		QuattroCodec(final Codec<TL> topLeftCodec, final Codec<TR> topRightCodec,
+			final Codec<BL> bottomLeftCodec, final Codec<BR> bottomRightCodec)
+		{
+			this.topLeftCodec = topLeftCodec;
+			this.topRightCodec = topRightCodec;
+			this.bottomLeftCodec = bottomLeftCodec;
+			this.bottomRightCodec = bottomRightCodec;
+			this.fixedWidth = TupleCodecs.fixedWidth(topLeftCodec, topRightCodec,
+				bottomLeftCodec, bottomRightCodec);
+		}
+
+		@Override
+		public Quattro<TL, TR, BL, BR> decode(final ByteBuffer source, final int offset,
+			final int length)
+		{
+			final TL topLeft = decodeComponent(topLeftCodec, source, offset);
+			int next = skipComponent(topLeftCodec, source, offset);
+			final TR topRight = decodeComponent(topRightCodec, source, next);
+			next = skipComponent(topRightCodec, source, next);
+			final BL bottomLeft = decodeComponent(bottomLeftCodec, source, next);
+			next = skipComponent(bottomLeftCodec, source, next);
+			final BR bottomRight = decodeComponent(bottomRightCodec, source, next);
+			return new Quattro<>(bottomLeft, bottomRight, topLeft, topRight);
+		}
+
+		@Override
+		public void encode(final Quattro<TL, TR, BL, BR> value, final ByteBuffer target,
+			final int offset)
+		{
+			int next = encodeComponent(topLeftCodec, value.getTopLeft(), target, offset);
+			next = encodeComponent(topRightCodec, value.getTopRight(), target, next);
+			next = encodeComponent(bottomLeftCodec, value.getBottomLeft(), target, next);
+			encodeComponent(bottomRightCodec, value.getBottomRight(), target, next);
+		}
+
+		@Override
+		public int encodedLength(final Quattro<TL, TR, BL, BR> value)
+		{
+			return componentLength(topLeftCodec, value.getTopLeft())
+				+ componentLength(topRightCodec, value.getTopRight())
+				+ componentLength(bottomLeftCodec, value.getBottomLeft())
+				+ componentLength(bottomRightCodec, value.getBottomRight());
+		}
+
+		@Override
+		public int fixedWidth()
+		{
+			return fixedWidth;
+		}
+	}
+}
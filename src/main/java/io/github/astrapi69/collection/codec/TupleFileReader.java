@@ -0,0 +1,327 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The class {@link TupleFileReader} reads the tuples of a file that was written with a
+ * {@link TupleFileWriter} through a {@link FileChannel}. The file is read in chunks into one large
+ * reusable buffer and every tuple is only decoded when the iteration reaches it, so files that
+ * are far larger than the heap can be processed in constant memory. A reader can be iterated only
+ * once, the {@link IOException}'s of the iteration are thrown as {@link UncheckedIOException}'s.
+ * <br>
+ * <br>
+ * A {@link TupleFileReader} is not thread safe
+ *
+ * @param <T>
+ *            the generic type of the tuples
+ */
+public final class TupleFileReader<T> implements Iterable<T>, Closeable
+{
+
+	/**
+	 * The default size in bytes of the read buffer
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+	/** The file channel. */
+	private final FileChannel channel;
+
+	/** The codec for the tuples. */
+	private final Codec<T> codec;
+
+	/** The number of bytes of the length in front of every record. */
+	private final int lengthPrefix;
+
+	/** The read buffer, the position is the next unread byte and the limit the end of data. */
+	private ByteBuffer buffer;
+
+	/** The flag if the iterator of this reader was already created. */
+	private boolean iterated;
+
+	/**
+	 * Instantiates a new {@link TupleFileReader}
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param codec
+	 *            the codec for the tuples
+	 * @param bufferSize
+	 *            the size in bytes of the read buffer
+	 */
+	TupleFileReader(final FileChannel channel, final Codec<T> codec, final int bufferSize)
+	{
+		this.channel = channel;
+		this.codec = codec;
+		this.lengthPrefix = codec.isFixedWidth() ? 0 : Integer.BYTES;
+		this.buffer = ByteBuffer.allocate(bufferSize);
+		this.buffer.limit(0);
+	}
+
+	/**
+	 * Factory method for create a new {@link TupleFileReader} with the default buffer size
+	 *
+	 * @param <T>
+	 *            the generic type of the tuples
+	 * @param path
+	 *            the path of the file
+	 * @param codec
+	 *            the codec for the tuples
+	 * @return the new {@link TupleFileReader}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the file is not a tuple file
+	 */
+	public static <T> TupleFileReader<T> open(final Path path, final Codec<T> codec)
+		throws IOException
+	{
+		return open(path, codec, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Factory method for create a new {@link TupleFileReader}
+	 *
+	 * @param <T>
+	 *            the generic type of the tuples
+	 * @param path
+	 *            the path of the file
+	 * @param codec
+	 *            the codec for the tuples, the fixed width has to match the codec of the writer
+	 * @param bufferSize
+	 *            the size in bytes of the read buffer, a record that does not fit into the buffer
+	 *            grows it
+	 * @return the new {@link TupleFileReader}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the file is not a tuple file
+	 */
+	public static <T> TupleFileReader<T> open(final Path path, final Codec<T> codec,
+		final int bufferSize) throws IOException
+	{
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(codec);
+		if (bufferSize < TupleFileWriter.HEADER_LENGTH)
+		{
+			throw new IllegalArgumentException("Illegal buffer size: " + bufferSize);
+		}
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		final TupleFileReader<T> reader = new TupleFileReader<>(channel, codec, bufferSize);
+		try
+		{
+			reader.readHeader(path);
+		}
+		catch (final IOException exception)
+		{
+			channel.close();
+			throw exception;
+		}
+		return reader;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+
+	/**
+	 * Creates the lazy iterator over the tuples of the file
+	 *
+	 * @return the iterator
+	 * @throws IllegalStateException
+	 *             if the iterator was already created
+	 */
+	@Override
+	public Iterator<T> iterator()
+	{
+		if (iterated)
+		{
+			throw new IllegalStateException("The reader can only be iterated once");
+		}
+		iterated = true;
+		return new Iterator<>()
+		{
+			private T next;
+
+			@Override
+			public boolean hasNext()
+			{
+				if (next == null)
+				{
+					next = readNext();
+				}
+				return next != null;
+			}
+
+			@Override
+			public T next()
+			{
+				if (!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				final T current = next;
+				next = null;
+				return current;
+			}
+		};
+	}
+
+	/**
+	 * Creates a lazy sequential stream over the tuples of the file. Closing the stream closes this
+	 * reader
+	 *
+	 * @return the stream
+	 */
+	public Stream<T> stream()
+	{
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(iterator(),
+				Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(() -> {
+				try
+				{
+					close();
+				}
+				catch (final IOException exception)
+				{
+					throw new UncheckedIOException(exception);
+				}
+			});
+	}
+
+	/**
+	 * Ensures that the buffer holds at least the given number of unread bytes
+	 *
+	 * @param required
+	 *            the number of required bytes
+	 * @return true, if the buffer holds the required bytes or false if the end of the file was
+	 *         reached before
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	private boolean fill(final int required) throws IOException
+	{
+		if (buffer.remaining() >= required)
+		{
+			return true;
+		}
+		if (buffer.capacity() < required)
+		{
+			final ByteBuffer grown = ByteBuffer.allocate(required);
+			grown.put(buffer);
+			buffer = grown;
+		}
+		else
+		{
+			buffer.compact();
+		}
+		while (buffer.position() < required && channel.read(buffer) >= 0)
+		{
+			// read until the required bytes are available or the end of the file is reached
+		}
+		buffer.flip();
+		return buffer.remaining() >= required;
+	}
+
+	/**
+	 * Reads and validates the file header
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred or the file is not a tuple file
+	 */
+	private void readHeader(final Path path) throws IOException
+	{
+		if (!fill(TupleFileWriter.HEADER_LENGTH) || buffer.getInt() != TupleFileWriter.MAGIC)
+		{
+			throw new IOException("The file " + path + " is not a tuple file");
+		}
+		final byte version = buffer.get();
+		if (version != TupleFileWriter.VERSION)
+		{
+			throw new IOException("Unsupported tuple file version: " + version);
+		}
+		final int fixedWidth = buffer.getInt();
+		if (fixedWidth != codec.fixedWidth())
+		{
+			throw new IOException("The file was written with a codec of the fixed width "
+				+ fixedWidth + " but the given codec has the fixed width " + codec.fixedWidth());
+		}
+	}
+
+	/**
+	 * Reads the next tuple
+	 *
+	 * @return the next tuple or null if the end of the file is reached
+	 */
+	private T readNext()
+	{
+		try
+		{
+			final int headerLength = lengthPrefix == 0 ? codec.fixedWidth() : lengthPrefix;
+			if (!fill(headerLength))
+			{
+				if (buffer.hasRemaining())
+				{
+					throw new EOFException("The tuple file is truncated");
+				}
+				return null;
+			}
+			final int length = lengthPrefix == 0
+				? codec.fixedWidth()
+				: buffer.getInt(buffer.position());
+			if (!fill(lengthPrefix + length))
+			{
+				throw new EOFException("The tuple file is truncated");
+			}
+			final int offset = buffer.position() + lengthPrefix;
+			final T tuple = codec.decode(buffer, offset, length);
+			buffer.position(offset + length);
+			return tuple;
+		}
+		catch (final IOException exception)
+		{
+			throw new UncheckedIOException(exception);
+		}
+	}
+}
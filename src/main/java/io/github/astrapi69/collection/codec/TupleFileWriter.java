@@ -0,0 +1,293 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * The class {@link TupleFileWriter} writes a sequence of tuples encoded with a {@link Codec} to a
+ * file through a {@link FileChannel}. The records are collected in one large reusable direct
+ * buffer that is only written to the channel when it is full, so no object is allocated per
+ * record. The file starts with a header that holds a magic number, the format version and the
+ * fixed width of the codec. A record of a fixed width codec is written without a length, a record
+ * of a variable width codec is written with a leading int length. The written file can be read
+ * lazily with a {@link TupleFileReader}. <br>
+ * <br>
+ * A {@link TupleFileWriter} is not thread safe
+ *
+ * @param <T>
+ *            the generic type of the tuples
+ */
+public final class TupleFileWriter<T> implements Closeable, Flushable
+{
+
+	/**
+	 * The default size in bytes of the write buffer
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * The magic number at the start of every tuple file
+	 */
+	static final int MAGIC = 0x53425446;
+
+	/**
+	 * The version of the file format
+	 */
+	static final byte VERSION = 1;
+
+	/**
+	 * The number of bytes of the file header, the magic number, the version and the fixed width
+	 */
+	static final int HEADER_LENGTH = Integer.BYTES + Byte.BYTES + Integer.BYTES;
+
+	/** The file channel. */
+	private final FileChannel channel;
+
+	/** The codec for the tuples. */
+	private final Codec<T> codec;
+
+	/** The number of bytes of the length in front of every record. */
+	private final int lengthPrefix;
+
+	/** The write buffer. */
+	private ByteBuffer buffer;
+
+	/** The number of written tuples. */
+	private long count;
+
+	/** The flag if this writer is closed. */
+	private boolean closed;
+
+	/**
+	 * Instantiates a new {@link TupleFileWriter}
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param codec
+	 *            the codec for the tuples
+	 * @param bufferSize
+	 *            the size in bytes of the write buffer
+	 */
+	TupleFileWriter(final FileChannel channel, final Codec<T> codec, final int bufferSize)
+	{
+		this.channel = channel;
+		this.codec = codec;
+		this.lengthPrefix = codec.isFixedWidth() ? 0 : Integer.BYTES;
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	/**
+	 * Factory method for create a new {@link TupleFileWriter} with the default buffer size. An
+	 * existing file will be truncated
+	 *
+	 * @param <T>
+	 *            the generic type of the tuples
+	 * @param path
+	 *            the path of the file
+	 * @param codec
+	 *            the codec for the tuples
+	 * @return the new {@link TupleFileWriter}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> TupleFileWriter<T> open(final Path path, final Codec<T> codec)
+		throws IOException
+	{
+		return open(path, codec, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Factory method for create a new {@link TupleFileWriter}. An existing file will be truncated
+	 *
+	 * @param <T>
+	 *            the generic type of the tuples
+	 * @param path
+	 *            the path of the file
+	 * @param codec
+	 *            the codec for the tuples
+	 * @param bufferSize
+	 *            the size in bytes of the write buffer, a record that does not fit into the
+	 *            buffer grows it
+	 * @return the new {@link TupleFileWriter}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static <T> TupleFileWriter<T> open(final Path path, final Codec<T> codec,
+		final int bufferSize) throws IOException
+	{
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(codec);
+		if (bufferSize < HEADER_LENGTH)
+		{
+			throw new IllegalArgumentException("Illegal buffer size: " + bufferSize);
+		}
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		final TupleFileWriter<T> writer = new TupleFileWriter<>(channel, codec, bufferSize);
+		writer.buffer.putInt(MAGIC).put(VERSION).putInt(codec.fixedWidth());
+		return writer;
+	}
+
+	/**
+	 * Writes the remaining bytes of the buffer to the channel and closes this writer
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		if (closed)
+		{
+			return;
+		}
+		closed = true;
+		try
+		{
+			drain();
+		}
+		finally
+		{
+			channel.close();
+		}
+	}
+
+	/**
+	 * Writes the buffered records to the channel. The records are handed over to the operating
+	 * system but not forced to the storage device
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Override
+	public void flush() throws IOException
+	{
+		ensureOpen();
+		drain();
+	}
+
+	/**
+	 * Gets the number of tuples written by this writer
+	 *
+	 * @return the number of written tuples
+	 */
+	public long getCount()
+	{
+		return count;
+	}
+
+	/**
+	 * Writes the given tuple
+	 *
+	 * @param tuple
+	 *            the tuple
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public void write(final T tuple) throws IOException
+	{
+		Objects.requireNonNull(tuple);
+		ensureOpen();
+		final int length = codec.encodedLength(tuple);
+		final int recordLength = lengthPrefix + length;
+		if (buffer.remaining() < recordLength)
+		{
+			drain();
+			if (buffer.capacity() < recordLength)
+			{
+				buffer = ByteBuffer.allocateDirect(recordLength);
+			}
+		}
+		final int position = buffer.position();
+		if (lengthPrefix != 0)
+		{
+			buffer.putInt(position, length);
+		}
+		codec.encode(tuple, buffer, position + lengthPrefix);
+		buffer.position(position + recordLength);
+		count++;
+	}
+
+	/**
+	 * Writes all given tuples
+	 *
+	 * @param tuples
+	 *            the tuples
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public void writeAll(final Iterable<? extends T> tuples) throws IOException
+	{
+		for (final T tuple : tuples)
+		{
+			write(tuple);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "TupleFileWriter(count=" + this.count + ", bufferSize=" + this.buffer.capacity()
+			+ ", closed=" + this.closed + ")";
+	}
+
+	/**
+	 * Writes the buffered bytes to the channel and clears the buffer
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	private void drain() throws IOException
+	{
+		buffer.flip();
+		while (buffer.hasRemaining())
+		{
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Throws an {@link IllegalStateException} if this writer is closed
+	 */
+	private void ensureOpen()
+	{
+		if (closed)
+		{
+			throw new IllegalStateException("The writer is closed");
+		}
+	}
+}
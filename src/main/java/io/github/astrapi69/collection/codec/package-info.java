@@ -0,0 +1,5 @@
+/**
+ * This package provides codecs that encode and decode values to and from byte buffers and the
+ * streaming reader and writer for files of encoded tuples
+ */
+package io.github.astrapi69.collection.codec;
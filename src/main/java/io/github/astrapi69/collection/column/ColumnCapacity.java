@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+/**
+ * The class {@link ColumnCapacity} provides the growth policy for the arrays of the column
+ * containers
+ */
+final class ColumnCapacity
+{
+
+	/**
+	 * The default initial capacity of a column container
+	 */
+	static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The maximum size of an array that can be allocated
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private ColumnCapacity()
+	{
+	}
+
+	/**
+	 * Checks the given index against the given size
+	 *
+	 * @param index
+	 *            the index
+	 * @param size
+	 *            the size
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	static void checkIndex(final int index, final int size)
+	{
+		if (index < 0 || size <= index)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	/**
+	 * Computes the new capacity for the given current capacity so that at least the given minimum
+	 * capacity fits
+	 *
+	 * @param currentCapacity
+	 *            the current capacity
+	 * @param minCapacity
+	 *            the minimum capacity
+	 * @return the new capacity
+	 */
+	static int newCapacity(final int currentCapacity, final int minCapacity)
+	{
+		if (minCapacity < 0 || MAX_ARRAY_SIZE < minCapacity)
+		{
+			throw new OutOfMemoryError("Required column capacity too large: " + minCapacity);
+		}
+		int newCapacity = currentCapacity + (currentCapacity >> 1);
+		if (newCapacity < minCapacity)
+		{
+			newCapacity = minCapacity;
+		}
+		if (newCapacity < 0 || MAX_ARRAY_SIZE < newCapacity)
+		{
+			newCapacity = MAX_ARRAY_SIZE;
+		}
+		return Math.max(newCapacity, DEFAULT_CAPACITY);
+	}
+}
@@ -0,0 +1,414 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import io.github.astrapi69.collection.pair.IntIntDoubleTriple;
+
+/**
+ * The class {@link IntIntDoubleTripleColumns} stores the int, int and double values of triples in
+ * parallel primitive arrays, one array for each content. So a scan over one column does not touch
+ * the other columns and no value is boxed. A {@link IntIntDoubleTriple} is only materialized when a
+ * row is requested
+ */
+public class IntIntDoubleTripleColumns
+{
+
+	/**
+	 * The column with the left values
+	 */
+	private int[] left;
+
+	/**
+	 * The column with the middle values
+	 */
+	private int[] middle;
+
+	/**
+	 * The column with the right values
+	 */
+	private double[] right;
+
+	/**
+	 * The number of rows
+	 */
+	private int size;
+
+	/**
+	 * Instantiates a new {@link IntIntDoubleTripleColumns} with the default initial capacity
+	 */
+	public IntIntDoubleTripleColumns()
+	{
+		this(ColumnCapacity.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Instantiates a new {@link IntIntDoubleTripleColumns} with the given initial capacity
+	 *
+	 * @param initialCapacity
+	 *            the initial capacity
+	 */
+	public IntIntDoubleTripleColumns(final int initialCapacity)
+	{
+		if (initialCapacity < 0)
+		{
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.left = new int[initialCapacity];
+		this.middle = new int[initialCapacity];
+		this.right = new double[initialCapacity];
+	}
+
+	/**
+	 * Appends a new row with the given values
+	 *
+	 * @param left
+	 *            the left
+	 * @param middle
+	 *            the middle
+	 * @param right
+	 *            the right
+	 */
+	public void add(final int left, final int middle, final double right)
+	{
+		ensureCapacity(this.size + 1);
+		this.left[this.size] = left;
+		this.middle[this.size] = middle;
+		this.right[this.size] = right;
+		this.size++;
+	}
+
+	/**
+	 * Appends a new row with the values of the given {@link IntIntDoubleTriple}
+	 *
+	 * @param triple
+	 *            the triple
+	 */
+	public void add(final IntIntDoubleTriple triple)
+	{
+		add(triple.getLeft(), triple.getMiddle(), triple.getRight());
+	}
+
+	/**
+	 * Appends a new row for each {@link IntIntDoubleTriple} of the given collection
+	 *
+	 * @param triples
+	 *            the collection with the triples
+	 */
+	public void addAll(final Collection<? extends IntIntDoubleTriple> triples)
+	{
+		ensureCapacity(this.size + triples.size());
+		for (final IntIntDoubleTriple triple : triples)
+		{
+			this.left[this.size] = triple.getLeft();
+			this.middle[this.size] = triple.getMiddle();
+			this.right[this.size] = triple.getRight();
+			this.size++;
+		}
+	}
+
+	/**
+	 * Appends all rows of the given {@link IntIntDoubleTripleColumns}
+	 *
+	 * @param other
+	 *            the other columns
+	 */
+	public void addAll(final IntIntDoubleTripleColumns other)
+	{
+		final int otherSize = other.size;
+		ensureCapacity(this.size + otherSize);
+		System.arraycopy(other.left, 0, this.left, this.size, otherSize);
+		System.arraycopy(other.middle, 0, this.middle, this.size, otherSize);
+		System.arraycopy(other.right, 0, this.right, this.size, otherSize);
+		this.size += otherSize;
+	}
+
+	/**
+	 * Returns a list view of the rows of this columns. Every call of {@link List#get(int)} on the
+	 * returned list materializes a new {@link IntIntDoubleTriple} from the row,
+	 * {@link List#set(int, Object)} writes the values back into the columns and
+	 * {@link List#add(Object)} appends a new row
+	 *
+	 * @return the list view of the rows
+	 */
+	public List<IntIntDoubleTriple> asList()
+	{
+		return new RowList();
+	}
+
+	/**
+	 * Removes all rows
+	 */
+	public void clear()
+	{
+		this.size = 0;
+	}
+
+	/**
+	 * Increases the capacity of the columns if necessary so that at least the given number of
+	 * rows fits without further growing
+	 *
+	 * @param minCapacity
+	 *            the minimum capacity
+	 */
+	public void ensureCapacity(final int minCapacity)
+	{
+		if (this.left.length < minCapacity)
+		{
+			final int newCapacity = ColumnCapacity.newCapacity(this.left.length, minCapacity);
+			this.left = Arrays.copyOf(this.left, newCapacity);
+			this.middle = Arrays.copyOf(this.middle, newCapacity);
+			this.right = Arrays.copyOf(this.right, newCapacity);
+		}
+	}
+
+	/**
+	 * Materializes a new {@link IntIntDoubleTriple} from the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the new {@link IntIntDoubleTriple}
+	 */
+	public IntIntDoubleTriple get(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return new IntIntDoubleTriple(this.left[index], this.middle[index], this.right[index]);
+	}
+
+	/**
+	 * Gets the left of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the left
+	 */
+	public int getLeft(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return this.left[index];
+	}
+
+	/**
+	 * Sets the left of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param left
+	 *            the new left
+	 */
+	public void setLeft(final int index, final int left)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.left[index] = left;
+	}
+
+	/**
+	 * Returns a sequential stream over the column with the lefts
+	 *
+	 * @return the stream over the column
+	 */
+	public IntStream leftColumn()
+	{
+		return Arrays.stream(this.left, 0, this.size);
+	}
+
+	/**
+	 * Gets the middle of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the middle
+	 */
+	public int getMiddle(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return this.middle[index];
+	}
+
+	/**
+	 * Sets the middle of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param middle
+	 *            the new middle
+	 */
+	public void setMiddle(final int index, final int middle)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.middle[index] = middle;
+	}
+
+	/**
+	 * Returns a sequential stream over the column with the middles
+	 *
+	 * @return the stream over the column
+	 */
+	public IntStream middleColumn()
+	{
+		return Arrays.stream(this.middle, 0, this.size);
+	}
+
+	/**
+	 * Gets the right of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the right
+	 */
+	public double getRight(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return this.right[index];
+	}
+
+	/**
+	 * Sets the right of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param right
+	 *            the new right
+	 */
+	public void setRight(final int index, final double right)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.right[index] = right;
+	}
+
+	/**
+	 * Returns a sequential stream over the column with the rights
+	 *
+	 * @return the stream over the column
+	 */
+	public DoubleStream rightColumn()
+	{
+		return Arrays.stream(this.right, 0, this.size);
+	}
+
+	/**
+	 * Checks if there are no rows
+	 *
+	 * @return true, if there are no rows
+	 */
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	/**
+	 * Replaces the values of the row with the given index with the values of the given
+	 * {@link IntIntDoubleTriple}
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param triple
+	 *            the triple
+	 */
+	public void set(final int index, final IntIntDoubleTriple triple)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.left[index] = triple.getLeft();
+		this.middle[index] = triple.getMiddle();
+		this.right[index] = triple.getRight();
+	}
+
+	/**
+	 * Gets the number of rows
+	 *
+	 * @return the number of rows
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "IntIntDoubleTripleColumns(size=" + this.size + ")";
+	}
+
+	/**
+	 * Trims the capacity of the columns to the current number of rows
+	 */
+	public void trimToSize()
+	{
+		if (this.size < this.left.length)
+		{
+			this.left = Arrays.copyOf(this.left, this.size);
+			this.middle = Arrays.copyOf(this.middle, this.size);
+			this.right = Arrays.copyOf(this.right, this.size);
+		}
+	}
+
+	/**
+	 * The list view of the rows
+	 */
+	private final class RowList extends AbstractList<IntIntDoubleTriple> implements RandomAccess
+	{
+
+		@Override
+		public void add(final int index, final IntIntDoubleTriple element)
+		{
+			if (index != IntIntDoubleTripleColumns.this.size)
+			{
+				throw new UnsupportedOperationException("Rows can only be appended");
+			}
+			IntIntDoubleTripleColumns.this.add(element);
+			this.modCount++;
+		}
+
+		@Override
+		public IntIntDoubleTriple get(final int index)
+		{
+			return IntIntDoubleTripleColumns.this.get(index);
+		}
+
+		@Override
+		public IntIntDoubleTriple set(final int index, final IntIntDoubleTriple element)
+		{
+			final IntIntDoubleTriple previous = IntIntDoubleTripleColumns.this.get(index);
+			IntIntDoubleTripleColumns.this.set(index, element);
+			return previous;
+		}
+
+		@Override
+		public int size()
+		{
+			return IntIntDoubleTripleColumns.this.size;
+		}
+	}
+}
@@ -0,0 +1,362 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+import io.github.astrapi69.collection.pair.IntIntPair;
+
+/**
+ * The class {@link IntIntPairColumns} stores the left and right int values of pairs in parallel
+ * primitive arrays, one array for each content. So a scan over one column does not touch the other
+ * columns and no value is boxed. A {@link IntIntPair} is only materialized when a row is requested
+ */
+public class IntIntPairColumns
+{
+
+	/**
+	 * The column with the left values
+	 */
+	private int[] leftContent;
+
+	/**
+	 * The column with the right values
+	 */
+	private int[] rightContent;
+
+	/**
+	 * The number of rows
+	 */
+	private int size;
+
+	/**
+	 * Instantiates a new {@link IntIntPairColumns} with the default initial capacity
+	 */
+	public IntIntPairColumns()
+	{
+		this(ColumnCapacity.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Instantiates a new {@link IntIntPairColumns} with the given initial capacity
+	 *
+	 * @param initialCapacity
+	 *            the initial capacity
+	 */
+	public IntIntPairColumns(final int initialCapacity)
+	{
+		if (initialCapacity < 0)
+		{
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.leftContent = new int[initialCapacity];
+		this.rightContent = new int[initialCapacity];
+	}
+
+	/**
+	 * Appends a new row with the given values
+	 *
+	 * @param leftContent
+	 *            the left content
+	 * @param rightContent
+	 *            the right content
+	 */
+	public void add(final int leftContent, final int rightContent)
+	{
+		ensureCapacity(this.size + 1);
+		this.leftContent[this.size] = leftContent;
+		this.rightContent[this.size] = rightContent;
+		this.size++;
+	}
+
+	/**
+	 * Appends a new row with the values of the given {@link IntIntPair}
+	 *
+	 * @param pair
+	 *            the pair
+	 */
+	public void add(final IntIntPair pair)
+	{
+		add(pair.getLeftContent(), pair.getRightContent());
+	}
+
+	/**
+	 * Appends a new row for each {@link IntIntPair} of the given collection
+	 *
+	 * @param pairs
+	 *            the collection with the pairs
+	 */
+	public void addAll(final Collection<? extends IntIntPair> pairs)
+	{
+		ensureCapacity(this.size + pairs.size());
+		for (final IntIntPair pair : pairs)
+		{
+			this.leftContent[this.size] = pair.getLeftContent();
+			this.rightContent[this.size] = pair.getRightContent();
+			this.size++;
+		}
+	}
+
+	/**
+	 * Appends all rows of the given {@link IntIntPairColumns}
+	 *
+	 * @param other
+	 *            the other columns
+	 */
+	public void addAll(final IntIntPairColumns other)
+	{
+		final int otherSize = other.size;
+		ensureCapacity(this.size + otherSize);
+		System.arraycopy(other.leftContent, 0, this.leftContent, this.size, otherSize);
+		System.arraycopy(other.rightContent, 0, this.rightContent, this.size, otherSize);
+		this.size += otherSize;
+	}
+
+	/**
+	 * Returns a list view of the rows of this columns. Every call of {@link List#get(int)} on the
+	 * returned list materializes a new {@link IntIntPair} from the row, {@link List#set(int,
+	 * Object)} writes the values back into the columns and {@link List#add(Object)} appends a new
+	 * row
+	 *
+	 * @return the list view of the rows
+	 */
+	public List<IntIntPair> asList()
+	{
+		return new RowList();
+	}
+
+	/**
+	 * Removes all rows
+	 */
+	public void clear()
+	{
+		this.size = 0;
+	}
+
+	/**
+	 * Increases the capacity of the columns if necessary so that at least the given number of
+	 * rows fits without further growing
+	 *
+	 * @param minCapacity
+	 *            the minimum capacity
+	 */
+	public void ensureCapacity(final int minCapacity)
+	{
+		if (this.leftContent.length < minCapacity)
+		{
+			final int newCapacity = ColumnCapacity.newCapacity(this.leftContent.length,
+				minCapacity);
+			this.leftContent = Arrays.copyOf(this.leftContent, newCapacity);
+			this.rightContent = Arrays.copyOf(this.rightContent, newCapacity);
+		}
+	}
+
+	/**
+	 * Materializes a new {@link IntIntPair} from the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the new {@link IntIntPair}
+	 */
+	public IntIntPair get(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return new IntIntPair(this.leftContent[index], this.rightContent[index]);
+	}
+
+	/**
+	 * Gets the left content of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the left content
+	 */
+	public int getLeftContent(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return this.leftContent[index];
+	}
+
+	/**
+	 * Sets the left content of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param leftContent
+	 *            the new left content
+	 */
+	public void setLeftContent(final int index, final int leftContent)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.leftContent[index] = leftContent;
+	}
+
+	/**
+	 * Returns a sequential stream over the column with the left contents
+	 *
+	 * @return the stream over the column
+	 */
+	public IntStream leftColumn()
+	{
+		return Arrays.stream(this.leftContent, 0, this.size);
+	}
+
+	/**
+	 * Gets the right content of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the right content
+	 */
+	public int getRightContent(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return this.rightContent[index];
+	}
+
+	/**
+	 * Sets the right content of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param rightContent
+	 *            the new right content
+	 */
+	public void setRightContent(final int index, final int rightContent)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.rightContent[index] = rightContent;
+	}
+
+	/**
+	 * Returns a sequential stream over the column with the right contents
+	 *
+	 * @return the stream over the column
+	 */
+	public IntStream rightColumn()
+	{
+		return Arrays.stream(this.rightContent, 0, this.size);
+	}
+
+	/**
+	 * Checks if there are no rows
+	 *
+	 * @return true, if there are no rows
+	 */
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	/**
+	 * Replaces the values of the row with the given index with the values of the given
+	 * {@link IntIntPair}
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param pair
+	 *            the pair
+	 */
+	public void set(final int index, final IntIntPair pair)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.leftContent[index] = pair.getLeftContent();
+		this.rightContent[index] = pair.getRightContent();
+	}
+
+	/**
+	 * Gets the number of rows
+	 *
+	 * @return the number of rows
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "IntIntPairColumns(size=" + this.size + ")";
+	}
+
+	/**
+	 * Trims the capacity of the columns to the current number of rows
+	 */
+	public void trimToSize()
+	{
+		if (this.size < this.leftContent.length)
+		{
+			this.leftContent = Arrays.copyOf(this.leftContent, this.size);
+			this.rightContent = Arrays.copyOf(this.rightContent, this.size);
+		}
+	}
+
+	/**
+	 * The list view of the rows
+	 */
+	private final class RowList extends AbstractList<IntIntPair> implements RandomAccess
+	{
+
+		@Override
+		public void add(final int index, final IntIntPair element)
+		{
+			if (index != IntIntPairColumns.this.size)
+			{
+				throw new UnsupportedOperationException("Rows can only be appended");
+			}
+			IntIntPairColumns.this.add(element);
+			this.modCount++;
+		}
+
+		@Override
+		public IntIntPair get(final int index)
+		{
+			return IntIntPairColumns.this.get(index);
+		}
+
+		@Override
+		public IntIntPair set(final int index, final IntIntPair element)
+		{
+			final IntIntPair previous = IntIntPairColumns.this.get(index);
+			IntIntPairColumns.this.set(index, element);
+			return previous;
+		}
+
+		@Override
+		public int size()
+		{
+			return IntIntPairColumns.this.size;
+		}
+	}
+}
@@ -0,0 +1,415 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import io.github.astrapi69.collection.pair.Pair;
+
+/**
+ * The class {@link PairColumns} stores the left and right contents of pairs in parallel arrays, one
+ * array for each content. So a scan over one column does not touch the other columns. A
+ * {@link Pair} is only materialized when a row is requested
+ *
+ * @param <K>
+ *            the generic type of the left content
+ * @param <V>
+ *            the generic type of the right content
+ */
+public class PairColumns<K, V>
+{
+
+	/**
+	 * The column with the left contents
+	 */
+	private Object[] leftContent;
+
+	/**
+	 * The column with the right contents
+	 */
+	private Object[] rightContent;
+
+	/**
+	 * The number of rows
+	 */
+	private int size;
+
+	/**
+	 * Instantiates a new {@link PairColumns} with the default initial capacity
+	 */
+	public PairColumns()
+	{
+		this(ColumnCapacity.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Instantiates a new {@link PairColumns} with the given initial capacity
+	 *
+	 * @param initialCapacity
+	 *            the initial capacity
+	 */
+	public PairColumns(final int initialCapacity)
+	{
+		if (initialCapacity < 0)
+		{
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.leftContent = new Object[initialCapacity];
+		this.rightContent = new Object[initialCapacity];
+	}
+
+	/**
+	 * Appends a new row with the given contents
+	 *
+	 * @param leftContent
+	 *            the left content
+	 * @param rightContent
+	 *            the right content
+	 */
+	public void add(final K leftContent, final V rightContent)
+	{
+		ensureCapacity(this.size + 1);
+		this.leftContent[this.size] = leftContent;
+		this.rightContent[this.size] = rightContent;
+		this.size++;
+	}
+
+	/**
+	 * Appends a new row with the contents of the given {@link Pair}
+	 *
+	 * @param pair
+	 *            the pair
+	 */
+	public void add(final Pair<? extends K, ? extends V> pair)
+	{
+		add(pair.getLeftContent(), pair.getRightContent());
+	}
+
+	/**
+	 * Appends a new row for each {@link Pair} of the given collection
+	 *
+	 * @param pairs
+	 *            the collection with the pairs
+	 */
+	public void addAll(final Collection<? extends Pair<? extends K, ? extends V>> pairs)
+	{
+		ensureCapacity(this.size + pairs.size());
+		for (final Pair<? extends K, ? extends V> pair : pairs)
+		{
+			this.leftContent[this.size] = pair.getLeftContent();
+			this.rightContent[this.size] = pair.getRightContent();
+			this.size++;
+		}
+	}
+
+	/**
+	 * Appends all rows of the given {@link PairColumns}
+	 *
+	 * @param other
+	 *            the other columns
+	 */
+	public void addAll(final PairColumns<? extends K, ? extends V> other)
+	{
+		final int otherSize = other.size;
+		ensureCapacity(this.size + otherSize);
+		System.arraycopy(other.leftContent, 0, this.leftContent, this.size, otherSize);
+		System.arraycopy(other.rightContent, 0, this.rightContent, this.size, otherSize);
+		this.size += otherSize;
+	}
+
+	/**
+	 * Returns a list view of the rows of this columns. Every call of {@link List#get(int)} on the
+	 * returned list materializes a new {@link Pair} from the row, {@link List#set(int, Object)}
+	 * writes the contents back into the columns and {@link List#add(Object)} appends a new row
+	 *
+	 * @return the list view of the rows
+	 */
+	public List<Pair<K, V>> asList()
+	{
+		return new RowList();
+	}
+
+	/**
+	 * Removes all rows
+	 */
+	public void clear()
+	{
+		Arrays.fill(this.leftContent, 0, this.size, null);
+		Arrays.fill(this.rightContent, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * Increases the capacity of the columns if necessary so that at least the given number of
+	 * rows fits without further growing
+	 *
+	 * @param minCapacity
+	 *            the minimum capacity
+	 */
+	public void ensureCapacity(final int minCapacity)
+	{
+		if (this.leftContent.length < minCapacity)
+		{
+			final int newCapacity = ColumnCapacity.newCapacity(this.leftContent.length,
+				minCapacity);
+			this.leftContent = Arrays.copyOf(this.leftContent, newCapacity);
+			this.rightContent = Arrays.copyOf(this.rightContent, newCapacity);
+		}
+	}
+
+	/**
+	 * Materializes a new {@link Pair} from the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the new {@link Pair}
+	 */
+	public Pair<K, V> get(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return new Pair<>(elementAt(this.leftContent[index]), elementAt(this.rightContent[index]));
+	}
+
+	/**
+	 * Gets the left content of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the left content
+	 */
+	@SuppressWarnings("unchecked")
+	public K getLeftContent(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (K)this.leftContent[index];
+	}
+
+	/**
+	 * Sets the left content of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param leftContent
+	 *            the new left content
+	 */
+	public void setLeftContent(final int index, final K leftContent)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.leftContent[index] = leftContent;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the left contents
+	 *
+	 * @return the list view of the column
+	 */
+	public List<K> leftColumn()
+	{
+		return new ColumnList<>(this::getLeftContent);
+	}
+
+	/**
+	 * Gets the right content of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the right content
+	 */
+	@SuppressWarnings("unchecked")
+	public V getRightContent(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (V)this.rightContent[index];
+	}
+
+	/**
+	 * Sets the right content of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param rightContent
+	 *            the new right content
+	 */
+	public void setRightContent(final int index, final V rightContent)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.rightContent[index] = rightContent;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the right contents
+	 *
+	 * @return the list view of the column
+	 */
+	public List<V> rightColumn()
+	{
+		return new ColumnList<>(this::getRightContent);
+	}
+
+	/**
+	 * Checks if there are no rows
+	 *
+	 * @return true, if there are no rows
+	 */
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	/**
+	 * Replaces the contents of the row with the given index with the contents of the given
+	 * {@link Pair}
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param pair
+	 *            the pair
+	 */
+	public void set(final int index, final Pair<? extends K, ? extends V> pair)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.leftContent[index] = pair.getLeftContent();
+		this.rightContent[index] = pair.getRightContent();
+	}
+
+	/**
+	 * Gets the number of rows
+	 *
+	 * @return the number of rows
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "PairColumns(size=" + this.size + ")";
+	}
+
+	/**
+	 * Trims the capacity of the columns to the current number of rows
+	 */
+	public void trimToSize()
+	{
+		if (this.size < this.leftContent.length)
+		{
+			this.leftContent = Arrays.copyOf(this.leftContent, this.size);
+			this.rightContent = Arrays.copyOf(this.rightContent, this.size);
+		}
+	}
+
+	/**
+	 * Casts the given column element to the generic type of the column
+	 *
+	 * @param <T>
+	 *            the generic type of the column
+	 * @param element
+	 *            the column element
+	 * @return the casted element
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object element)
+	{
+		return (T)element;
+	}
+
+	/**
+	 * The unmodifiable list view of one column
+	 *
+	 * @param <T>
+	 *            the generic type of the column elements
+	 */
+	private final class ColumnList<T> extends AbstractList<T> implements RandomAccess
+	{
+
+		/** The accessor of the column elements. */
+		private final IntFunction<T> column;
+
+		ColumnList(final IntFunction<T> column)
+		{
+			this.column = column;
+		}
+
+		@Override
+		public T get(final int index)
+		{
+			return this.column.apply(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return PairColumns.this.size;
+		}
+	}
+
+	/**
+	 * The list view of the rows
+	 */
+	private final class RowList extends AbstractList<Pair<K, V>> implements RandomAccess
+	{
+
+		@Override
+		public void add(final int index, final Pair<K, V> element)
+		{
+			if (index != PairColumns.this.size)
+			{
+				throw new UnsupportedOperationException("Rows can only be appended");
+			}
+			PairColumns.this.add(element);
+			this.modCount++;
+		}
+
+		@Override
+		public Pair<K, V> get(final int index)
+		{
+			return PairColumns.this.get(index);
+		}
+
+		@Override
+		public Pair<K, V> set(final int index, final Pair<K, V> element)
+		{
+			final Pair<K, V> previous = PairColumns.this.get(index);
+			PairColumns.this.set(index, element);
+			return previous;
+		}
+
+		@Override
+		public int size()
+		{
+			return PairColumns.this.size;
+		}
+	}
+}
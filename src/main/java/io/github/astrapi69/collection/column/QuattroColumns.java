@@ -0,0 +1,531 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import io.github.astrapi69.collection.pair.Quattro;
+
+/**
+ * The class {@link QuattroColumns} stores the four values of quattro's in parallel arrays, one
+ * array for each content. So a scan over one column does not touch the other columns. A
+ * {@link Quattro} is only materialized when a row is requested
+ *
+ * @param <TL>
+ *            the generic type of the top left content
+ * @param <TR>
+ *            the generic type of the top right content
+ * @param <BL>
+ *            the generic type of the bottom left content
+ * @param <BR>
+ *            the generic type of the bottom right content
+ */
+public class QuattroColumns<TL, TR, BL, BR>
+{
+
+	/**
+	 * The column with the top left contents
+	 */
+	private Object[] topLeft;
+
+	/**
+	 * The column with the top right contents
+	 */
+	private Object[] topRight;
+
+	/**
+	 * The column with the bottom left contents
+	 */
+	private Object[] bottomLeft;
+
+	/**
+	 * The column with the bottom right contents
+	 */
+	private Object[] bottomRight;
+
+	/**
+	 * The number of rows
+	 */
+	private int size;
+
+	/**
+	 * Instantiates a new {@link QuattroColumns} with the default initial capacity
+	 */
+	public QuattroColumns()
+	{
+		this(ColumnCapacity.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Instantiates a new {@link QuattroColumns} with the given initial capacity
+	 *
+	 * @param initialCapacity
+	 *            the initial capacity
+	 */
+	public QuattroColumns(final int initialCapacity)
+	{
+		if (initialCapacity < 0)
+		{
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.topLeft = new Object[initialCapacity];
+		this.topRight = new Object[initialCapacity];
+		this.bottomLeft = new Object[initialCapacity];
+		this.bottomRight = new Object[initialCapacity];
+	}
+
+	/**
+	 * Appends a new row with the given contents
+	 *
+	 * @param topLeft
+	 *            the top left
+	 * @param topRight
+	 *            the top right
+	 * @param bottomLeft
+	 *            the bottom left
+	 * @param bottomRight
+	 *            the bottom right
+	 */
+	public void add(final TL topLeft, final TR topRight, final BL bottomLeft, final BR bottomRight)
+	{
+		ensureCapacity(this.size + 1);
+		this.topLeft[this.size] = topLeft;
+		this.topRight[this.size] = topRight;
+		this.bottomLeft[this.size] = bottomLeft;
+		this.bottomRight[this.size] = bottomRight;
+		this.size++;
+	}
+
+	/**
+	 * Appends a new row with the contents of the given {@link Quattro}
+	 *
+	 * @param quattro
+	 *            the quattro
+	 */
+	public void add(final Quattro<? extends TL, ? extends TR, ? extends BL, ? extends BR> quattro)
+	{
+		add(quattro.getTopLeft(), quattro.getTopRight(), quattro.getBottomLeft(),
+			quattro.getBottomRight());
+	}
+
+	/**
+	 * Appends a new row for each {@link Quattro} of the given collection
+	 *
+	 * @param quattros
+	 *            the collection with the quattros
+	 */
+	public void addAll(
+		final Collection<? extends Quattro<? extends TL, ? extends TR, ? extends BL, ? extends BR>> quattros)
+	{
+		ensureCapacity(this.size + quattros.size());
+		for (final Quattro<? extends TL, ? extends TR, ? extends BL, ? extends BR> quattro : quattros)
+		{
+			this.topLeft[this.size] = quattro.getTopLeft();
+			this.topRight[this.size] = quattro.getTopRight();
+			this.bottomLeft[this.size] = quattro.getBottomLeft();
+			this.bottomRight[this.size] = quattro.getBottomRight();
+			this.size++;
+		}
+	}
+
+	/**
+	 * Appends all rows of the given {@link QuattroColumns}
+	 *
+	 * @param other
+	 *            the other columns
+	 */
+	public void addAll(
+		final QuattroColumns<? extends TL, ? extends TR, ? extends BL, ? extends BR> other)
+	{
+		final int otherSize = other.size;
+		ensureCapacity(this.size + otherSize);
+		System.arraycopy(other.topLeft, 0, this.topLeft, this.size, otherSize);
+		System.arraycopy(other.topRight, 0, this.topRight, this.size, otherSize);
+		System.arraycopy(other.bottomLeft, 0, this.bottomLeft, this.size, otherSize);
+		System.arraycopy(other.bottomRight, 0, this.bottomRight, this.size, otherSize);
+		this.size += otherSize;
+	}
+
+	/**
+	 * Returns a list view of the rows of this columns. Every call of {@link List#get(int)} on the
+	 * returned list materializes a new {@link Quattro} from the row, {@link List#set(int, Object)}
+	 * writes the contents back into the columns and {@link List#add(Object)} appends a new row
+	 *
+	 * @return the list view of the rows
+	 */
+	public List<Quattro<TL, TR, BL, BR>> asList()
+	{
+		return new RowList();
+	}
+
+	/**
+	 * Removes all rows
+	 */
+	public void clear()
+	{
+		Arrays.fill(this.topLeft, 0, this.size, null);
+		Arrays.fill(this.topRight, 0, this.size, null);
+		Arrays.fill(this.bottomLeft, 0, this.size, null);
+		Arrays.fill(this.bottomRight, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * Increases the capacity of the columns if necessary so that at least the given number of
+	 * rows fits without further growing
+	 *
+	 * @param minCapacity
+	 *            the minimum capacity
+	 */
+	public void ensureCapacity(final int minCapacity)
+	{
+		if (this.topLeft.length < minCapacity)
+		{
+			final int newCapacity = ColumnCapacity.newCapacity(this.topLeft.length, minCapacity);
+			this.topLeft = Arrays.copyOf(this.topLeft, newCapacity);
+			this.topRight = Arrays.copyOf(this.topRight, newCapacity);
+			this.bottomLeft = Arrays.copyOf(this.bottomLeft, newCapacity);
+			this.bottomRight = Arrays.copyOf(this.bottomRight, newCapacity);
+		}
+	}
+
+	/**
+	 * Materializes a new {@link Quattro} from the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the new {@link Quattro}
+	 */
+	public Quattro<TL, TR, BL, BR> get(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return new Quattro<>(elementAt(this.bottomLeft[index]), elementAt(this.bottomRight[index]),
+			elementAt(this.topLeft[index]), elementAt(this.topRight[index]));
+	}
+
+	/**
+	 * Gets the top left of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the top left
+	 */
+	@SuppressWarnings("unchecked")
+	public TL getTopLeft(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (TL)this.topLeft[index];
+	}
+
+	/**
+	 * Sets the top left of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param topLeft
+	 *            the new top left
+	 */
+	public void setTopLeft(final int index, final TL topLeft)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.topLeft[index] = topLeft;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the top lefts
+	 *
+	 * @return the list view of the column
+	 */
+	public List<TL> topLeftColumn()
+	{
+		return new ColumnList<>(this::getTopLeft);
+	}
+
+	/**
+	 * Gets the top right of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the top right
+	 */
+	@SuppressWarnings("unchecked")
+	public TR getTopRight(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (TR)this.topRight[index];
+	}
+
+	/**
+	 * Sets the top right of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param topRight
+	 *            the new top right
+	 */
+	public void setTopRight(final int index, final TR topRight)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.topRight[index] = topRight;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the top rights
+	 *
+	 * @return the list view of the column
+	 */
+	public List<TR> topRightColumn()
+	{
+		return new ColumnList<>(this::getTopRight);
+	}
+
+	/**
+	 * Gets the bottom left of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the bottom left
+	 */
+	@SuppressWarnings("unchecked")
+	public BL getBottomLeft(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (BL)this.bottomLeft[index];
+	}
+
+	/**
+	 * Sets the bottom left of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param bottomLeft
+	 *            the new bottom left
+	 */
+	public void setBottomLeft(final int index, final BL bottomLeft)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.bottomLeft[index] = bottomLeft;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the bottom lefts
+	 *
+	 * @return the list view of the column
+	 */
+	public List<BL> bottomLeftColumn()
+	{
+		return new ColumnList<>(this::getBottomLeft);
+	}
+
+	/**
+	 * Gets the bottom right of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the bottom right
+	 */
+	@SuppressWarnings("unchecked")
+	public BR getBottomRight(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (BR)this.bottomRight[index];
+	}
+
+	/**
+	 * Sets the bottom right of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param bottomRight
+	 *            the new bottom right
+	 */
+	public void setBottomRight(final int index, final BR bottomRight)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.bottomRight[index] = bottomRight;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the bottom rights
+	 *
+	 * @return the list view of the column
+	 */
+	public List<BR> bottomRightColumn()
+	{
+		return new ColumnList<>(this::getBottomRight);
+	}
+
+	/**
+	 * Checks if there are no rows
+	 *
+	 * @return true, if there are no rows
+	 */
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	/**
+	 * Replaces the contents of the row with the given index with the contents of the given
+	 * {@link Quattro}
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param quattro
+	 *            the quattro
+	 */
+	public void set(final int index,
+		final Quattro<? extends TL, ? extends TR, ? extends BL, ? extends BR> quattro)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.topLeft[index] = quattro.getTopLeft();
+		this.topRight[index] = quattro.getTopRight();
+		this.bottomLeft[index] = quattro.getBottomLeft();
+		this.bottomRight[index] = quattro.getBottomRight();
+	}
+
+	/**
+	 * Gets the number of rows
+	 *
+	 * @return the number of rows
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "QuattroColumns(size=" + this.size + ")";
+	}
+
+	/**
+	 * Trims the capacity of the columns to the current number of rows
+	 */
+	public void trimToSize()
+	{
+		if (this.size < this.topLeft.length)
+		{
+			this.topLeft = Arrays.copyOf(this.topLeft, this.size);
+			this.topRight = Arrays.copyOf(this.topRight, this.size);
+			this.bottomLeft = Arrays.copyOf(this.bottomLeft, this.size);
+			this.bottomRight = Arrays.copyOf(this.bottomRight, this.size);
+		}
+	}
+
+	/**
+	 * Casts the given column element to the generic type of the column
+	 *
+	 * @param <T>
+	 *            the generic type of the column
+	 * @param element
+	 *            the column element
+	 * @return the casted element
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object element)
+	{
+		return (T)element;
+	}
+
+	/**
+	 * The unmodifiable list view of one column
+	 *
+	 * @param <T>
+	 *            the generic type of the column elements
+	 */
+	private final class ColumnList<T> extends AbstractList<T> implements RandomAccess
+	{
+
+		/** The accessor of the column elements. */
+		private final IntFunction<T> column;
+
+		ColumnList(final IntFunction<T> column)
+		{
+			this.column = column;
+		}
+
+		@Override
+		public T get(final int index)
+		{
+			return this.column.apply(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return QuattroColumns.this.size;
+		}
+	}
+
+	/**
+	 * The list view of the rows
+	 */
+	private final class RowList extends AbstractList<Quattro<TL, TR, BL, BR>>
+		implements
+			RandomAccess
+	{
+
+		@Override
+		public void add(final int index, final Quattro<TL, TR, BL, BR> element)
+		{
+			if (index != QuattroColumns.this.size)
+			{
+				throw new UnsupportedOperationException("Rows can only be appended");
+			}
+			QuattroColumns.this.add(element);
+			this.modCount++;
+		}
+
+		@Override
+		public Quattro<TL, TR, BL, BR> get(final int index)
+		{
+			return QuattroColumns.this.get(index);
+		}
+
+		@Override
+		public Quattro<TL, TR, BL, BR> set(final int index, final Quattro<TL, TR, BL, BR> element)
+		{
+			final Quattro<TL, TR, BL, BR> previous = QuattroColumns.this.get(index);
+			QuattroColumns.this.set(index, element);
+			return previous;
+		}
+
+		@Override
+		public int size()
+		{
+			return QuattroColumns.this.size;
+		}
+	}
+}
@@ -0,0 +1,471 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import io.github.astrapi69.collection.pair.Triple;
+
+/**
+ * The class {@link TripleColumns} stores the left, middle and right values of triples in parallel
+ * arrays, one array for each content. So a scan over one column does not touch the other columns. A
+ * {@link Triple} is only materialized when a row is requested
+ *
+ * @param <L>
+ *            the generic type of the left content
+ * @param <M>
+ *            the generic type of the middle content
+ * @param <R>
+ *            the generic type of the right content
+ */
+public class TripleColumns<L, M, R>
+{
+
+	/**
+	 * The column with the left contents
+	 */
+	private Object[] left;
+
+	/**
+	 * The column with the middle contents
+	 */
+	private Object[] middle;
+
+	/**
+	 * The column with the right contents
+	 */
+	private Object[] right;
+
+	/**
+	 * The number of rows
+	 */
+	private int size;
+
+	/**
+	 * Instantiates a new {@link TripleColumns} with the default initial capacity
+	 */
+	public TripleColumns()
+	{
+		this(ColumnCapacity.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Instantiates a new {@link TripleColumns} with the given initial capacity
+	 *
+	 * @param initialCapacity
+	 *            the initial capacity
+	 */
+	public TripleColumns(final int initialCapacity)
+	{
+		if (initialCapacity < 0)
+		{
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.left = new Object[initialCapacity];
+		this.middle = new Object[initialCapacity];
+		this.right = new Object[initialCapacity];
+	}
+
+	/**
+	 * Appends a new row with the given contents
+	 *
+	 * @param left
+	 *            the left
+	 * @param middle
+	 *            the middle
+	 * @param right
+	 *            the right
+	 */
+	public void add(final L left, final M middle, final R right)
+	{
+		ensureCapacity(this.size + 1);
+		this.left[this.size] = left;
+		this.middle[this.size] = middle;
+		this.right[this.size] = right;
+		this.size++;
+	}
+
+	/**
+	 * Appends a new row with the contents of the given {@link Triple}
+	 *
+	 * @param triple
+	 *            the triple
+	 */
+	public void add(final Triple<? extends L, ? extends M, ? extends R> triple)
+	{
+		add(triple.getLeft(), triple.getMiddle(), triple.getRight());
+	}
+
+	/**
+	 * Appends a new row for each {@link Triple} of the given collection
+	 *
+	 * @param triples
+	 *            the collection with the triples
+	 */
+	public void addAll(
+		final Collection<? extends Triple<? extends L, ? extends M, ? extends R>> triples)
+	{
+		ensureCapacity(this.size + triples.size());
+		for (final Triple<? extends L, ? extends M, ? extends R> triple : triples)
+		{
+			this.left[this.size] = triple.getLeft();
+			this.middle[this.size] = triple.getMiddle();
+			this.right[this.size] = triple.getRight();
+			this.size++;
+		}
+	}
+
+	/**
+	 * Appends all rows of the given {@link TripleColumns}
+	 *
+	 * @param other
+	 *            the other columns
+	 */
+	public void addAll(final TripleColumns<? extends L, ? extends M, ? extends R> other)
+	{
+		final int otherSize = other.size;
+		ensureCapacity(this.size + otherSize);
+		System.arraycopy(other.left, 0, this.left, this.size, otherSize);
+		System.arraycopy(other.middle, 0, this.middle, this.size, otherSize);
+		System.arraycopy(other.right, 0, this.right, this.size, otherSize);
+		this.size += otherSize;
+	}
+
+	/**
+	 * Returns a list view of the rows of this columns. Every call of {@link List#get(int)} on the
+	 * returned list materializes a new {@link Triple} from the row, {@link List#set(int, Object)}
+	 * writes the contents back into the columns and {@link List#add(Object)} appends a new row
+	 *
+	 * @return the list view of the rows
+	 */
+	public List<Triple<L, M, R>> asList()
+	{
+		return new RowList();
+	}
+
+	/**
+	 * Removes all rows
+	 */
+	public void clear()
+	{
+		Arrays.fill(this.left, 0, this.size, null);
+		Arrays.fill(this.middle, 0, this.size, null);
+		Arrays.fill(this.right, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * Increases the capacity of the columns if necessary so that at least the given number of
+	 * rows fits without further growing
+	 *
+	 * @param minCapacity
+	 *            the minimum capacity
+	 */
+	public void ensureCapacity(final int minCapacity)
+	{
+		if (this.left.length < minCapacity)
+		{
+			final int newCapacity = ColumnCapacity.newCapacity(this.left.length, minCapacity);
+			this.left = Arrays.copyOf(this.left, newCapacity);
+			this.middle = Arrays.copyOf(this.middle, newCapacity);
+			this.right = Arrays.copyOf(this.right, newCapacity);
+		}
+	}
+
+	/**
+	 * Materializes a new {@link Triple} from the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the new {@link Triple}
+	 */
+	public Triple<L, M, R> get(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return new Triple<>(elementAt(this.left[index]), elementAt(this.middle[index]),
+			elementAt(this.right[index]));
+	}
+
+	/**
+	 * Gets the left of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the left
+	 */
+	@SuppressWarnings("unchecked")
+	public L getLeft(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (L)this.left[index];
+	}
+
+	/**
+	 * Sets the left of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param left
+	 *            the new left
+	 */
+	public void setLeft(final int index, final L left)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.left[index] = left;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the lefts
+	 *
+	 * @return the list view of the column
+	 */
+	public List<L> leftColumn()
+	{
+		return new ColumnList<>(this::getLeft);
+	}
+
+	/**
+	 * Gets the middle of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the middle
+	 */
+	@SuppressWarnings("unchecked")
+	public M getMiddle(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (M)this.middle[index];
+	}
+
+	/**
+	 * Sets the middle of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param middle
+	 *            the new middle
+	 */
+	public void setMiddle(final int index, final M middle)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.middle[index] = middle;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the middles
+	 *
+	 * @return the list view of the column
+	 */
+	public List<M> middleColumn()
+	{
+		return new ColumnList<>(this::getMiddle);
+	}
+
+	/**
+	 * Gets the right of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @return the right
+	 */
+	@SuppressWarnings("unchecked")
+	public R getRight(final int index)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		return (R)this.right[index];
+	}
+
+	/**
+	 * Sets the right of the row with the given index
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param right
+	 *            the new right
+	 */
+	public void setRight(final int index, final R right)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.right[index] = right;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the column with the rights
+	 *
+	 * @return the list view of the column
+	 */
+	public List<R> rightColumn()
+	{
+		return new ColumnList<>(this::getRight);
+	}
+
+	/**
+	 * Checks if there are no rows
+	 *
+	 * @return true, if there are no rows
+	 */
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	/**
+	 * Replaces the contents of the row with the given index with the contents of the given
+	 * {@link Triple}
+	 *
+	 * @param index
+	 *            the index of the row
+	 * @param triple
+	 *            the triple
+	 */
+	public void set(final int index, final Triple<? extends L, ? extends M, ? extends R> triple)
+	{
+		ColumnCapacity.checkIndex(index, this.size);
+		this.left[index] = triple.getLeft();
+		this.middle[index] = triple.getMiddle();
+		this.right[index] = triple.getRight();
+	}
+
+	/**
+	 * Gets the number of rows
+	 *
+	 * @return the number of rows
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "TripleColumns(size=" + this.size + ")";
+	}
+
+	/**
+	 * Trims the capacity of the columns to the current number of rows
+	 */
+	public void trimToSize()
+	{
+		if (this.size < this.left.length)
+		{
+			this.left = Arrays.copyOf(this.left, this.size);
+			this.middle = Arrays.copyOf(this.middle, this.size);
+			this.right = Arrays.copyOf(this.right, this.size);
+		}
+	}
+
+	/**
+	 * Casts the given column element to the generic type of the column
+	 *
+	 * @param <T>
+	 *            the generic type of the column
+	 * @param element
+	 *            the column element
+	 * @return the casted element
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object element)
+	{
+		return (T)element;
+	}
+
+	/**
+	 * The unmodifiable list view of one column
+	 *
+	 * @param <T>
+	 *            the generic type of the column elements
+	 */
+	private final class ColumnList<T> extends AbstractList<T> implements RandomAccess
+	{
+
+		/** The accessor of the column elements. */
+		private final IntFunction<T> column;
+
+		ColumnList(final IntFunction<T> column)
+		{
+			this.column = column;
+		}
+
+		@Override
+		public T get(final int index)
+		{
+			return this.column.apply(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return TripleColumns.this.size;
+		}
+	}
+
+	/**
+	 * The list view of the rows
+	 */
+	private final class RowList extends AbstractList<Triple<L, M, R>> implements RandomAccess
+	{
+
+		@Override
+		public void add(final int index, final Triple<L, M, R> element)
+		{
+			if (index != TripleColumns.this.size)
+			{
+				throw new UnsupportedOperationException("Rows can only be appended");
+			}
+			TripleColumns.this.add(element);
+			this.modCount++;
+		}
+
+		@Override
+		public Triple<L, M, R> get(final int index)
+		{
+			return TripleColumns.this.get(index);
+		}
+
+		@Override
+		public Triple<L, M, R> set(final int index, final Triple<L, M, R> element)
+		{
+			final Triple<L, M, R> previous = TripleColumns.this.get(index);
+			TripleColumns.this.set(index, element);
+			return previous;
+		}
+
+		@Override
+		public int size()
+		{
+			return TripleColumns.this.size;
+		}
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * This package provides columnar containers that store the contents of pairs, triples and
+ * quattro's in parallel arrays
+ */
+package io.github.astrapi69.collection.column;
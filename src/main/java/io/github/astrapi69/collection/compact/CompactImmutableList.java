@@ -0,0 +1,237 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.compact;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * The class {@link CompactImmutableList} is an immutable list that keeps its elements in one
+ * exactly sized array. Other than a {@link java.util.Collections#unmodifiableList(java.util.List)}
+ * over an {@link java.util.ArrayList} it needs no wrapper and no spare capacity, so a list costs
+ * one object and one array. Null elements are allowed
+ *
+ * @param <E>
+ *            the generic type of the elements
+ */
+public final class CompactImmutableList<E> extends AbstractList<E>
+	implements
+		RandomAccess,
+		Serializable
+{
+
+	/** The empty list. */
+	private static final CompactImmutableList<Object> EMPTY = new CompactImmutableList<>(
+		new Object[0]);
+
+	/** The serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The elements. */
+	private final Object[] elements;
+
+	/**
+	 * Instantiates a new {@link CompactImmutableList} that takes ownership of the given array
+	 *
+	 * @param elements
+	 *            the elements
+	 */
+	private CompactImmutableList(final Object[] elements)
+	{
+		this.elements = elements;
+	}
+
+	/**
+	 * Factory method for create a new {@link CompactImmutableList} with the elements of the given
+	 * collection in its iteration order
+	 *
+	 * @param <E>
+	 *            the generic type of the elements
+	 * @param collection
+	 *            the collection
+	 * @return the new {@link CompactImmutableList}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> CompactImmutableList<E> copyOf(final Collection<? extends E> collection)
+	{
+		if (collection instanceof CompactImmutableList)
+		{
+			return (CompactImmutableList<E>)collection;
+		}
+		final Object[] elements = collection.toArray();
+		if (elements.length == 0)
+		{
+			return of();
+		}
+		return new CompactImmutableList<>(elements.getClass() == Object[].class
+			? elements
+			: Arrays.copyOf(elements, elements.length, Object[].class));
+	}
+
+	/**
+	 * Factory method for create a new {@link CompactImmutableList} with the given elements
+	 *
+	 * @param <E>
+	 *            the generic type of the elements
+	 * @param elements
+	 *            the elements
+	 * @return the new {@link CompactImmutableList}
+	 */
+	@SafeVarargs
+	public static <E> CompactImmutableList<E> of(final E... elements)
+	{
+		if (elements.length == 0)
+		{
+			return of();
+		}
+		return new CompactImmutableList<>(Arrays.copyOf(elements, elements.length, Object[].class));
+	}
+
+	/**
+	 * Gets the empty {@link CompactImmutableList}
+	 *
+	 * @param <E>
+	 *            the generic type of the elements
+	 * @return the empty {@link CompactImmutableList}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> CompactImmutableList<E> of()
+	{
+		return (CompactImmutableList<E>)EMPTY;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(final Object o)
+	{
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(final Consumer<? super E> action)
+	{
+		Objects.requireNonNull(action);
+		for (final Object element : this.elements)
+		{
+			action.accept(elementAt(element));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E get(final int index)
+	{
+		return elementAt(this.elements[Objects.checkIndex(index, this.elements.length)]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(final Object o)
+	{
+		for (int i = 0; i < this.elements.length; i++)
+		{
+			if (Objects.equals(o, this.elements[i]))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int lastIndexOf(final Object o)
+	{
+		for (int i = this.elements.length - 1; i >= 0; i--)
+		{
+			if (Objects.equals(o, this.elements[i]))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return this.elements.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<E> spliterator()
+	{
+		return Spliterators.spliterator(this.elements,
+			Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] toArray()
+	{
+		return Arrays.copyOf(this.elements, this.elements.length);
+	}
+
+	/**
+	 * Casts the given array element to the generic type of the elements
+	 *
+	 * @param <T>
+	 *            the generic type of the element
+	 * @param element
+	 *            the array element
+	 * @return the element
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object element)
+	{
+		return (T)element;
+	}
+}
@@ -0,0 +1,589 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.compact;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * The class {@link CompactImmutableMap} is an immutable map that keeps its keys and values
+ * interleaved in insertion order in one exactly sized array. Maps with up to
+ * {@link #LINEAR_SCAN_THRESHOLD} entries are searched with a linear scan over the keys, larger
+ * maps have an additional open addressing hash table with linear probing that stores the indexes
+ * of the entries. Other than a {@link java.util.HashMap} there is no node per entry, which makes
+ * the many small maps of configuration trees considerably smaller. Null keys and null values are
+ * allowed, the last value of a duplicate key wins and the key keeps its first position
+ *
+ * @param <K>
+ *            the generic type of the keys
+ * @param <V>
+ *            the generic type of the values
+ */
+public final class CompactImmutableMap<K, V> extends AbstractMap<K, V> implements Serializable
+{
+
+	/** The maximum number of entries that are searched with a linear scan. */
+	public static final int LINEAR_SCAN_THRESHOLD = 8;
+
+	/** The empty map. */
+	private static final CompactImmutableMap<Object, Object> EMPTY = new CompactImmutableMap<>(
+		new Object[0], null);
+
+	/** The serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The keys at the even and the values at the odd indexes in insertion order. */
+	private final transient Object[] keyValues;
+
+	/** The hash table with the entry indexes plus one or null for small maps. */
+	private final transient int[] table;
+
+	/** The lazy entry set view. */
+	private transient Set<Map.Entry<K, V>> entrySet;
+
+	/**
+	 * Instantiates a new {@link CompactImmutableMap} that takes ownership of the given arrays
+	 *
+	 * @param keyValues
+	 *            the interleaved distinct keys and values
+	 * @param table
+	 *            the hash table or null
+	 */
+	private CompactImmutableMap(final Object[] keyValues, final int[] table)
+	{
+		this.keyValues = keyValues;
+		this.table = table;
+	}
+
+	/**
+	 * Factory method for create a new {@link Builder}
+	 *
+	 * @param <K>
+	 *            the generic type of the keys
+	 * @param <V>
+	 *            the generic type of the values
+	 * @return the new {@link Builder}
+	 */
+	public static <K, V> Builder<K, V> builder()
+	{
+		return new Builder<>();
+	}
+
+	/**
+	 * Factory method for create a new {@link CompactImmutableMap} with the entries of the given
+	 * map in its iteration order
+	 *
+	 * @param <K>
+	 *            the generic type of the keys
+	 * @param <V>
+	 *            the generic type of the values
+	 * @param map
+	 *            the map
+	 * @return the new {@link CompactImmutableMap}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> CompactImmutableMap<K, V> copyOf(final Map<? extends K, ? extends V> map)
+	{
+		if (map instanceof CompactImmutableMap)
+		{
+			return (CompactImmutableMap<K, V>)map;
+		}
+		return CompactImmutableMap.<K, V> builder().putAll(map).build();
+	}
+
+	/**
+	 * Gets the empty {@link CompactImmutableMap}
+	 *
+	 * @param <K>
+	 *            the generic type of the keys
+	 * @param <V>
+	 *            the generic type of the values
+	 * @return the empty {@link CompactImmutableMap}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> CompactImmutableMap<K, V> of()
+	{
+		return (CompactImmutableMap<K, V>)EMPTY;
+	}
+
+	/**
+	 * Creates a new map from the given interleaved keys and values that the new map owns,
+	 * duplicate keys are removed in place
+	 *
+	 * @param <K>
+	 *            the generic type of the keys
+	 * @param <V>
+	 *            the generic type of the values
+	 * @param keyValues
+	 *            the interleaved keys and values
+	 * @param size
+	 *            the number of entries
+	 * @return the new map
+	 */
+	private static <K, V> CompactImmutableMap<K, V> newMap(final Object[] keyValues,
+		final int size)
+	{
+		if (size == 0)
+		{
+			return of();
+		}
+		int distinct = 0;
+		if (size <= LINEAR_SCAN_THRESHOLD)
+		{
+			for (int i = 0; i < size; i++)
+			{
+				final Object key = keyValues[2 * i];
+				final int index = linearIndexOf(keyValues, distinct, key);
+				if (index < 0)
+				{
+					keyValues[2 * distinct] = key;
+					keyValues[2 * distinct + 1] = keyValues[2 * i + 1];
+					distinct++;
+				}
+				else
+				{
+					keyValues[2 * index + 1] = keyValues[2 * i + 1];
+				}
+			}
+			return new CompactImmutableMap<>(Arrays.copyOf(keyValues, 2 * distinct), null);
+		}
+		final int[] table = new int[CompactImmutableSet.tableCapacity(size)];
+		final int mask = table.length - 1;
+		for (int i = 0; i < size; i++)
+		{
+			final Object key = keyValues[2 * i];
+			int slot = CompactImmutableSet.spread(key) & mask;
+			while (table[slot] != 0 && !Objects.equals(key, keyValues[2 * (table[slot] - 1)]))
+			{
+				slot = (slot + 1) & mask;
+			}
+			if (table[slot] == 0)
+			{
+				keyValues[2 * distinct] = key;
+				keyValues[2 * distinct + 1] = keyValues[2 * i + 1];
+				table[slot] = ++distinct;
+			}
+			else
+			{
+				keyValues[2 * (table[slot] - 1) + 1] = keyValues[2 * i + 1];
+			}
+		}
+		if (distinct <= LINEAR_SCAN_THRESHOLD
+			|| CompactImmutableSet.tableCapacity(distinct) < table.length)
+		{
+			// many duplicate keys, rebuild for the distinct entries
+			return newMap(Arrays.copyOf(keyValues, 2 * distinct), distinct);
+		}
+		return new CompactImmutableMap<>(Arrays.copyOf(keyValues, 2 * distinct), table);
+	}
+
+	/**
+	 * Searches the given key in the first entries of the given interleaved array with a linear
+	 * scan
+	 *
+	 * @param keyValues
+	 *            the interleaved keys and values
+	 * @param size
+	 *            the number of entries to search
+	 * @param key
+	 *            the key to search
+	 * @return the index of the entry or -1 if the key is not found
+	 */
+	private static int linearIndexOf(final Object[] keyValues, final int size, final Object key)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			if (Objects.equals(key, keyValues[2 * i]))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Casts the given array element to the generic type
+	 *
+	 * @param <T>
+	 *            the generic type of the element
+	 * @param element
+	 *            the array element
+	 * @return the element
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object element)
+	{
+		return (T)element;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsKey(final Object key)
+	{
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsValue(final Object value)
+	{
+		for (int i = 1; i < this.keyValues.length; i += 2)
+		{
+			if (Objects.equals(value, this.keyValues[i]))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Map.Entry<K, V>> entrySet()
+	{
+		Set<Map.Entry<K, V>> entries = this.entrySet;
+		if (entries == null)
+		{
+			entries = new EntrySet();
+			this.entrySet = entries;
+		}
+		return entries;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(final BiConsumer<? super K, ? super V> action)
+	{
+		Objects.requireNonNull(action);
+		for (int i = 0; i < this.keyValues.length; i += 2)
+		{
+			action.accept(elementAt(this.keyValues[i]), elementAt(this.keyValues[i + 1]));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V get(final Object key)
+	{
+		final int index = indexOf(key);
+		return index < 0 ? null : elementAt(this.keyValues[2 * index + 1]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V getOrDefault(final Object key, final V defaultValue)
+	{
+		final int index = indexOf(key);
+		return index < 0 ? defaultValue : elementAt(this.keyValues[2 * index + 1]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		int hash = 0;
+		for (int i = 0; i < this.keyValues.length; i += 2)
+		{
+			hash += Objects.hashCode(this.keyValues[i]) ^ Objects.hashCode(this.keyValues[i + 1]);
+		}
+		return hash;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty()
+	{
+		return this.keyValues.length == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return this.keyValues.length / 2;
+	}
+
+	/**
+	 * Gets the index of the entry with the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the index of the entry or -1 if the key is not found
+	 */
+	private int indexOf(final Object key)
+	{
+		if (this.table == null)
+		{
+			return linearIndexOf(this.keyValues, this.keyValues.length / 2, key);
+		}
+		final int mask = this.table.length - 1;
+		int slot = CompactImmutableSet.spread(key) & mask;
+		int index;
+		while ((index = this.table[slot]) != 0)
+		{
+			if (Objects.equals(key, this.keyValues[2 * (index - 1)]))
+			{
+				return index - 1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Prevents the deserialization of a map that was not written by the serialization proxy
+	 *
+	 * @param in
+	 *            the object input stream
+	 * @throws InvalidObjectException
+	 *             always
+	 */
+	private void readObject(final ObjectInputStream in) throws InvalidObjectException
+	{
+		throw new InvalidObjectException("serialization proxy required");
+	}
+
+	/**
+	 * Replaces this map with a serialization proxy that writes only the keys and values, the hash
+	 * table is rebuilt on read because the hash codes of the keys may differ between runs
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new SerializationProxy(this.keyValues);
+	}
+
+	/**
+	 * The class {@link Builder} collects the entries of a {@link CompactImmutableMap} in one
+	 * growable interleaved array. The builder can be reused, every build creates a new map
+	 *
+	 * @param <K>
+	 *            the generic type of the keys
+	 * @param <V>
+	 *            the generic type of the values
+	 */
+	public static final class Builder<K, V>
+	{
+
+		/** The collected keys and values. */
+		private Object[] keyValues = new Object[2 * LINEAR_SCAN_THRESHOLD];
+
+		/** The number of collected entries. */
+		private int size;
+
+		/**
+		 * Instantiates a new {@link Builder}
+		 */
+		Builder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the new {@link CompactImmutableMap} with the collected entries
+		 */
+		public CompactImmutableMap<K, V> build()
+		{
+			return newMap(Arrays.copyOf(this.keyValues, 2 * this.size), this.size);
+		}
+
+		/**
+		 * Removes all collected entries
+		 *
+		 * @return this builder
+		 */
+		public Builder<K, V> clear()
+		{
+			Arrays.fill(this.keyValues, 0, 2 * this.size, null);
+			this.size = 0;
+			return this;
+		}
+
+		/**
+		 * Adds the given entry, a later entry with the same key replaces the value
+		 *
+		 * @param key
+		 *            the key
+		 * @param value
+		 *            the value
+		 * @return this builder
+		 */
+		public Builder<K, V> put(final K key, final V value)
+		{
+			if (2 * this.size == this.keyValues.length)
+			{
+				this.keyValues = Arrays.copyOf(this.keyValues, 2 * this.keyValues.length);
+			}
+			this.keyValues[2 * this.size] = key;
+			this.keyValues[2 * this.size + 1] = value;
+			this.size++;
+			return this;
+		}
+
+		/**
+		 * Adds all entries of the given map
+		 *
+		 * @param map
+		 *            the map
+		 * @return this builder
+		 */
+		public Builder<K, V> putAll(final Map<? extends K, ? extends V> map)
+		{
+			map.forEach(this::put);
+			return this;
+		}
+
+		/**
+		 * Gets the number of collected entries, duplicate keys are counted separately
+		 *
+		 * @return the number of collected entries
+		 */
+		public int size()
+		{
+			return this.size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "CompactImmutableMap.Builder(size=" + this.size + ")";
+		}
+	}
+
+	/**
+	 * The entry set view of this map
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<K, V>>
+	{
+
+		@Override
+		public boolean contains(final Object o)
+		{
+			if (!(o instanceof Map.Entry))
+			{
+				return false;
+			}
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>)o;
+			final int index = indexOf(entry.getKey());
+			return index >= 0 && Objects.equals(entry.getValue(), keyValues[2 * index + 1]);
+		}
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator()
+		{
+			return new Iterator<>()
+			{
+
+				/** The index of the next entry. */
+				private int index;
+
+				@Override
+				public boolean hasNext()
+				{
+					return 2 * this.index < keyValues.length;
+				}
+
+				@Override
+				public Map.Entry<K, V> next()
+				{
+					if (!hasNext())
+					{
+						throw new NoSuchElementException();
+					}
+					final int position = 2 * this.index++;
+					return new AbstractMap.SimpleImmutableEntry<>(elementAt(keyValues[position]),
+						elementAt(keyValues[position + 1]));
+				}
+			};
+		}
+
+		@Override
+		public int size()
+		{
+			return CompactImmutableMap.this.size();
+		}
+	}
+
+	/**
+	 * The serialization proxy of a {@link CompactImmutableMap}
+	 */
+	private static final class SerializationProxy implements Serializable
+	{
+
+		/** The serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** The interleaved keys and values in insertion order. */
+		private final Object[] keyValues;
+
+		SerializationProxy(final Object[] keyValues)
+		{
+			this.keyValues = keyValues;
+		}
+
+		/**
+		 * Resolves the read proxy to a new map with the read entries
+		 *
+		 * @return the new map
+		 */
+		private Object readResolve()
+		{
+			return newMap(this.keyValues.clone(), this.keyValues.length / 2);
+		}
+	}
+}
@@ -0,0 +1,404 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.compact;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * The class {@link CompactImmutableSet} is an immutable set that keeps its elements in insertion
+ * order in one exactly sized array. Sets with up to {@link #LINEAR_SCAN_THRESHOLD} elements are
+ * searched with a linear scan, larger sets have an additional open addressing hash table with
+ * linear probing that stores the array indexes of the elements. Other than a
+ * {@link java.util.LinkedHashSet} there is no node per element, so a set costs one object and one
+ * or two arrays. Null elements are allowed, duplicate elements are dropped and the first
+ * occurrence is kept
+ *
+ * @param <E>
+ *            the generic type of the elements
+ */
+public final class CompactImmutableSet<E> extends AbstractSet<E> implements Serializable
+{
+
+	/** The maximum number of elements that are searched with a linear scan. */
+	public static final int LINEAR_SCAN_THRESHOLD = 8;
+
+	/** The empty set. */
+	private static final CompactImmutableSet<Object> EMPTY = new CompactImmutableSet<>(
+		new Object[0], null);
+
+	/** The serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The elements in insertion order. */
+	private final transient Object[] elements;
+
+	/** The hash table with the array indexes plus one of the elements or null for small sets. */
+	private final transient int[] table;
+
+	/**
+	 * Instantiates a new {@link CompactImmutableSet} that takes ownership of the given arrays
+	 *
+	 * @param elements
+	 *            the distinct elements
+	 * @param table
+	 *            the hash table or null
+	 */
+	private CompactImmutableSet(final Object[] elements, final int[] table)
+	{
+		this.elements = elements;
+		this.table = table;
+	}
+
+	/**
+	 * Factory method for create a new {@link CompactImmutableSet} with the distinct elements of
+	 * the given collection in its iteration order
+	 *
+	 * @param <E>
+	 *            the generic type of the elements
+	 * @param collection
+	 *            the collection
+	 * @return the new {@link CompactImmutableSet}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> CompactImmutableSet<E> copyOf(final Collection<? extends E> collection)
+	{
+		if (collection instanceof CompactImmutableSet)
+		{
+			return (CompactImmutableSet<E>)collection;
+		}
+		return newSet(collection.toArray());
+	}
+
+	/**
+	 * Gets the empty {@link CompactImmutableSet}
+	 *
+	 * @param <E>
+	 *            the generic type of the elements
+	 * @return the empty {@link CompactImmutableSet}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> CompactImmutableSet<E> of()
+	{
+		return (CompactImmutableSet<E>)EMPTY;
+	}
+
+	/**
+	 * Factory method for create a new {@link CompactImmutableSet} with the distinct given elements
+	 *
+	 * @param <E>
+	 *            the generic type of the elements
+	 * @param elements
+	 *            the elements
+	 * @return the new {@link CompactImmutableSet}
+	 */
+	@SafeVarargs
+	public static <E> CompactImmutableSet<E> of(final E... elements)
+	{
+		return newSet(Arrays.copyOf(elements, elements.length, Object[].class));
+	}
+
+	/**
+	 * Computes the capacity of the hash table for the given number of elements, a power of two
+	 * that keeps the load factor at or below one half
+	 *
+	 * @param size
+	 *            the number of elements
+	 * @return the capacity of the hash table
+	 */
+	static int tableCapacity(final int size)
+	{
+		return Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+	}
+
+	/**
+	 * Spreads the hash code of the given element, so the low bits that select the slot depend on
+	 * the high bits too
+	 *
+	 * @param element
+	 *            the element
+	 * @return the spread hash code
+	 */
+	static int spread(final Object element)
+	{
+		final int hash = element == null ? 0 : element.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Creates a new set from the given array that the new set owns, duplicates are removed in
+	 * place
+	 *
+	 * @param <E>
+	 *            the generic type of the elements
+	 * @param elements
+	 *            the elements
+	 * @return the new set
+	 */
+	private static <E> CompactImmutableSet<E> newSet(final Object[] elements)
+	{
+		if (elements.length == 0)
+		{
+			return of();
+		}
+		int size = 0;
+		if (elements.length <= LINEAR_SCAN_THRESHOLD)
+		{
+			for (final Object element : elements)
+			{
+				if (linearIndexOf(elements, size, element) < 0)
+				{
+					elements[size++] = element;
+				}
+			}
+			return new CompactImmutableSet<>(toObjectArray(elements, size), null);
+		}
+		final int[] table = new int[tableCapacity(elements.length)];
+		final int mask = table.length - 1;
+		for (final Object element : elements)
+		{
+			int slot = spread(element) & mask;
+			while (table[slot] != 0 && !Objects.equals(element, elements[table[slot] - 1]))
+			{
+				slot = (slot + 1) & mask;
+			}
+			if (table[slot] == 0)
+			{
+				elements[size] = element;
+				table[slot] = ++size;
+			}
+		}
+		if (size <= LINEAR_SCAN_THRESHOLD)
+		{
+			return new CompactImmutableSet<>(toObjectArray(elements, size), null);
+		}
+		if (tableCapacity(size) < table.length)
+		{
+			// many duplicates, rebuild a smaller table for the distinct elements
+			return newSet(toObjectArray(elements, size));
+		}
+		return new CompactImmutableSet<>(toObjectArray(elements, size), table);
+	}
+
+	/**
+	 * Searches the given element in the first elements of the given array with a linear scan
+	 *
+	 * @param elements
+	 *            the elements
+	 * @param size
+	 *            the number of elements to search
+	 * @param element
+	 *            the element to search
+	 * @return the index of the element or -1 if it is not found
+	 */
+	private static int linearIndexOf(final Object[] elements, final int size, final Object element)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			if (Objects.equals(element, elements[i]))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Trims the given array to the given size and converts it to an exact object array
+	 *
+	 * @param elements
+	 *            the elements
+	 * @param size
+	 *            the number of elements
+	 * @return the trimmed object array
+	 */
+	private static Object[] toObjectArray(final Object[] elements, final int size)
+	{
+		if (size == elements.length && elements.getClass() == Object[].class)
+		{
+			return elements;
+		}
+		return Arrays.copyOf(elements, size, Object[].class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(final Object o)
+	{
+		if (this.table == null)
+		{
+			return linearIndexOf(this.elements, this.elements.length, o) >= 0;
+		}
+		final int mask = this.table.length - 1;
+		int slot = spread(o) & mask;
+		int index;
+		while ((index = this.table[slot]) != 0)
+		{
+			if (Objects.equals(o, this.elements[index - 1]))
+			{
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(final Consumer<? super E> action)
+	{
+		Objects.requireNonNull(action);
+		for (final Object element : this.elements)
+		{
+			action.accept((E)element);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new Iterator<>()
+		{
+
+			/** The index of the next element. */
+			private int index;
+
+			@Override
+			public boolean hasNext()
+			{
+				return this.index < CompactImmutableSet.this.elements.length;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next()
+			{
+				if (!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				return (E)CompactImmutableSet.this.elements[this.index++];
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return this.elements.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<E> spliterator()
+	{
+		return Spliterators.spliterator(this.elements,
+			Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] toArray()
+	{
+		return Arrays.copyOf(this.elements, this.elements.length);
+	}
+
+	/**
+	 * Prevents the deserialization of a set that was not written by the serialization proxy
+	 *
+	 * @param in
+	 *            the object input stream
+	 * @throws InvalidObjectException
+	 *             always
+	 */
+	private void readObject(final ObjectInputStream in) throws InvalidObjectException
+	{
+		throw new InvalidObjectException("serialization proxy required");
+	}
+
+	/**
+	 * Replaces this set with a serialization proxy that writes only the elements, the hash table
+	 * is rebuilt on read because the hash codes of the elements may differ between runs
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new SerializationProxy(this.elements);
+	}
+
+	/**
+	 * The serialization proxy of a {@link CompactImmutableSet}
+	 */
+	private static final class SerializationProxy implements Serializable
+	{
+
+		/** The serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** The elements in insertion order. */
+		private final Object[] elements;
+
+		SerializationProxy(final Object[] elements)
+		{
+			this.elements = elements;
+		}
+
+		/**
+		 * Resolves the read proxy to a new set with the read elements
+		 *
+		 * @return the new set
+		 */
+		private Object readResolve()
+		{
+			return newSet(this.elements.clone());
+		}
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * This package provides compact array backed immutable collections for the values of the tuple
+ * classes
+ */
+package io.github.astrapi69.collection.compact;
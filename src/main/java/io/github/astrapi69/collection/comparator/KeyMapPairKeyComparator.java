@@ -30,7 +30,8 @@ import io.github.astrapi69.collection.pair.KeyMapPair;
 
 /**
  * The class {@link KeyMapPairKeyComparator} compares {@linkplain KeyMapPair} objects over the key
- * where the key have to implements the {@linkplain Comparable} interface.
+ * where the key have to implements the {@linkplain Comparable} interface. Null keys are ordered
+ * like the given {@link NullOrdering} defines.
  *
  * @param <K>
  *            The type of the key.
@@ -44,12 +45,50 @@ public class KeyMapPairKeyComparator<K extends Comparable<K>, MK, MV>
 		Comparator<KeyMapPair<K, MK, MV>>
 {
 
+	/**
+	 * The ordering of null keys.
+	 */
+	private final NullOrdering nullOrdering;
+
+	/**
+	 * Instantiates a new {@link KeyMapPairKeyComparator} that does not allow null keys
+	 */
+	public KeyMapPairKeyComparator()
+	{
+		this(NullOrdering.NON_NULL);
+	}
+
+	/**
+	 * Instantiates a new {@link KeyMapPairKeyComparator} with the given ordering of null keys
+	 *
+	 * @param nullOrdering
+	 *            the ordering of null keys
+	 */
+	public KeyMapPairKeyComparator(final NullOrdering nullOrdering)
+	{
+		if (nullOrdering == null)
+		{
+			throw new NullPointerException("nullOrdering is marked non-null but is null");
+		}
+		this.nullOrdering = nullOrdering;
+	}
+
+	/**
+	 * Gets the ordering of null keys
+	 *
+	 * @return the ordering of null keys
+	 */
+	public NullOrdering getNullOrdering()
+	{
+		return this.nullOrdering;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public int compare(final KeyMapPair<K, MK, MV> o1, final KeyMapPair<K, MK, MV> o2)
 	{
-		return o1.getKey().compareTo(o2.getKey());
+		return this.nullOrdering.compare(o1.getKey(), o2.getKey());
 	}
 }
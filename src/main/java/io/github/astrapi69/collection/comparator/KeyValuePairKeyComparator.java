@@ -30,7 +30,8 @@ import io.github.astrapi69.collection.pair.KeyValuePair;
 
 /**
  * The class {@link KeyValuePairKeyComparator} compares {@linkplain KeyValuePair} objects over the
- * key where the key have to implements the {@linkplain Comparable} interface.
+ * key where the key have to implements the {@linkplain Comparable} interface. Null keys are
+ * ordered like the given {@link NullOrdering} defines.
  *
  * @param <K>
  *            The generic type of the key
@@ -42,12 +43,50 @@ public class KeyValuePairKeyComparator<K extends Comparable<K>, V>
 		Comparator<KeyValuePair<K, V>>
 {
 
+	/**
+	 * The ordering of null keys.
+	 */
+	private final NullOrdering nullOrdering;
+
+	/**
+	 * Instantiates a new {@link KeyValuePairKeyComparator} that does not allow null keys
+	 */
+	public KeyValuePairKeyComparator()
+	{
+		this(NullOrdering.NON_NULL);
+	}
+
+	/**
+	 * Instantiates a new {@link KeyValuePairKeyComparator} with the given ordering of null keys
+	 *
+	 * @param nullOrdering
+	 *            the ordering of null keys
+	 */
+	public KeyValuePairKeyComparator(final NullOrdering nullOrdering)
+	{
+		if (nullOrdering == null)
+		{
+			throw new NullPointerException("nullOrdering is marked non-null but is null");
+		}
+		this.nullOrdering = nullOrdering;
+	}
+
+	/**
+	 * Gets the ordering of null keys
+	 *
+	 * @return the ordering of null keys
+	 */
+	public NullOrdering getNullOrdering()
+	{
+		return this.nullOrdering;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public int compare(final KeyValuePair<K, V> o1, final KeyValuePair<K, V> o2)
 	{
-		return o1.getKey().compareTo(o2.getKey());
+		return this.nullOrdering.compare(o1.getKey(), o2.getKey());
 	}
 }
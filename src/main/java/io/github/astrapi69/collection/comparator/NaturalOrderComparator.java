@@ -26,32 +26,25 @@ package io.github.astrapi69.collection.comparator;
 
 import java.util.Comparator;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-
-import io.github.astrapi69.collection.pair.Triple;
-
 /**
- * The class {@link TripleComparator} is a comparator for {@link Triple} objects.
- *
- * @param <L>
- *            The type of the left content of this Triple.
- * @param <M>
- *            The type of the middle content of this Triple.
- * @param <R>
- *            The type of the right content of this Triple.
+ * The enum {@link NaturalOrderComparator} compares objects of an unbounded generic type by their
+ * natural order, so the tuple comparators can compare components that are not declared as
+ * {@link Comparable}. A component that does not implement {@link Comparable} results in a
+ * {@link ClassCastException}
  */
-public class TripleComparator<L, M, R> implements Comparator<Triple<L, M, R>>
+enum NaturalOrderComparator implements Comparator<Object>
 {
 
+	/** The single instance. */
+	INSTANCE;
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public int compare(final Triple<L, M, R> o1, final Triple<L, M, R> o2)
+	@SuppressWarnings("unchecked")
+	public int compare(final Object left, final Object right)
 	{
-		return new CompareToBuilder().append(o1.getLeft(), o2.getLeft())
-			.append(o1.getMiddle(), o2.getMiddle()).append(o1.getRight(), o2.getRight())
-			.toComparison();
+		return ((Comparable<Object>)left).compareTo(right);
 	}
-
 }
@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import java.util.Comparator;
+
+/**
+ * The enum {@link NullOrdering} defines where the comparators of this package order null keys and
+ * null tuple components, so a comparator does not have to be wrapped with
+ * {@link Comparator#nullsFirst} or {@link Comparator#nullsLast}
+ */
+public enum NullOrdering
+{
+
+	/**
+	 * Null keys are not allowed, the comparison of a null key throws a {@link NullPointerException}
+	 */
+	NON_NULL,
+
+	/**
+	 * Null keys are ordered before all non null keys
+	 */
+	NULLS_FIRST,
+
+	/**
+	 * Null keys are ordered after all non null keys
+	 */
+	NULLS_LAST;
+
+	/**
+	 * Compares the given keys with their natural order and orders null keys like this null
+	 * ordering defines
+	 *
+	 * @param <T>
+	 *            the generic type of the keys
+	 * @param left
+	 *            the left key
+	 * @param right
+	 *            the right key
+	 * @return a negative integer, zero, or a positive integer as the left key is less than, equal
+	 *         to, or greater than the right key
+	 * @throws NullPointerException
+	 *             if a key is null and this null ordering is {@link #NON_NULL}
+	 */
+	public <T extends Comparable<? super T>> int compare(final T left, final T right)
+	{
+		return compare(left, right, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Compares the given values with the given comparator and orders null values like this null
+	 * ordering defines. The comparator is only called with non null values
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param left
+	 *            the left value
+	 * @param right
+	 *            the right value
+	 * @param comparator
+	 *            the comparator for non null values
+	 * @return a negative integer, zero, or a positive integer as the left value is less than,
+	 *         equal to, or greater than the right value
+	 * @throws NullPointerException
+	 *             if a value is null and this null ordering is {@link #NON_NULL}
+	 */
+	public <T> int compare(final T left, final T right, final Comparator<? super T> comparator)
+	{
+		if (left == null || right == null)
+		{
+			if (this == NON_NULL)
+			{
+				throw new NullPointerException("value is marked non-null but is null");
+			}
+			if (left == right)
+			{
+				return 0;
+			}
+			final int nullFirst = left == null ? -1 : 1;
+			return this == NULLS_FIRST ? nullFirst : -nullFirst;
+		}
+		if (left == right)
+		{
+			return 0;
+		}
+		return comparator.compare(left, right);
+	}
+}
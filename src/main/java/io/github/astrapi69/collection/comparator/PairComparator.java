@@ -0,0 +1,151 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import java.util.Comparator;
+
+import io.github.astrapi69.collection.pair.Pair;
+
+/**
+ * The class {@link PairComparator} compares {@link Pair} objects lexicographic over the left and
+ * the right content without creating any objects. Every content is compared with its own
+ * comparator, null contents are ordered like the given {@link NullOrdering} defines.
+ *
+ * @param <K>
+ *            The type of the left content of the Pair.
+ * @param <V>
+ *            The type of the right content of the Pair.
+ */
+public class PairComparator<K, V> implements Comparator<Pair<K, V>>
+{
+
+	/**
+	 * The comparator of the left content.
+	 */
+	private final Comparator<? super K> leftComparator;
+
+	/**
+	 * The ordering of null contents.
+	 */
+	private final NullOrdering nullOrdering;
+
+	/**
+	 * The comparator of the right content.
+	 */
+	private final Comparator<? super V> rightComparator;
+
+	/**
+	 * Instantiates a new {@link PairComparator} that compares the contents by their natural order
+	 * and orders null contents first
+	 */
+	public PairComparator()
+	{
+		this(NullOrdering.NULLS_FIRST);
+	}
+
+	/**
+	 * Instantiates a new {@link PairComparator} with the given comparators that orders null
+	 * contents first
+	 *
+	 * @param leftComparator
+	 *            the comparator of the left content
+	 * @param rightComparator
+	 *            the comparator of the right content
+	 */
+	public PairComparator(final Comparator<? super K> leftComparator,
+		final Comparator<? super V> rightComparator)
+	{
+		this(NullOrdering.NULLS_FIRST, leftComparator, rightComparator);
+	}
+
+	/**
+	 * Instantiates a new {@link PairComparator} that compares the contents by their natural order
+	 * and orders null contents like the given {@link NullOrdering} defines
+	 *
+	 * @param nullOrdering
+	 *            the ordering of null contents
+	 */
+	public PairComparator(final NullOrdering nullOrdering)
+	{
+		this(nullOrdering, NaturalOrderComparator.INSTANCE, NaturalOrderComparator.INSTANCE);
+	}
+
+	/**
+	 * Instantiates a new {@link PairComparator} with the given ordering of null contents and the
+	 * given comparators
+	 *
+	 * @param nullOrdering
+	 *            the ordering of null contents
+	 * @param leftComparator
+	 *            the comparator of the left content
+	 * @param rightComparator
+	 *            the comparator of the right content
+	 */
+	public PairComparator(final NullOrdering nullOrdering,
+		final Comparator<? super K> leftComparator, final Comparator<? super V> rightComparator)
+	{
+		if (nullOrdering == null)
+		{
+			throw new NullPointerException("nullOrdering is marked non-null but is null");
+		}
+		if (leftComparator == null)
+		{
+			throw new NullPointerException("leftComparator is marked non-null but is null");
+		}
+		if (rightComparator == null)
+		{
+			throw new NullPointerException("rightComparator is marked non-null but is null");
+		}
+		this.nullOrdering = nullOrdering;
+		this.leftComparator = leftComparator;
+		this.rightComparator = rightComparator;
+	}
+
+	/**
+	 * Gets the ordering of null contents
+	 *
+	 * @return the ordering of null contents
+	 */
+	public NullOrdering getNullOrdering()
+	{
+		return this.nullOrdering;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compare(final Pair<K, V> o1, final Pair<K, V> o2)
+	{
+		final int result = this.nullOrdering.compare(o1.getLeftContent(), o2.getLeftContent(),
+			this.leftComparator);
+		if (result != 0)
+		{
+			return result;
+		}
+		return this.nullOrdering.compare(o1.getRightContent(), o2.getRightContent(),
+			this.rightComparator);
+	}
+}
@@ -0,0 +1,136 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import java.util.Comparator;
+
+import io.github.astrapi69.collection.pair.IntIntDoubleTriple;
+import io.github.astrapi69.collection.pair.IntIntPair;
+import io.github.astrapi69.collection.pair.IntLongPair;
+import io.github.astrapi69.collection.pair.LongObjPair;
+
+/**
+ * The class {@link PrimitiveTupleComparators} provides lexicographic comparators for the primitive
+ * specialized tuple classes. The comparators compare the primitive values directly, so no value is
+ * boxed on a comparison
+ */
+public final class PrimitiveTupleComparators
+{
+
+	/**
+	 * The comparator for {@link IntIntDoubleTriple} objects over the left, the middle and the right
+	 * value
+	 */
+	public static final Comparator<IntIntDoubleTriple> INT_INT_DOUBLE_TRIPLE = (o1, o2) -> {
+		int result = Integer.compare(o1.getLeft(), o2.getLeft());
+		if (result != 0)
+		{
+			return result;
+		}
+		result = Integer.compare(o1.getMiddle(), o2.getMiddle());
+		if (result != 0)
+		{
+			return result;
+		}
+		return Double.compare(o1.getRight(), o2.getRight());
+	};
+
+	/**
+	 * The comparator for {@link IntIntPair} objects over the left and the right value
+	 */
+	public static final Comparator<IntIntPair> INT_INT_PAIR = (o1, o2) -> {
+		final int result = Integer.compare(o1.getLeftContent(), o2.getLeftContent());
+		if (result != 0)
+		{
+			return result;
+		}
+		return Integer.compare(o1.getRightContent(), o2.getRightContent());
+	};
+
+	/**
+	 * The comparator for {@link IntLongPair} objects over the left and the right value
+	 */
+	public static final Comparator<IntLongPair> INT_LONG_PAIR = (o1, o2) -> {
+		final int result = Integer.compare(o1.getLeftContent(), o2.getLeftContent());
+		if (result != 0)
+		{
+			return result;
+		}
+		return Long.compare(o1.getRightContent(), o2.getRightContent());
+	};
+
+	private PrimitiveTupleComparators()
+	{
+	}
+
+	/**
+	 * Factory method for create a new comparator for {@link LongObjPair} objects that compares the
+	 * primitive left value and then the right value with the given comparator, null right values
+	 * are ordered like the given {@link NullOrdering} defines
+	 *
+	 * @param <V>
+	 *            the generic type of the right value
+	 * @param nullOrdering
+	 *            the ordering of null right values
+	 * @param rightComparator
+	 *            the comparator of the right value
+	 * @return the new comparator
+	 */
+	public static <V> Comparator<LongObjPair<V>> longObjPair(final NullOrdering nullOrdering,
+		final Comparator<? super V> rightComparator)
+	{
+		if (nullOrdering == null)
+		{
+			throw new NullPointerException("nullOrdering is marked non-null but is null");
+		}
+		if (rightComparator == null)
+		{
+			throw new NullPointerException("rightComparator is marked non-null but is null");
+		}
+		return (o1, o2) -> {
+			final int result = Long.compare(o1.getLeftContent(), o2.getLeftContent());
+			if (result != 0)
+			{
+				return result;
+			}
+			return nullOrdering.compare(o1.getRightContent(), o2.getRightContent(),
+				rightComparator);
+		};
+	}
+
+	/**
+	 * Factory method for create a new comparator for {@link LongObjPair} objects that compares the
+	 * primitive left value and then the right value by its natural order, null right values are
+	 * ordered first
+	 *
+	 * @param <V>
+	 *            the generic type of the right value
+	 * @return the new comparator
+	 */
+	public static <V extends Comparable<? super V>> Comparator<LongObjPair<V>> longObjPair()
+	{
+		return longObjPair(NullOrdering.NULLS_FIRST, Comparator.naturalOrder());
+	}
+}
@@ -0,0 +1,203 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import java.util.Comparator;
+
+import io.github.astrapi69.collection.pair.Quattro;
+
+/**
+ * The class {@link QuattroComparator} compares {@link Quattro} objects lexicographic over the top
+ * left, the top right, the bottom left and the bottom right content without creating any objects.
+ * Every content is compared with its own comparator, null contents are ordered like the given
+ * {@link NullOrdering} defines.
+ *
+ * @param <TL>
+ *            The type of the top left content of the Quattro.
+ * @param <TR>
+ *            The type of the top right content of the Quattro.
+ * @param <BL>
+ *            The type of the bottom left content of the Quattro.
+ * @param <BR>
+ *            The type of the bottom right content of the Quattro.
+ */
+public class QuattroComparator<TL, TR, BL, BR> implements Comparator<Quattro<TL, TR, BL, BR>>
+{
+
+	/**
+	 * The comparator of the bottom left content.
+	 */
+	private final Comparator<? super BL> bottomLeftComparator;
+
+	/**
+	 * The comparator of the bottom right content.
+	 */
+	private final Comparator<? super BR> bottomRightComparator;
+
+	/**
+	 * The ordering of null contents.
+	 */
+	private final NullOrdering nullOrdering;
+
+	/**
+	 * The comparator of the top left content.
+	 */
+	private final Comparator<? super TL> topLeftComparator;
+
+	/**
+	 * The comparator of the top right content.
+	 */
+	private final Comparator<? super TR> topRightComparator;
+
+	/**
+	 * Instantiates a new {@link QuattroComparator} that compares the contents by their natural
+	 * order and orders null contents first
+	 */
+	public QuattroComparator()
+	{
+		this(NullOrdering.NULLS_FIRST);
+	}
+
+	/**
+	 * Instantiates a new {@link QuattroComparator} with the given comparators that orders null
+	 * contents first
+	 *
+	 * @param topLeftComparator
+	 *            the comparator of the top left content
+	 * @param topRightComparator
+	 *            the comparator of the top right content
+	 * @param bottomLeftComparator
+	 *            the comparator of the bottom left content
+	 * @param bottomRightComparator
+	 *            the comparator of the bottom right content
+	 */
+	public QuattroComparator(final Comparator<? super TL> topLeftComparator,
+		final Comparator<? super TR> topRightComparator,
+		final Comparator<? super BL> bottomLeftComparator,
+		final Comparator<? super BR> bottomRightComparator)
+	{
+		this(NullOrdering.NULLS_FIRST, topLeftComparator, topRightComparator, bottomLeftComparator,
+			bottomRightComparator);
+	}
+
+	/**
+	 * Instantiates a new {@link QuattroComparator} that compares the contents by their natural
+	 * order and orders null contents like the given {@link NullOrdering} defines
+	 *
+	 * @param nullOrdering
+	 *            the ordering of null contents
+	 */
+	public QuattroComparator(final NullOrdering nullOrdering)
+	{
+		this(nullOrdering, NaturalOrderComparator.INSTANCE, NaturalOrderComparator.INSTANCE,
+			NaturalOrderComparator.INSTANCE, NaturalOrderComparator.INSTANCE);
+	}
+
+	/**
+	 * Instantiates a new {@link QuattroComparator} with the given ordering of null contents and
+	 * the given comparators
+	 *
+	 * @param nullOrdering
+	 *            the ordering of null contents
+	 * @param topLeftComparator
+	 *            the comparator of the top left content
+	 * @param topRightComparator
+	 *            the comparator of the top right content
+	 * @param bottomLeftComparator
+	 *            the comparator of the bottom left content
+	 * @param bottomRightComparator
+	 *            the comparator of the bottom right content
+	 */
+	public QuattroComparator(final NullOrdering nullOrdering,
+		final Comparator<? super TL> topLeftComparator,
+		final Comparator<? super TR> topRightComparator,
+		final Comparator<? super BL> bottomLeftComparator,
+		final Comparator<? super BR> bottomRightComparator)
+	{
+		if (nullOrdering == null)
+		{
+			throw new NullPointerException("nullOrdering is marked non-null but is null");
+		}
+		if (topLeftComparator == null)
+		{
+			throw new NullPointerException("topLeftComparator is marked non-null but is null");
+		}
+		if (topRightComparator == null)
+		{
+			throw new NullPointerException("topRightComparator is marked non-null but is null");
+		}
+		if (bottomLeftComparator == null)
+		{
+			throw new NullPointerException("bottomLeftComparator is marked non-null but is null");
+		}
+		if (bottomRightComparator == null)
+		{
+			throw new NullPointerException("bottomRightComparator is marked non-null but is null");
+		}
+		this.nullOrdering = nullOrdering;
+		this.topLeftComparator = topLeftComparator;
+		this.topRightComparator = topRightComparator;
+		this.bottomLeftComparator = bottomLeftComparator;
+		this.bottomRightComparator = bottomRightComparator;
+	}
+
+	/**
+	 * Gets the ordering of null contents
+	 *
+	 * @return the ordering of null contents
+	 */
+	public NullOrdering getNullOrdering()
+	{
+		return this.nullOrdering;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compare(final Quattro<TL, TR, BL, BR> o1, final Quattro<TL, TR, BL, BR> o2)
+	{
+		int result = this.nullOrdering.compare(o1.getTopLeft(), o2.getTopLeft(),
+			this.topLeftComparator);
+		if (result != 0)
+		{
+			return result;
+		}
+		result = this.nullOrdering.compare(o1.getTopRight(), o2.getTopRight(),
+			this.topRightComparator);
+		if (result != 0)
+		{
+			return result;
+		}
+		result = this.nullOrdering.compare(o1.getBottomLeft(), o2.getBottomLeft(),
+			this.bottomLeftComparator);
+		if (result != 0)
+		{
+			return result;
+		}
+		return this.nullOrdering.compare(o1.getBottomRight(), o2.getBottomRight(),
+			this.bottomRightComparator);
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import java.util.Comparator;
+
+import io.github.astrapi69.collection.pair.Triple;
+
+/**
+ * The class {@link TripleComparator} compares {@link Triple} objects lexicographic over the left,
+ * the middle and the right content without creating any objects. Every content is compared with
+ * its own comparator, null contents are ordered like the given {@link NullOrdering} defines.
+ *
+ * @param <L>
+ *            The type of the left content of this Triple.
+ * @param <M>
+ *            The type of the middle content of this Triple.
+ * @param <R>
+ *            The type of the right content of this Triple.
+ */
+public class TripleComparator<L, M, R> implements Comparator<Triple<L, M, R>>
+{
+
+	/**
+	 * The comparator of the left content.
+	 */
+	private final Comparator<? super L> leftComparator;
+
+	/**
+	 * The comparator of the middle content.
+	 */
+	private final Comparator<? super M> middleComparator;
+
+	/**
+	 * The ordering of null contents.
+	 */
+	private final NullOrdering nullOrdering;
+
+	/**
+	 * The comparator of the right content.
+	 */
+	private final Comparator<? super R> rightComparator;
+
+	/**
+	 * Instantiates a new {@link TripleComparator} that compares the contents by their natural
+	 * order and orders null contents first
+	 */
+	public TripleComparator()
+	{
+		this(NullOrdering.NULLS_FIRST);
+	}
+
+	/**
+	 * Instantiates a new {@link TripleComparator} with the given comparators that orders null
+	 * contents first
+	 *
+	 * @param leftComparator
+	 *            the comparator of the left content
+	 * @param middleComparator
+	 *            the comparator of the middle content
+	 * @param rightComparator
+	 *            the comparator of the right content
+	 */
+	public TripleComparator(final Comparator<? super L> leftComparator,
+		final Comparator<? super M> middleComparator, final Comparator<? super R> rightComparator)
+	{
+		this(NullOrdering.NULLS_FIRST, leftComparator, middleComparator, rightComparator);
+	}
+
+	/**
+	 * Instantiates a new {@link TripleComparator} that compares the contents by their natural
+	 * order and orders null contents like the given {@link NullOrdering} defines
+	 *
+	 * @param nullOrdering
+	 *            the ordering of null contents
+	 */
+	public TripleComparator(final NullOrdering nullOrdering)
+	{
+		this(nullOrdering, NaturalOrderComparator.INSTANCE, NaturalOrderComparator.INSTANCE,
+			NaturalOrderComparator.INSTANCE);
+	}
+
+	/**
+	 * Instantiates a new {@link TripleComparator} with the given ordering of null contents and the
+	 * given comparators
+	 *
+	 * @param nullOrdering
+	 *            the ordering of null contents
+	 * @param leftComparator
+	 *            the comparator of the left content
+	 * @param middleComparator
+	 *            the comparator of the middle content
+	 * @param rightComparator
+	 *            the comparator of the right content
+	 */
+	public TripleComparator(final NullOrdering nullOrdering,
+		final Comparator<? super L> leftComparator, final Comparator<? super M> middleComparator,
+		final Comparator<? super R> rightComparator)
+	{
+		if (nullOrdering == null)
+		{
+			throw new NullPointerException("nullOrdering is marked non-null but is null");
+		}
+		if (leftComparator == null)
+		{
+			throw new NullPointerException("leftComparator is marked non-null but is null");
+		}
+		if (middleComparator == null)
+		{
+			throw new NullPointerException("middleComparator is marked non-null but is null");
+		}
+		if (rightComparator == null)
+		{
+			throw new NullPointerException("rightComparator is marked non-null but is null");
+		}
+		this.nullOrdering = nullOrdering;
+		this.leftComparator = leftComparator;
+		this.middleComparator = middleComparator;
+		this.rightComparator = rightComparator;
+	}
+
+	/**
+	 * Gets the ordering of null contents
+	 *
+	 * @return the ordering of null contents
+	 */
+	public NullOrdering getNullOrdering()
+	{
+		return this.nullOrdering;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compare(final Triple<L, M, R> o1, final Triple<L, M, R> o2)
+	{
+		int result = this.nullOrdering.compare(o1.getLeft(), o2.getLeft(), this.leftComparator);
+		if (result != 0)
+		{
+			return result;
+		}
+		result = this.nullOrdering.compare(o1.getMiddle(), o2.getMiddle(), this.middleComparator);
+		if (result != 0)
+		{
+			return result;
+		}
+		return this.nullOrdering.compare(o1.getRight(), o2.getRight(), this.rightComparator);
+	}
+}
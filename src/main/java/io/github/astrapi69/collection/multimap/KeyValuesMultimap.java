@@ -0,0 +1,377 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.multimap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The class {@link KeyValuesMultimap} groups values by their key. Every group keeps its values in
+ * a growable list, so appending a value is amortized O(1). <br>
+ * <br>
+ * A multimap that is created with {@link #create()} is not thread safe and keeps the keys in
+ * insertion order. Its groups are exposed as read only {@link KeyValuesPair} views over the
+ * lists without copying the values, so the views reflect later appends. A multimap that is
+ * created with {@link #concurrent()} can be filled from several threads at once, the keys are
+ * unordered and the values of a group are in the order the appends were synchronized. Its groups
+ * are exposed as read only snapshots that are copied under the lock of the group, so they can be
+ * iterated and compared while other threads append values
+ *
+ * @param <K>
+ *            The generic type of the key
+ * @param <V>
+ *            The generic type of the values
+ */
+public final class KeyValuesMultimap<K, V>
+{
+
+	/** The flag if this multimap can be filled from several threads. */
+	private final boolean concurrent;
+
+	/** The groups of values by key. */
+	private final Map<K, List<V>> groups;
+
+	/**
+	 * Instantiates a new {@link KeyValuesMultimap}
+	 *
+	 * @param concurrent
+	 *            the flag if the multimap can be filled from several threads
+	 */
+	private KeyValuesMultimap(final boolean concurrent)
+	{
+		this.concurrent = concurrent;
+		this.groups = concurrent ? new ConcurrentHashMap<>() : new LinkedHashMap<>();
+	}
+
+	/**
+	 * Factory method for create a new empty {@link KeyValuesMultimap} that can be filled from
+	 * several threads at once
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the values
+	 * @return the new concurrent {@link KeyValuesMultimap}
+	 */
+	public static <K, V> KeyValuesMultimap<K, V> concurrent()
+	{
+		return new KeyValuesMultimap<>(true);
+	}
+
+	/**
+	 * Factory method for create a new empty {@link KeyValuesMultimap} that keeps the keys in
+	 * insertion order
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the values
+	 * @return the new {@link KeyValuesMultimap}
+	 */
+	public static <K, V> KeyValuesMultimap<K, V> create()
+	{
+		return new KeyValuesMultimap<>(false);
+	}
+
+	/**
+	 * Appends the value of the given key value pair to the group of its key
+	 *
+	 * @param keyValuePair
+	 *            the key value pair
+	 * @return this multimap
+	 */
+	public KeyValuesMultimap<K, V> add(final KeyValuePair<K, V> keyValuePair)
+	{
+		return put(keyValuePair.getKey(), keyValuePair.getValue());
+	}
+
+	/**
+	 * Checks if this multimap contains a group for the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return true if this multimap contains a group for the given key
+	 */
+	public boolean containsKey(final K key)
+	{
+		return this.groups.containsKey(key);
+	}
+
+	/**
+	 * Performs the given action for the key and the read only values of every group. The values
+	 * of a concurrent multimap are a snapshot of the group
+	 *
+	 * @param action
+	 *            the action
+	 */
+	public void forEach(final BiConsumer<? super K, ? super List<V>> action)
+	{
+		Objects.requireNonNull(action);
+		this.groups
+			.forEach((key, values) -> action.accept(key, readOnly(values)));
+	}
+
+	/**
+	 * Gets the group of the given key as a read only {@link KeyValuesPair} view, or as a snapshot
+	 * for a concurrent multimap
+	 *
+	 * @param key
+	 *            the key
+	 * @return the view of the group or null if this multimap contains no group for the given key
+	 */
+	public KeyValuesPair<K, V> get(final K key)
+	{
+		final List<V> values = this.groups.get(key);
+		if (values == null)
+		{
+			return null;
+		}
+		return new KeyValuesPair<>(key, readOnly(values));
+	}
+
+	/**
+	 * Gets the read only values of the given key, a snapshot of the group for a concurrent
+	 * multimap
+	 *
+	 * @param key
+	 *            the key
+	 * @return the values of the given key or an empty list if this multimap contains no group for
+	 *         the given key
+	 */
+	public List<V> getValues(final K key)
+	{
+		final List<V> values = this.groups.get(key);
+		return values == null ? Collections.emptyList() : readOnly(values);
+	}
+
+	/**
+	 * Checks if this multimap can be filled from several threads at once
+	 *
+	 * @return true if this multimap is concurrent
+	 */
+	public boolean isConcurrent()
+	{
+		return this.concurrent;
+	}
+
+	/**
+	 * Checks if this multimap contains no group
+	 *
+	 * @return true if this multimap contains no group
+	 */
+	public boolean isEmpty()
+	{
+		return this.groups.isEmpty();
+	}
+
+	/**
+	 * Gets the number of groups
+	 *
+	 * @return the number of groups
+	 */
+	public int keySize()
+	{
+		return this.groups.size();
+	}
+
+	/**
+	 * Gets a read only view of the keys of the groups
+	 *
+	 * @return the keys
+	 */
+	public Set<K> keys()
+	{
+		return Collections.unmodifiableSet(this.groups.keySet());
+	}
+
+	/**
+	 * Appends the given value to the group of the given key, the group is created on the first
+	 * value of a key
+	 *
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 * @return this multimap
+	 */
+	public KeyValuesMultimap<K, V> put(final K key, final V value)
+	{
+		append(key, values -> values.add(value));
+		return this;
+	}
+
+	/**
+	 * Appends the given values to the group of the given key, the group is created if it does not
+	 * exist
+	 *
+	 * @param key
+	 *            the key
+	 * @param values
+	 *            the values
+	 * @return this multimap
+	 */
+	public KeyValuesMultimap<K, V> putAll(final K key, final Collection<? extends V> values)
+	{
+		append(key, group -> group.addAll(values));
+		return this;
+	}
+
+	/**
+	 * Appends all values of all groups of the given multimap to the groups of this multimap
+	 *
+	 * @param other
+	 *            the other multimap
+	 * @return this multimap
+	 */
+	public KeyValuesMultimap<K, V> putAll(final KeyValuesMultimap<? extends K, ? extends V> other)
+	{
+		other.forEach(this::putAll);
+		return this;
+	}
+
+	/**
+	 * Removes the group of the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the read only removed values or an empty list if this multimap contains no group for
+	 *         the given key. The values that other threads append to a concurrent multimap at the
+	 *         same time are either in the removed values or in a new group of the key
+	 */
+	public List<V> remove(final K key)
+	{
+		final List<V> values = this.groups.remove(key);
+		return values == null ? Collections.emptyList() : readOnly(values);
+	}
+
+	/**
+	 * Gets the number of values in all groups. The values are counted over all groups, so the
+	 * appends do not have to maintain a shared counter
+	 *
+	 * @return the number of values
+	 */
+	public int size()
+	{
+		int size = 0;
+		for (final List<V> values : this.groups.values())
+		{
+			size += values.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Creates a list with a read only {@link KeyValuesPair} view of every group. The values of a
+	 * multimap that is not concurrent are not copied and the views reflect later appends, the
+	 * values of a concurrent multimap are snapshots of the groups
+	 *
+	 * @return the list with the views of the groups
+	 */
+	public List<KeyValuesPair<K, V>> toKeyValuesPairs()
+	{
+		final List<KeyValuesPair<K, V>> keyValuesPairs = new ArrayList<>(this.groups.size());
+		this.groups.forEach(
+			(key, values) -> keyValuesPairs.add(new KeyValuesPair<>(key, readOnly(values))));
+		return keyValuesPairs;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "KeyValuesMultimap(keySize=" + keySize() + ", size=" + size() + ")";
+	}
+
+	/**
+	 * Gets the given group as read only list. The group of a multimap that is not concurrent is
+	 * wrapped in a read only view, the synchronized group of a concurrent multimap is copied under
+	 * its own lock, so the returned list can be used while other threads append values
+	 *
+	 * @param values
+	 *            the values of the group
+	 * @return the read only values
+	 */
+	private List<V> readOnly(final List<V> values)
+	{
+		if (!this.concurrent)
+		{
+			return Collections.unmodifiableList(values);
+		}
+		synchronized (values)
+		{
+			return Collections.unmodifiableList(new ArrayList<>(values));
+		}
+	}
+
+	/**
+	 * Appends values to the group of the given key and creates the group if it does not exist.
+	 * The group of a concurrent multimap is created and appended to within
+	 * {@link ConcurrentHashMap#compute(Object, java.util.function.BiFunction)}, so a concurrent
+	 * {@link #remove(Object)} of the key either takes the appended values with the removed group
+	 * or the values are appended to a new group, but they are never lost
+	 *
+	 * @param key
+	 *            the key
+	 * @param appender
+	 *            the action that appends the values to the group
+	 */
+	private void append(final K key, final Consumer<List<V>> appender)
+	{
+		if (this.concurrent)
+		{
+			this.groups.compute(key, (absent, values) -> {
+				List<V> group = values;
+				if (group == null)
+				{
+					group = Collections.synchronizedList(new ArrayList<>());
+				}
+				appender.accept(group);
+				return group;
+			});
+			return;
+		}
+		List<V> values = this.groups.get(key);
+		if (values == null)
+		{
+			values = new ArrayList<>();
+			this.groups.put(key, values);
+		}
+		appender.accept(values);
+	}
+}
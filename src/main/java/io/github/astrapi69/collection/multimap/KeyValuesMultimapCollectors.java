@@ -0,0 +1,128 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.multimap;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The class {@link KeyValuesMultimapCollectors} provides {@link Collector}'s that group a stream
+ * directly into a {@link KeyValuesMultimap}, so the groups are built once without an intermediate
+ * map of lists and without a builder for every group
+ */
+public final class KeyValuesMultimapCollectors
+{
+
+	private KeyValuesMultimapCollectors()
+	{
+	}
+
+	/**
+	 * Factory method for create a collector that groups the elements of a stream by the key that
+	 * is extracted with the given key mapper into a {@link KeyValuesMultimap}
+	 *
+	 * @param <T>
+	 *            The generic type of the stream elements
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the values
+	 * @param keyMapper
+	 *            the function that extracts the key of an element
+	 * @param valueMapper
+	 *            the function that extracts the value of an element
+	 * @return the new collector
+	 */
+	public static <T, K, V> Collector<T, ?, KeyValuesMultimap<K, V>> groupingBy(
+		final Function<? super T, ? extends K> keyMapper,
+		final Function<? super T, ? extends V> valueMapper)
+	{
+		Objects.requireNonNull(keyMapper);
+		Objects.requireNonNull(valueMapper);
+		return Collector.of(KeyValuesMultimap::create,
+			(multimap, element) -> multimap.put(keyMapper.apply(element),
+				valueMapper.apply(element)),
+			KeyValuesMultimap::putAll, Collector.Characteristics.IDENTITY_FINISH);
+	}
+
+	/**
+	 * Factory method for create a concurrent collector that groups a stream of
+	 * {@link KeyValuePair}'s into a concurrent {@link KeyValuesMultimap}. A parallel stream
+	 * appends into one shared multimap, so the values of a group are in an undefined order. Null
+	 * keys are not allowed
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the values
+	 * @return the new collector
+	 */
+	public static <K, V> Collector<KeyValuePair<K, V>, ?, KeyValuesMultimap<K, V>>
+		toConcurrentMultimap()
+	{
+		return Collector.of(KeyValuesMultimap::concurrent, KeyValuesMultimap::add,
+			KeyValuesMultimap::putAll, Collector.Characteristics.IDENTITY_FINISH,
+			Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Factory method for create a collector that groups a stream of {@link KeyValuePair}'s into a
+	 * {@link KeyValuesMultimap}. The keys and the values of every group keep the encounter order
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the values
+	 * @return the new collector
+	 */
+	public static <K, V> Collector<KeyValuePair<K, V>, ?, KeyValuesMultimap<K, V>> toMultimap()
+	{
+		return Collector.of(KeyValuesMultimap::create, KeyValuesMultimap::add,
+			KeyValuesMultimap::putAll, Collector.Characteristics.IDENTITY_FINISH);
+	}
+
+	/**
+	 * Factory method for create a collector that groups a stream of {@link KeyValuePair}'s into a
+	 * list of {@link KeyValuesPair}'s, one for every key in encounter order. The values of every
+	 * {@link KeyValuesPair} are a read only view of the group and are not copied
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the values
+	 * @return the new collector
+	 */
+	public static <K, V> Collector<KeyValuePair<K, V>, ?, List<KeyValuesPair<K, V>>>
+		toKeyValuesPairs()
+	{
+		return Collector.of(KeyValuesMultimap::<K, V> create, KeyValuesMultimap::add,
+			KeyValuesMultimap::putAll, KeyValuesMultimap::toKeyValuesPairs);
+	}
+}
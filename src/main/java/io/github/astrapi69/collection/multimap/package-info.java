@@ -0,0 +1,5 @@
+/**
+ * This package provides a multimap that groups values by key and exposes the groups as
+ * {@link io.github.astrapi69.collection.pair.KeyValuesPair} views
+ */
+package io.github.astrapi69.collection.multimap;
@@ -0,0 +1,710 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import io.github.astrapi69.collection.codec.Codec;
+import io.github.astrapi69.collection.pair.KeyValuePair;
+
+/**
+ * The class {@link OffHeapKeyValueStore} stores key value pairs encoded with the given key and
+ * value {@link Codec}'s in direct {@link ByteBuffer} segments outside of the java heap. The hash
+ * index for the lookup by key is also kept in direct buffers, so the heap usage of the store does
+ * not grow with the number of stored entries. A {@link KeyValuePair} is only decoded on demand.
+ * <br>
+ * <br>
+ * The store is append only. Putting an already stored key appends a new record and points the
+ * index to it, the bytes of the old record are not reclaimed. The store is not thread safe for
+ * writes, but after the last write any number of threads can read concurrently.
+ *
+ * @param <K>
+ *            the generic type of the keys
+ * @param <V>
+ *            the generic type of the values
+ */
+public final class OffHeapKeyValueStore<K, V>
+	implements
+		Iterable<KeyValuePair<K, V>>,
+		AutoCloseable
+{
+
+	/**
+	 * The default size in bytes of a data segment
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * The default number of expected entries
+	 */
+	public static final int DEFAULT_EXPECTED_SIZE = 1024;
+
+	/**
+	 * The number of bytes of one index slot, an int for the hash and a long for the address
+	 */
+	private static final int SLOT_SIZE = Integer.BYTES + Long.BYTES;
+
+	/**
+	 * The number of index slots in one index chunk
+	 */
+	private static final int CHUNK_SLOTS = 1 << 20;
+
+	/**
+	 * The maximum number of index slots
+	 */
+	private static final int MAX_SLOTS = 1 << 30;
+
+	/** The codec for the keys. */
+	private final Codec<K> keyCodec;
+
+	/** The codec for the values. */
+	private final Codec<V> valueCodec;
+
+	/** The size in bytes of a data segment. */
+	private final int segmentSize;
+
+	/** The number of bytes of the length header of a record. */
+	private final int headerLength;
+
+	/** The data segments. */
+	private final List<ByteBuffer> segments = new ArrayList<>();
+
+	/** The reusable buffers for the encoded lookup keys. */
+	private final ThreadLocal<ByteBuffer> lookupBuffers = new ThreadLocal<>();
+
+	/** The write offset in the current data segment. */
+	private int writeOffset;
+
+	/** The chunks of the hash index. */
+	private ByteBuffer[] index;
+
+	/** The number of index slots, always a power of two. */
+	private int slotCount;
+
+	/** The number of stored keys. */
+	private int size;
+
+	/** The flag if this store is closed. */
+	private boolean closed;
+
+	/**
+	 * Instantiates a new {@link OffHeapKeyValueStore}
+	 *
+	 * @param keyCodec
+	 *            the codec for the keys
+	 * @param valueCodec
+	 *            the codec for the values
+	 * @param segmentSize
+	 *            the size in bytes of a data segment
+	 * @param expectedSize
+	 *            the number of expected entries
+	 */
+	OffHeapKeyValueStore(final Codec<K> keyCodec, final Codec<V> valueCodec,
+		final int segmentSize, final int expectedSize)
+	{
+		this.keyCodec = keyCodec;
+		this.valueCodec = valueCodec;
+		this.segmentSize = segmentSize;
+		this.headerLength = (keyCodec.isFixedWidth() ? 0 : Integer.BYTES)
+			+ (valueCodec.isFixedWidth() ? 0 : Integer.BYTES);
+		int slots = 16;
+		while (slots < MAX_SLOTS && slots / 2 < expectedSize)
+		{
+			slots <<= 1;
+		}
+		this.index = newIndex(slots);
+		this.slotCount = slots;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <K>
+	 *            the generic type of the keys
+	 * @param <V>
+	 *            the generic type of the values
+	 * @return the off heap key value store builder
+	 */
+	public static <K, V> OffHeapKeyValueStoreBuilder<K, V> builder()
+	{
+		return new OffHeapKeyValueStoreBuilder<>();
+	}
+
+	/**
+	 * Computes the spread hash of the encoded key in the given region. The hash is computed from
+	 * the encoded bytes and not from {@link Object#hashCode()}, because the key codec defines the
+	 * equality of the keys, for instance of byte array keys
+	 *
+	 * @param buffer
+	 *            the buffer of the region
+	 * @param offset
+	 *            the offset of the region
+	 * @param length
+	 *            the length of the region
+	 * @return the spread hash
+	 */
+	private static int hash(final ByteBuffer buffer, final int offset, final int length)
+	{
+		int h = 1;
+		for (int i = offset; i < offset + length; i++)
+		{
+			h = 31 * h + buffer.get(i);
+		}
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Allocates the chunks of a new index with the given number of slots
+	 *
+	 * @param slots
+	 *            the number of slots
+	 * @return the chunks of the new index
+	 */
+	private static ByteBuffer[] newIndex(final int slots)
+	{
+		final int chunkSlots = Math.min(slots, CHUNK_SLOTS);
+		final ByteBuffer[] chunks = new ByteBuffer[slots / chunkSlots];
+		for (int i = 0; i < chunks.length; i++)
+		{
+			chunks[i] = ByteBuffer.allocateDirect(chunkSlots * SLOT_SIZE);
+		}
+		return chunks;
+	}
+
+	/**
+	 * Gets the number of off heap bytes that are allocated by this store
+	 *
+	 * @return the number of allocated off heap bytes
+	 */
+	public long allocatedBytes()
+	{
+		return (long)this.segments.size() * this.segmentSize
+			+ (long)this.slotCount * SLOT_SIZE;
+	}
+
+	/**
+	 * Releases all segments and the index of this store. The off heap memory is freed as soon as
+	 * the garbage collector collects the released buffers
+	 */
+	@Override
+	public void close()
+	{
+		this.closed = true;
+		this.segments.clear();
+		this.index = new ByteBuffer[0];
+		this.slotCount = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Checks if the given key is stored
+	 *
+	 * @param key
+	 *            the key
+	 * @return true, if the key is stored
+	 */
+	public boolean containsKey(final K key)
+	{
+		return find(key) != 0L;
+	}
+
+	/**
+	 * Gets the decoded value for the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the decoded value or null if the key is not stored
+	 */
+	public V get(final K key)
+	{
+		final long address = find(key);
+		if (address == 0L)
+		{
+			return null;
+		}
+		return decodeValue(address - 1);
+	}
+
+	/**
+	 * Gets a new {@link KeyValuePair} with the given key and the decoded value
+	 *
+	 * @param key
+	 *            the key
+	 * @return the new {@link KeyValuePair} or null if the key is not stored
+	 */
+	public KeyValuePair<K, V> getKeyValuePair(final K key)
+	{
+		final long address = find(key);
+		if (address == 0L)
+		{
+			return null;
+		}
+		return new KeyValuePair<>(key, decodeValue(address - 1));
+	}
+
+	/**
+	 * Checks if this store is empty
+	 *
+	 * @return true, if no key is stored
+	 */
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	/**
+	 * Returns an iterator that decodes every stored entry on demand to a new {@link KeyValuePair}.
+	 * The iteration order is unspecified and the iterator must not be used while the store is
+	 * modified
+	 *
+	 * @return the iterator
+	 */
+	@Override
+	public Iterator<KeyValuePair<K, V>> iterator()
+	{
+		return new Iterator<>()
+		{
+
+			private int nextSlot = advance(0);
+
+			@Override
+			public boolean hasNext()
+			{
+				return this.nextSlot < slotCount;
+			}
+
+			@Override
+			public KeyValuePair<K, V> next()
+			{
+				if (!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				final long address = addressAt(this.nextSlot) - 1;
+				this.nextSlot = advance(this.nextSlot + 1);
+				return new KeyValuePair<>(decodeKey(address), decodeValue(address));
+			}
+
+			private int advance(final int slot)
+			{
+				int current = slot;
+				while (current < slotCount && addressAt(current) == 0L)
+				{
+					current++;
+				}
+				return current;
+			}
+		};
+	}
+
+	/**
+	 * Stores the given key with the given value
+	 *
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	public void put(final K key, final V value)
+	{
+		Objects.requireNonNull(key, "key is marked non-null but is null");
+		if (this.closed)
+		{
+			throw new IllegalStateException("The store is closed");
+		}
+		final int keyLength = this.keyCodec.encodedLength(key);
+		final int valueLength = this.valueCodec.encodedLength(value);
+		final long recordLength = (long)this.headerLength + keyLength + valueLength;
+		if (this.segmentSize < recordLength)
+		{
+			throw new IllegalArgumentException("The record with " + recordLength
+				+ " bytes does not fit in a segment with " + this.segmentSize + " bytes");
+		}
+		if (this.segments.isEmpty() || this.segmentSize < this.writeOffset + recordLength)
+		{
+			this.segments.add(ByteBuffer.allocateDirect(this.segmentSize));
+			this.writeOffset = 0;
+		}
+		final int segmentIndex = this.segments.size() - 1;
+		final ByteBuffer segment = this.segments.get(segmentIndex);
+		final int offset = this.writeOffset;
+		int position = offset;
+		if (!this.keyCodec.isFixedWidth())
+		{
+			segment.putInt(position, keyLength);
+			position += Integer.BYTES;
+		}
+		if (!this.valueCodec.isFixedWidth())
+		{
+			segment.putInt(position, valueLength);
+			position += Integer.BYTES;
+		}
+		this.keyCodec.encode(key, segment, position);
+		this.valueCodec.encode(value, segment, position + keyLength);
+		this.writeOffset = (int)(offset + recordLength);
+
+		final long address = ((long)segmentIndex << 32) | offset;
+		final int hash = hash(segment, position, keyLength);
+		final int mask = this.slotCount - 1;
+		int slot = hash & mask;
+		long stored;
+		while ((stored = addressAt(slot)) != 0L)
+		{
+			if (hashAt(slot) == hash
+				&& regionEquals(segment, position, keyLength, stored - 1))
+			{
+				setSlot(slot, hash, address + 1);
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		setSlot(slot, hash, address + 1);
+		this.size++;
+		if (this.slotCount / 2 < this.size)
+		{
+			resize();
+		}
+	}
+
+	/**
+	 * Stores all given {@link KeyValuePair}'s
+	 *
+	 * @param keyValuePairs
+	 *            the key value pairs
+	 */
+	public void putAll(final Collection<KeyValuePair<K, V>> keyValuePairs)
+	{
+		for (final KeyValuePair<K, V> keyValuePair : keyValuePairs)
+		{
+			put(keyValuePair.getKey(), keyValuePair.getValue());
+		}
+	}
+
+	/**
+	 * Gets the number of stored keys
+	 *
+	 * @return the number of stored keys
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "OffHeapKeyValueStore(size=" + this.size + ", segments=" + this.segments.size()
+			+ ", allocatedBytes=" + allocatedBytes() + ")";
+	}
+
+	/**
+	 * Gets the address with the offset of one stored in the given slot or 0 if the slot is empty
+	 *
+	 * @param slot
+	 *            the slot
+	 * @return the stored address with the offset of one
+	 */
+	private long addressAt(final int slot)
+	{
+		return this.index[slot / CHUNK_SLOTS].getLong((slot % CHUNK_SLOTS) * SLOT_SIZE
+			+ Integer.BYTES);
+	}
+
+	private K decodeKey(final long address)
+	{
+		final ByteBuffer segment = segmentOf(address);
+		final int offset = (int)address;
+		return this.keyCodec.decode(segment, offset + this.headerLength,
+			keyLength(segment, offset));
+	}
+
+	private V decodeValue(final long address)
+	{
+		final ByteBuffer segment = segmentOf(address);
+		final int offset = (int)address;
+		final int keyLength = keyLength(segment, offset);
+		final int valueLength;
+		if (this.valueCodec.isFixedWidth())
+		{
+			valueLength = this.valueCodec.fixedWidth();
+		}
+		else
+		{
+			valueLength = segment
+				.getInt(this.keyCodec.isFixedWidth() ? offset : offset + Integer.BYTES);
+		}
+		return this.valueCodec.decode(segment, offset + this.headerLength + keyLength,
+			valueLength);
+	}
+
+	/**
+	 * Finds the address of the record of the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the address with the offset of one or 0 if the key is not stored
+	 */
+	private long find(final K key)
+	{
+		if (key == null || this.size == 0)
+		{
+			return 0L;
+		}
+		final int keyLength = this.keyCodec.encodedLength(key);
+		ByteBuffer lookupBuffer = this.lookupBuffers.get();
+		if (lookupBuffer == null || lookupBuffer.capacity() < keyLength)
+		{
+			lookupBuffer = ByteBuffer.allocate(Math.max(keyLength, 64));
+			this.lookupBuffers.set(lookupBuffer);
+		}
+		this.keyCodec.encode(key, lookupBuffer, 0);
+		final int hash = hash(lookupBuffer, 0, keyLength);
+		final int mask = this.slotCount - 1;
+		int slot = hash & mask;
+		long stored;
+		while ((stored = addressAt(slot)) != 0L)
+		{
+			if (hashAt(slot) == hash && regionEquals(lookupBuffer, 0, keyLength, stored - 1))
+			{
+				return stored;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return 0L;
+	}
+
+	private int hashAt(final int slot)
+	{
+		return this.index[slot / CHUNK_SLOTS].getInt((slot % CHUNK_SLOTS) * SLOT_SIZE);
+	}
+
+	private int keyLength(final ByteBuffer segment, final int offset)
+	{
+		return this.keyCodec.isFixedWidth() ? this.keyCodec.fixedWidth() : segment.getInt(offset);
+	}
+
+	/**
+	 * Compares the given region with the encoded key of the record at the given address
+	 *
+	 * @param buffer
+	 *            the buffer of the region
+	 * @param offset
+	 *            the offset of the region
+	 * @param length
+	 *            the length of the region
+	 * @param address
+	 *            the address of the record
+	 * @return true, if the region is equal to the encoded key of the record
+	 */
+	private boolean regionEquals(final ByteBuffer buffer, final int offset, final int length,
+		final long address)
+	{
+		final ByteBuffer segment = segmentOf(address);
+		final int recordOffset = (int)address;
+		if (keyLength(segment, recordOffset) != length)
+		{
+			return false;
+		}
+		return buffer.slice(offset, length)
+			.mismatch(segment.slice(recordOffset + this.headerLength, length)) == -1;
+	}
+
+	/**
+	 * Doubles the number of index slots and reinserts all entries with their stored hashes
+	 */
+	private void resize()
+	{
+		if (MAX_SLOTS <= this.slotCount)
+		{
+			throw new IllegalStateException(
+				"The index of the store can not hold more than " + MAX_SLOTS / 2 + " keys");
+		}
+		final ByteBuffer[] oldIndex = this.index;
+		final int oldSlotCount = this.slotCount;
+		final int oldChunkSlots = Math.min(oldSlotCount, CHUNK_SLOTS);
+		this.slotCount = oldSlotCount << 1;
+		this.index = newIndex(this.slotCount);
+		final int mask = this.slotCount - 1;
+		for (int oldSlot = 0; oldSlot < oldSlotCount; oldSlot++)
+		{
+			final ByteBuffer chunk = oldIndex[oldSlot / oldChunkSlots];
+			final int position = (oldSlot % oldChunkSlots) * SLOT_SIZE;
+			final long stored = chunk.getLong(position + Integer.BYTES);
+			if (stored != 0L)
+			{
+				final int hash = chunk.getInt(position);
+				int slot = hash & mask;
+				while (addressAt(slot) != 0L)
+				{
+					slot = (slot + 1) & mask;
+				}
+				setSlot(slot, hash, stored);
+			}
+		}
+	}
+
+	private ByteBuffer segmentOf(final long address)
+	{
+		return this.segments.get((int)(address >>> 32));
+	}
+
+	private void setSlot(final int slot, final int hash, final long storedAddress)
+	{
+		final ByteBuffer chunk = this.index[slot / CHUNK_SLOTS];
+		final int position = (slot % CHUNK_SLOTS) * SLOT_SIZE;
+		chunk.putInt(position, hash);
+		chunk.putLong(position + Integer.BYTES, storedAddress);
+	}
+
+	/**
+	 * The class {@link OffHeapKeyValueStoreBuilder}.
+	 *
+	 * @param <K>
+	 *            the generic type of the keys
+	 * @param <V>
+	 *            the generic type of the values
+	 */
+	public static class OffHeapKeyValueStoreBuilder<K, V>
+	{
+
+		/** The codec for the keys. */
+		private Codec<K> keyCodec;
+
+		/** The codec for the values. */
+		private Codec<V> valueCodec;
+
+		/** The size in bytes of a data segment. */
+		private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+		/** The number of expected entries. */
+		private int expectedSize = DEFAULT_EXPECTED_SIZE;
+
+		/**
+		 * Instantiates a new off heap key value store builder.
+		 */
+		OffHeapKeyValueStoreBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the off heap key value store
+		 */
+		public OffHeapKeyValueStore<K, V> build()
+		{
+			if (keyCodec == null)
+			{
+				throw new NullPointerException("keyCodec is marked non-null but is null");
+			}
+			if (valueCodec == null)
+			{
+				throw new NullPointerException("valueCodec is marked non-null but is null");
+			}
+			return new OffHeapKeyValueStore<>(keyCodec, valueCodec, segmentSize, expectedSize);
+		}
+
+		/**
+		 * The number of expected entries for the initial size of the index
+		 *
+		 * @param expectedSize
+		 *            the number of expected entries
+		 * @return the off heap key value store builder
+		 */
+		public OffHeapKeyValueStoreBuilder<K, V> expectedSize(final int expectedSize)
+		{
+			if (expectedSize < 0)
+			{
+				throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+			}
+			this.expectedSize = expectedSize;
+			return this;
+		}
+
+		/**
+		 * The codec for the keys.
+		 *
+		 * @param keyCodec
+		 *            the codec for the keys
+		 * @return the off heap key value store builder
+		 */
+		public OffHeapKeyValueStoreBuilder<K, V> keyCodec(final Codec<K> keyCodec)
+		{
+			this.keyCodec = keyCodec;
+			return this;
+		}
+
+		/**
+		 * The size in bytes of a data segment. Every encoded entry has to fit in one segment
+		 *
+		 * @param segmentSize
+		 *            the size in bytes of a data segment
+		 * @return the off heap key value store builder
+		 */
+		public OffHeapKeyValueStoreBuilder<K, V> segmentSize(final int segmentSize)
+		{
+			if (segmentSize <= 0)
+			{
+				throw new IllegalArgumentException("Illegal segment size: " + segmentSize);
+			}
+			this.segmentSize = segmentSize;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "OffHeapKeyValueStore.OffHeapKeyValueStoreBuilder(keyCodec=" + this.keyCodec
+				+ ", valueCodec=" + this.valueCodec + ", segmentSize=" + this.segmentSize
+				+ ", expectedSize=" + this.expectedSize + ")";
+		}
+
+		/**
+		 * The codec for the values.
+		 *
+		 * @param valueCodec
+		 *            the codec for the values
+		 * @return the off heap key value store builder
+		 */
+		public OffHeapKeyValueStoreBuilder<K, V> valueCodec(final Codec<V> valueCodec)
+		{
+			this.valueCodec = valueCodec;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * This package provides stores that keep key value pairs outside of the java heap
+ */
+package io.github.astrapi69.collection.offheap;
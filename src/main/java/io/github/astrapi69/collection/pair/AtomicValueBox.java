@@ -0,0 +1,475 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * The class {@link AtomicValueBox} represents one value with a generic parameter for the value
+ * that can be read and updated atomically from several threads without locking. It is the
+ * concurrent sibling of {@link ValueBox} with the same builder, equality and serialization
+ * contract. The value is accessed through a {@link VarHandle}, so besides the volatile access of
+ * {@link #getValue()} and {@link #setValue(Object)} the weaker acquire, release and opaque access
+ * modes are available. Like {@link java.util.concurrent.atomic.AtomicReference} the compare and
+ * set operations compare the values by identity
+ *
+ * @param <T>
+ *            The type of the value.
+ */
+public class AtomicValueBox<T> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The var handle of the value.
+	 */
+	private static final VarHandle VALUE;
+
+	static
+	{
+		try
+		{
+			VALUE = MethodHandles.lookup().findVarHandle(AtomicValueBox.class, "value",
+				Object.class);
+		}
+		catch (final ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * The value.
+	 */
+	private volatile T value;
+
+	/**
+	 * Instantiates a new atomic value box.
+	 */
+	public AtomicValueBox()
+	{
+	}
+
+	/**
+	 * Instantiates a new atomic value box.
+	 *
+	 * @param value
+	 *            the value
+	 */
+	public AtomicValueBox(final T value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @return the atomic value box builder
+	 */
+	public static <T> AtomicValueBoxBuilder<T> builder()
+	{
+		return new AtomicValueBoxBuilder<>();
+	}
+
+	/**
+	 * Atomically updates the value with the result of the given function applied to the current
+	 * value and the given value. The function may be applied several times when threads contend,
+	 * so it should be free of side effects
+	 *
+	 * @param x
+	 *            the value to accumulate
+	 * @param accumulatorFunction
+	 *            the function that combines the current value and the given value
+	 * @return the updated value
+	 */
+	public final T accumulateAndGet(final T x, final BinaryOperator<T> accumulatorFunction)
+	{
+		T previous = getValue();
+		T next = null;
+		for (boolean haveNext = false;;)
+		{
+			if (!haveNext)
+			{
+				next = accumulatorFunction.apply(previous, x);
+			}
+			if (weakCompareAndSetVolatile(previous, next))
+			{
+				return next;
+			}
+			haveNext = previous == (previous = getValue());
+		}
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof AtomicValueBox;
+	}
+
+	/**
+	 * Atomically sets the value to the given new value if the current value is identical to the
+	 * given expected value
+	 *
+	 * @param expectedValue
+	 *            the expected value
+	 * @param newValue
+	 *            the new value
+	 * @return true if the value was set
+	 */
+	public final boolean compareAndSet(final T expectedValue, final T newValue)
+	{
+		return VALUE.compareAndSet(this, expectedValue, newValue);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof AtomicValueBox))
+		{
+			return false;
+		}
+		final AtomicValueBox<?> other = (AtomicValueBox<?>)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		final Object this$value = this.getValue();
+		final Object other$value = other.getValue();
+		if (this$value == null ? other$value != null : !this$value.equals(other$value))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Atomically updates the value with the result of the given function applied to the current
+	 * value and the given value. The function may be applied several times when threads contend,
+	 * so it should be free of side effects
+	 *
+	 * @param x
+	 *            the value to accumulate
+	 * @param accumulatorFunction
+	 *            the function that combines the current value and the given value
+	 * @return the previous value
+	 */
+	public final T getAndAccumulate(final T x, final BinaryOperator<T> accumulatorFunction)
+	{
+		T previous = getValue();
+		T next = null;
+		for (boolean haveNext = false;;)
+		{
+			if (!haveNext)
+			{
+				next = accumulatorFunction.apply(previous, x);
+			}
+			if (weakCompareAndSetVolatile(previous, next))
+			{
+				return previous;
+			}
+			haveNext = previous == (previous = getValue());
+		}
+	}
+
+	/**
+	 * Atomically sets the value to the given new value
+	 *
+	 * @param newValue
+	 *            the new value
+	 * @return the previous value
+	 */
+	@SuppressWarnings("unchecked")
+	public final T getAndSet(final T newValue)
+	{
+		return (T)VALUE.getAndSet(this, newValue);
+	}
+
+	/**
+	 * Atomically updates the value with the result of the given function applied to the current
+	 * value. The function may be applied several times when threads contend, so it should be free
+	 * of side effects
+	 *
+	 * @param updateFunction
+	 *            the function that computes the new value from the current value
+	 * @return the previous value
+	 */
+	public final T getAndUpdate(final UnaryOperator<T> updateFunction)
+	{
+		T previous = getValue();
+		T next = null;
+		for (boolean haveNext = false;;)
+		{
+			if (!haveNext)
+			{
+				next = updateFunction.apply(previous);
+			}
+			if (weakCompareAndSetVolatile(previous, next))
+			{
+				return previous;
+			}
+			haveNext = previous == (previous = getValue());
+		}
+	}
+
+	/**
+	 * Gets the value with acquire semantics, later reads and writes of the current thread are not
+	 * reordered before this read
+	 *
+	 * @return the value
+	 */
+	@SuppressWarnings("unchecked")
+	public final T getAcquire()
+	{
+		return (T)VALUE.getAcquire(this);
+	}
+
+	/**
+	 * Gets the value with opaque semantics, the read is atomic and not eliminated but gives no
+	 * ordering guarantee to other variables
+	 *
+	 * @return the value
+	 */
+	@SuppressWarnings("unchecked")
+	public final T getOpaque()
+	{
+		return (T)VALUE.getOpaque(this);
+	}
+
+	/**
+	 * The value, read with volatile semantics.
+	 *
+	 * @return the value
+	 */
+	public T getValue()
+	{
+		return this.value;
+	}
+
+	/**
+	 * The value, written with volatile semantics.
+	 *
+	 * @param value
+	 *            the new value
+	 */
+	public void setValue(final T value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		final Object $value = this.getValue();
+		result = strategy.combine(result, TupleHashStrategy.hashOf($value));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Sets the value with opaque semantics, the write is atomic and eventually visible but gives
+	 * no ordering guarantee to other variables
+	 *
+	 * @param newValue
+	 *            the new value
+	 */
+	public final void setOpaque(final T newValue)
+	{
+		VALUE.setOpaque(this, newValue);
+	}
+
+	/**
+	 * Sets the value with release semantics, earlier reads and writes of the current thread are
+	 * not reordered after this write
+	 *
+	 * @param newValue
+	 *            the new value
+	 */
+	public final void setRelease(final T newValue)
+	{
+		VALUE.setRelease(this, newValue);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the atomic value box builder
+	 */
+	public AtomicValueBoxBuilder<T> toBuilder()
+	{
+		return new AtomicValueBoxBuilder<T>().value(getValue());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "AtomicValueBox(value=" + this.getValue() + ")";
+	}
+
+	/**
+	 * Creates a new {@link ValueBox} with the current value of this atomic value box
+	 *
+	 * @return the new {@link ValueBox}
+	 */
+	public ValueBox<T> toValueBox()
+	{
+		return new ValueBox<>(getValue());
+	}
+
+	/**
+	 * Atomically updates the value with the result of the given function applied to the current
+	 * value. The function may be applied several times when threads contend, so it should be free
+	 * of side effects
+	 *
+	 * @param updateFunction
+	 *            the function that computes the new value from the current value
+	 * @return the updated value
+	 */
+	public final T updateAndGet(final UnaryOperator<T> updateFunction)
+	{
+		T previous = getValue();
+		T next = null;
+		for (boolean haveNext = false;;)
+		{
+			if (!haveNext)
+			{
+				next = updateFunction.apply(previous);
+			}
+			if (weakCompareAndSetVolatile(previous, next))
+			{
+				return next;
+			}
+			haveNext = previous == (previous = getValue());
+		}
+	}
+
+	/**
+	 * Possibly atomically sets the value to the given new value if the current value is identical
+	 * to the given expected value. The operation may fail spuriously, so it is meant for retry
+	 * loops
+	 *
+	 * @param expectedValue
+	 *            the expected value
+	 * @param newValue
+	 *            the new value
+	 * @return true if the value was set
+	 */
+	public final boolean weakCompareAndSetVolatile(final T expectedValue, final T newValue)
+	{
+		return VALUE.weakCompareAndSet(this, expectedValue, newValue);
+	}
+
+	/**
+	 * Replaces this atomic value box with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.ATOMIC_VALUE_BOX, this);
+	}
+
+	/**
+	 * The class {@link AtomicValueBoxBuilder}.
+	 *
+	 * @param <T>
+	 *            the generic type
+	 */
+	public static class AtomicValueBoxBuilder<T>
+	{
+
+		/** The value. */
+		private T value;
+
+		/**
+		 * Instantiates a new atomic value box builder.
+		 */
+		AtomicValueBoxBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the atomic value box
+		 */
+		public AtomicValueBox<T> build()
+		{
+			return new AtomicValueBox<>(value);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "AtomicValueBox.AtomicValueBoxBuilder(value=" + this.value + ")";
+		}
+
+		/**
+		 * The value.
+		 *
+		 * @param value
+		 *            the value
+		 * @return the atomic value box builder
+		 */
+		public AtomicValueBoxBuilder<T> value(final T value)
+		{
+			this.value = value;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link DoubleBox} represents one mutable primitive double value. It is the unboxed
+ * counterpart of a {@link ValueBox} with a {@link Double} value, the add, max and min operations
+ * update the value in place without creating a wrapper object, so it can be used as counter or
+ * accumulator in lambdas and hot loops.
+ */
+public class DoubleBox implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The value.
+	 */
+	private double value;
+
+	/**
+	 * Instantiates a new double box.
+	 */
+	public DoubleBox()
+	{
+	}
+
+	/**
+	 * Instantiates a new double box.
+	 *
+	 * @param value
+	 *            the value
+	 */
+	public DoubleBox(final double value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @return the double box builder
+	 */
+	public static DoubleBoxBuilder builder()
+	{
+		return new DoubleBoxBuilder();
+	}
+
+	/**
+	 * Factory method for create a new {@link DoubleBox} from the given {@link ValueBox}
+	 *
+	 * @param valueBox
+	 *            the value box with the boxed value
+	 * @return the new {@link DoubleBox}
+	 * @throws NullPointerException
+	 *             if the value of the given value box is null
+	 */
+	public static DoubleBox of(final ValueBox<Double> valueBox)
+	{
+		return new DoubleBox(valueBox.getValue());
+	}
+
+	/**
+	 * Adds the given value in place
+	 *
+	 * @param delta
+	 *            the value to add
+	 * @return the updated value
+	 */
+	public double addAndGet(final double delta)
+	{
+		this.value += delta;
+		return this.value;
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof DoubleBox;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof DoubleBox))
+		{
+			return false;
+		}
+		final DoubleBox other = (DoubleBox)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		return Double.compare(this.value, other.value) == 0;
+	}
+
+	/**
+	 * Adds the given value in place
+	 *
+	 * @param delta
+	 *            the value to add
+	 * @return the previous value
+	 */
+	public double getAndAdd(final double delta)
+	{
+		final double previous = this.value;
+		this.value += delta;
+		return previous;
+	}
+
+	/**
+	 * The value.
+	 *
+	 * @return the value
+	 */
+	public double getValue()
+	{
+		return this.value;
+	}
+
+	/**
+	 * The value.
+	 *
+	 * @param value
+	 *            the new value
+	 */
+	public void setValue(final double value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The hash code is the same as the hash code of the corresponding boxed {@link ValueBox}
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, Double.hashCode(this.value));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Sets the value to the maximum of the value and the given value in place
+	 *
+	 * @param other
+	 *            the other value
+	 * @return the updated value
+	 */
+	public double max(final double other)
+	{
+		this.value = Math.max(this.value, other);
+		return this.value;
+	}
+
+	/**
+	 * Sets the value to the minimum of the value and the given value in place
+	 *
+	 * @param other
+	 *            the other value
+	 * @return the updated value
+	 */
+	public double min(final double other)
+	{
+		this.value = Math.min(this.value, other);
+		return this.value;
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the double box builder
+	 */
+	public DoubleBoxBuilder toBuilder()
+	{
+		return new DoubleBoxBuilder().value(this.value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "DoubleBox(value=" + this.getValue() + ")";
+	}
+
+	/**
+	 * Converts this box to a {@link ValueBox} with the boxed value
+	 *
+	 * @return the new {@link ValueBox}
+	 */
+	public ValueBox<Double> toValueBox()
+	{
+		return new ValueBox<>(this.value);
+	}
+
+	/**
+	 * Replaces this double box with a {@link TupleSerializationProxy} that writes a compact binary
+	 * layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.DOUBLE_BOX, this);
+	}
+
+	/**
+	 * The class {@link DoubleBoxBuilder}.
+	 */
+	public static class DoubleBoxBuilder
+	{
+
+		/** The value. */
+		private double value;
+
+		/**
+		 * Instantiates a new double box builder.
+		 */
+		DoubleBoxBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the double box
+		 */
+		public DoubleBox build()
+		{
+			return new DoubleBox(value);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "DoubleBox.DoubleBoxBuilder(value=" + this.value + ")";
+		}
+
+		/**
+		 * The value.
+		 *
+		 * @param value
+		 *            the value
+		 * @return the double box builder
+		 */
+		public DoubleBoxBuilder value(final double value)
+		{
+			this.value = value;
+			return this;
+		}
+	}
+}
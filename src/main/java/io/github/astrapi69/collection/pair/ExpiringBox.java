@@ -0,0 +1,684 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The class {@link ExpiringBox} represents one value with a generic parameter that is loaded from
+ * a {@link Supplier} and expires after a time to live. It is meant for values that are reloaded
+ * periodically like feature lists or rate tables.<br>
+ * <br>
+ * The value is loaded on the first access. When the age of the value enters the refresh ahead
+ * window before the expiration, the next read starts one asynchronous reload on the executor and
+ * readers keep getting the current value without locking until the reloaded value is published.
+ * Only when the value has expired, because no reload was published in time, a reader loads the
+ * value in the calling thread and concurrent readers wait for it. All loads run under the monitor
+ * of the box, so the loader never runs twice at the same time, and a reload that was started for
+ * a value that was replaced in the meantime is skipped. A failed asynchronous reload keeps the
+ * current value and is retried by the first read after the retry backoff.<br>
+ * <br>
+ * The number of loads, the number of failures and the latency of the last load are exposed for
+ * monitoring. The loaded values must not be null
+ *
+ * @param <T>
+ *            The type of the value.
+ */
+public final class ExpiringBox<T> implements Supplier<T>
+{
+
+	/**
+	 * The var handle of the entry.
+	 */
+	private static final VarHandle ENTRY;
+
+	static
+	{
+		try
+		{
+			ENTRY = MethodHandles.lookup().findVarHandle(ExpiringBox.class, "entry", Entry.class);
+		}
+		catch (final ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * The loader of the value.
+	 */
+	private final Supplier<? extends T> loader;
+
+	/**
+	 * The time to live of a loaded value in nanoseconds.
+	 */
+	private final long timeToLiveNanos;
+
+	/**
+	 * The age of a loaded value in nanoseconds from which on the value is reloaded asynchronously.
+	 */
+	private final long refreshAfterNanos;
+
+	/**
+	 * The time in nanoseconds after a failed asynchronous reload before the next one is started.
+	 */
+	private final long retryBackoffNanos;
+
+	/**
+	 * The executor of the asynchronous reloads.
+	 */
+	private final Executor executor;
+
+	/**
+	 * The ticker that provides the current time in nanoseconds.
+	 */
+	private final LongSupplier ticker;
+
+	/**
+	 * The flag if an asynchronous reload is running.
+	 */
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	/**
+	 * The number of successful loads.
+	 */
+	private final AtomicLong loadCount = new AtomicLong();
+
+	/**
+	 * The number of failed loads.
+	 */
+	private final AtomicLong failureCount = new AtomicLong();
+
+	/**
+	 * The current loaded value or null if no value is loaded yet.
+	 */
+	private volatile Entry<T> entry;
+
+	/**
+	 * The latency of the last successful load in nanoseconds.
+	 */
+	private volatile long lastLoadLatencyNanos;
+
+	/**
+	 * The exception of the last failed load.
+	 */
+	private volatile Throwable lastFailure;
+
+	/**
+	 * Instantiates a new expiring box.
+	 *
+	 * @param loader
+	 *            the loader of the value
+	 * @param timeToLive
+	 *            the time to live of a loaded value
+	 * @param refreshAhead
+	 *            the window before the expiration in which the value is reloaded asynchronously
+	 * @param retryBackoff
+	 *            the time after a failed asynchronous reload before the next one is started or
+	 *            null for a quarter of the refresh ahead window
+	 * @param executor
+	 *            the executor of the asynchronous reloads
+	 * @param ticker
+	 *            the ticker that provides the current time in nanoseconds
+	 */
+	ExpiringBox(final Supplier<? extends T> loader, final Duration timeToLive,
+		final Duration refreshAhead, final Duration retryBackoff, final Executor executor,
+		final LongSupplier ticker)
+	{
+		if (loader == null)
+		{
+			throw new NullPointerException("loader is marked non-null but is null");
+		}
+		if (timeToLive == null)
+		{
+			throw new NullPointerException("timeToLive is marked non-null but is null");
+		}
+		if (refreshAhead == null)
+		{
+			throw new NullPointerException("refreshAhead is marked non-null but is null");
+		}
+		if (executor == null)
+		{
+			throw new NullPointerException("executor is marked non-null but is null");
+		}
+		if (ticker == null)
+		{
+			throw new NullPointerException("ticker is marked non-null but is null");
+		}
+		if (timeToLive.isNegative() || timeToLive.isZero())
+		{
+			throw new IllegalArgumentException("timeToLive must be positive but is " + timeToLive);
+		}
+		if (refreshAhead.isNegative() || refreshAhead.compareTo(timeToLive) >= 0)
+		{
+			throw new IllegalArgumentException(
+				"refreshAhead must be between zero and timeToLive but is " + refreshAhead);
+		}
+		if (retryBackoff != null && retryBackoff.isNegative())
+		{
+			throw new IllegalArgumentException(
+				"retryBackoff must not be negative but is " + retryBackoff);
+		}
+		this.loader = loader;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.refreshAfterNanos = this.timeToLiveNanos - refreshAhead.toNanos();
+		if (retryBackoff == null)
+		{
+			this.retryBackoffNanos = refreshAhead.toNanos() / 4;
+		}
+		else
+		{
+			this.retryBackoffNanos = retryBackoff.toNanos();
+		}
+		this.executor = executor;
+		this.ticker = ticker;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @return the expiring box builder
+	 */
+	public static <T> ExpiringBoxBuilder<T> builder()
+	{
+		return new ExpiringBoxBuilder<>();
+	}
+
+	/**
+	 * Factory method for create a new {@link ExpiringBox} with the given loader and time to live
+	 * and without asynchronous reloads
+	 *
+	 * @param <T>
+	 *            the generic type of the value
+	 * @param loader
+	 *            the loader of the value
+	 * @param timeToLive
+	 *            the time to live of a loaded value
+	 * @return the new {@link ExpiringBox}
+	 */
+	public static <T> ExpiringBox<T> of(final Supplier<? extends T> loader,
+		final Duration timeToLive)
+	{
+		return ExpiringBox.<T> builder().loader(loader).timeToLive(timeToLive).build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T get()
+	{
+		return getValue();
+	}
+
+	/**
+	 * Gets the number of failed loads, the failed asynchronous reloads and the reloads that the
+	 * executor rejected included
+	 *
+	 * @return the number of failed loads
+	 */
+	public long getFailureCount()
+	{
+		return this.failureCount.get();
+	}
+
+	/**
+	 * Gets the exception of the last failed load
+	 *
+	 * @return the exception of the last failed load or null if no load failed
+	 */
+	public Throwable getLastFailure()
+	{
+		return this.lastFailure;
+	}
+
+	/**
+	 * Gets the latency of the last successful load
+	 *
+	 * @return the latency of the last successful load or {@link Duration#ZERO} if no value was
+	 *         loaded yet
+	 */
+	public Duration getLastLoadLatency()
+	{
+		return Duration.ofNanos(this.lastLoadLatencyNanos);
+	}
+
+	/**
+	 * Gets the number of successful loads
+	 *
+	 * @return the number of successful loads
+	 */
+	public long getLoadCount()
+	{
+		return this.loadCount.get();
+	}
+
+	/**
+	 * Gets the time to live of a loaded value
+	 *
+	 * @return the time to live
+	 */
+	public Duration getTimeToLive()
+	{
+		return Duration.ofNanos(this.timeToLiveNanos);
+	}
+
+	/**
+	 * The value. Loads the value in the calling thread if no value is loaded yet or the loaded
+	 * value has expired and starts an asynchronous reload if the value is in the refresh ahead
+	 * window and no failed reload has to back off
+	 *
+	 * @return the value
+	 */
+	public T getValue()
+	{
+		final Entry<T> current = this.entry;
+		if (current != null)
+		{
+			final long now = this.ticker.getAsLong();
+			if (now - current.loadedAt < this.timeToLiveNanos)
+			{
+				if (now - current.refreshAt >= 0)
+				{
+					refresh(current);
+				}
+				return current.value;
+			}
+		}
+		return loadIfExpired();
+	}
+
+	/**
+	 * Checks if the loaded value has expired. This method never blocks and never loads the value
+	 *
+	 * @return true, if no value is loaded yet or the loaded value has expired
+	 */
+	public boolean isExpired()
+	{
+		final Entry<T> current = this.entry;
+		if (current == null)
+		{
+			return true;
+		}
+		return this.ticker.getAsLong() - current.loadedAt >= this.timeToLiveNanos;
+	}
+
+	/**
+	 * Checks if an asynchronous reload is running
+	 *
+	 * @return true, if an asynchronous reload is running
+	 */
+	public boolean isRefreshing()
+	{
+		return this.refreshing.get();
+	}
+
+	/**
+	 * Loads the value with the loader, publishes it and updates the statistics. It is only called
+	 * under the monitor of this box
+	 *
+	 * @return the loaded entry
+	 */
+	private Entry<T> load()
+	{
+		final long start = this.ticker.getAsLong();
+		final T value;
+		try
+		{
+			value = this.loader.get();
+			if (value == null)
+			{
+				throw new NullPointerException("value is marked non-null but is null");
+			}
+		}
+		catch (final RuntimeException | Error e)
+		{
+			this.failureCount.incrementAndGet();
+			this.lastFailure = e;
+			throw e;
+		}
+		final long end = this.ticker.getAsLong();
+		final Entry<T> loaded = new Entry<>(value, end, end + this.refreshAfterNanos);
+		this.entry = loaded;
+		this.lastLoadLatencyNanos = end - start;
+		this.loadCount.incrementAndGet();
+		return loaded;
+	}
+
+	/**
+	 * Loads the value in the calling thread if no other thread has loaded a value in the meantime
+	 *
+	 * @return the value
+	 */
+	private synchronized T loadIfExpired()
+	{
+		final Entry<T> current = this.entry;
+		if (current != null && this.ticker.getAsLong() - current.loadedAt < this.timeToLiveNanos)
+		{
+			return current.value;
+		}
+		return load().value;
+	}
+
+	/**
+	 * Starts an asynchronous reload of the value on the executor unless a reload is already
+	 * running. Readers keep getting the current value until the reloaded value is published
+	 *
+	 * @return true, if a reload was started
+	 */
+	public boolean refresh()
+	{
+		return refresh(this.entry);
+	}
+
+	/**
+	 * Starts an asynchronous reload of the given entry on the executor unless a reload is already
+	 * running
+	 *
+	 * @param trigger
+	 *            the entry that is reloaded
+	 * @return true, if a reload was started
+	 */
+	private boolean refresh(final Entry<T> trigger)
+	{
+		if (!this.refreshing.compareAndSet(false, true))
+		{
+			return false;
+		}
+		try
+		{
+			this.executor.execute(() -> runRefresh(trigger));
+			return true;
+		}
+		catch (final RejectedExecutionException e)
+		{
+			this.failureCount.incrementAndGet();
+			this.lastFailure = e;
+			backOff(trigger);
+			this.refreshing.set(false);
+			return false;
+		}
+	}
+
+	/**
+	 * Defers the next asynchronous reload of the given entry by the retry backoff, unless the
+	 * entry was replaced in the meantime
+	 *
+	 * @param trigger
+	 *            the entry whose reload failed
+	 */
+	private void backOff(final Entry<T> trigger)
+	{
+		if (trigger != null)
+		{
+			final long retryAt = this.ticker.getAsLong() + this.retryBackoffNanos;
+			ENTRY.compareAndSet(this, trigger,
+				new Entry<>(trigger.value, trigger.loadedAt, retryAt));
+		}
+	}
+
+	/**
+	 * Reloads the value if the given entry is still the current one, otherwise another thread
+	 * has loaded the value in the meantime
+	 *
+	 * @param trigger
+	 *            the entry that is reloaded
+	 */
+	private synchronized void reloadIfCurrent(final Entry<T> trigger)
+	{
+		if (this.entry == trigger)
+		{
+			load();
+		}
+	}
+
+	/**
+	 * Runs the asynchronous reload of the given entry. A failure is recorded by {@link #load()},
+	 * the current value is kept and the next reload backs off
+	 *
+	 * @param trigger
+	 *            the entry that is reloaded
+	 */
+	private void runRefresh(final Entry<T> trigger)
+	{
+		try
+		{
+			reloadIfCurrent(trigger);
+		}
+		catch (final RuntimeException e)
+		{
+			backOff(trigger);
+		}
+		finally
+		{
+			this.refreshing.set(false);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Note: the value is not loaded for the string representation
+	 */
+	@Override
+	public String toString()
+	{
+		final Entry<T> current = this.entry;
+		if (current == null)
+		{
+			return "ExpiringBox(value=<not loaded>, timeToLive=" + getTimeToLive() + ")";
+		}
+		return "ExpiringBox(value=" + current.value + ", timeToLive=" + getTimeToLive() + ")";
+	}
+
+	/**
+	 * The class {@link Entry} holds a loaded value with the time of its load and the time from
+	 * which on it is reloaded asynchronously
+	 *
+	 * @param <T>
+	 *            the generic type of the value
+	 */
+	private static final class Entry<T>
+	{
+
+		/** The value */
+		final T value;
+
+		/** The time of the load in nanoseconds */
+		final long loadedAt;
+
+		/** The time in nanoseconds from which on the value is reloaded asynchronously */
+		final long refreshAt;
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param value
+		 *            the value
+		 * @param loadedAt
+		 *            the time of the load in nanoseconds
+		 * @param refreshAt
+		 *            the time in nanoseconds from which on the value is reloaded asynchronously
+		 */
+		Entry(final T value, final long loadedAt, final long refreshAt)
+		{
+			this.value = value;
+			this.loadedAt = loadedAt;
+			this.refreshAt = refreshAt;
+		}
+	}
+
+	/**
+	 * The class {@link ExpiringBoxBuilder}.
+	 *
+	 * @param <T>
+	 *            the generic type
+	 */
+	public static class ExpiringBoxBuilder<T>
+	{
+
+		/** The loader. */
+		private Supplier<? extends T> loader;
+
+		/** The time to live. */
+		private Duration timeToLive;
+
+		/** The refresh ahead window. */
+		private Duration refreshAhead = Duration.ZERO;
+
+		/** The retry backoff. */
+		private Duration retryBackoff;
+
+		/** The executor. */
+		private Executor executor = ForkJoinPool.commonPool();
+
+		/** The ticker. */
+		private LongSupplier ticker = System::nanoTime;
+
+		/**
+		 * Instantiates a new expiring box builder.
+		 */
+		ExpiringBoxBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the expiring box
+		 */
+		public ExpiringBox<T> build()
+		{
+			return new ExpiringBox<>(loader, timeToLive, refreshAhead, retryBackoff, executor,
+				ticker);
+		}
+
+		/**
+		 * The executor of the asynchronous reloads. The default is the
+		 * {@link ForkJoinPool#commonPool()}, on java 21 and later a virtual thread per task
+		 * executor is a good fit for blocking loaders
+		 *
+		 * @param executor
+		 *            the executor
+		 * @return the expiring box builder
+		 */
+		public ExpiringBoxBuilder<T> executor(final Executor executor)
+		{
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * The loader of the value.
+		 *
+		 * @param loader
+		 *            the loader
+		 * @return the expiring box builder
+		 */
+		public ExpiringBoxBuilder<T> loader(final Supplier<? extends T> loader)
+		{
+			this.loader = loader;
+			return this;
+		}
+
+		/**
+		 * The window before the expiration in which the value is reloaded asynchronously. It must
+		 * be shorter than the time to live, the default is zero that means no asynchronous
+		 * reloads
+		 *
+		 * @param refreshAhead
+		 *            the refresh ahead window
+		 * @return the expiring box builder
+		 */
+		public ExpiringBoxBuilder<T> refreshAhead(final Duration refreshAhead)
+		{
+			this.refreshAhead = refreshAhead;
+			return this;
+		}
+
+		/**
+		 * The time after a failed asynchronous reload before the next one is started. The default
+		 * is a quarter of the refresh ahead window
+		 *
+		 * @param retryBackoff
+		 *            the retry backoff
+		 * @return the expiring box builder
+		 */
+		public ExpiringBoxBuilder<T> retryBackoff(final Duration retryBackoff)
+		{
+			this.retryBackoff = retryBackoff;
+			return this;
+		}
+
+		/**
+		 * The ticker that provides the current time in nanoseconds. The default is
+		 * {@link System#nanoTime()}
+		 *
+		 * @param ticker
+		 *            the ticker
+		 * @return the expiring box builder
+		 */
+		public ExpiringBoxBuilder<T> ticker(final LongSupplier ticker)
+		{
+			this.ticker = ticker;
+			return this;
+		}
+
+		/**
+		 * The time to live of a loaded value.
+		 *
+		 * @param timeToLive
+		 *            the time to live
+		 * @return the expiring box builder
+		 */
+		public ExpiringBoxBuilder<T> timeToLive(final Duration timeToLive)
+		{
+			this.timeToLive = timeToLive;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "ExpiringBox.ExpiringBoxBuilder(timeToLive=" + this.timeToLive
+				+ ", refreshAhead=" + this.refreshAhead + ", retryBackoff=" + this.retryBackoff
+				+ ")";
+		}
+	}
+}
@@ -128,11 +128,11 @@ public class ImmutableBox<T> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $value = this.getValue();
-		result = result * PRIME + ($value == null ? 43 : $value.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($value));
+		return strategy.finish(result);
 	}
 
 	/**
@@ -154,6 +154,17 @@ public class ImmutableBox<T> implements Serializable
 		return "ImmutableBox(value=" + this.getValue() + ")";
 	}
 
+	/**
+	 * Replaces this immutable box with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.IMMUTABLE_BOX, this);
+	}
+
 	/**
 	 * The class {@link ImmutableBoxBuilder}.
 	 *
@@ -0,0 +1,297 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The class {@link ImmutableKeyMapPair} is the immutable counterpart of {@link KeyMapPair}. All
+ * fields are final, the map is copied into an unmodifiable map that keeps the insertion order and
+ * the hash code is computed once on construction, so an instance can be shared between threads
+ * without synchronization and used as a long-lived key of hash based collections.
+ *
+ * @param <K>
+ *            The type of the key.
+ * @param <MK>
+ *            the generic type of the map key.
+ * @param <MV>
+ *            the generic type of the map value.
+ */
+public final class ImmutableKeyMapPair<K, MK, MV> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The key.
+	 */
+	private final K key;
+	/**
+	 * The unmodifiable map with the values.
+	 */
+	private final Map<MK, MV> values;
+	/**
+	 * The cached hash code.
+	 */
+	private final transient int hash;
+
+	/**
+	 * Instantiates a new immutable key map pair. The given map is copied.
+	 *
+	 * @param key
+	 *            the key
+	 * @param values
+	 *            the values
+	 */
+	public ImmutableKeyMapPair(final K key, final Map<? extends MK, ? extends MV> values)
+	{
+		this.key = key;
+		this.values = values == null
+			? null
+			: Collections.unmodifiableMap(new LinkedHashMap<>(values));
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <MK>
+	 *            the generic type
+	 * @param <MV>
+	 *            the generic type
+	 * @return the immutable key map pair builder
+	 */
+	public static <K, MK, MV> ImmutableKeyMapPairBuilder<K, MK, MV> builder()
+	{
+		return new ImmutableKeyMapPairBuilder<>();
+	}
+
+	/**
+	 * Computes the hash code in the same way as {@link KeyMapPair#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	private int computeHash()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.key));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.values));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The cached hash codes are compared first, so unequal instances are rejected without
+	 * comparing the contents in most cases
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof ImmutableKeyMapPair))
+		{
+			return false;
+		}
+		final ImmutableKeyMapPair<?, ?, ?> other = (ImmutableKeyMapPair<?, ?, ?>)o;
+		if (this.hash != other.hash)
+		{
+			return false;
+		}
+		if (this.key == null ? other.key != null : !this.key.equals(other.key))
+		{
+			return false;
+		}
+		if (this.values == null ? other.values != null : !this.values.equals(other.values))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The key.
+	 *
+	 * @return the key
+	 */
+	public K getKey()
+	{
+		return this.key;
+	}
+
+	/**
+	 * The unmodifiable map with the values.
+	 *
+	 * @return the values
+	 */
+	public Map<MK, MV> getValues()
+	{
+		return this.values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.hash;
+	}
+
+	/**
+	 * Creates a new mutable {@link KeyMapPair} with the contents of this immutable key map pair
+	 *
+	 * @return the new {@link KeyMapPair}
+	 */
+	public KeyMapPair<K, MK, MV> thaw()
+	{
+		return new KeyMapPair<>(this.key, this.values);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the immutable key map pair builder
+	 */
+	public ImmutableKeyMapPairBuilder<K, MK, MV> toBuilder()
+	{
+		return new ImmutableKeyMapPairBuilder<K, MK, MV>().key(this.key).values(this.values);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "ImmutableKeyMapPair(key=" + this.getKey() + ", values=" + this.getValues() + ")";
+	}
+
+	/**
+	 * Replaces this immutable key map pair with a {@link TupleSerializationProxy} that writes a
+	 * compact binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.IMMUTABLE_KEY_MAP_PAIR, this);
+	}
+
+	/**
+	 * Creates a new immutable key map pair from the deserialized contents, so the transient
+	 * cached hash code is recomputed and not left at its default value
+	 *
+	 * @return the new immutable key map pair
+	 */
+	private Object readResolve()
+	{
+		return new ImmutableKeyMapPair<>(this.key, this.values);
+	}
+
+	/**
+	 * The class {@link ImmutableKeyMapPairBuilder}.
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <MK>
+	 *            the generic type
+	 * @param <MV>
+	 *            the generic type
+	 */
+	public static class ImmutableKeyMapPairBuilder<K, MK, MV>
+	{
+
+		/** The key. */
+		private K key;
+
+		/** The values. */
+		private Map<MK, MV> values;
+
+		/**
+		 * Instantiates a new immutable key map pair builder.
+		 */
+		ImmutableKeyMapPairBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the immutable key map pair
+		 */
+		public ImmutableKeyMapPair<K, MK, MV> build()
+		{
+			return new ImmutableKeyMapPair<>(key, values);
+		}
+
+		/**
+		 * The key.
+		 *
+		 * @param key
+		 *            the key
+		 * @return the immutable key map pair builder
+		 */
+		public ImmutableKeyMapPairBuilder<K, MK, MV> key(final K key)
+		{
+			this.key = key;
+			return this;
+		}
+
+		/**
+		 * The values.
+		 *
+		 * @param values
+		 *            the values
+		 * @return the immutable key map pair builder
+		 */
+		public ImmutableKeyMapPairBuilder<K, MK, MV> values(final Map<MK, MV> values)
+		{
+			this.values = values;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "ImmutableKeyMapPair.ImmutableKeyMapPairBuilder(key=" + this.key + ", values="
+				+ this.values + ")";
+		}
+	}
+}
@@ -0,0 +1,335 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The class {@link ImmutableKeySetPair} is the immutable counterpart of {@link KeySetPair}. All
+ * fields are final, the values are copied into an unmodifiable set that keeps the insertion order
+ * and the hash code is computed once on construction, so an instance can be shared between threads
+ * without synchronization and used as a long-lived key of hash based collections.
+ *
+ * @param <K>
+ *            The generic type of the key
+ * @param <V>
+ *            The generic type of the value
+ */
+public final class ImmutableKeySetPair<K, V> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The key.
+	 */
+	private final K key;
+	/**
+	 * The unmodifiable set with the values.
+	 */
+	private final Set<V> values;
+	/**
+	 * The cached hash code.
+	 */
+	private final transient int hash;
+
+	/**
+	 * Instantiates a new immutable key set pair. The given values are copied.
+	 *
+	 * @param key
+	 *            the key
+	 * @param values
+	 *            the values
+	 */
+	public ImmutableKeySetPair(final K key, final Collection<? extends V> values)
+	{
+		this.key = key;
+		this.values = values == null
+			? null
+			: Collections.unmodifiableSet(new LinkedHashSet<>(values));
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <V>
+	 *            the generic type
+	 * @return the immutable key set pair builder
+	 */
+	public static <K, V> ImmutableKeySetPairBuilder<K, V> builder()
+	{
+		return new ImmutableKeySetPairBuilder<>();
+	}
+
+	/**
+	 * Computes the hash code in the same way as {@link KeySetPair#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	private int computeHash()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.key));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.values));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The cached hash codes are compared first, so unequal instances are rejected without
+	 * comparing the contents in most cases
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof ImmutableKeySetPair))
+		{
+			return false;
+		}
+		final ImmutableKeySetPair<?, ?> other = (ImmutableKeySetPair<?, ?>)o;
+		if (this.hash != other.hash)
+		{
+			return false;
+		}
+		if (this.key == null ? other.key != null : !this.key.equals(other.key))
+		{
+			return false;
+		}
+		if (this.values == null ? other.values != null : !this.values.equals(other.values))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The key.
+	 *
+	 * @return the key
+	 */
+	public K getKey()
+	{
+		return this.key;
+	}
+
+	/**
+	 * The unmodifiable set with the values.
+	 *
+	 * @return the values
+	 */
+	public Set<V> getValues()
+	{
+		return this.values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.hash;
+	}
+
+	/**
+	 * Creates a new mutable {@link KeySetPair} with the contents of this immutable key set pair
+	 *
+	 * @return the new {@link KeySetPair}
+	 */
+	public KeySetPair<K, V> thaw()
+	{
+		return new KeySetPair<>(this.key, this.values);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the immutable key set pair builder
+	 */
+	public ImmutableKeySetPairBuilder<K, V> toBuilder()
+	{
+		final ImmutableKeySetPairBuilder<K, V> builder = new ImmutableKeySetPairBuilder<K, V>()
+			.key(this.key);
+		if (this.values != null)
+		{
+			builder.values(this.values);
+		}
+		return builder;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "ImmutableKeySetPair(key=" + this.getKey() + ", values=" + this.getValues() + ")";
+	}
+
+	/**
+	 * Replaces this immutable key set pair with a {@link TupleSerializationProxy} that writes a
+	 * compact binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.IMMUTABLE_KEY_SET_PAIR, this);
+	}
+
+	/**
+	 * Creates a new immutable key set pair from the deserialized contents, so the transient
+	 * cached hash code is recomputed and not left at its default value
+	 *
+	 * @return the new immutable key set pair
+	 */
+	private Object readResolve()
+	{
+		return new ImmutableKeySetPair<>(this.key, this.values);
+	}
+
+	/**
+	 * The class {@link ImmutableKeySetPairBuilder}.
+	 *
+	 * @param <K>
+	 *            the key type
+	 * @param <V>
+	 *            the value type
+	 */
+	public static class ImmutableKeySetPairBuilder<K, V>
+	{
+
+		/** The key. */
+		private K key;
+
+		/** The values. */
+		private ArrayList<V> values;
+
+		/**
+		 * Instantiates a new immutable key set pair builder.
+		 */
+		ImmutableKeySetPairBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the immutable key set pair
+		 */
+		public ImmutableKeySetPair<K, V> build()
+		{
+			return new ImmutableKeySetPair<>(this.key,
+				this.values == null ? Collections.emptyList() : this.values);
+		}
+
+		/**
+		 * Clear values.
+		 *
+		 * @return the immutable key set pair builder
+		 */
+		public ImmutableKeySetPairBuilder<K, V> clearValues()
+		{
+			if (this.values != null)
+			{
+				this.values.clear();
+			}
+			return this;
+		}
+
+		/**
+		 * The key.
+		 *
+		 * @param key
+		 *            the key
+		 * @return the immutable key set pair builder
+		 */
+		public ImmutableKeySetPairBuilder<K, V> key(final K key)
+		{
+			this.key = key;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "ImmutableKeySetPair.ImmutableKeySetPairBuilder(key=" + this.key
+				+ ", values=" + this.values + ")";
+		}
+
+		/**
+		 * Value.
+		 *
+		 * @param value
+		 *            the value
+		 * @return the immutable key set pair builder
+		 */
+		public ImmutableKeySetPairBuilder<K, V> value(final V value)
+		{
+			if (this.values == null)
+			{
+				this.values = new ArrayList<>();
+			}
+			this.values.add(value);
+			return this;
+		}
+
+		/**
+		 * Values.
+		 *
+		 * @param values
+		 *            the values
+		 * @return the immutable key set pair builder
+		 */
+		public ImmutableKeySetPairBuilder<K, V> values(final Collection<? extends V> values)
+		{
+			if (this.values == null)
+			{
+				this.values = new ArrayList<>();
+			}
+			this.values.addAll(values);
+			return this;
+		}
+	}
+}
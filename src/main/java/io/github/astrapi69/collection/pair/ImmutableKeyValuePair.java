@@ -0,0 +1,285 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link ImmutableKeyValuePair} is the immutable counterpart of {@link KeyValuePair}. All
+ * fields are final and the hash code is computed once on construction, so an instance can be shared
+ * between threads without synchronization and used as a long-lived key of hash based collections.
+ *
+ * @param <K>
+ *            The generic type of the key
+ * @param <V>
+ *            The generic type of the value
+ */
+public final class ImmutableKeyValuePair<K, V> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The key.
+	 */
+	private final K key;
+	/**
+	 * The value.
+	 */
+	private final V value;
+	/**
+	 * The cached hash code.
+	 */
+	private final transient int hash;
+
+	/**
+	 * Instantiates a new immutable key value pair.
+	 *
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	public ImmutableKeyValuePair(final K key, final V value)
+	{
+		this.key = key;
+		this.value = value;
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <V>
+	 *            the generic type
+	 * @return the immutable key value pair builder
+	 */
+	public static <K, V> ImmutableKeyValuePairBuilder<K, V> builder()
+	{
+		return new ImmutableKeyValuePairBuilder<>();
+	}
+
+	/**
+	 * Computes the hash code in the same way as {@link KeyValuePair#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	private int computeHash()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.key));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.value));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The cached hash codes are compared first, so unequal instances are rejected without
+	 * comparing the contents in most cases
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof ImmutableKeyValuePair))
+		{
+			return false;
+		}
+		final ImmutableKeyValuePair<?, ?> other = (ImmutableKeyValuePair<?, ?>)o;
+		if (this.hash != other.hash)
+		{
+			return false;
+		}
+		if (this.key == null ? other.key != null : !this.key.equals(other.key))
+		{
+			return false;
+		}
+		if (this.value == null ? other.value != null : !this.value.equals(other.value))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The key.
+	 *
+	 * @return the key
+	 */
+	public K getKey()
+	{
+		return this.key;
+	}
+
+	/**
+	 * The value.
+	 *
+	 * @return the value
+	 */
+	public V getValue()
+	{
+		return this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.hash;
+	}
+
+	/**
+	 * Creates a new mutable {@link KeyValuePair} with the contents of this immutable key value pair
+	 *
+	 * @return the new {@link KeyValuePair}
+	 */
+	public KeyValuePair<K, V> thaw()
+	{
+		return new KeyValuePair<>(this.key, this.value);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the immutable key value pair builder
+	 */
+	public ImmutableKeyValuePairBuilder<K, V> toBuilder()
+	{
+		return new ImmutableKeyValuePairBuilder<K, V>().key(this.key).value(this.value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "ImmutableKeyValuePair(key=" + this.getKey() + ", value=" + this.getValue() + ")";
+	}
+
+	/**
+	 * Replaces this immutable key value pair with a {@link TupleSerializationProxy} that writes a
+	 * compact binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.IMMUTABLE_KEY_VALUE_PAIR, this);
+	}
+
+	/**
+	 * Creates a new immutable key value pair from the deserialized contents, so the transient
+	 * cached hash code is recomputed and not left at its default value
+	 *
+	 * @return the new immutable key value pair
+	 */
+	private Object readResolve()
+	{
+		return new ImmutableKeyValuePair<>(this.key, this.value);
+	}
+
+	/**
+	 * The class {@link ImmutableKeyValuePairBuilder}.
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <V>
+	 *            the generic type
+	 */
+	public static class ImmutableKeyValuePairBuilder<K, V>
+	{
+
+		/** The key. */
+		private K key;
+
+		/** The value. */
+		private V value;
+
+		/**
+		 * Instantiates a new immutable key value pair builder.
+		 */
+		ImmutableKeyValuePairBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the immutable key value pair
+		 */
+		public ImmutableKeyValuePair<K, V> build()
+		{
+			return new ImmutableKeyValuePair<>(key, value);
+		}
+
+		/**
+		 * The key.
+		 *
+		 * @param key
+		 *            the key
+		 * @return the immutable key value pair builder
+		 */
+		public ImmutableKeyValuePairBuilder<K, V> key(final K key)
+		{
+			this.key = key;
+			return this;
+		}
+
+		/**
+		 * The value.
+		 *
+		 * @param value
+		 *            the value
+		 * @return the immutable key value pair builder
+		 */
+		public ImmutableKeyValuePairBuilder<K, V> value(final V value)
+		{
+			this.value = value;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "ImmutableKeyValuePair.ImmutableKeyValuePairBuilder(key=" + this.key + ", value="
+				+ this.value + ")";
+		}
+	}
+}
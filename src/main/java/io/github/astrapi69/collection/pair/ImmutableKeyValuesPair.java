@@ -0,0 +1,360 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The class {@link ImmutableKeyValuesPair} is the immutable counterpart of {@link KeyValuesPair}.
+ * All fields are final, the values are copied into an unmodifiable set if they are a {@link Set}
+ * and into an unmodifiable list otherwise, so the copy is still equal to the given values. The
+ * hash code is computed once on construction, so an instance can be shared between threads without
+ * synchronization and used as a long-lived key of hash based collections.
+ *
+ * @param <K>
+ *            The generic type of the key
+ * @param <V>
+ *            The generic type of the value
+ */
+public final class ImmutableKeyValuesPair<K, V> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The key.
+	 */
+	private final K key;
+	/**
+	 * The unmodifiable collection with the values.
+	 */
+	private final Collection<V> values;
+	/**
+	 * The cached hash code.
+	 */
+	private final transient int hash;
+
+	/**
+	 * Instantiates a new immutable key values pair. The given values are copied into an
+	 * unmodifiable set that keeps the iteration order if they are a {@link Set} and into an
+	 * unmodifiable list otherwise
+	 *
+	 * @param key
+	 *            the key
+	 * @param values
+	 *            the values
+	 */
+	public ImmutableKeyValuesPair(final K key, final Collection<? extends V> values)
+	{
+		this.key = key;
+		this.values = copyOf(values);
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Copies the given values into an unmodifiable set if they are a {@link Set} and into an
+	 * unmodifiable list otherwise
+	 *
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param values
+	 *            the values, may be null
+	 * @return the unmodifiable copy or null if the given values are null
+	 */
+	private static <V> Collection<V> copyOf(final Collection<? extends V> values)
+	{
+		if (values == null)
+		{
+			return null;
+		}
+		if (values instanceof Set)
+		{
+			return Collections.unmodifiableSet(new LinkedHashSet<>(values));
+		}
+		return Collections.unmodifiableList(new ArrayList<>(values));
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <V>
+	 *            the generic type
+	 * @return the immutable key values pair builder
+	 */
+	public static <K, V> ImmutableKeyValuesPairBuilder<K, V> builder()
+	{
+		return new ImmutableKeyValuesPairBuilder<>();
+	}
+
+	/**
+	 * Computes the hash code in the same way as {@link KeyValuesPair#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	private int computeHash()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.key));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.values));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The cached hash codes are compared first, so unequal instances are rejected without
+	 * comparing the contents in most cases
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof ImmutableKeyValuesPair))
+		{
+			return false;
+		}
+		final ImmutableKeyValuesPair<?, ?> other = (ImmutableKeyValuesPair<?, ?>)o;
+		if (this.hash != other.hash)
+		{
+			return false;
+		}
+		if (this.key == null ? other.key != null : !this.key.equals(other.key))
+		{
+			return false;
+		}
+		if (this.values == null ? other.values != null : !this.values.equals(other.values))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The key.
+	 *
+	 * @return the key
+	 */
+	public K getKey()
+	{
+		return this.key;
+	}
+
+	/**
+	 * The unmodifiable collection with the values.
+	 *
+	 * @return the values
+	 */
+	public Collection<V> getValues()
+	{
+		return this.values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.hash;
+	}
+
+	/**
+	 * Creates a new mutable {@link KeyValuesPair} with the contents of this immutable key values
+	 * pair
+	 *
+	 * @return the new {@link KeyValuesPair}
+	 */
+	public KeyValuesPair<K, V> thaw()
+	{
+		return new KeyValuesPair<>(this.key, this.values);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the immutable key values pair builder
+	 */
+	public ImmutableKeyValuesPairBuilder<K, V> toBuilder()
+	{
+		final ImmutableKeyValuesPairBuilder<K, V> builder = ImmutableKeyValuesPair.<K, V> builder()
+			.key(this.key);
+		if (this.values != null)
+		{
+			builder.values(this.values);
+		}
+		return builder;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "ImmutableKeyValuesPair(key=" + this.getKey() + ", values=" + this.getValues() + ")";
+	}
+
+	/**
+	 * Replaces this immutable key values pair with a {@link TupleSerializationProxy} that writes a
+	 * compact binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.IMMUTABLE_KEY_VALUES_PAIR, this);
+	}
+
+	/**
+	 * Creates a new immutable key values pair from the deserialized contents, so the transient
+	 * cached hash code is recomputed and not left at its default value
+	 *
+	 * @return the new immutable key values pair
+	 */
+	private Object readResolve()
+	{
+		return new ImmutableKeyValuesPair<>(this.key, this.values);
+	}
+
+	/**
+	 * The class {@link ImmutableKeyValuesPairBuilder}.
+	 *
+	 * @param <K>
+	 *            the key type
+	 * @param <V>
+	 *            the value type
+	 */
+	public static class ImmutableKeyValuesPairBuilder<K, V>
+	{
+
+		/** The key. */
+		private K key;
+
+		/** The values. */
+		private ArrayList<V> values;
+
+		/**
+		 * Instantiates a new immutable key values pair builder.
+		 */
+		ImmutableKeyValuesPairBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the immutable key values pair
+		 */
+		public ImmutableKeyValuesPair<K, V> build()
+		{
+			return new ImmutableKeyValuesPair<>(this.key,
+				this.values == null ? Collections.emptyList() : this.values);
+		}
+
+		/**
+		 * Clear values.
+		 *
+		 * @return the immutable key values pair builder
+		 */
+		public ImmutableKeyValuesPairBuilder<K, V> clearValues()
+		{
+			if (this.values != null)
+			{
+				this.values.clear();
+			}
+			return this;
+		}
+
+		/**
+		 * The key.
+		 *
+		 * @param key
+		 *            the key
+		 * @return the immutable key values pair builder
+		 */
+		public ImmutableKeyValuesPairBuilder<K, V> key(final K key)
+		{
+			this.key = key;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "ImmutableKeyValuesPair.ImmutableKeyValuesPairBuilder(key=" + this.key
+				+ ", values=" + this.values + ")";
+		}
+
+		/**
+		 * Value.
+		 *
+		 * @param value
+		 *            the value
+		 * @return the immutable key values pair builder
+		 */
+		public ImmutableKeyValuesPairBuilder<K, V> value(final V value)
+		{
+			if (this.values == null)
+			{
+				this.values = new ArrayList<>();
+			}
+			this.values.add(value);
+			return this;
+		}
+
+		/**
+		 * Values.
+		 *
+		 * @param values
+		 *            the values
+		 * @return the immutable key values pair builder
+		 */
+		public ImmutableKeyValuesPairBuilder<K, V> values(final Collection<? extends V> values)
+		{
+			if (this.values == null)
+			{
+				this.values = new ArrayList<>();
+			}
+			this.values.addAll(values);
+			return this;
+		}
+	}
+}
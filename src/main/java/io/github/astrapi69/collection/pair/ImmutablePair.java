@@ -0,0 +1,291 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link ImmutablePair} is the immutable counterpart of {@link Pair}. All fields are
+ * final and the hash code is computed once on construction, so an instance can be shared between
+ * threads without synchronization and used as a long-lived key of hash based collections.
+ *
+ * @param <K>
+ *            The generic type of the left content of this Pair.
+ * @param <V>
+ *            The generic type of the right content of this Pair.
+ */
+public final class ImmutablePair<K, V> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The left.
+	 */
+	private final K leftContent;
+	/**
+	 * The right.
+	 */
+	private final V rightContent;
+	/**
+	 * The cached hash code.
+	 */
+	private final transient int hash;
+
+	/**
+	 * Instantiates a new immutable pair.
+	 *
+	 * @param leftContent
+	 *            the left content
+	 * @param rightContent
+	 *            the right content
+	 */
+	public ImmutablePair(final K leftContent, final V rightContent)
+	{
+		this.leftContent = leftContent;
+		this.rightContent = rightContent;
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <V>
+	 *            the generic type
+	 * @return the immutable pair builder
+	 */
+	public static <K, V> ImmutablePairBuilder<K, V> builder()
+	{
+		return new ImmutablePairBuilder<>();
+	}
+
+	/**
+	 * Computes the hash code in the same way as {@link Pair#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	private int computeHash()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.leftContent));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.rightContent));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The cached hash codes are compared first, so unequal instances are rejected without
+	 * comparing the contents in most cases
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof ImmutablePair))
+		{
+			return false;
+		}
+		final ImmutablePair<?, ?> other = (ImmutablePair<?, ?>)o;
+		if (this.hash != other.hash)
+		{
+			return false;
+		}
+		if (this.leftContent == null
+			? other.leftContent != null
+			: !this.leftContent.equals(other.leftContent))
+		{
+			return false;
+		}
+		if (this.rightContent == null
+			? other.rightContent != null
+			: !this.rightContent.equals(other.rightContent))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The left.
+	 *
+	 * @return the left content
+	 */
+	public K getLeftContent()
+	{
+		return this.leftContent;
+	}
+
+	/**
+	 * The right.
+	 *
+	 * @return the right content
+	 */
+	public V getRightContent()
+	{
+		return this.rightContent;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.hash;
+	}
+
+	/**
+	 * Creates a new mutable {@link Pair} with the contents of this immutable pair
+	 *
+	 * @return the new {@link Pair}
+	 */
+	public Pair<K, V> thaw()
+	{
+		return new Pair<>(this.leftContent, this.rightContent);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the immutable pair builder
+	 */
+	public ImmutablePairBuilder<K, V> toBuilder()
+	{
+		return new ImmutablePairBuilder<K, V>().leftContent(this.leftContent)
+			.rightContent(this.rightContent);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "ImmutablePair(leftContent=" + this.getLeftContent() + ", rightContent="
+			+ this.getRightContent() + ")";
+	}
+
+	/**
+	 * Replaces this immutable pair with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.IMMUTABLE_PAIR, this);
+	}
+
+	/**
+	 * Creates a new immutable pair from the deserialized contents, so the transient
+	 * cached hash code is recomputed and not left at its default value
+	 *
+	 * @return the new immutable pair
+	 */
+	private Object readResolve()
+	{
+		return new ImmutablePair<>(this.leftContent, this.rightContent);
+	}
+
+	/**
+	 * The class {@link ImmutablePairBuilder}.
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <V>
+	 *            the generic type
+	 */
+	public static class ImmutablePairBuilder<K, V>
+	{
+
+		/** The left content. */
+		private K leftContent;
+
+		/** The right content. */
+		private V rightContent;
+
+		/**
+		 * Instantiates a new immutable pair builder.
+		 */
+		ImmutablePairBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the immutable pair
+		 */
+		public ImmutablePair<K, V> build()
+		{
+			return new ImmutablePair<>(leftContent, rightContent);
+		}
+
+		/**
+		 * The left content.
+		 *
+		 * @param leftContent
+		 *            the left content
+		 * @return the immutable pair builder
+		 */
+		public ImmutablePairBuilder<K, V> leftContent(final K leftContent)
+		{
+			this.leftContent = leftContent;
+			return this;
+		}
+
+		/**
+		 * The right content.
+		 *
+		 * @param rightContent
+		 *            the right content
+		 * @return the immutable pair builder
+		 */
+		public ImmutablePairBuilder<K, V> rightContent(final V rightContent)
+		{
+			this.rightContent = rightContent;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "ImmutablePair.ImmutablePairBuilder(leftContent=" + this.leftContent
+				+ ", rightContent=" + this.rightContent + ")";
+		}
+	}
+}
@@ -0,0 +1,383 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link ImmutableQuattro} is the immutable counterpart of {@link Quattro}. All fields
+ * are final and the hash code is computed once on construction, so an instance can be shared
+ * between threads without synchronization and used as a long-lived key of hash based collections.
+ *
+ * @param <TL>
+ *            the generic type of the top left content.
+ * @param <TR>
+ *            the generic type of the top right content.
+ * @param <BL>
+ *            the generic type of the bottom left content.
+ * @param <BR>
+ *            the generic type of the bottom right content.
+ */
+public final class ImmutableQuattro<TL, TR, BL, BR> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The bottom left value.
+	 */
+	private final BL bottomLeft;
+	/**
+	 * The bottom right value.
+	 */
+	private final BR bottomRight;
+	/**
+	 * The top left value.
+	 */
+	private final TL topLeft;
+	/**
+	 * The top right value.
+	 */
+	private final TR topRight;
+	/**
+	 * The cached hash code.
+	 */
+	private final transient int hash;
+
+	/**
+	 * Instantiates a new immutable quattro.
+	 *
+	 * @param bottomLeft
+	 *            the bottom left
+	 * @param bottomRight
+	 *            the bottom right
+	 * @param topLeft
+	 *            the top left
+	 * @param topRight
+	 *            the top right
+	 */
+	public ImmutableQuattro(final BL bottomLeft, final BR bottomRight, final TL topLeft,
+		final TR topRight)
+	{
+		this.bottomLeft = bottomLeft;
+		this.bottomRight = bottomRight;
+		this.topLeft = topLeft;
+		this.topRight = topRight;
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <TL>
+	 *            the generic type
+	 * @param <TR>
+	 *            the generic type
+	 * @param <BL>
+	 *            the generic type
+	 * @param <BR>
+	 *            the generic type
+	 * @return the immutable quattro builder
+	 */
+	public static <TL, TR, BL, BR> ImmutableQuattroBuilder<TL, TR, BL, BR> builder()
+	{
+		return new ImmutableQuattroBuilder<>();
+	}
+
+	/**
+	 * Computes the hash code in the same way as {@link Quattro#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	private int computeHash()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.bottomLeft));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.bottomRight));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.topLeft));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.topRight));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The cached hash codes are compared first, so unequal instances are rejected without
+	 * comparing the contents in most cases
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof ImmutableQuattro))
+		{
+			return false;
+		}
+		final ImmutableQuattro<?, ?, ?, ?> other = (ImmutableQuattro<?, ?, ?, ?>)o;
+		if (this.hash != other.hash)
+		{
+			return false;
+		}
+		if (this.bottomLeft == null
+			? other.bottomLeft != null
+			: !this.bottomLeft.equals(other.bottomLeft))
+		{
+			return false;
+		}
+		if (this.bottomRight == null
+			? other.bottomRight != null
+			: !this.bottomRight.equals(other.bottomRight))
+		{
+			return false;
+		}
+		if (this.topLeft == null ? other.topLeft != null : !this.topLeft.equals(other.topLeft))
+		{
+			return false;
+		}
+		if (this.topRight == null ? other.topRight != null : !this.topRight.equals(other.topRight))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The bottom left value.
+	 *
+	 * @return the bottom left
+	 */
+	public BL getBottomLeft()
+	{
+		return this.bottomLeft;
+	}
+
+	/**
+	 * The bottom right value.
+	 *
+	 * @return the bottom right
+	 */
+	public BR getBottomRight()
+	{
+		return this.bottomRight;
+	}
+
+	/**
+	 * The top left value.
+	 *
+	 * @return the top left
+	 */
+	public TL getTopLeft()
+	{
+		return this.topLeft;
+	}
+
+	/**
+	 * The top right value.
+	 *
+	 * @return the top right
+	 */
+	public TR getTopRight()
+	{
+		return this.topRight;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.hash;
+	}
+
+	/**
+	 * Creates a new mutable {@link Quattro} with the contents of this immutable quattro
+	 *
+	 * @return the new {@link Quattro}
+	 */
+	public Quattro<TL, TR, BL, BR> thaw()
+	{
+		return new Quattro<>(this.bottomLeft, this.bottomRight, this.topLeft, this.topRight);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the immutable quattro builder
+	 */
+	public ImmutableQuattroBuilder<TL, TR, BL, BR> toBuilder()
+	{
+		return new ImmutableQuattroBuilder<TL, TR, BL, BR>().bottomLeft(this.bottomLeft)
+			.bottomRight(this.bottomRight).topLeft(this.topLeft).topRight(this.topRight);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "ImmutableQuattro(bottomLeft=" + this.getBottomLeft() + ", bottomRight="
+			+ this.getBottomRight() + ", topLeft=" + this.getTopLeft() + ", topRight="
+			+ this.getTopRight() + ")";
+	}
+
+	/**
+	 * Replaces this immutable quattro with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.IMMUTABLE_QUATTRO, this);
+	}
+
+	/**
+	 * Creates a new immutable quattro from the deserialized contents, so the transient
+	 * cached hash code is recomputed and not left at its default value
+	 *
+	 * @return the new immutable quattro
+	 */
+	private Object readResolve()
+	{
+		return new ImmutableQuattro<>(this.bottomLeft, this.bottomRight, this.topLeft,
+			this.topRight);
+	}
+
+	/**
+	 * The class {@link ImmutableQuattroBuilder}.
+	 *
+	 * @param <TL>
+	 *            the generic type
+	 * @param <TR>
+	 *            the generic type
+	 * @param <BL>
+	 *            the generic type
+	 * @param <BR>
+	 *            the generic type
+	 */
+	public static class ImmutableQuattroBuilder<TL, TR, BL, BR>
+	{
+
+		/** The bottom left. */
+		private BL bottomLeft;
+
+		/** The bottom right. */
+		private BR bottomRight;
+
+		/** The top left. */
+		private TL topLeft;
+
+		/** The top right. */
+		private TR topRight;
+
+		/**
+		 * Instantiates a new immutable quattro builder.
+		 */
+		ImmutableQuattroBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the immutable quattro
+		 */
+		public ImmutableQuattro<TL, TR, BL, BR> build()
+		{
+			return new ImmutableQuattro<>(bottomLeft, bottomRight, topLeft, topRight);
+		}
+
+		/**
+		 * The bottom left.
+		 *
+		 * @param bottomLeft
+		 *            the bottom left
+		 * @return the immutable quattro builder
+		 */
+		public ImmutableQuattroBuilder<TL, TR, BL, BR> bottomLeft(final BL bottomLeft)
+		{
+			this.bottomLeft = bottomLeft;
+			return this;
+		}
+
+		/**
+		 * The bottom right.
+		 *
+		 * @param bottomRight
+		 *            the bottom right
+		 * @return the immutable quattro builder
+		 */
+		public ImmutableQuattroBuilder<TL, TR, BL, BR> bottomRight(final BR bottomRight)
+		{
+			this.bottomRight = bottomRight;
+			return this;
+		}
+
+		/**
+		 * The top left.
+		 *
+		 * @param topLeft
+		 *            the top left
+		 * @return the immutable quattro builder
+		 */
+		public ImmutableQuattroBuilder<TL, TR, BL, BR> topLeft(final TL topLeft)
+		{
+			this.topLeft = topLeft;
+			return this;
+		}
+
+		/**
+		 * The top right.
+		 *
+		 * @param topRight
+		 *            the top right
+		 * @return the immutable quattro builder
+		 */
+		public ImmutableQuattroBuilder<TL, TR, BL, BR> topRight(final TR topRight)
+		{
+			this.topRight = topRight;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "ImmutableQuattro.ImmutableQuattroBuilder(bottomLeft=" + this.bottomLeft
+				+ ", bottomRight=" + this.bottomRight + ", topLeft=" + this.topLeft + ", topRight="
+				+ this.topRight + ")";
+		}
+	}
+}
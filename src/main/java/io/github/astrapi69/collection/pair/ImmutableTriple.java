@@ -0,0 +1,331 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link ImmutableTriple} is the immutable counterpart of {@link Triple}. All fields are
+ * final and the hash code is computed once on construction, so an instance can be shared between
+ * threads without synchronization and used as a long-lived key of hash based collections.
+ *
+ * @param <L>
+ *            The generic type of the left content of this Triple.
+ * @param <M>
+ *            The generic type of the middle content of this Triple.
+ * @param <R>
+ *            The generic type of the right content of this Triple.
+ */
+public final class ImmutableTriple<L, M, R> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The left value.
+	 */
+	private final L left;
+	/**
+	 * The middle value.
+	 */
+	private final M middle;
+	/**
+	 * The right value.
+	 */
+	private final R right;
+	/**
+	 * The cached hash code.
+	 */
+	private final transient int hash;
+
+	/**
+	 * Instantiates a new immutable triple.
+	 *
+	 * @param left
+	 *            the left
+	 * @param middle
+	 *            the middle
+	 * @param right
+	 *            the right
+	 */
+	public ImmutableTriple(final L left, final M middle, final R right)
+	{
+		this.left = left;
+		this.middle = middle;
+		this.right = right;
+		this.hash = computeHash();
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <L>
+	 *            the generic type
+	 * @param <M>
+	 *            the generic type
+	 * @param <R>
+	 *            the generic type
+	 * @return the immutable triple builder
+	 */
+	public static <L, M, R> ImmutableTripleBuilder<L, M, R> builder()
+	{
+		return new ImmutableTripleBuilder<>();
+	}
+
+	/**
+	 * Computes the hash code in the same way as {@link Triple#hashCode()}
+	 *
+	 * @return the hash code
+	 */
+	private int computeHash()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.left));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.middle));
+		result = strategy.combine(result, TupleHashStrategy.hashOf(this.right));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The cached hash codes are compared first, so unequal instances are rejected without
+	 * comparing the contents in most cases
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof ImmutableTriple))
+		{
+			return false;
+		}
+		final ImmutableTriple<?, ?, ?> other = (ImmutableTriple<?, ?, ?>)o;
+		if (this.hash != other.hash)
+		{
+			return false;
+		}
+		if (this.left == null ? other.left != null : !this.left.equals(other.left))
+		{
+			return false;
+		}
+		if (this.middle == null ? other.middle != null : !this.middle.equals(other.middle))
+		{
+			return false;
+		}
+		if (this.right == null ? other.right != null : !this.right.equals(other.right))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The left value.
+	 *
+	 * @return the left
+	 */
+	public L getLeft()
+	{
+		return this.left;
+	}
+
+	/**
+	 * The middle value.
+	 *
+	 * @return the middle
+	 */
+	public M getMiddle()
+	{
+		return this.middle;
+	}
+
+	/**
+	 * The right value.
+	 *
+	 * @return the right
+	 */
+	public R getRight()
+	{
+		return this.right;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.hash;
+	}
+
+	/**
+	 * Creates a new mutable {@link Triple} with the contents of this immutable triple
+	 *
+	 * @return the new {@link Triple}
+	 */
+	public Triple<L, M, R> thaw()
+	{
+		return new Triple<>(this.left, this.middle, this.right);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the immutable triple builder
+	 */
+	public ImmutableTripleBuilder<L, M, R> toBuilder()
+	{
+		return new ImmutableTripleBuilder<L, M, R>().left(this.left).middle(this.middle)
+			.right(this.right);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "ImmutableTriple(left=" + this.getLeft() + ", middle=" + this.getMiddle()
+			+ ", right=" + this.getRight() + ")";
+	}
+
+	/**
+	 * Replaces this immutable triple with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.IMMUTABLE_TRIPLE, this);
+	}
+
+	/**
+	 * Creates a new immutable triple from the deserialized contents, so the transient
+	 * cached hash code is recomputed and not left at its default value
+	 *
+	 * @return the new immutable triple
+	 */
+	private Object readResolve()
+	{
+		return new ImmutableTriple<>(this.left, this.middle, this.right);
+	}
+
+	/**
+	 * The class {@link ImmutableTripleBuilder}.
+	 *
+	 * @param <L>
+	 *            the generic type
+	 * @param <M>
+	 *            the generic type
+	 * @param <R>
+	 *            the generic type
+	 */
+	public static class ImmutableTripleBuilder<L, M, R>
+	{
+
+		/** The left. */
+		private L left;
+
+		/** The middle. */
+		private M middle;
+
+		/** The right. */
+		private R right;
+
+		/**
+		 * Instantiates a new immutable triple builder.
+		 */
+		ImmutableTripleBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the immutable triple
+		 */
+		public ImmutableTriple<L, M, R> build()
+		{
+			return new ImmutableTriple<>(left, middle, right);
+		}
+
+		/**
+		 * The left.
+		 *
+		 * @param left
+		 *            the left
+		 * @return the immutable triple builder
+		 */
+		public ImmutableTripleBuilder<L, M, R> left(final L left)
+		{
+			this.left = left;
+			return this;
+		}
+
+		/**
+		 * The middle.
+		 *
+		 * @param middle
+		 *            the middle
+		 * @return the immutable triple builder
+		 */
+		public ImmutableTripleBuilder<L, M, R> middle(final M middle)
+		{
+			this.middle = middle;
+			return this;
+		}
+
+		/**
+		 * The right.
+		 *
+		 * @param right
+		 *            the right
+		 * @return the immutable triple builder
+		 */
+		public ImmutableTripleBuilder<L, M, R> right(final R right)
+		{
+			this.right = right;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "ImmutableTriple.ImmutableTripleBuilder(left=" + this.left + ", middle="
+				+ this.middle + ", right=" + this.right + ")";
+		}
+	}
+}
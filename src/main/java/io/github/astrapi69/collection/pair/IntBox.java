@@ -0,0 +1,339 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link IntBox} represents one mutable primitive int value. It is the unboxed
+ * counterpart of a {@link ValueBox} with an {@link Integer} value, the increment, add, max and min
+ * operations update the value in place without creating a wrapper object, so it can be used as
+ * counter or accumulator in lambdas and hot loops.
+ */
+public class IntBox implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The value.
+	 */
+	private int value;
+
+	/**
+	 * Instantiates a new int box.
+	 */
+	public IntBox()
+	{
+	}
+
+	/**
+	 * Instantiates a new int box.
+	 *
+	 * @param value
+	 *            the value
+	 */
+	public IntBox(final int value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @return the int box builder
+	 */
+	public static IntBoxBuilder builder()
+	{
+		return new IntBoxBuilder();
+	}
+
+	/**
+	 * Factory method for create a new {@link IntBox} from the given {@link ValueBox}
+	 *
+	 * @param valueBox
+	 *            the value box with the boxed value
+	 * @return the new {@link IntBox}
+	 * @throws NullPointerException
+	 *             if the value of the given value box is null
+	 */
+	public static IntBox of(final ValueBox<Integer> valueBox)
+	{
+		return new IntBox(valueBox.getValue());
+	}
+
+	/**
+	 * Adds the given value in place
+	 *
+	 * @param delta
+	 *            the value to add
+	 * @return the updated value
+	 */
+	public int addAndGet(final int delta)
+	{
+		this.value += delta;
+		return this.value;
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof IntBox;
+	}
+
+	/**
+	 * Decrements the value by one in place
+	 *
+	 * @return the decremented value
+	 */
+	public int decrementAndGet()
+	{
+		return --this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof IntBox))
+		{
+			return false;
+		}
+		final IntBox other = (IntBox)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		return this.value == other.value;
+	}
+
+	/**
+	 * Adds the given value in place
+	 *
+	 * @param delta
+	 *            the value to add
+	 * @return the previous value
+	 */
+	public int getAndAdd(final int delta)
+	{
+		final int previous = this.value;
+		this.value += delta;
+		return previous;
+	}
+
+	/**
+	 * Decrements the value by one in place
+	 *
+	 * @return the previous value
+	 */
+	public int getAndDecrement()
+	{
+		return this.value--;
+	}
+
+	/**
+	 * Increments the value by one in place
+	 *
+	 * @return the previous value
+	 */
+	public int getAndIncrement()
+	{
+		return this.value++;
+	}
+
+	/**
+	 * The value.
+	 *
+	 * @return the value
+	 */
+	public int getValue()
+	{
+		return this.value;
+	}
+
+	/**
+	 * The value.
+	 *
+	 * @param value
+	 *            the new value
+	 */
+	public void setValue(final int value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The hash code is the same as the hash code of the corresponding boxed {@link ValueBox}
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, Integer.hashCode(this.value));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Increments the value by one in place
+	 *
+	 * @return the incremented value
+	 */
+	public int incrementAndGet()
+	{
+		return ++this.value;
+	}
+
+	/**
+	 * Sets the value to the maximum of the value and the given value in place
+	 *
+	 * @param other
+	 *            the other value
+	 * @return the updated value
+	 */
+	public int max(final int other)
+	{
+		this.value = Math.max(this.value, other);
+		return this.value;
+	}
+
+	/**
+	 * Sets the value to the minimum of the value and the given value in place
+	 *
+	 * @param other
+	 *            the other value
+	 * @return the updated value
+	 */
+	public int min(final int other)
+	{
+		this.value = Math.min(this.value, other);
+		return this.value;
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the int box builder
+	 */
+	public IntBoxBuilder toBuilder()
+	{
+		return new IntBoxBuilder().value(this.value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "IntBox(value=" + this.getValue() + ")";
+	}
+
+	/**
+	 * Converts this box to a {@link ValueBox} with the boxed value
+	 *
+	 * @return the new {@link ValueBox}
+	 */
+	public ValueBox<Integer> toValueBox()
+	{
+		return new ValueBox<>(this.value);
+	}
+
+	/**
+	 * Replaces this int box with a {@link TupleSerializationProxy} that writes a compact binary
+	 * layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.INT_BOX, this);
+	}
+
+	/**
+	 * The class {@link IntBoxBuilder}.
+	 */
+	public static class IntBoxBuilder
+	{
+
+		/** The value. */
+		private int value;
+
+		/**
+		 * Instantiates a new int box builder.
+		 */
+		IntBoxBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the int box
+		 */
+		public IntBox build()
+		{
+			return new IntBox(value);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "IntBox.IntBoxBuilder(value=" + this.value + ")";
+		}
+
+		/**
+		 * The value.
+		 *
+		 * @param value
+		 *            the value
+		 * @return the int box builder
+		 */
+		public IntBoxBuilder value(final int value)
+		{
+			this.value = value;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,339 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link IntIntDoubleTriple} represents a triple of two primitive int values and one
+ * primitive double value. It is the unboxed counterpart of a {@link Triple} with {@link Integer},
+ * {@link Integer} and {@link Double} values.
+ */
+public class IntIntDoubleTriple implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The left value.
+	 */
+	private int left;
+	/**
+	 * The middle value.
+	 */
+	private int middle;
+	/**
+	 * The right value.
+	 */
+	private double right;
+
+	/**
+	 * Instantiates a new int int double triple.
+	 */
+	public IntIntDoubleTriple()
+	{
+	}
+
+	/**
+	 * Instantiates a new int int double triple.
+	 *
+	 * @param left
+	 *            the left
+	 * @param middle
+	 *            the middle
+	 * @param right
+	 *            the right
+	 */
+	public IntIntDoubleTriple(final int left, final int middle, final double right)
+	{
+		this.left = left;
+		this.middle = middle;
+		this.right = right;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @return the int int double triple builder
+	 */
+	public static IntIntDoubleTripleBuilder builder()
+	{
+		return new IntIntDoubleTripleBuilder();
+	}
+
+	/**
+	 * Factory method for create a new {@link IntIntDoubleTriple} from the given {@link Triple}
+	 *
+	 * @param triple
+	 *            the triple with the boxed values
+	 * @return the new {@link IntIntDoubleTriple}
+	 * @throws NullPointerException
+	 *             if one of the values of the given triple is null
+	 */
+	public static IntIntDoubleTriple of(final Triple<Integer, Integer, Double> triple)
+	{
+		return new IntIntDoubleTriple(triple.getLeft(), triple.getMiddle(), triple.getRight());
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof IntIntDoubleTriple;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof IntIntDoubleTriple))
+		{
+			return false;
+		}
+		final IntIntDoubleTriple other = (IntIntDoubleTriple)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		return this.left == other.left && this.middle == other.middle
+			&& Double.compare(this.right, other.right) == 0;
+	}
+
+	/**
+	 * The left value.
+	 *
+	 * @return the left
+	 */
+	public int getLeft()
+	{
+		return this.left;
+	}
+
+	/**
+	 * The left value.
+	 *
+	 * @param left
+	 *            the new left
+	 */
+	public void setLeft(final int left)
+	{
+		this.left = left;
+	}
+
+	/**
+	 * The middle value.
+	 *
+	 * @return the middle
+	 */
+	public int getMiddle()
+	{
+		return this.middle;
+	}
+
+	/**
+	 * The middle value.
+	 *
+	 * @param middle
+	 *            the new middle
+	 */
+	public void setMiddle(final int middle)
+	{
+		this.middle = middle;
+	}
+
+	/**
+	 * The right value.
+	 *
+	 * @return the right
+	 */
+	public double getRight()
+	{
+		return this.right;
+	}
+
+	/**
+	 * The right value.
+	 *
+	 * @param right
+	 *            the new right
+	 */
+	public void setRight(final double right)
+	{
+		this.right = right;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The hash code is the same as the hash code of the corresponding boxed {@link Triple}
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, Integer.hashCode(this.left));
+		result = strategy.combine(result, Integer.hashCode(this.middle));
+		result = strategy.combine(result, Double.hashCode(this.right));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Converts this triple to a {@link Triple} with boxed values
+	 *
+	 * @return the new {@link Triple}
+	 */
+	public Triple<Integer, Integer, Double> toTriple()
+	{
+		return new Triple<>(this.left, this.middle, this.right);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the int int double triple builder
+	 */
+	public IntIntDoubleTripleBuilder toBuilder()
+	{
+		return new IntIntDoubleTripleBuilder().left(this.left).middle(this.middle)
+			.right(this.right);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "IntIntDoubleTriple(left=" + this.getLeft() + ", middle=" + this.getMiddle()
+			+ ", right=" + this.getRight() + ")";
+	}
+
+	/**
+	 * Replaces this int int double triple with a {@link TupleSerializationProxy} that writes a
+	 * compact binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.INT_INT_DOUBLE_TRIPLE, this);
+	}
+
+	/**
+	 * The class {@link IntIntDoubleTripleBuilder}.
+	 */
+	public static class IntIntDoubleTripleBuilder
+	{
+
+		/** The left. */
+		private int left;
+
+		/** The middle. */
+		private int middle;
+
+		/** The right. */
+		private double right;
+
+		/**
+		 * Instantiates a new int int double triple builder.
+		 */
+		IntIntDoubleTripleBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the int int double triple
+		 */
+		public IntIntDoubleTriple build()
+		{
+			return new IntIntDoubleTriple(left, middle, right);
+		}
+
+		/**
+		 * The left value.
+		 *
+		 * @param left
+		 *            the left
+		 * @return the int int double triple builder
+		 */
+		public IntIntDoubleTripleBuilder left(final int left)
+		{
+			this.left = left;
+			return this;
+		}
+
+		/**
+		 * The middle value.
+		 *
+		 * @param middle
+		 *            the middle
+		 * @return the int int double triple builder
+		 */
+		public IntIntDoubleTripleBuilder middle(final int middle)
+		{
+			this.middle = middle;
+			return this;
+		}
+
+		/**
+		 * The right value.
+		 *
+		 * @param right
+		 *            the right
+		 * @return the int int double triple builder
+		 */
+		public IntIntDoubleTripleBuilder right(final double right)
+		{
+			this.right = right;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "IntIntDoubleTriple.IntIntDoubleTripleBuilder(left=" + this.left + ", middle="
+				+ this.middle + ", right=" + this.right + ")";
+		}
+	}
+}
@@ -0,0 +1,355 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link IntIntPair} represents a pair of primitive int values. It is the unboxed
+ * counterpart of a {@link Pair} with {@link Integer} values and can be packed into a single
+ * <code>long</code> for compact storage.
+ */
+public class IntIntPair implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The left.
+	 */
+	private int leftContent;
+	/**
+	 * The right.
+	 */
+	private int rightContent;
+
+	/**
+	 * Instantiates a new int int pair.
+	 */
+	public IntIntPair()
+	{
+	}
+
+	/**
+	 * Instantiates a new int int pair.
+	 *
+	 * @param leftContent
+	 *            the left content
+	 * @param rightContent
+	 *            the right content
+	 */
+	public IntIntPair(final int leftContent, final int rightContent)
+	{
+		this.leftContent = leftContent;
+		this.rightContent = rightContent;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @return the int int pair builder
+	 */
+	public static IntIntPairBuilder builder()
+	{
+		return new IntIntPairBuilder();
+	}
+
+	/**
+	 * Factory method for create a new {@link IntIntPair} from the given {@link Pair}
+	 *
+	 * @param pair
+	 *            the pair with the boxed values
+	 * @return the new {@link IntIntPair}
+	 * @throws NullPointerException
+	 *             if one of the contents of the given pair is null
+	 */
+	public static IntIntPair of(final Pair<Integer, Integer> pair)
+	{
+		return new IntIntPair(pair.getLeftContent(), pair.getRightContent());
+	}
+
+	/**
+	 * Packs the given int values into one long value. The left content is stored in the high 32
+	 * bits and the right content in the low 32 bits
+	 *
+	 * @param leftContent
+	 *            the left content
+	 * @param rightContent
+	 *            the right content
+	 * @return the packed long value
+	 */
+	public static long pack(final int leftContent, final int rightContent)
+	{
+		return ((long)leftContent << 32) | (rightContent & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Unpacks the left content from the given packed long value
+	 *
+	 * @param packed
+	 *            the packed long value
+	 * @return the left content
+	 */
+	public static int unpackLeft(final long packed)
+	{
+		return (int)(packed >>> 32);
+	}
+
+	/**
+	 * Unpacks the right content from the given packed long value
+	 *
+	 * @param packed
+	 *            the packed long value
+	 * @return the right content
+	 */
+	public static int unpackRight(final long packed)
+	{
+		return (int)packed;
+	}
+
+	/**
+	 * Factory method for create a new {@link IntIntPair} from the given packed long value
+	 *
+	 * @param packed
+	 *            the packed long value
+	 * @return the new {@link IntIntPair}
+	 */
+	public static IntIntPair fromLong(final long packed)
+	{
+		return new IntIntPair(unpackLeft(packed), unpackRight(packed));
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof IntIntPair;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof IntIntPair))
+		{
+			return false;
+		}
+		final IntIntPair other = (IntIntPair)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		return this.leftContent == other.leftContent && this.rightContent == other.rightContent;
+	}
+
+	/**
+	 * The left.
+	 *
+	 * @return the left content
+	 */
+	public int getLeftContent()
+	{
+		return this.leftContent;
+	}
+
+	/**
+	 * The left.
+	 *
+	 * @param leftContent
+	 *            the new left content
+	 */
+	public void setLeftContent(final int leftContent)
+	{
+		this.leftContent = leftContent;
+	}
+
+	/**
+	 * The right.
+	 *
+	 * @return the right content
+	 */
+	public int getRightContent()
+	{
+		return this.rightContent;
+	}
+
+	/**
+	 * The right.
+	 *
+	 * @param rightContent
+	 *            the new right content
+	 */
+	public void setRightContent(final int rightContent)
+	{
+		this.rightContent = rightContent;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The hash code is the same as the hash code of the corresponding boxed {@link Pair}
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, Integer.hashCode(this.leftContent));
+		result = strategy.combine(result, Integer.hashCode(this.rightContent));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Packs this pair into one long value
+	 *
+	 * @return the packed long value
+	 * @see IntIntPair#pack(int, int)
+	 */
+	public long toLong()
+	{
+		return pack(this.leftContent, this.rightContent);
+	}
+
+	/**
+	 * Converts this pair to a {@link Pair} with boxed values
+	 *
+	 * @return the new {@link Pair}
+	 */
+	public Pair<Integer, Integer> toPair()
+	{
+		return new Pair<>(this.leftContent, this.rightContent);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the int int pair builder
+	 */
+	public IntIntPairBuilder toBuilder()
+	{
+		return new IntIntPairBuilder().leftContent(this.leftContent)
+			.rightContent(this.rightContent);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "IntIntPair(leftContent=" + this.getLeftContent() + ", rightContent="
+			+ this.getRightContent() + ")";
+	}
+
+	/**
+	 * Replaces this int int pair with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.INT_INT_PAIR, this);
+	}
+
+	/**
+	 * The class {@link IntIntPairBuilder}.
+	 */
+	public static class IntIntPairBuilder
+	{
+
+		/** The left content. */
+		private int leftContent;
+
+		/** The right content. */
+		private int rightContent;
+
+		/**
+		 * Instantiates a new int int pair builder.
+		 */
+		IntIntPairBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the int int pair
+		 */
+		public IntIntPair build()
+		{
+			return new IntIntPair(leftContent, rightContent);
+		}
+
+		/**
+		 * The left.
+		 *
+		 * @param leftContent
+		 *            the left content
+		 * @return the int int pair builder
+		 */
+		public IntIntPairBuilder leftContent(final int leftContent)
+		{
+			this.leftContent = leftContent;
+			return this;
+		}
+
+		/**
+		 * The right.
+		 *
+		 * @param rightContent
+		 *            the right content
+		 * @return the int int pair builder
+		 */
+		public IntIntPairBuilder rightContent(final int rightContent)
+		{
+			this.rightContent = rightContent;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "IntIntPair.IntIntPairBuilder(leftContent=" + this.leftContent
+				+ ", rightContent=" + this.rightContent + ")";
+		}
+	}
+}
@@ -0,0 +1,293 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link IntLongPair} represents a pair of a primitive int and a primitive long value.
+ * It is the unboxed counterpart of a {@link Pair} with {@link Integer} and {@link Long} values.
+ */
+public class IntLongPair implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The left.
+	 */
+	private int leftContent;
+	/**
+	 * The right.
+	 */
+	private long rightContent;
+
+	/**
+	 * Instantiates a new int long pair.
+	 */
+	public IntLongPair()
+	{
+	}
+
+	/**
+	 * Instantiates a new int long pair.
+	 *
+	 * @param leftContent
+	 *            the left content
+	 * @param rightContent
+	 *            the right content
+	 */
+	public IntLongPair(final int leftContent, final long rightContent)
+	{
+		this.leftContent = leftContent;
+		this.rightContent = rightContent;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @return the int long pair builder
+	 */
+	public static IntLongPairBuilder builder()
+	{
+		return new IntLongPairBuilder();
+	}
+
+	/**
+	 * Factory method for create a new {@link IntLongPair} from the given {@link Pair}
+	 *
+	 * @param pair
+	 *            the pair with the boxed values
+	 * @return the new {@link IntLongPair}
+	 * @throws NullPointerException
+	 *             if one of the contents of the given pair is null
+	 */
+	public static IntLongPair of(final Pair<Integer, Long> pair)
+	{
+		return new IntLongPair(pair.getLeftContent(), pair.getRightContent());
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof IntLongPair;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof IntLongPair))
+		{
+			return false;
+		}
+		final IntLongPair other = (IntLongPair)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		return this.leftContent == other.leftContent
+			&& this.rightContent == other.rightContent;
+	}
+
+	/**
+	 * The left.
+	 *
+	 * @return the left content
+	 */
+	public int getLeftContent()
+	{
+		return this.leftContent;
+	}
+
+	/**
+	 * The left.
+	 *
+	 * @param leftContent
+	 *            the new left content
+	 */
+	public void setLeftContent(final int leftContent)
+	{
+		this.leftContent = leftContent;
+	}
+
+	/**
+	 * The right.
+	 *
+	 * @return the right content
+	 */
+	public long getRightContent()
+	{
+		return this.rightContent;
+	}
+
+	/**
+	 * The right.
+	 *
+	 * @param rightContent
+	 *            the new right content
+	 */
+	public void setRightContent(final long rightContent)
+	{
+		this.rightContent = rightContent;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The hash code is the same as the hash code of the corresponding boxed {@link Pair}
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, Integer.hashCode(this.leftContent));
+		result = strategy.combine(result, Long.hashCode(this.rightContent));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Converts this pair to a {@link Pair} with boxed values
+	 *
+	 * @return the new {@link Pair}
+	 */
+	public Pair<Integer, Long> toPair()
+	{
+		return new Pair<>(this.leftContent, this.rightContent);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the int long pair builder
+	 */
+	public IntLongPairBuilder toBuilder()
+	{
+		return new IntLongPairBuilder().leftContent(this.leftContent)
+			.rightContent(this.rightContent);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "IntLongPair(leftContent=" + this.getLeftContent() + ", rightContent="
+			+ this.getRightContent() + ")";
+	}
+
+	/**
+	 * Replaces this int long pair with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.INT_LONG_PAIR, this);
+	}
+
+	/**
+	 * The class {@link IntLongPairBuilder}.
+	 */
+	public static class IntLongPairBuilder
+	{
+
+		/** The left content. */
+		private int leftContent;
+
+		/** The right content. */
+		private long rightContent;
+
+		/**
+		 * Instantiates a new int long pair builder.
+		 */
+		IntLongPairBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the int long pair
+		 */
+		public IntLongPair build()
+		{
+			return new IntLongPair(leftContent, rightContent);
+		}
+
+		/**
+		 * The left.
+		 *
+		 * @param leftContent
+		 *            the left content
+		 * @return the int long pair builder
+		 */
+		public IntLongPairBuilder leftContent(final int leftContent)
+		{
+			this.leftContent = leftContent;
+			return this;
+		}
+
+		/**
+		 * The right.
+		 *
+		 * @param rightContent
+		 *            the right content
+		 * @return the int long pair builder
+		 */
+		public IntLongPairBuilder rightContent(final long rightContent)
+		{
+			this.rightContent = rightContent;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "IntLongPair.IntLongPairBuilder(leftContent=" + this.leftContent
+				+ ", rightContent=" + this.rightContent + ")";
+		}
+	}
+}
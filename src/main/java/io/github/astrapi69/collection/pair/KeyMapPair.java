@@ -27,6 +27,8 @@ package io.github.astrapi69.collection.pair;
 import java.io.Serializable;
 import java.util.Map;
 
+import io.github.astrapi69.collection.compact.CompactImmutableMap;
+
 /**
  * The class {@link KeyMapPair} represents a key value pair with generic parameters for the key and
  * map value type.
@@ -169,13 +171,25 @@ public final class KeyMapPair<K, MK, MV> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $key = this.getKey();
-		result = result * PRIME + ($key == null ? 43 : $key.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($key));
 		final Object $values = this.getValues();
-		result = result * PRIME + ($values == null ? 43 : $values.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($values));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Creates a new {@link ImmutableKeyMapPair} with the current contents of this key map pair. The
+	 * values are copied, so later changes of this key map pair are not reflected in the returned
+	 * instance
+	 *
+	 * @return the new {@link ImmutableKeyMapPair}
+	 */
+	public ImmutableKeyMapPair<K, MK, MV> freeze()
+	{
+		return new ImmutableKeyMapPair<>(getKey(), getValues());
 	}
 
 	/**
@@ -197,6 +211,17 @@ public final class KeyMapPair<K, MK, MV> implements Serializable
 		return "KeyMapPair(key=" + this.getKey() + ", values=" + this.getValues() + ")";
 	}
 
+	/**
+	 * Replaces this key map pair with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.KEY_MAP_PAIR, this);
+	}
+
 	/**
 	 * The class {@link KeyMapPairBuilder}.
 	 *
@@ -210,6 +235,12 @@ public final class KeyMapPair<K, MK, MV> implements Serializable
 	public static class KeyMapPairBuilder<K, MK, MV>
 	{
 
+		/** The flag if the built map is converted to a {@link CompactImmutableMap}. */
+		private boolean compact;
+
+		/** The entries that are added one by one. */
+		private CompactImmutableMap.Builder<MK, MV> entries;
+
 		/** The key. */
 		private K key;
 
@@ -224,15 +255,65 @@ public final class KeyMapPair<K, MK, MV> implements Serializable
 		}
 
 		/**
-		 * Build it
+		 * Build it. The entries that were added with
+		 * {@link KeyMapPairBuilder#entry(Object, Object)} are built into a new
+		 * {@link CompactImmutableMap}, a map that was set with
+		 * {@link KeyMapPairBuilder#values(Map)} is copied into a {@link CompactImmutableMap} if
+		 * {@link KeyMapPairBuilder#compact()} was called and is taken as it is otherwise
 		 *
 		 * @return the key map pair
 		 */
 		public KeyMapPair<K, MK, MV> build()
 		{
+			if (this.entries != null)
+			{
+				return new KeyMapPair<>(key, this.entries.build());
+			}
+			if (this.compact && this.values != null)
+			{
+				return new KeyMapPair<>(key, CompactImmutableMap.copyOf(this.values));
+			}
 			return new KeyMapPair<>(key, values);
 		}
 
+		/**
+		 * Sets the flag that converts the map of the built key map pair to a compact immutable map
+		 * that needs no node per entry
+		 *
+		 * @return the key map pair builder
+		 */
+		public KeyMapPairBuilder<K, MK, MV> compact()
+		{
+			this.compact = true;
+			return this;
+		}
+
+		/**
+		 * Adds an entry to the map of the built key map pair, the entries are built into a
+		 * {@link CompactImmutableMap}. A map that was set before with
+		 * {@link KeyMapPairBuilder#values(Map)} is taken over into the entries
+		 *
+		 * @param mapKey
+		 *            the map key
+		 * @param mapValue
+		 *            the map value
+		 * @return the key map pair builder
+		 */
+		public KeyMapPairBuilder<K, MK, MV> entry(final MK mapKey, final MV mapValue)
+		{
+			if (this.entries == null)
+			{
+				this.entries = CompactImmutableMap.builder();
+				if (this.values != null)
+				{
+					this.entries.putAll(this.values);
+					this.values = null;
+				}
+			}
+			this.entries.put(mapKey, mapValue);
+			return this;
+		}
+
 		/**
 		 * The key.
 		 *
@@ -252,11 +333,13 @@ public final class KeyMapPair<K, MK, MV> implements Serializable
 		@Override
 		public String toString()
 		{
-			return "KeyMapPair.KeyMapPairBuilder(key=" + this.key + ", values=" + this.values + ")";
+			return "KeyMapPair.KeyMapPairBuilder(key=" + this.key + ", values="
+				+ (this.entries != null ? this.entries.build() : this.values) + ")";
 		}
 
 		/**
-		 * The map with the values.
+		 * The map with the values. Entries that were added before with
+		 * {@link KeyMapPairBuilder#entry(Object, Object)} are discarded
 		 *
 		 * @param values
 		 *            the values
@@ -264,6 +347,7 @@ public final class KeyMapPair<K, MK, MV> implements Serializable
 		 */
 		public KeyMapPairBuilder<K, MK, MV> values(final Map<MK, MV> values)
 		{
+			this.entries = null;
 			this.values = values;
 			return this;
 		}
@@ -28,9 +28,10 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.Set;
 
+import io.github.astrapi69.collection.compact.CompactImmutableSet;
+
 /**
  * The class {@link KeySetPair} represents a key value pair where the value is a set with generic
  * parameters.
@@ -170,13 +171,25 @@ public final class KeySetPair<K, V> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $key = this.getKey();
-		result = result * PRIME + ($key == null ? 43 : $key.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($key));
 		final Object $values = this.getValues();
-		result = result * PRIME + ($values == null ? 43 : $values.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($values));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Creates a new {@link ImmutableKeySetPair} with the current contents of this key set pair. The
+	 * values are copied, so later changes of this key set pair are not reflected in the returned
+	 * instance
+	 *
+	 * @return the new {@link ImmutableKeySetPair}
+	 */
+	public ImmutableKeySetPair<K, V> freeze()
+	{
+		return new ImmutableKeySetPair<>(getKey(), getValues());
 	}
 
 	/**
@@ -203,6 +216,17 @@ public final class KeySetPair<K, V> implements Serializable
 		return "KeySetPair(key=" + this.getKey() + ", values=" + this.getValues() + ")";
 	}
 
+	/**
+	 * Replaces this key set pair with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.KEY_SET_PAIR, this);
+	}
+
 	/**
 	 * The class {@link KeySetPairBuilder}.
 	 *
@@ -244,11 +268,7 @@ public final class KeySetPair<K, V> implements Serializable
 					values = Collections.singleton(this.values.get(0));
 					break;
 				default :
-					values = new LinkedHashSet<>(this.values.size() < 1073741824
-						? 1 + this.values.size() + (this.values.size() - 3) / 3
-						: Integer.MAX_VALUE);
-					values.addAll(this.values);
-					values = Collections.unmodifiableSet(values);
+					values = CompactImmutableSet.copyOf(this.values);
 			}
 			return new KeySetPair<>(key, values);
 		}
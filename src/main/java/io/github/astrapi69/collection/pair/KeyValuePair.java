@@ -31,7 +31,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
 
 /**
  * The class {@link KeyValuePair} represents a key value pair with generic parameters for the key
@@ -50,6 +55,11 @@ public final class KeyValuePair<K, V> implements Serializable
 	 * The Constant serialVersionUID.
 	 */
 	private static final long serialVersionUID = 1L;
+	/**
+	 * The builder that is reused by the current thread, see {@link KeyValuePair#reusableBuilder()}
+	 */
+	private static final ThreadLocal<KeyValuePairBuilder<?, ?>> REUSABLE_BUILDER = ThreadLocal
+		.withInitial(KeyValuePairBuilder::new);
 	/**
 	 * The key.
 	 */
@@ -94,6 +104,66 @@ public final class KeyValuePair<K, V> implements Serializable
 		return new KeyValuePairBuilder<>();
 	}
 
+	/**
+	 * Gets the reset builder of the current thread. Other than {@link KeyValuePair#builder()} this
+	 * method does not allocate a new builder, so a loop that creates many key value pair objects
+	 * only allocates the created objects. The returned builder must not be shared with other
+	 * threads or kept after the next call of this method in the same thread. Finish the builder
+	 * with {@link KeyValuePairBuilder#buildAndReset()}, otherwise the builder of the thread keeps
+	 * the contents of the last built key value pair until the next call of this method, which on a
+	 * pooled thread can retain large objects for a long time
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <V>
+	 *            the generic type
+	 * @return the reset key value pair builder of the current thread
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> KeyValuePairBuilder<K, V> reusableBuilder()
+	{
+		return (KeyValuePairBuilder<K, V>)REUSABLE_BUILDER.get().reset();
+	}
+
+	/**
+	 * Creates an unmodifiable lazy list view of the entries of the given {@link Map}. Other than
+	 * {@link KeyValuePair#toKeyValuePairs(Map)} no entry is copied ahead, a {@link KeyValuePair} is
+	 * created when an element of the view is accessed. The view reads the current entries of the
+	 * map, an indexed access walks the entries up to the index. The spliterator and the parallel
+	 * stream of the view split the entry spliterator of the map if it is sized, otherwise they copy
+	 * the entry references into a new array of the size of the map for every call. The map must
+	 * not be structurally modified while the view is used
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param map
+	 *            the map
+	 * @return the lazy list view of the {@link KeyValuePair}'s
+	 */
+	public static <K, V> List<KeyValuePair<K, V>> asKeyValuePairs(final Map<K, V> map)
+	{
+		return new KeyValuePairView<>(map);
+	}
+
+	/**
+	 * Creates an unmodifiable lazy list view of the entries of the given {@link Properties}. Other
+	 * than {@link KeyValuePair#toKeyValuePairs(Properties)} no entry is copied ahead, a
+	 * {@link KeyValuePair} is created when an element of the view is accessed. The properties must
+	 * only contain string keys and values and must not be structurally modified while the view is
+	 * used
+	 *
+	 * @param properties
+	 *            the properties
+	 * @return the lazy list view of the {@link KeyValuePair}'s
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static List<KeyValuePair<String, String>> asKeyValuePairs(final Properties properties)
+	{
+		return new KeyValuePairView<>((Map<String, String>)(Map)properties);
+	}
+
 	/**
 	 * Transforms the given {@link Map} to a list of {@link KeyValuePair}'s.
 	 *
@@ -107,11 +177,11 @@ public final class KeyValuePair<K, V> implements Serializable
 	 */
 	public static <K, V> List<KeyValuePair<K, V>> toKeyValuePairs(final Map<K, V> map)
 	{
-		final List<KeyValuePair<K, V>> list = new ArrayList<>();
+		final List<KeyValuePair<K, V>> list = new ArrayList<>(map.size());
+		final KeyValuePairBuilder<K, V> builder = builder();
 		for (final Entry<K, V> entry : map.entrySet())
 		{
-			list.add(
-				KeyValuePair.<K, V> builder().key(entry.getKey()).value(entry.getValue()).build());
+			list.add(builder.key(entry.getKey()).value(entry.getValue()).build());
 		}
 		return list;
 	}
@@ -125,17 +195,19 @@ public final class KeyValuePair<K, V> implements Serializable
 	 */
 	public static List<KeyValuePair<String, String>> toKeyValuePairs(final Properties properties)
 	{
-		final List<KeyValuePair<String, String>> list = new ArrayList<>();
+		final List<KeyValuePair<String, String>> list = new ArrayList<>(properties.size());
+		final KeyValuePairBuilder<String, String> builder = builder();
 		for (final Entry<Object, Object> entry : properties.entrySet())
 		{
-			list.add(KeyValuePair.<String, String> builder().key((String)entry.getKey())
-				.value((String)entry.getValue()).build());
+			list.add(
+				builder.key((String)entry.getKey()).value((String)entry.getValue()).build());
 		}
 		return list;
 	}
 
 	/**
-	 * Transforms the given {@link List} of {@link KeyValuePair}'s to a {@link Map}.
+	 * Transforms the given {@link List} of {@link KeyValuePair}'s to a {@link Map}. The map is
+	 * presized from the size of the given collection and the last value of a duplicate key wins
 	 *
 	 * @param <K>
 	 *            The generic type of the key
@@ -147,7 +219,7 @@ public final class KeyValuePair<K, V> implements Serializable
 	 */
 	public static <K, V> Map<K, V> toMap(final Collection<KeyValuePair<K, V>> list)
 	{
-		final Map<K, V> map = new HashMap<>();
+		final Map<K, V> map = new HashMap<>(hashMapCapacity(list.size()));
 		for (KeyValuePair<K, V> keyValuePair : list)
 		{
 			map.put(keyValuePair.getKey(), keyValuePair.getValue());
@@ -155,6 +227,102 @@ public final class KeyValuePair<K, V> implements Serializable
 		return map;
 	}
 
+	/**
+	 * Transforms the given {@link Collection} of {@link KeyValuePair}'s to a {@link Map} that is
+	 * presized from the size of the given collection. The values of a duplicate key are merged
+	 * with the given merge function
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param keyValuePairs
+	 *            the key value pairs
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 * @return the new map.
+	 */
+	public static <K, V> Map<K, V> toMap(final Collection<KeyValuePair<K, V>> keyValuePairs,
+		final BinaryOperator<V> mergeFunction)
+	{
+		return toMap(keyValuePairs, mergeFunction,
+			expectedSize -> new HashMap<>(hashMapCapacity(expectedSize)));
+	}
+
+	/**
+	 * Transforms the given {@link Collection} of {@link KeyValuePair}'s to a {@link Map} that is
+	 * created by the given map factory. The values of a duplicate key are merged with the given
+	 * merge function
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param <M>
+	 *            The generic type of the map
+	 * @param keyValuePairs
+	 *            the key value pairs
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 * @param mapFactory
+	 *            the factory that creates the map for the given number of expected entries, for
+	 *            instance <code>LinkedHashMap::new</code>
+	 * @return the new map.
+	 */
+	public static <K, V, M extends Map<K, V>> M toMap(
+		final Collection<KeyValuePair<K, V>> keyValuePairs, final BinaryOperator<V> mergeFunction,
+		final IntFunction<M> mapFactory)
+	{
+		Objects.requireNonNull(mergeFunction);
+		final M map = mapFactory.apply(keyValuePairs.size());
+		for (final KeyValuePair<K, V> keyValuePair : keyValuePairs)
+		{
+			KeyValuePairCollectors.merge(map, keyValuePair, mergeFunction);
+		}
+		return map;
+	}
+
+	/**
+	 * Transforms the given {@link Collection} of {@link KeyValuePair}'s in parallel to a
+	 * {@link ConcurrentMap} that is presized from the size of the given collection. The values of a
+	 * duplicate key are merged with the given merge function in an undefined order, so the merge
+	 * function should be associative and commutative. Null keys and null values are not allowed
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param keyValuePairs
+	 *            the key value pairs
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 * @return the new concurrent map.
+	 */
+	public static <K, V> ConcurrentMap<K, V> toConcurrentMap(
+		final Collection<KeyValuePair<K, V>> keyValuePairs, final BinaryOperator<V> mergeFunction)
+	{
+		final int expectedSize = keyValuePairs.size();
+		return keyValuePairs.parallelStream().collect(KeyValuePairCollectors
+			.toConcurrentMap(mergeFunction, () -> new ConcurrentHashMap<>(expectedSize)));
+	}
+
+	/**
+	 * Computes the initial capacity of a {@link HashMap} with the default load factor that holds
+	 * the given number of entries without resizing
+	 *
+	 * @param expectedSize
+	 *            the number of expected entries
+	 * @return the initial capacity
+	 */
+	static int hashMapCapacity(final int expectedSize)
+	{
+		if (expectedSize < 3)
+		{
+			return expectedSize + 1;
+		}
+		return (int)Math.min(expectedSize / 0.75d + 1.0d, Integer.MAX_VALUE);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -233,13 +401,23 @@ public final class KeyValuePair<K, V> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $key = this.getKey();
-		result = result * PRIME + ($key == null ? 43 : $key.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($key));
 		final Object $value = this.getValue();
-		result = result * PRIME + ($value == null ? 43 : $value.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($value));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Creates a new {@link ImmutableKeyValuePair} with the current contents of this key value pair.
+	 *
+	 * @return the new {@link ImmutableKeyValuePair}
+	 */
+	public ImmutableKeyValuePair<K, V> freeze()
+	{
+		return new ImmutableKeyValuePair<>(getKey(), getValue());
 	}
 
 	/**
@@ -261,6 +439,17 @@ public final class KeyValuePair<K, V> implements Serializable
 		return "KeyValuePair(key=" + this.getKey() + ", value=" + this.getValue() + ")";
 	}
 
+	/**
+	 * Replaces this key value pair with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.KEY_VALUE_PAIR, this);
+	}
+
 	/**
 	 * The class {@link KeyValuePairBuilder}.
 	 *
@@ -296,6 +485,31 @@ public final class KeyValuePair<K, V> implements Serializable
 			return new KeyValuePair<>(key, value);
 		}
 
+		/**
+		 * Build it and reset all contents of this builder to null, so a reused builder does not
+		 * keep the contents of the built key value pair
+		 *
+		 * @return the key value pair
+		 */
+		public KeyValuePair<K, V> buildAndReset()
+		{
+			final KeyValuePair<K, V> built = build();
+			reset();
+			return built;
+		}
+
+		/**
+		 * Resets all contents of this builder to null, so the builder can be reused
+		 *
+		 * @return the key value pair builder
+		 */
+		public KeyValuePairBuilder<K, V> reset()
+		{
+			this.key = null;
+			this.value = null;
+			return this;
+		}
+
 		/**
 		 * The key.
 		 *
@@ -0,0 +1,227 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * The class {@link KeyValuePairCollectors} provides {@link Collector}'s that collect a stream of
+ * {@link KeyValuePair}'s directly into a map without an intermediate list. Other than the method
+ * toMap of {@link java.util.stream.Collectors} the collectors of this class accept null values,
+ * and a duplicate key does not throw an exception but is either overwritten or merged with the
+ * given merge function. A key that is mapped to null is treated as absent by the merge and a key is
+ * removed if the merge function returns null like
+ * {@link Map#merge(Object, Object, java.util.function.BiFunction)} does
+ */
+public final class KeyValuePairCollectors
+{
+
+	private KeyValuePairCollectors()
+	{
+	}
+
+	/**
+	 * Factory method for create a concurrent collector into a {@link ConcurrentHashMap}. A
+	 * parallel stream accumulates into one shared map, the values of a duplicate key are merged
+	 * in an undefined order. Null keys and null values are not allowed
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 * @return the new collector
+	 */
+	public static <K, V> Collector<KeyValuePair<K, V>, ?, ConcurrentMap<K, V>> toConcurrentMap(
+		final BinaryOperator<V> mergeFunction)
+	{
+		return toConcurrentMap(mergeFunction, ConcurrentHashMap::new);
+	}
+
+	/**
+	 * Factory method for create a concurrent collector into the {@link ConcurrentMap} that is
+	 * created by the given map factory. A parallel stream accumulates into one shared map, the
+	 * values of a duplicate key are merged in an undefined order
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param <M>
+	 *            The generic type of the map
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 * @param mapFactory
+	 *            the factory that creates the empty map
+	 * @return the new collector
+	 */
+	public static <K, V, M extends ConcurrentMap<K, V>> Collector<KeyValuePair<K, V>, ?, M>
+		toConcurrentMap(final BinaryOperator<V> mergeFunction, final Supplier<M> mapFactory)
+	{
+		Objects.requireNonNull(mergeFunction);
+		Objects.requireNonNull(mapFactory);
+		return Collector.of(mapFactory,
+			(map, keyValuePair) -> map.merge(keyValuePair.getKey(), keyValuePair.getValue(),
+				mergeFunction),
+			(left, right) -> {
+				right.forEach((key, value) -> left.merge(key, value, mergeFunction));
+				return left;
+			}, Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Factory method for create a collector into a {@link HashMap}. The last value of a duplicate
+	 * key wins like in {@link KeyValuePair#toMap(java.util.Collection)}
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @return the new collector
+	 */
+	public static <K, V> Collector<KeyValuePair<K, V>, ?, Map<K, V>> toMap()
+	{
+		return Collector.of(HashMap::new,
+			(map, keyValuePair) -> map.put(keyValuePair.getKey(), keyValuePair.getValue()),
+			(left, right) -> {
+				left.putAll(right);
+				return left;
+			});
+	}
+
+	/**
+	 * Factory method for create a collector into a {@link HashMap}. The values of a duplicate key
+	 * are merged with the given merge function
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 * @return the new collector
+	 */
+	public static <K, V> Collector<KeyValuePair<K, V>, ?, Map<K, V>> toMap(
+		final BinaryOperator<V> mergeFunction)
+	{
+		return toMap(mergeFunction, HashMap::new);
+	}
+
+	/**
+	 * Factory method for create a collector into the {@link Map} that is created by the given map
+	 * factory. The values of a duplicate key are merged with the given merge function
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param <M>
+	 *            The generic type of the map
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 * @param mapFactory
+	 *            the factory that creates the empty map
+	 * @return the new collector
+	 */
+	public static <K, V, M extends Map<K, V>> Collector<KeyValuePair<K, V>, ?, M> toMap(
+		final BinaryOperator<V> mergeFunction, final Supplier<M> mapFactory)
+	{
+		Objects.requireNonNull(mergeFunction);
+		Objects.requireNonNull(mapFactory);
+		return Collector.of(mapFactory,
+			(map, keyValuePair) -> merge(map, keyValuePair, mergeFunction), (left, right) -> {
+				for (final Map.Entry<K, V> entry : right.entrySet())
+				{
+					merge(left, entry.getKey(), entry.getValue(), mergeFunction);
+				}
+				return left;
+			});
+	}
+
+	/**
+	 * Puts the given key value pair into the given map and merges the value with the given merge
+	 * function if the key is already mapped to a non null value. The key is removed if the merge
+	 * function returns null
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param map
+	 *            the map
+	 * @param keyValuePair
+	 *            the key value pair
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 */
+	static <K, V> void merge(final Map<K, V> map, final KeyValuePair<K, V> keyValuePair,
+		final BinaryOperator<V> mergeFunction)
+	{
+		merge(map, keyValuePair.getKey(), keyValuePair.getValue(), mergeFunction);
+	}
+
+	/**
+	 * Puts the given key and value into the given map and merges the value with the given merge
+	 * function if the key is already mapped to a non null value. The key is removed if the merge
+	 * function returns null. A new key costs only one lookup
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param map
+	 *            the map
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 * @param mergeFunction
+	 *            the function that merges the previous and the new value of a duplicate key
+	 */
+	private static <K, V> void merge(final Map<K, V> map, final K key, final V value,
+		final BinaryOperator<V> mergeFunction)
+	{
+		final V previous = map.putIfAbsent(key, value);
+		if (previous == null)
+		{
+			return;
+		}
+		final V merged = mergeFunction.apply(previous, value);
+		if (merged == null)
+		{
+			map.remove(key);
+			return;
+		}
+		map.put(key, merged);
+	}
+}
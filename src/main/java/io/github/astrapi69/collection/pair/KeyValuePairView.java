@@ -0,0 +1,451 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The class {@link KeyValuePairView} is an unmodifiable lazy {@link java.util.List} view of the
+ * entries of a {@link Map} as {@link KeyValuePair}'s. A {@link KeyValuePair} is only created when
+ * an element is accessed, so iterating the view or streaming it sequentially needs constant
+ * memory. The view always reads the current entries of the map, nothing is cached. An indexed
+ * access walks the entries of the map up to the index, so the view is no
+ * {@link java.util.RandomAccess} list. The list iterators, the search methods and the sub lists
+ * walk one entry iterator, only a step back with a list iterator walks the entries again. A
+ * spliterator or parallel stream splits the entry spliterator of the map if it is
+ * {@link Spliterator#SIZED}, otherwise it takes a snapshot of the entry references into one array
+ * for every call. Like the collection views of a {@link Map} the view must not be used while the
+ * map is structurally modified
+ *
+ * @param <K>
+ *            The generic type of the key
+ * @param <V>
+ *            The generic type of the value
+ */
+final class KeyValuePairView<K, V> extends AbstractList<KeyValuePair<K, V>>
+{
+
+	/** The backing map. */
+	private final Map<K, V> map;
+
+	/**
+	 * Instantiates a new {@link KeyValuePairView}
+	 *
+	 * @param map
+	 *            the backing map
+	 */
+	KeyValuePairView(final Map<K, V> map)
+	{
+		this.map = Objects.requireNonNull(map);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Note: the elements are compared with the iterators, so other than the default of
+	 * {@link AbstractList} no indexed access is used
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof List))
+		{
+			return false;
+		}
+		final Iterator<KeyValuePair<K, V>> iterator = iterator();
+		final Iterator<?> otherIterator = ((List<?>)o).iterator();
+		while (iterator.hasNext() && otherIterator.hasNext())
+		{
+			if (!iterator.next().equals(otherIterator.next()))
+			{
+				return false;
+			}
+		}
+		return !iterator.hasNext() && !otherIterator.hasNext();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(final Consumer<? super KeyValuePair<K, V>> action)
+	{
+		Objects.requireNonNull(action);
+		map.forEach((key, value) -> action.accept(new KeyValuePair<>(key, value)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public KeyValuePair<K, V> get(final int index)
+	{
+		Objects.checkIndex(index, map.size());
+		return toKeyValuePair(entriesFrom(index).next());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return super.hashCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<KeyValuePair<K, V>> iterator()
+	{
+		final Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+		return new Iterator<>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return iterator.hasNext();
+			}
+
+			@Override
+			public KeyValuePair<K, V> next()
+			{
+				return toKeyValuePair(iterator.next());
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Note: the elements are searched with one iterator, so other than the default of
+	 * {@link AbstractList} no indexed access is used
+	 */
+	@Override
+	public int indexOf(final Object o)
+	{
+		int index = 0;
+		for (final KeyValuePair<K, V> keyValuePair : this)
+		{
+			if (keyValuePair.equals(o))
+			{
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Note: the elements are searched with one iterator, so other than the default of
+	 * {@link AbstractList} no indexed access is used
+	 */
+	@Override
+	public int lastIndexOf(final Object o)
+	{
+		int lastIndex = -1;
+		int index = 0;
+		for (final KeyValuePair<K, V> keyValuePair : this)
+		{
+			if (keyValuePair.equals(o))
+			{
+				lastIndex = index;
+			}
+			index++;
+		}
+		return lastIndex;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Note: the list iterator is backed by one entry iterator of the map, so a forward traversal
+	 * walks the entries once. The sub lists of the view iterate with this list iterator
+	 */
+	@Override
+	public ListIterator<KeyValuePair<K, V>> listIterator(final int index)
+	{
+		if (index < 0 || map.size() < index)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + map.size());
+		}
+		return new ViewListIterator(index);
+	}
+
+	/**
+	 * Creates a parallel stream over the spliterator of this view
+	 *
+	 * @return the parallel stream
+	 */
+	@Override
+	public Stream<KeyValuePair<K, V>> parallelStream()
+	{
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return map.size();
+	}
+
+	/**
+	 * Creates a spliterator that splits the entry spliterator of the map if it is
+	 * {@link Spliterator#SIZED}. Otherwise it splits a new snapshot of the entry references into
+	 * exactly sized halves, which costs one array of the size of the map for every call
+	 *
+	 * @return the spliterator
+	 */
+	@Override
+	public Spliterator<KeyValuePair<K, V>> spliterator()
+	{
+		final Spliterator<Map.Entry<K, V>> entries = map.entrySet().spliterator();
+		if (entries.hasCharacteristics(Spliterator.SIZED))
+		{
+			return new EntrySpliterator<>(entries);
+		}
+		return new EntrySpliterator<>(Arrays.spliterator(entries()));
+	}
+
+	/**
+	 * Creates a sequential stream over the entries of the map without a snapshot of the entry
+	 * references
+	 *
+	 * @return the sequential stream
+	 */
+	@Override
+	public Stream<KeyValuePair<K, V>> stream()
+	{
+		return StreamSupport.stream(new EntrySpliterator<>(map.entrySet().spliterator()), false);
+	}
+
+	/**
+	 * Creates a new entry iterator of the map that is advanced to the given index
+	 *
+	 * @param index
+	 *            the index of the next entry
+	 * @return the entry iterator
+	 */
+	private Iterator<Map.Entry<K, V>> entriesFrom(final int index)
+	{
+		final Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+		for (int i = 0; i < index; i++)
+		{
+			iterator.next();
+		}
+		return iterator;
+	}
+
+	/**
+	 * Creates a new snapshot of the entry references of the map
+	 *
+	 * @return the snapshot of the entry references
+	 */
+	@SuppressWarnings("unchecked")
+	private Map.Entry<K, V>[] entries()
+	{
+		return (Map.Entry<K, V>[])map.entrySet().toArray(new Map.Entry<?, ?>[0]);
+	}
+
+	/**
+	 * Creates a new {@link KeyValuePair} from the given entry
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param entry
+	 *            the entry
+	 * @return the new {@link KeyValuePair}
+	 */
+	static <K, V> KeyValuePair<K, V> toKeyValuePair(final Map.Entry<K, V> entry)
+	{
+		return new KeyValuePair<>(entry.getKey(), entry.getValue());
+	}
+
+	/**
+	 * The unmodifiable list iterator that walks one entry iterator of the map forward. A step back
+	 * walks a new entry iterator up to the previous index
+	 */
+	private final class ViewListIterator implements ListIterator<KeyValuePair<K, V>>
+	{
+
+		/** The index of the next element. */
+		private int cursor;
+
+		/** The entry iterator that is positioned at the cursor or behind the pending entry. */
+		private Iterator<Map.Entry<K, V>> entries;
+
+		/** The entry at the cursor that was already taken from the entry iterator or null. */
+		private Map.Entry<K, V> pending;
+
+		ViewListIterator(final int index)
+		{
+			this.cursor = index;
+			this.entries = entriesFrom(index);
+		}
+
+		@Override
+		public void add(final KeyValuePair<K, V> keyValuePair)
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return pending != null || entries.hasNext();
+		}
+
+		@Override
+		public boolean hasPrevious()
+		{
+			return 0 < cursor;
+		}
+
+		@Override
+		public KeyValuePair<K, V> next()
+		{
+			Map.Entry<K, V> entry = pending;
+			if (entry == null)
+			{
+				entry = entries.next();
+			}
+			pending = null;
+			cursor++;
+			return toKeyValuePair(entry);
+		}
+
+		@Override
+		public int nextIndex()
+		{
+			return cursor;
+		}
+
+		@Override
+		public KeyValuePair<K, V> previous()
+		{
+			if (cursor == 0)
+			{
+				throw new NoSuchElementException();
+			}
+			cursor--;
+			entries = entriesFrom(cursor);
+			pending = entries.next();
+			return toKeyValuePair(pending);
+		}
+
+		@Override
+		public int previousIndex()
+		{
+			return cursor - 1;
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void set(final KeyValuePair<K, V> keyValuePair)
+		{
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * The spliterator that creates a {@link KeyValuePair} for every entry of the decorated entry
+	 * spliterator on access
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 */
+	private static final class EntrySpliterator<K, V> implements Spliterator<KeyValuePair<K, V>>
+	{
+
+		/** The decorated entry spliterator. */
+		private final Spliterator<Map.Entry<K, V>> source;
+
+		EntrySpliterator(final Spliterator<Map.Entry<K, V>> source)
+		{
+			this.source = source;
+		}
+
+		@Override
+		public int characteristics()
+		{
+			return (source.characteristics() & ~Spliterator.SORTED) | Spliterator.NONNULL;
+		}
+
+		@Override
+		public long estimateSize()
+		{
+			return source.estimateSize();
+		}
+
+		@Override
+		public void forEachRemaining(final Consumer<? super KeyValuePair<K, V>> action)
+		{
+			source.forEachRemaining(entry -> action.accept(toKeyValuePair(entry)));
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super KeyValuePair<K, V>> action)
+		{
+			return source.tryAdvance(entry -> action.accept(toKeyValuePair(entry)));
+		}
+
+		@Override
+		public Spliterator<KeyValuePair<K, V>> trySplit()
+		{
+			final Spliterator<Map.Entry<K, V>> prefix = source.trySplit();
+			return prefix != null ? new EntrySpliterator<>(prefix) : null;
+		}
+	}
+}
@@ -27,6 +27,8 @@ package io.github.astrapi69.collection.pair;
 import java.io.Serializable;
 import java.util.Collection;
 
+import io.github.astrapi69.collection.compact.CompactImmutableList;
+
 /**
  * The class {@link KeyValuesPair} represents a key value pair where the value is a collection with
  * generic parameters for the key and value type.
@@ -166,13 +168,25 @@ public final class KeyValuesPair<K, V> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $key = this.getKey();
-		result = result * PRIME + ($key == null ? 43 : $key.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($key));
 		final Object $values = this.getValues();
-		result = result * PRIME + ($values == null ? 43 : $values.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($values));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Creates a new {@link ImmutableKeyValuesPair} with the current contents of this key values
+	 * pair. The values are copied, so later changes of this key values pair are not reflected in
+	 * the returned instance
+	 *
+	 * @return the new {@link ImmutableKeyValuesPair}
+	 */
+	public ImmutableKeyValuesPair<K, V> freeze()
+	{
+		return new ImmutableKeyValuesPair<>(getKey(), getValues());
 	}
 
 	/**
@@ -199,6 +213,17 @@ public final class KeyValuesPair<K, V> implements Serializable
 		return "KeyValuesPair(key=" + this.getKey() + ", values=" + this.getValues() + ")";
 	}
 
+	/**
+	 * Replaces this key values pair with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.KEY_VALUES_PAIR, this);
+	}
+
 	/**
 	 * The class {@link KeyValuesPairBuilder}.
 	 *
@@ -241,8 +266,7 @@ public final class KeyValuesPair<K, V> implements Serializable
 					values = java.util.Collections.singletonList(this.values.get(0));
 					break;
 				default :
-					values = java.util.Collections
-						.unmodifiableList(new java.util.ArrayList<>(this.values));
+					values = CompactImmutableList.copyOf(this.values);
 			}
 			return new KeyValuesPair<>(key, values);
 		}
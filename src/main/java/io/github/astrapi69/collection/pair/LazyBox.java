@@ -0,0 +1,283 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The class {@link LazyBox} represents one immutable value with a generic parameter that is
+ * computed on first access from a {@link Supplier}. It is the lazy sibling of
+ * {@link ImmutableBox} for values that are expensive to create and maybe never used. The supplier
+ * is called at most once, even if several threads access the value at the same time, and is
+ * released after the value was computed. If the supplier throws an exception the box stays not
+ * computed and the next access calls the supplier again. After the value was computed it is read
+ * with a single volatile read and without locking
+ *
+ * @param <T>
+ *            The type of the value.
+ */
+public class LazyBox<T> implements Supplier<T>, Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The supplier that computes the value or null if the value is computed. The volatile write of
+	 * null publishes the computed value
+	 */
+	private volatile Supplier<? extends T> supplier;
+
+	/**
+	 * The value.
+	 */
+	private T value;
+
+	/**
+	 * Instantiates a new lazy box that computes its value with the given supplier
+	 *
+	 * @param supplier
+	 *            the supplier that computes the value
+	 */
+	public LazyBox(final Supplier<? extends T> supplier)
+	{
+		if (supplier == null)
+		{
+			throw new NullPointerException("supplier is marked non-null but is null");
+		}
+		this.supplier = supplier;
+	}
+
+	/**
+	 * Factory method for create a new {@link LazyBox} that computes its value with the given
+	 * supplier
+	 *
+	 * @param <T>
+	 *            the generic type of the value
+	 * @param supplier
+	 *            the supplier that computes the value
+	 * @return the new {@link LazyBox}
+	 */
+	public static <T> LazyBox<T> of(final Supplier<? extends T> supplier)
+	{
+		return new LazyBox<>(supplier);
+	}
+
+	/**
+	 * Factory method for create a new {@link LazyBox} that is already computed with the given
+	 * value
+	 *
+	 * @param <T>
+	 *            the generic type of the value
+	 * @param value
+	 *            the value
+	 * @return the new {@link LazyBox}
+	 */
+	public static <T> LazyBox<T> ofValue(final T value)
+	{
+		if (value == null)
+		{
+			throw new NullPointerException("value is marked non-null but is null");
+		}
+		final LazyBox<T> lazyBox = new LazyBox<>(() -> value);
+		lazyBox.getValue();
+		return lazyBox;
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof LazyBox;
+	}
+
+	/**
+	 * Computes the value with the supplier if no other thread has computed it in the meantime
+	 *
+	 * @return the value
+	 */
+	private synchronized T compute()
+	{
+		final Supplier<? extends T> current = this.supplier;
+		if (current != null)
+		{
+			final T computed = current.get();
+			if (computed == null)
+			{
+				throw new NullPointerException("value is marked non-null but is null");
+			}
+			this.value = computed;
+			this.supplier = null;
+		}
+		return this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Note: the value of both lazy boxes is computed for the comparison
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof LazyBox))
+		{
+			return false;
+		}
+		final LazyBox<?> other = (LazyBox<?>)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		final Object this$value = this.getValue();
+		final Object other$value = other.getValue();
+		if (this$value == null ? other$value != null : !this$value.equals(other$value))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T get()
+	{
+		return getValue();
+	}
+
+	/**
+	 * The value. Computes the value on the first call
+	 *
+	 * @return the value
+	 */
+	public T getValue()
+	{
+		if (this.supplier != null)
+		{
+			return compute();
+		}
+		return this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Note: the value is computed for the hash code
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		final Object $value = this.getValue();
+		result = strategy.combine(result, TupleHashStrategy.hashOf($value));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Checks if the value is already computed. This method never blocks and never computes the
+	 * value
+	 *
+	 * @return true, if the value is computed
+	 */
+	public boolean isComputed()
+	{
+		return this.supplier == null;
+	}
+
+	/**
+	 * Creates a new {@link LazyBox} that computes its value lazily by applying the given function
+	 * to the value of this lazy box. Neither value is computed by this method
+	 *
+	 * @param <R>
+	 *            the generic type of the mapped value
+	 * @param mapper
+	 *            the function that maps the value
+	 * @return the new {@link LazyBox}
+	 */
+	public <R> LazyBox<R> map(final Function<? super T, ? extends R> mapper)
+	{
+		if (mapper == null)
+		{
+			throw new NullPointerException("mapper is marked non-null but is null");
+		}
+		return new LazyBox<>(() -> mapper.apply(getValue()));
+	}
+
+	/**
+	 * Creates a new {@link ImmutableBox} with the value of this lazy box. The value is computed if
+	 * it is not computed yet
+	 *
+	 * @return the new {@link ImmutableBox}
+	 */
+	public ImmutableBox<T> toImmutableBox()
+	{
+		return new ImmutableBox<>(getValue());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Note: the value is not computed for the string representation
+	 */
+	@Override
+	public String toString()
+	{
+		if (!isComputed())
+		{
+			return "LazyBox(value=<not computed>)";
+		}
+		return "LazyBox(value=" + this.value + ")";
+	}
+
+	/**
+	 * Replaces this lazy box with a {@link TupleSerializationProxy} that writes a compact binary
+	 * layout. The value is computed if it is not computed yet, so the supplier has not to be
+	 * serializable
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		getValue();
+		return new TupleSerializationProxy(TupleSerializationProxy.LAZY_BOX, this);
+	}
+
+}
@@ -0,0 +1,339 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link LongBox} represents one mutable primitive long value. It is the unboxed
+ * counterpart of a {@link ValueBox} with a {@link Long} value, the increment, add, max and min
+ * operations update the value in place without creating a wrapper object, so it can be used as
+ * counter or accumulator in lambdas and hot loops.
+ */
+public class LongBox implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The value.
+	 */
+	private long value;
+
+	/**
+	 * Instantiates a new long box.
+	 */
+	public LongBox()
+	{
+	}
+
+	/**
+	 * Instantiates a new long box.
+	 *
+	 * @param value
+	 *            the value
+	 */
+	public LongBox(final long value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @return the long box builder
+	 */
+	public static LongBoxBuilder builder()
+	{
+		return new LongBoxBuilder();
+	}
+
+	/**
+	 * Factory method for create a new {@link LongBox} from the given {@link ValueBox}
+	 *
+	 * @param valueBox
+	 *            the value box with the boxed value
+	 * @return the new {@link LongBox}
+	 * @throws NullPointerException
+	 *             if the value of the given value box is null
+	 */
+	public static LongBox of(final ValueBox<Long> valueBox)
+	{
+		return new LongBox(valueBox.getValue());
+	}
+
+	/**
+	 * Adds the given value in place
+	 *
+	 * @param delta
+	 *            the value to add
+	 * @return the updated value
+	 */
+	public long addAndGet(final long delta)
+	{
+		this.value += delta;
+		return this.value;
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof LongBox;
+	}
+
+	/**
+	 * Decrements the value by one in place
+	 *
+	 * @return the decremented value
+	 */
+	public long decrementAndGet()
+	{
+		return --this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof LongBox))
+		{
+			return false;
+		}
+		final LongBox other = (LongBox)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		return this.value == other.value;
+	}
+
+	/**
+	 * Adds the given value in place
+	 *
+	 * @param delta
+	 *            the value to add
+	 * @return the previous value
+	 */
+	public long getAndAdd(final long delta)
+	{
+		final long previous = this.value;
+		this.value += delta;
+		return previous;
+	}
+
+	/**
+	 * Decrements the value by one in place
+	 *
+	 * @return the previous value
+	 */
+	public long getAndDecrement()
+	{
+		return this.value--;
+	}
+
+	/**
+	 * Increments the value by one in place
+	 *
+	 * @return the previous value
+	 */
+	public long getAndIncrement()
+	{
+		return this.value++;
+	}
+
+	/**
+	 * The value.
+	 *
+	 * @return the value
+	 */
+	public long getValue()
+	{
+		return this.value;
+	}
+
+	/**
+	 * The value.
+	 *
+	 * @param value
+	 *            the new value
+	 */
+	public void setValue(final long value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The hash code is the same as the hash code of the corresponding boxed {@link ValueBox}
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, Long.hashCode(this.value));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Increments the value by one in place
+	 *
+	 * @return the incremented value
+	 */
+	public long incrementAndGet()
+	{
+		return ++this.value;
+	}
+
+	/**
+	 * Sets the value to the maximum of the value and the given value in place
+	 *
+	 * @param other
+	 *            the other value
+	 * @return the updated value
+	 */
+	public long max(final long other)
+	{
+		this.value = Math.max(this.value, other);
+		return this.value;
+	}
+
+	/**
+	 * Sets the value to the minimum of the value and the given value in place
+	 *
+	 * @param other
+	 *            the other value
+	 * @return the updated value
+	 */
+	public long min(final long other)
+	{
+		this.value = Math.min(this.value, other);
+		return this.value;
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the long box builder
+	 */
+	public LongBoxBuilder toBuilder()
+	{
+		return new LongBoxBuilder().value(this.value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "LongBox(value=" + this.getValue() + ")";
+	}
+
+	/**
+	 * Converts this box to a {@link ValueBox} with the boxed value
+	 *
+	 * @return the new {@link ValueBox}
+	 */
+	public ValueBox<Long> toValueBox()
+	{
+		return new ValueBox<>(this.value);
+	}
+
+	/**
+	 * Replaces this long box with a {@link TupleSerializationProxy} that writes a compact binary
+	 * layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.LONG_BOX, this);
+	}
+
+	/**
+	 * The class {@link LongBoxBuilder}.
+	 */
+	public static class LongBoxBuilder
+	{
+
+		/** The value. */
+		private long value;
+
+		/**
+		 * Instantiates a new long box builder.
+		 */
+		LongBoxBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the long box
+		 */
+		public LongBox build()
+		{
+			return new LongBox(value);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "LongBox.LongBoxBuilder(value=" + this.value + ")";
+		}
+
+		/**
+		 * The value.
+		 *
+		 * @param value
+		 *            the value
+		 * @return the long box builder
+		 */
+		public LongBoxBuilder value(final long value)
+		{
+			this.value = value;
+			return this;
+		}
+	}
+}
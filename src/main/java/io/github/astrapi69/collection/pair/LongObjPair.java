@@ -0,0 +1,316 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Serializable;
+
+/**
+ * The class {@link LongObjPair} represents a pair of a primitive long value and a generic value. It
+ * is the counterpart of a {@link Pair} with a {@link Long} left content that avoids the boxing of
+ * the left content.
+ *
+ * @param <V>
+ *            The generic type of the right content of this pair.
+ */
+public class LongObjPair<V> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The left.
+	 */
+	private long leftContent;
+	/**
+	 * The right.
+	 */
+	private V rightContent;
+
+	/**
+	 * Instantiates a new long obj pair.
+	 */
+	public LongObjPair()
+	{
+	}
+
+	/**
+	 * Instantiates a new long obj pair.
+	 *
+	 * @param leftContent
+	 *            the left content
+	 * @param rightContent
+	 *            the right content
+	 */
+	public LongObjPair(final long leftContent, final V rightContent)
+	{
+		this.leftContent = leftContent;
+		this.rightContent = rightContent;
+	}
+
+	/**
+	 * Builder.
+	 *
+	 * @param <V>
+	 *            the value type
+	 * @return the long obj pair builder
+	 */
+	public static <V> LongObjPairBuilder<V> builder()
+	{
+		return new LongObjPairBuilder<>();
+	}
+
+	/**
+	 * Factory method for create a new {@link LongObjPair} from the given {@link Pair}
+	 *
+	 * @param <V>
+	 *            the value type
+	 * @param pair
+	 *            the pair with the boxed values
+	 * @return the new {@link LongObjPair}
+	 * @throws NullPointerException
+	 *             if the left content of the given pair is null
+	 */
+	public static <V> LongObjPair<V> of(final Pair<Long, V> pair)
+	{
+		return new LongObjPair<>(pair.getLeftContent(), pair.getRightContent());
+	}
+
+	/**
+	 * Can equal.
+	 *
+	 * @param other
+	 *            the other
+	 * @return true, if successful
+	 */
+	protected boolean canEqual(final Object other)
+	{
+		return other instanceof LongObjPair;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if (o == this)
+		{
+			return true;
+		}
+		if (!(o instanceof LongObjPair))
+		{
+			return false;
+		}
+		final LongObjPair<?> other = (LongObjPair<?>)o;
+		if (!other.canEqual(this))
+		{
+			return false;
+		}
+		if (this.leftContent != other.leftContent)
+		{
+			return false;
+		}
+		final Object this$rightContent = this.getRightContent();
+		final Object other$rightContent = other.getRightContent();
+		if (this$rightContent == null
+			? other$rightContent != null
+			: !this$rightContent.equals(other$rightContent))
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The left.
+	 *
+	 * @return the left content
+	 */
+	public long getLeftContent()
+	{
+		return this.leftContent;
+	}
+
+	/**
+	 * The left.
+	 *
+	 * @param leftContent
+	 *            the new left content
+	 */
+	public void setLeftContent(final long leftContent)
+	{
+		this.leftContent = leftContent;
+	}
+
+	/**
+	 * The right.
+	 *
+	 * @return the right content
+	 */
+	public V getRightContent()
+	{
+		return this.rightContent;
+	}
+
+	/**
+	 * The right.
+	 *
+	 * @param rightContent
+	 *            the new right content
+	 */
+	public void setRightContent(final V rightContent)
+	{
+		this.rightContent = rightContent;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The hash code is the same as the hash code of the corresponding boxed {@link Pair}
+	 */
+	@Override
+	public int hashCode()
+	{
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
+		result = strategy.combine(result, Long.hashCode(this.leftContent));
+		final Object $rightContent = this.getRightContent();
+		result = strategy.combine(result, TupleHashStrategy.hashOf($rightContent));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Converts this pair to a {@link Pair} with boxed values
+	 *
+	 * @return the new {@link Pair}
+	 */
+	public Pair<Long, V> toPair()
+	{
+		return new Pair<>(this.leftContent, this.rightContent);
+	}
+
+	/**
+	 * To builder.
+	 *
+	 * @return the long obj pair builder
+	 */
+	public LongObjPairBuilder<V> toBuilder()
+	{
+		return new LongObjPairBuilder<V>().leftContent(this.leftContent)
+			.rightContent(this.rightContent);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "LongObjPair(leftContent=" + this.getLeftContent() + ", rightContent="
+			+ this.getRightContent() + ")";
+	}
+
+	/**
+	 * Replaces this long obj pair with a {@link TupleSerializationProxy} that writes a compact
+	 * binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.LONG_OBJ_PAIR, this);
+	}
+
+	/**
+	 * The class {@link LongObjPairBuilder}.
+	 *
+	 * @param <V>
+	 *            the value type
+	 */
+	public static class LongObjPairBuilder<V>
+	{
+
+		/** The left content. */
+		private long leftContent;
+
+		/** The right content. */
+		private V rightContent;
+
+		/**
+		 * Instantiates a new long obj pair builder.
+		 */
+		LongObjPairBuilder()
+		{
+		}
+
+		/**
+		 * Build it
+		 *
+		 * @return the long obj pair
+		 */
+		public LongObjPair<V> build()
+		{
+			return new LongObjPair<>(leftContent, rightContent);
+		}
+
+		/**
+		 * The left.
+		 *
+		 * @param leftContent
+		 *            the left content
+		 * @return the long obj pair builder
+		 */
+		public LongObjPairBuilder<V> leftContent(final long leftContent)
+		{
+			this.leftContent = leftContent;
+			return this;
+		}
+
+		/**
+		 * The right.
+		 *
+		 * @param rightContent
+		 *            the right content
+		 * @return the long obj pair builder
+		 */
+		public LongObjPairBuilder<V> rightContent(final V rightContent)
+		{
+			this.rightContent = rightContent;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "LongObjPair.LongObjPairBuilder(leftContent=" + this.leftContent
+				+ ", rightContent=" + this.rightContent + ")";
+		}
+	}
+}
@@ -42,6 +42,11 @@ public class Pair<K, V> implements Serializable
 	 * The Constant serialVersionUID.
 	 */
 	private static final long serialVersionUID = 1L;
+	/**
+	 * The builder that is reused by the current thread, see {@link Pair#reusableBuilder()}
+	 */
+	private static final ThreadLocal<PairBuilder<?, ?>> REUSABLE_BUILDER = ThreadLocal
+		.withInitial(PairBuilder::new);
 	/**
 	 * The left.
 	 */
@@ -86,6 +91,27 @@ public class Pair<K, V> implements Serializable
 		return new PairBuilder<>();
 	}
 
+	/**
+	 * Gets the reset builder of the current thread. Other than {@link Pair#builder()} this method
+	 * does not allocate a new builder, so a loop that creates many pair objects only allocates the
+	 * created objects. The returned builder must not be shared with other threads or kept after the
+	 * next call of this method in the same thread. Finish the builder with {@link
+	 * PairBuilder#buildAndReset()}, otherwise the builder of the thread keeps the contents of the
+	 * last built pair until the next call of this method, which on a pooled thread can retain large
+	 * objects for a long time
+	 *
+	 * @param <K>
+	 *            the generic type
+	 * @param <V>
+	 *            the generic type
+	 * @return the reset pair builder of the current thread
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> PairBuilder<K, V> reusableBuilder()
+	{
+		return (PairBuilder<K, V>)REUSABLE_BUILDER.get().reset();
+	}
+
 	/**
 	 * Can equal.
 	 *
@@ -184,13 +210,23 @@ public class Pair<K, V> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $leftContent = this.getLeftContent();
-		result = result * PRIME + ($leftContent == null ? 43 : $leftContent.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($leftContent));
 		final Object $rightContent = this.getRightContent();
-		result = result * PRIME + ($rightContent == null ? 43 : $rightContent.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($rightContent));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Creates a new {@link ImmutablePair} with the current contents of this pair.
+	 *
+	 * @return the new {@link ImmutablePair}
+	 */
+	public ImmutablePair<K, V> freeze()
+	{
+		return new ImmutablePair<>(getLeftContent(), getRightContent());
 	}
 
 	/**
@@ -214,6 +250,16 @@ public class Pair<K, V> implements Serializable
 			+ this.getRightContent() + ")";
 	}
 
+	/**
+	 * Replaces this pair with a {@link TupleSerializationProxy} that writes a compact binary layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.PAIR, this);
+	}
+
 	/**
 	 * The class {@link PairBuilder}.
 	 *
@@ -248,6 +294,31 @@ public class Pair<K, V> implements Serializable
 			return new Pair<>(leftContent, rightContent);
 		}
 
+		/**
+		 * Build it and reset all contents of this builder to null, so a reused builder does not
+		 * keep the contents of the built pair
+		 *
+		 * @return the pair
+		 */
+		public Pair<K, V> buildAndReset()
+		{
+			final Pair<K, V> built = build();
+			reset();
+			return built;
+		}
+
+		/**
+		 * Resets all contents of this builder to null, so the builder can be reused
+		 *
+		 * @return the pair builder
+		 */
+		public PairBuilder<K, V> reset()
+		{
+			this.leftContent = null;
+			this.rightContent = null;
+			return this;
+		}
+
 		/**
 		 * The left.
 		 *
@@ -45,6 +45,11 @@ public class Quattro<TL, TR, BL, BR> implements Serializable
 	 * The serialVersionUID.
 	 */
 	private static final long serialVersionUID = 1L;
+	/**
+	 * The builder that is reused by the current thread, see {@link Quattro#reusableBuilder()}
+	 */
+	private static final ThreadLocal<QuattroBuilder<?, ?, ?, ?>> REUSABLE_BUILDER = ThreadLocal
+		.withInitial(QuattroBuilder::new);
 	/**
 	 * The bottom left value.
 	 */
@@ -107,6 +112,31 @@ public class Quattro<TL, TR, BL, BR> implements Serializable
 		return new QuattroBuilder<>();
 	}
 
+	/**
+	 * Gets the reset builder of the current thread. Other than {@link Quattro#builder()} this
+	 * method does not allocate a new builder, so a loop that creates many quattro objects only
+	 * allocates the created objects. The returned builder must not be shared with other threads or
+	 * kept after the next call of this method in the same thread. Finish the builder with {@link
+	 * QuattroBuilder#buildAndReset()}, otherwise the builder of the thread keeps the contents of
+	 * the last built quattro until the next call of this method, which on a pooled thread can
+	 * retain large objects for a long time
+	 *
+	 * @param <TL>
+	 *            the generic type
+	 * @param <TR>
+	 *            the generic type
+	 * @param <BL>
+	 *            the generic type
+	 * @param <BR>
+	 *            the generic type
+	 * @return the reset quattro builder of the current thread
+	 */
+	@SuppressWarnings("unchecked")
+	public static <TL, TR, BL, BR> QuattroBuilder<TL, TR, BL, BR> reusableBuilder()
+	{
+		return (QuattroBuilder<TL, TR, BL, BR>)REUSABLE_BUILDER.get().reset();
+	}
+
 	/**
 	 * Can equal.
 	 *
@@ -259,17 +289,28 @@ public class Quattro<TL, TR, BL, BR> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $bottomLeft = this.getBottomLeft();
-		result = result * PRIME + ($bottomLeft == null ? 43 : $bottomLeft.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($bottomLeft));
 		final Object $bottomRight = this.getBottomRight();
-		result = result * PRIME + ($bottomRight == null ? 43 : $bottomRight.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($bottomRight));
 		final Object $topLeft = this.getTopLeft();
-		result = result * PRIME + ($topLeft == null ? 43 : $topLeft.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($topLeft));
 		final Object $topRight = this.getTopRight();
-		result = result * PRIME + ($topRight == null ? 43 : $topRight.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($topRight));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Creates a new {@link ImmutableQuattro} with the current contents of this quattro.
+	 *
+	 * @return the new {@link ImmutableQuattro}
+	 */
+	public ImmutableQuattro<TL, TR, BL, BR> freeze()
+	{
+		return new ImmutableQuattro<>(getBottomLeft(), getBottomRight(), getTopLeft(),
+			getTopRight());
 	}
 
 	/**
@@ -294,6 +335,17 @@ public class Quattro<TL, TR, BL, BR> implements Serializable
 			+ this.getTopRight() + ")";
 	}
 
+	/**
+	 * Replaces this quattro with a {@link TupleSerializationProxy} that writes a compact binary
+	 * layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.QUATTRO, this);
+	}
+
 	/**
 	 * The class {@link QuattroBuilder}.
 	 *
@@ -364,6 +416,33 @@ public class Quattro<TL, TR, BL, BR> implements Serializable
 			return new Quattro<>(bottomLeft, bottomRight, topLeft, topRight);
 		}
 
+		/**
+		 * Build it and reset all contents of this builder to null, so a reused builder does not
+		 * keep the contents of the built quattro
+		 *
+		 * @return the quattro
+		 */
+		public Quattro<TL, TR, BL, BR> buildAndReset()
+		{
+			final Quattro<TL, TR, BL, BR> built = build();
+			reset();
+			return built;
+		}
+
+		/**
+		 * Resets all contents of this builder to null, so the builder can be reused
+		 *
+		 * @return the quattro builder
+		 */
+		public QuattroBuilder<TL, TR, BL, BR> reset()
+		{
+			this.bottomLeft = null;
+			this.bottomRight = null;
+			this.topLeft = null;
+			this.topRight = null;
+			return this;
+		}
+
 		/**
 		 * The top left value.
 		 *
@@ -43,6 +43,11 @@ public class Triple<L, M, R> implements Serializable
 	 * The serialVersionUID.
 	 */
 	private static final long serialVersionUID = 1L;
+	/**
+	 * The builder that is reused by the current thread, see {@link Triple#reusableBuilder()}
+	 */
+	private static final ThreadLocal<TripleBuilder<?, ?, ?>> REUSABLE_BUILDER = ThreadLocal
+		.withInitial(TripleBuilder::new);
 	/**
 	 * The left value.
 	 */
@@ -96,6 +101,29 @@ public class Triple<L, M, R> implements Serializable
 		return new TripleBuilder<>();
 	}
 
+	/**
+	 * Gets the reset builder of the current thread. Other than {@link Triple#builder()} this method
+	 * does not allocate a new builder, so a loop that creates many triple objects only allocates
+	 * the created objects. The returned builder must not be shared with other threads or kept after
+	 * the next call of this method in the same thread. Finish the builder with {@link
+	 * TripleBuilder#buildAndReset()}, otherwise the builder of the thread keeps the contents of the
+	 * last built triple until the next call of this method, which on a pooled thread can retain
+	 * large objects for a long time
+	 *
+	 * @param <L>
+	 *            the generic type
+	 * @param <M>
+	 *            the generic type
+	 * @param <R>
+	 *            the generic type
+	 * @return the reset triple builder of the current thread
+	 */
+	@SuppressWarnings("unchecked")
+	public static <L, M, R> TripleBuilder<L, M, R> reusableBuilder()
+	{
+		return (TripleBuilder<L, M, R>)REUSABLE_BUILDER.get().reset();
+	}
+
 	/**
 	 * Can equal.
 	 *
@@ -217,15 +245,25 @@ public class Triple<L, M, R> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $left = this.getLeft();
-		result = result * PRIME + ($left == null ? 43 : $left.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($left));
 		final Object $middle = this.getMiddle();
-		result = result * PRIME + ($middle == null ? 43 : $middle.hashCode());
+		result = strategy.combine(result, TupleHashStrategy.hashOf($middle));
 		final Object $right = this.getRight();
-		result = result * PRIME + ($right == null ? 43 : $right.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($right));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Creates a new {@link ImmutableTriple} with the current contents of this triple.
+	 *
+	 * @return the new {@link ImmutableTriple}
+	 */
+	public ImmutableTriple<L, M, R> freeze()
+	{
+		return new ImmutableTriple<>(getLeft(), getMiddle(), getRight());
 	}
 
 	/**
@@ -248,6 +286,17 @@ public class Triple<L, M, R> implements Serializable
 			+ this.getRight() + ")";
 	}
 
+	/**
+	 * Replaces this triple with a {@link TupleSerializationProxy} that writes a compact binary
+	 * layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.TRIPLE, this);
+	}
+
 	/**
 	 * The class {@link TripleBuilder}.
 	 *
@@ -287,6 +336,32 @@ public class Triple<L, M, R> implements Serializable
 			return new Triple<>(left, middle, right);
 		}
 
+		/**
+		 * Build it and reset all contents of this builder to null, so a reused builder does not
+		 * keep the contents of the built triple
+		 *
+		 * @return the triple
+		 */
+		public Triple<L, M, R> buildAndReset()
+		{
+			final Triple<L, M, R> built = build();
+			reset();
+			return built;
+		}
+
+		/**
+		 * Resets all contents of this builder to null, so the builder can be reused
+		 *
+		 * @return the triple builder
+		 */
+		public TripleBuilder<L, M, R> reset()
+		{
+			this.left = null;
+			this.middle = null;
+			this.right = null;
+			return this;
+		}
+
 		/**
 		 * The left value.
 		 *
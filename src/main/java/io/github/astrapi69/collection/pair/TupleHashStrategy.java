@@ -0,0 +1,221 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+/**
+ * The enum {@link TupleHashStrategy} defines how the tuple classes of this package combine the
+ * hash codes of their contents. The strategy is resolved once from the system property
+ * {@value #PROPERTY_NAME} when this class is initialized and stays the same for the lifetime of
+ * the virtual machine, so hash codes of tuples are stable and equal tuples of the classes that
+ * share a layout like {@link Pair} and {@link IntIntPair} still have the same hash code.<br>
+ * <br>
+ * The default strategy is {@link TupleHashStrategy#LEGACY}, which produces exactly the hash codes
+ * of the previous versions. The strategy {@link TupleHashStrategy#MIXED} can be selected with
+ * <code>-Dio.github.astrapi69.collection.pair.hashStrategy=MIXED</code> and spreads tuples of
+ * small integers much better over the buckets of hash based collections. An unknown value of the
+ * system property is logged as a warning and the default strategy is used
+ */
+public enum TupleHashStrategy
+{
+
+	/**
+	 * The multiply-add scheme with the prime 59. Tuples of small integers like grid coordinates
+	 * collide often with this strategy
+	 */
+	LEGACY
+	{
+		@Override
+		public int seed()
+		{
+			return 1;
+		}
+
+		@Override
+		public int combine(final int hash, final int componentHash)
+		{
+			return hash * PRIME + componentHash;
+		}
+
+		@Override
+		public int finish(final int hash)
+		{
+			return hash;
+		}
+	},
+
+	/**
+	 * The mixing scheme of the murmur3 hash function. Every component hash is scrambled before it
+	 * is combined and the result goes through the murmur3 finalizer, so every bit of every
+	 * component affects every bit of the hash code
+	 */
+	MIXED
+	{
+		@Override
+		public int seed()
+		{
+			return 0x9E3779B9;
+		}
+
+		@Override
+		public int combine(final int hash, final int componentHash)
+		{
+			int k = componentHash * 0xCC9E2D51;
+			k = Integer.rotateLeft(k, 15) * 0x1B873593;
+			final int h = Integer.rotateLeft(hash ^ k, 13);
+			return h * 5 + 0xE6546B64;
+		}
+
+		@Override
+		public int finish(final int hash)
+		{
+			int h = hash ^ (hash >>> 16);
+			h *= 0x85EBCA6B;
+			h ^= h >>> 13;
+			h *= 0xC2B2AE35;
+			return h ^ (h >>> 16);
+		}
+	};
+
+	/** The name of the system property that selects the strategy */
+	public static final String PROPERTY_NAME = "io.github.astrapi69.collection.pair.hashStrategy";
+
+	/** The prime of the legacy strategy */
+	static final int PRIME = 59;
+
+	/** The hash code that is used for null contents */
+	static final int NULL_HASH = 43;
+
+	/**
+	 * Gets the strategy that is used from all tuple classes of this package
+	 *
+	 * @return the current strategy
+	 */
+	public static TupleHashStrategy current()
+	{
+		return Holder.CURRENT;
+	}
+
+	/**
+	 * Gets the hash code of the given content or the hash code for null contents
+	 *
+	 * @param content
+	 *            the content
+	 * @return the hash code of the given content
+	 */
+	public static int hashOf(final Object content)
+	{
+		return content == null ? NULL_HASH : content.hashCode();
+	}
+
+	/**
+	 * Resolves the strategy with the given name
+	 *
+	 * @param name
+	 *            the name of the strategy, case insensitive
+	 * @return the strategy with the given name or {@link TupleHashStrategy#LEGACY} if the given
+	 *         name is null or empty
+	 * @throws IllegalArgumentException
+	 *             if no strategy with the given name exists
+	 */
+	public static TupleHashStrategy resolve(final String name)
+	{
+		if (name == null || name.isBlank())
+		{
+			return LEGACY;
+		}
+		for (final TupleHashStrategy strategy : values())
+		{
+			if (strategy.name().equalsIgnoreCase(name.trim()))
+			{
+				return strategy;
+			}
+		}
+		throw new IllegalArgumentException(
+			"No tuple hash strategy with the name '" + name + "' exists");
+	}
+
+	/**
+	 * Resolves the strategy with the given name like {@link TupleHashStrategy#resolve(String)},
+	 * but falls back to {@link TupleHashStrategy#LEGACY} and logs a warning if no strategy with the
+	 * given name exists, so a mistyped system property cannot break the hash codes of all tuples
+	 *
+	 * @param name
+	 *            the name of the strategy, case insensitive
+	 * @return the strategy with the given name or {@link TupleHashStrategy#LEGACY} if the given
+	 *         name is null, empty or unknown
+	 */
+	static TupleHashStrategy resolveOrLegacy(final String name)
+	{
+		try
+		{
+			return resolve(name);
+		}
+		catch (final IllegalArgumentException exception)
+		{
+			System.getLogger(TupleHashStrategy.class.getName()).log(System.Logger.Level.WARNING,
+				"Unknown value ''{0}'' of the system property {1}, the strategy {2} is used",
+				name, PROPERTY_NAME, LEGACY);
+			return LEGACY;
+		}
+	}
+
+	/**
+	 * Gets the initial hash value before the first component is combined
+	 *
+	 * @return the initial hash value
+	 */
+	public abstract int seed();
+
+	/**
+	 * Combines the given intermediate hash value with the hash code of the next component
+	 *
+	 * @param hash
+	 *            the intermediate hash value
+	 * @param componentHash
+	 *            the hash code of the next component
+	 * @return the new intermediate hash value
+	 */
+	public abstract int combine(int hash, int componentHash);
+
+	/**
+	 * Finishes the given intermediate hash value after the last component was combined
+	 *
+	 * @param hash
+	 *            the intermediate hash value
+	 * @return the hash code
+	 */
+	public abstract int finish(int hash);
+
+	/**
+	 * The holder of the current strategy, the system property is read on first access
+	 */
+	private static final class Holder
+	{
+		/** The current strategy */
+		static final TupleHashStrategy CURRENT = resolveOrLegacy(
+			System.getProperty(PROPERTY_NAME));
+	}
+
+}
@@ -0,0 +1,251 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The class {@link TupleInterner} is a thread safe canonicalizing pool for tuple objects. For
+ * tuples with equal content the method {@link TupleInterner#intern(Object)} always returns the
+ * same canonical instance, so duplicates can be dropped and compared by identity.<br>
+ * <br>
+ * The pool holds its entries weakly, a canonical instance is removed as soon as it is no longer
+ * referenced outside of the pool. The pool is split into stripes that are guarded by their own
+ * lock, so concurrent callers only contend when their tuples fall into the same stripe.<br>
+ * <br>
+ * Note: interned tuples must not be changed afterwards. Use the immutable tuple classes like
+ * {@link ImmutableTriple} or {@link ImmutableKeyValuePair} that also cache their hash code.
+ *
+ * @param <T>
+ *            the generic type of the tuples
+ */
+public final class TupleInterner<T>
+{
+
+	/** The default concurrency level */
+	public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	/** The stripes with the weak entries */
+	private final Map<T, WeakReference<T>>[] stripes;
+
+	/** The mask for the stripe index */
+	private final int mask;
+
+	/** The number of lookups that returned an already canonical instance */
+	private final LongAdder hits = new LongAdder();
+
+	/** The number of lookups that added a new canonical instance */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Instantiates a new {@link TupleInterner} with the default concurrency level
+	 */
+	public TupleInterner()
+	{
+		this(DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * Instantiates a new {@link TupleInterner} with the given concurrency level
+	 *
+	 * @param concurrencyLevel
+	 *            the estimated number of concurrently interning threads
+	 * @throws IllegalArgumentException
+	 *             if the given concurrency level is not positive
+	 */
+	@SuppressWarnings("unchecked")
+	public TupleInterner(final int concurrencyLevel)
+	{
+		if (concurrencyLevel < 1)
+		{
+			throw new IllegalArgumentException(
+				"concurrencyLevel must be positive but was " + concurrencyLevel);
+		}
+		final int stripeCount = concurrencyLevel == 1
+			? 1
+			: Integer.highestOneBit(Math.min(concurrencyLevel - 1, 1 << 15)) << 1;
+		this.stripes = (Map<T, WeakReference<T>>[])new Map<?, ?>[stripeCount];
+		for (int i = 0; i < stripeCount; i++)
+		{
+			this.stripes[i] = new WeakHashMap<>();
+		}
+		this.mask = stripeCount - 1;
+	}
+
+	/**
+	 * Returns the canonical instance for the given tuple. If the pool contains already a tuple
+	 * that is equal to the given tuple this one is returned, otherwise the given tuple becomes the
+	 * canonical instance and is returned
+	 *
+	 * @param tuple
+	 *            the tuple
+	 * @return the canonical instance that is equal to the given tuple
+	 */
+	public T intern(final T tuple)
+	{
+		Objects.requireNonNull(tuple, "tuple is marked non-null but is null");
+		final Map<T, WeakReference<T>> stripe = stripeFor(tuple);
+		synchronized (stripe)
+		{
+			final WeakReference<T> reference = stripe.get(tuple);
+			if (reference != null)
+			{
+				final T canonical = reference.get();
+				if (canonical != null)
+				{
+					this.hits.increment();
+					return canonical;
+				}
+			}
+			stripe.put(tuple, new WeakReference<>(tuple));
+		}
+		this.misses.increment();
+		return tuple;
+	}
+
+	/**
+	 * Checks if the pool contains a canonical instance that is equal to the given tuple. This
+	 * method does not change the statistics
+	 *
+	 * @param tuple
+	 *            the tuple
+	 * @return true, if the pool contains an equal tuple
+	 */
+	public boolean contains(final T tuple)
+	{
+		Objects.requireNonNull(tuple, "tuple is marked non-null but is null");
+		final Map<T, WeakReference<T>> stripe = stripeFor(tuple);
+		synchronized (stripe)
+		{
+			final WeakReference<T> reference = stripe.get(tuple);
+			return reference != null && reference.get() != null;
+		}
+	}
+
+	/**
+	 * Gets the number of canonical instances in this pool. As entries are removed from the pool by
+	 * the garbage collector the returned value is only an estimate
+	 *
+	 * @return the number of canonical instances
+	 */
+	public int size()
+	{
+		int size = 0;
+		for (final Map<T, WeakReference<T>> stripe : this.stripes)
+		{
+			synchronized (stripe)
+			{
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Removes all canonical instances from this pool. The statistics are not reset
+	 */
+	public void clear()
+	{
+		for (final Map<T, WeakReference<T>> stripe : this.stripes)
+		{
+			synchronized (stripe)
+			{
+				stripe.clear();
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of calls of {@link TupleInterner#intern(Object)} that returned an already
+	 * canonical instance
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount()
+	{
+		return this.hits.sum();
+	}
+
+	/**
+	 * Gets the number of calls of {@link TupleInterner#intern(Object)} that added a new canonical
+	 * instance
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount()
+	{
+		return this.misses.sum();
+	}
+
+	/**
+	 * Gets the ratio of the hits to all calls of {@link TupleInterner#intern(Object)}. A value
+	 * close to 1 means that most of the tuples were duplicates and interning pays off
+	 *
+	 * @return the hit rate between 0 and 1 or 0 if nothing was interned yet
+	 */
+	public double getHitRate()
+	{
+		final long hitCount = getHitCount();
+		final long total = hitCount + getMissCount();
+		return total == 0 ? 0.0d : (double)hitCount / total;
+	}
+
+	/**
+	 * Resets the hit and miss statistics
+	 */
+	public void resetStatistics()
+	{
+		this.hits.reset();
+		this.misses.reset();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "TupleInterner(size=" + size() + ", hitCount=" + getHitCount() + ", missCount="
+			+ getMissCount() + ")";
+	}
+
+	/**
+	 * Gets the stripe for the given tuple
+	 *
+	 * @param tuple
+	 *            the tuple
+	 * @return the stripe
+	 */
+	private Map<T, WeakReference<T>> stripeFor(final T tuple)
+	{
+		final int hash = tuple.hashCode();
+		return this.stripes[(hash ^ (hash >>> 16)) & this.mask];
+	}
+
+}
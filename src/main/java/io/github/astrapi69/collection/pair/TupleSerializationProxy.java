@@ -0,0 +1,668 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The class {@link TupleSerializationProxy} is the serialized form of all tuple classes of this
+ * package. Other than the default serialization it writes neither the class descriptor nor the
+ * field names of the tuple, only a version byte, a type byte and the contents. Contents of the
+ * common types {@link String}, {@link Integer}, {@link Long}, {@link Double} and {@link Boolean}
+ * are written with a tag byte and their binary value, all other contents are written as objects.
+ * <br>
+ * <br>
+ * The values of {@link KeyValuesPair}, {@link KeySetPair} and {@link KeyMapPair} are restored as
+ * {@link ArrayList}, {@link LinkedHashSet} and {@link LinkedHashMap}, the values of
+ * {@link ImmutableKeyValuesPair} are restored as set if they were written from a set. Streams
+ * that were written with the default serialization of previous versions can still be read.
+ */
+final class TupleSerializationProxy implements Externalizable
+{
+
+	/** The current version of the binary layout */
+	static final byte VERSION = 1;
+
+	/** The type of {@link Pair} */
+	static final byte PAIR = 1;
+	/** The type of {@link Triple} */
+	static final byte TRIPLE = 2;
+	/** The type of {@link Quattro} */
+	static final byte QUATTRO = 3;
+	/** The type of {@link KeyValuePair} */
+	static final byte KEY_VALUE_PAIR = 4;
+	/** The type of {@link KeyValuesPair} */
+	static final byte KEY_VALUES_PAIR = 5;
+	/** The type of {@link KeySetPair} */
+	static final byte KEY_SET_PAIR = 6;
+	/** The type of {@link KeyMapPair} */
+	static final byte KEY_MAP_PAIR = 7;
+	/** The type of {@link ValueBox} */
+	static final byte VALUE_BOX = 8;
+	/** The type of {@link ImmutableBox} */
+	static final byte IMMUTABLE_BOX = 9;
+	/** The type of {@link IntIntPair} */
+	static final byte INT_INT_PAIR = 10;
+	/** The type of {@link IntLongPair} */
+	static final byte INT_LONG_PAIR = 11;
+	/** The type of {@link LongObjPair} */
+	static final byte LONG_OBJ_PAIR = 12;
+	/** The type of {@link IntIntDoubleTriple} */
+	static final byte INT_INT_DOUBLE_TRIPLE = 13;
+	/** The type of {@link ImmutablePair} */
+	static final byte IMMUTABLE_PAIR = 14;
+	/** The type of {@link ImmutableTriple} */
+	static final byte IMMUTABLE_TRIPLE = 15;
+	/** The type of {@link ImmutableQuattro} */
+	static final byte IMMUTABLE_QUATTRO = 16;
+	/** The type of {@link ImmutableKeyValuePair} */
+	static final byte IMMUTABLE_KEY_VALUE_PAIR = 17;
+	/** The type of {@link ImmutableKeyValuesPair} */
+	static final byte IMMUTABLE_KEY_VALUES_PAIR = 18;
+	/** The type of {@link ImmutableKeySetPair} */
+	static final byte IMMUTABLE_KEY_SET_PAIR = 19;
+	/** The type of {@link ImmutableKeyMapPair} */
+	static final byte IMMUTABLE_KEY_MAP_PAIR = 20;
+	/** The type of {@link AtomicValueBox} */
+	static final byte ATOMIC_VALUE_BOX = 21;
+	/** The type of {@link IntBox} */
+	static final byte INT_BOX = 22;
+	/** The type of {@link LongBox} */
+	static final byte LONG_BOX = 23;
+	/** The type of {@link DoubleBox} */
+	static final byte DOUBLE_BOX = 24;
+	/** The type of {@link LazyBox} */
+	static final byte LAZY_BOX = 25;
+
+	/** The tag of a null content */
+	private static final byte NULL_TAG = 0;
+	/** The tag of a {@link String} content */
+	private static final byte STRING_TAG = 1;
+	/** The tag of an {@link Integer} content */
+	private static final byte INTEGER_TAG = 2;
+	/** The tag of a {@link Long} content */
+	private static final byte LONG_TAG = 3;
+	/** The tag of a {@link Double} content */
+	private static final byte DOUBLE_TAG = 4;
+	/** The tag of a {@link Boolean} content */
+	private static final byte BOOLEAN_TAG = 5;
+	/** The tag of any other content */
+	private static final byte OBJECT_TAG = 6;
+
+	/**
+	 * The maximum length of a string that is written with {@link ObjectOutput#writeUTF(String)},
+	 * as every char needs at most three bytes the encoded string never exceeds the limit of 65535
+	 * bytes
+	 */
+	private static final int MAX_UTF_LENGTH = 65535 / 3;
+
+	/** The serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The type of the tuple */
+	private byte type;
+
+	/** The tuple */
+	private Object tuple;
+
+	/**
+	 * Instantiates a new {@link TupleSerializationProxy}, this constructor is only used from the
+	 * serialization
+	 */
+	public TupleSerializationProxy()
+	{
+	}
+
+	/**
+	 * Instantiates a new {@link TupleSerializationProxy} for the given tuple
+	 *
+	 * @param type
+	 *            the type of the given tuple
+	 * @param tuple
+	 *            the tuple
+	 */
+	TupleSerializationProxy(final byte type, final Object tuple)
+	{
+		this.type = type;
+		this.tuple = tuple;
+	}
+
+	/**
+	 * Writes the given content with its tag
+	 *
+	 * @param out
+	 *            the output
+	 * @param content
+	 *            the content
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	static void writeContent(final ObjectOutput out, final Object content) throws IOException
+	{
+		if (content == null)
+		{
+			out.writeByte(NULL_TAG);
+		}
+		else if (content instanceof String && ((String)content).length() <= MAX_UTF_LENGTH)
+		{
+			out.writeByte(STRING_TAG);
+			out.writeUTF((String)content);
+		}
+		else if (content instanceof Integer)
+		{
+			out.writeByte(INTEGER_TAG);
+			out.writeInt((Integer)content);
+		}
+		else if (content instanceof Long)
+		{
+			out.writeByte(LONG_TAG);
+			out.writeLong((Long)content);
+		}
+		else if (content instanceof Double)
+		{
+			out.writeByte(DOUBLE_TAG);
+			out.writeDouble((Double)content);
+		}
+		else if (content instanceof Boolean)
+		{
+			out.writeByte(BOOLEAN_TAG);
+			out.writeBoolean((Boolean)content);
+		}
+		else
+		{
+			out.writeByte(OBJECT_TAG);
+			out.writeObject(content);
+		}
+	}
+
+	/**
+	 * Reads a content that was written with
+	 * {@link TupleSerializationProxy#writeContent(ObjectOutput, Object)}
+	 *
+	 * @param in
+	 *            the input
+	 * @return the content
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of a content can not be found
+	 */
+	static Object readContent(final ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		final byte tag = in.readByte();
+		switch (tag)
+		{
+			case NULL_TAG :
+				return null;
+			case STRING_TAG :
+				return in.readUTF();
+			case INTEGER_TAG :
+				return in.readInt();
+			case LONG_TAG :
+				return in.readLong();
+			case DOUBLE_TAG :
+				return in.readDouble();
+			case BOOLEAN_TAG :
+				return in.readBoolean();
+			case OBJECT_TAG :
+				return in.readObject();
+			default :
+				throw new InvalidObjectException("Unknown content tag: " + tag);
+		}
+	}
+
+	/**
+	 * Writes the size and the elements of the given collection
+	 *
+	 * @param out
+	 *            the output
+	 * @param collection
+	 *            the collection, may be null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	private static void writeCollection(final ObjectOutput out, final Collection<?> collection)
+		throws IOException
+	{
+		if (collection == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(collection.size());
+		for (final Object element : collection)
+		{
+			writeContent(out, element);
+		}
+	}
+
+	/**
+	 * Reads the elements of a collection that was written with
+	 * {@link TupleSerializationProxy#writeCollection(ObjectOutput, Collection)} into the given
+	 * collection
+	 *
+	 * @param in
+	 *            the input
+	 * @param size
+	 *            the number of elements
+	 * @param collection
+	 *            the collection to fill
+	 * @return the given collection
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of an element can not be found
+	 */
+	private static <C extends Collection<Object>> C readElements(final ObjectInput in,
+		final int size, final C collection) throws IOException, ClassNotFoundException
+	{
+		for (int i = 0; i < size; i++)
+		{
+			collection.add(readContent(in));
+		}
+		return collection;
+	}
+
+	/**
+	 * Reads a list that was written with
+	 * {@link TupleSerializationProxy#writeCollection(ObjectOutput, Collection)}
+	 *
+	 * @param in
+	 *            the input
+	 * @return the list or null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of an element can not be found
+	 */
+	private static List<Object> readList(final ObjectInput in)
+		throws IOException, ClassNotFoundException
+	{
+		final int size = in.readInt();
+		return size < 0 ? null : readElements(in, size, new ArrayList<>(size));
+	}
+
+	/**
+	 * Reads a set that was written with
+	 * {@link TupleSerializationProxy#writeCollection(ObjectOutput, Collection)}
+	 *
+	 * @param in
+	 *            the input
+	 * @return the set or null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of an element can not be found
+	 */
+	private static Set<Object> readSet(final ObjectInput in)
+		throws IOException, ClassNotFoundException
+	{
+		final int size = in.readInt();
+		return size < 0
+			? null
+			: readElements(in, size, new LinkedHashSet<>((int)(size / 0.75f) + 1));
+	}
+
+	/**
+	 * Reads a flag if the values are a set followed by a set or a list that was written with
+	 * {@link TupleSerializationProxy#writeCollection(ObjectOutput, Collection)}
+	 *
+	 * @param in
+	 *            the input
+	 * @return the set, the list or null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of an element can not be found
+	 */
+	private static Collection<Object> readValues(final ObjectInput in)
+		throws IOException, ClassNotFoundException
+	{
+		if (in.readBoolean())
+		{
+			return readSet(in);
+		}
+		return readList(in);
+	}
+
+	/**
+	 * Writes the size and the entries of the given map
+	 *
+	 * @param out
+	 *            the output
+	 * @param map
+	 *            the map, may be null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	private static void writeMap(final ObjectOutput out, final Map<?, ?> map) throws IOException
+	{
+		if (map == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(map.size());
+		for (final Map.Entry<?, ?> entry : map.entrySet())
+		{
+			writeContent(out, entry.getKey());
+			writeContent(out, entry.getValue());
+		}
+	}
+
+	/**
+	 * Reads a map that was written with
+	 * {@link TupleSerializationProxy#writeMap(ObjectOutput, Map)}
+	 *
+	 * @param in
+	 *            the input
+	 * @return the map or null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws ClassNotFoundException
+	 *             if the class of a key or a value can not be found
+	 */
+	private static Map<Object, Object> readMap(final ObjectInput in)
+		throws IOException, ClassNotFoundException
+	{
+		final int size = in.readInt();
+		if (size < 0)
+		{
+			return null;
+		}
+		final Map<Object, Object> map = new LinkedHashMap<>((int)(size / 0.75f) + 1);
+		for (int i = 0; i < size; i++)
+		{
+			map.put(readContent(in), readContent(in));
+		}
+		return map;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void writeExternal(final ObjectOutput out) throws IOException
+	{
+		out.writeByte(VERSION);
+		out.writeByte(this.type);
+		switch (this.type)
+		{
+			case PAIR :
+				final Pair<?, ?> pair = (Pair<?, ?>)this.tuple;
+				writeContent(out, pair.getLeftContent());
+				writeContent(out, pair.getRightContent());
+				break;
+			case TRIPLE :
+				final Triple<?, ?, ?> triple = (Triple<?, ?, ?>)this.tuple;
+				writeContent(out, triple.getLeft());
+				writeContent(out, triple.getMiddle());
+				writeContent(out, triple.getRight());
+				break;
+			case QUATTRO :
+				final Quattro<?, ?, ?, ?> quattro = (Quattro<?, ?, ?, ?>)this.tuple;
+				writeContent(out, quattro.getBottomLeft());
+				writeContent(out, quattro.getBottomRight());
+				writeContent(out, quattro.getTopLeft());
+				writeContent(out, quattro.getTopRight());
+				break;
+			case KEY_VALUE_PAIR :
+				final KeyValuePair<?, ?> keyValuePair = (KeyValuePair<?, ?>)this.tuple;
+				writeContent(out, keyValuePair.getKey());
+				writeContent(out, keyValuePair.getValue());
+				break;
+			case KEY_VALUES_PAIR :
+				final KeyValuesPair<?, ?> keyValuesPair = (KeyValuesPair<?, ?>)this.tuple;
+				writeContent(out, keyValuesPair.getKey());
+				writeCollection(out, keyValuesPair.getValues());
+				break;
+			case KEY_SET_PAIR :
+				final KeySetPair<?, ?> keySetPair = (KeySetPair<?, ?>)this.tuple;
+				writeContent(out, keySetPair.getKey());
+				writeCollection(out, keySetPair.getValues());
+				break;
+			case KEY_MAP_PAIR :
+				final KeyMapPair<?, ?, ?> keyMapPair = (KeyMapPair<?, ?, ?>)this.tuple;
+				writeContent(out, keyMapPair.getKey());
+				writeMap(out, keyMapPair.getValues());
+				break;
+			case VALUE_BOX :
+				writeContent(out, ((ValueBox<?>)this.tuple).getValue());
+				break;
+			case IMMUTABLE_BOX :
+				writeContent(out, ((ImmutableBox<?>)this.tuple).getValue());
+				break;
+			case INT_INT_PAIR :
+				final IntIntPair intIntPair = (IntIntPair)this.tuple;
+				out.writeInt(intIntPair.getLeftContent());
+				out.writeInt(intIntPair.getRightContent());
+				break;
+			case INT_LONG_PAIR :
+				final IntLongPair intLongPair = (IntLongPair)this.tuple;
+				out.writeInt(intLongPair.getLeftContent());
+				out.writeLong(intLongPair.getRightContent());
+				break;
+			case LONG_OBJ_PAIR :
+				final LongObjPair<?> longObjPair = (LongObjPair<?>)this.tuple;
+				out.writeLong(longObjPair.getLeftContent());
+				writeContent(out, longObjPair.getRightContent());
+				break;
+			case INT_INT_DOUBLE_TRIPLE :
+				final IntIntDoubleTriple intIntDoubleTriple = (IntIntDoubleTriple)this.tuple;
+				out.writeInt(intIntDoubleTriple.getLeft());
+				out.writeInt(intIntDoubleTriple.getMiddle());
+				out.writeDouble(intIntDoubleTriple.getRight());
+				break;
+			case IMMUTABLE_PAIR :
+				final ImmutablePair<?, ?> immutablePair = (ImmutablePair<?, ?>)this.tuple;
+				writeContent(out, immutablePair.getLeftContent());
+				writeContent(out, immutablePair.getRightContent());
+				break;
+			case IMMUTABLE_TRIPLE :
+				final ImmutableTriple<?, ?, ?> immutableTriple =
+					(ImmutableTriple<?, ?, ?>)this.tuple;
+				writeContent(out, immutableTriple.getLeft());
+				writeContent(out, immutableTriple.getMiddle());
+				writeContent(out, immutableTriple.getRight());
+				break;
+			case IMMUTABLE_QUATTRO :
+				final ImmutableQuattro<?, ?, ?, ?> immutableQuattro =
+					(ImmutableQuattro<?, ?, ?, ?>)this.tuple;
+				writeContent(out, immutableQuattro.getBottomLeft());
+				writeContent(out, immutableQuattro.getBottomRight());
+				writeContent(out, immutableQuattro.getTopLeft());
+				writeContent(out, immutableQuattro.getTopRight());
+				break;
+			case IMMUTABLE_KEY_VALUE_PAIR :
+				final ImmutableKeyValuePair<?, ?> immutableKeyValuePair =
+					(ImmutableKeyValuePair<?, ?>)this.tuple;
+				writeContent(out, immutableKeyValuePair.getKey());
+				writeContent(out, immutableKeyValuePair.getValue());
+				break;
+			case IMMUTABLE_KEY_VALUES_PAIR :
+				final ImmutableKeyValuesPair<?, ?> immutableKeyValuesPair =
+					(ImmutableKeyValuesPair<?, ?>)this.tuple;
+				writeContent(out, immutableKeyValuesPair.getKey());
+				out.writeBoolean(immutableKeyValuesPair.getValues() instanceof Set);
+				writeCollection(out, immutableKeyValuesPair.getValues());
+				break;
+			case IMMUTABLE_KEY_SET_PAIR :
+				final ImmutableKeySetPair<?, ?> immutableKeySetPair =
+					(ImmutableKeySetPair<?, ?>)this.tuple;
+				writeContent(out, immutableKeySetPair.getKey());
+				writeCollection(out, immutableKeySetPair.getValues());
+				break;
+			case IMMUTABLE_KEY_MAP_PAIR :
+				final ImmutableKeyMapPair<?, ?, ?> immutableKeyMapPair =
+					(ImmutableKeyMapPair<?, ?, ?>)this.tuple;
+				writeContent(out, immutableKeyMapPair.getKey());
+				writeMap(out, immutableKeyMapPair.getValues());
+				break;
+			case ATOMIC_VALUE_BOX :
+				writeContent(out, ((AtomicValueBox<?>)this.tuple).getValue());
+				break;
+			case INT_BOX :
+				out.writeInt(((IntBox)this.tuple).getValue());
+				break;
+			case LONG_BOX :
+				out.writeLong(((LongBox)this.tuple).getValue());
+				break;
+			case DOUBLE_BOX :
+				out.writeDouble(((DoubleBox)this.tuple).getValue());
+				break;
+			case LAZY_BOX :
+				writeContent(out, ((LazyBox<?>)this.tuple).getValue());
+				break;
+			default :
+				throw new InvalidObjectException("Unknown tuple type: " + this.type);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		final byte version = in.readByte();
+		if (version < 1 || VERSION < version)
+		{
+			throw new InvalidObjectException("Unsupported tuple serialization version: " + version);
+		}
+		this.type = in.readByte();
+		switch (this.type)
+		{
+			case PAIR :
+				this.tuple = new Pair<>(readContent(in), readContent(in));
+				break;
+			case TRIPLE :
+				this.tuple = new Triple<>(readContent(in), readContent(in), readContent(in));
+				break;
+			case QUATTRO :
+				this.tuple = new Quattro<>(readContent(in), readContent(in), readContent(in),
+					readContent(in));
+				break;
+			case KEY_VALUE_PAIR :
+				this.tuple = new KeyValuePair<>(readContent(in), readContent(in));
+				break;
+			case KEY_VALUES_PAIR :
+				this.tuple = new KeyValuesPair<>(readContent(in), readList(in));
+				break;
+			case KEY_SET_PAIR :
+				this.tuple = new KeySetPair<>(readContent(in), readSet(in));
+				break;
+			case KEY_MAP_PAIR :
+				this.tuple = new KeyMapPair<>(readContent(in), readMap(in));
+				break;
+			case VALUE_BOX :
+				this.tuple = new ValueBox<>(readContent(in));
+				break;
+			case IMMUTABLE_BOX :
+				this.tuple = new ImmutableBox<>(readContent(in));
+				break;
+			case INT_INT_PAIR :
+				this.tuple = new IntIntPair(in.readInt(), in.readInt());
+				break;
+			case INT_LONG_PAIR :
+				this.tuple = new IntLongPair(in.readInt(), in.readLong());
+				break;
+			case LONG_OBJ_PAIR :
+				this.tuple = new LongObjPair<>(in.readLong(), readContent(in));
+				break;
+			case INT_INT_DOUBLE_TRIPLE :
+				this.tuple = new IntIntDoubleTriple(in.readInt(), in.readInt(), in.readDouble());
+				break;
+			case IMMUTABLE_PAIR :
+				this.tuple = new ImmutablePair<>(readContent(in), readContent(in));
+				break;
+			case IMMUTABLE_TRIPLE :
+				this.tuple = new ImmutableTriple<>(readContent(in), readContent(in),
+					readContent(in));
+				break;
+			case IMMUTABLE_QUATTRO :
+				this.tuple = new ImmutableQuattro<>(readContent(in), readContent(in),
+					readContent(in), readContent(in));
+				break;
+			case IMMUTABLE_KEY_VALUE_PAIR :
+				this.tuple = new ImmutableKeyValuePair<>(readContent(in), readContent(in));
+				break;
+			case IMMUTABLE_KEY_VALUES_PAIR :
+				this.tuple = new ImmutableKeyValuesPair<>(readContent(in), readValues(in));
+				break;
+			case IMMUTABLE_KEY_SET_PAIR :
+				this.tuple = new ImmutableKeySetPair<>(readContent(in), readSet(in));
+				break;
+			case IMMUTABLE_KEY_MAP_PAIR :
+				this.tuple = new ImmutableKeyMapPair<>(readContent(in), readMap(in));
+				break;
+			case ATOMIC_VALUE_BOX :
+				this.tuple = new AtomicValueBox<>(readContent(in));
+				break;
+			case INT_BOX :
+				this.tuple = new IntBox(in.readInt());
+				break;
+			case LONG_BOX :
+				this.tuple = new LongBox(in.readLong());
+				break;
+			case DOUBLE_BOX :
+				this.tuple = new DoubleBox(in.readDouble());
+				break;
+			case LAZY_BOX :
+				this.tuple = LazyBox.ofValue(readContent(in));
+				break;
+			default :
+				throw new InvalidObjectException("Unknown tuple type: " + this.type);
+		}
+	}
+
+	/**
+	 * Replaces this proxy with the read tuple
+	 *
+	 * @return the tuple
+	 * @throws ObjectStreamException
+	 *             if no tuple was read
+	 */
+	private Object readResolve() throws ObjectStreamException
+	{
+		if (this.tuple == null)
+		{
+			throw new InvalidObjectException("No tuple was read");
+		}
+		return this.tuple;
+	}
+
+}
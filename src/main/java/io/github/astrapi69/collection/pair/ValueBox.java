@@ -141,11 +141,11 @@ public class ValueBox<T> implements Serializable
 	@Override
 	public int hashCode()
 	{
-		final int PRIME = 59;
-		int result = 1;
+		final TupleHashStrategy strategy = TupleHashStrategy.current();
+		int result = strategy.seed();
 		final Object $value = this.getValue();
-		result = result * PRIME + ($value == null ? 43 : $value.hashCode());
-		return result;
+		result = strategy.combine(result, TupleHashStrategy.hashOf($value));
+		return strategy.finish(result);
 	}
 
 	/**
@@ -167,6 +167,17 @@ public class ValueBox<T> implements Serializable
 		return "ValueBox(value=" + this.getValue() + ")";
 	}
 
+	/**
+	 * Replaces this value box with a {@link TupleSerializationProxy} that writes a compact binary
+	 * layout
+	 *
+	 * @return the serialization proxy
+	 */
+	private Object writeReplace()
+	{
+		return new TupleSerializationProxy(TupleSerializationProxy.VALUE_BOX, this);
+	}
+
 	/**
 	 * The class {@link ValueBoxBuilder}.
 	 *
@@ -0,0 +1,541 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import io.github.astrapi69.collection.comparator.KeyMapPairKeyComparator;
+import io.github.astrapi69.collection.comparator.KeyValuePairKeyComparator;
+import io.github.astrapi69.collection.comparator.KeyValuesPairKeyComparator;
+import io.github.astrapi69.collection.pair.KeyMapPair;
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The class {@link PairSorter} provides stable sorting methods for large lists of pairs. The
+ * comparator based methods sort with the fork join parallel merge sort of
+ * {@link Arrays#parallelSort(Object[], Comparator)}, so the sort time scales with the number of
+ * cores. The radix methods sort with a least significant digit radix sort in linear time when the
+ * sort key is an int, a long or a string of a fixed length. All methods copy the elements into an
+ * array, sort the array and write the elements back into the given list like
+ * {@link List#sort(Comparator)} does, so the list has to support
+ * {@link ListIterator#set(Object)}. The derived key methods compute an expensive sort key only
+ * once for every element and sort on the derived keys
+ */
+public final class PairSorter
+{
+
+	/** The number of bits of one radix digit. */
+	private static final int DIGIT_BITS = 8;
+
+	/** The number of buckets of one radix digit. */
+	private static final int RADIX = 1 << DIGIT_BITS;
+
+	/** The mask of one radix digit. */
+	private static final int DIGIT_MASK = RADIX - 1;
+
+	private PairSorter()
+	{
+	}
+
+	/**
+	 * Sorts the given list stable with the given comparator in parallel
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param list
+	 *            the list to sort
+	 * @param comparator
+	 *            the comparator
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void parallelSort(final List<T> list, final Comparator<? super T> comparator)
+	{
+		Objects.requireNonNull(comparator);
+		final T[] elements = (T[])list.toArray();
+		Arrays.parallelSort(elements, comparator);
+		writeBack(list, elements);
+	}
+
+	/**
+	 * Sorts the given list of {@link KeyMapPair}'s stable by the key with the
+	 * {@link KeyMapPairKeyComparator} in parallel
+	 *
+	 * @param <K>
+	 *            the generic type of the key
+	 * @param <MK>
+	 *            the generic type of the map key
+	 * @param <MV>
+	 *            the generic type of the map value
+	 * @param list
+	 *            the list to sort
+	 */
+	public static <K extends Comparable<K>, MK, MV> void parallelSortKeyMapPairs(
+		final List<KeyMapPair<K, MK, MV>> list)
+	{
+		parallelSort(list, new KeyMapPairKeyComparator<>());
+	}
+
+	/**
+	 * Sorts the given list of {@link KeyValuePair}'s stable by the key with the
+	 * {@link KeyValuePairKeyComparator} in parallel
+	 *
+	 * @param <K>
+	 *            the generic type of the key
+	 * @param <V>
+	 *            the generic type of the value
+	 * @param list
+	 *            the list to sort
+	 */
+	public static <K extends Comparable<K>, V> void parallelSortKeyValuePairs(
+		final List<KeyValuePair<K, V>> list)
+	{
+		parallelSort(list, new KeyValuePairKeyComparator<>());
+	}
+
+	/**
+	 * Sorts the given list of {@link KeyValuesPair}'s stable by the key with the
+	 * {@link KeyValuesPairKeyComparator} in parallel
+	 *
+	 * @param <K>
+	 *            the generic type of the key
+	 * @param <V>
+	 *            the generic type of the values
+	 * @param list
+	 *            the list to sort
+	 */
+	public static <K extends Comparable<K>, V> void parallelSortKeyValuesPairs(
+		final List<KeyValuesPair<K, V>> list)
+	{
+		parallelSort(list, new KeyValuesPairKeyComparator<>());
+	}
+
+	/**
+	 * Sorts the given list stable by the derived key that is computed once for every element with
+	 * the given function in parallel. This decorate sort undecorate pays the cost of an expensive
+	 * key only n times instead of n log n times
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param <D>
+	 *            the generic type of the derived keys
+	 * @param list
+	 *            the list to sort
+	 * @param keyDeriver
+	 *            the function that computes the derived key of an element
+	 * @param comparator
+	 *            the comparator for the derived keys
+	 */
+	public static <T, D> void parallelSortByDerivedKey(final List<T> list,
+		final Function<? super T, ? extends D> keyDeriver, final Comparator<? super D> comparator)
+	{
+		Objects.requireNonNull(comparator);
+		final DerivedKey<T, D>[] decorated = decorate(list, keyDeriver);
+		Arrays.parallelSort(decorated, (left, right) -> comparator.compare(left.key, right.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list stable by the fixed length string key that is extracted with the given
+	 * function. The strings are compared char by char like {@link String#compareTo(String)} does
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param list
+	 *            the list to sort
+	 * @param keyExtractor
+	 *            the function that extracts the string key
+	 * @param length
+	 *            the length of every string key
+	 * @throws IllegalArgumentException
+	 *             if a string key does not have the given length
+	 */
+	public static <T> void radixSortByFixedLengthStringKey(final List<T> list,
+		final Function<? super T, String> keyExtractor, final int length)
+	{
+		Objects.requireNonNull(keyExtractor);
+		final int size = list.size();
+		if (size < 2)
+		{
+			return;
+		}
+		Object[] elements = list.toArray();
+		String[] keys = new String[size];
+		for (int i = 0; i < size; i++)
+		{
+			final String key = keyExtractor.apply(elementAt(elements[i]));
+			if (key.length() != length)
+			{
+				throw new IllegalArgumentException(
+					"The key '" + key + "' does not have the length " + length);
+			}
+			keys[i] = key;
+		}
+		Object[] elementBuffer = new Object[size];
+		String[] keyBuffer = new String[size];
+		final int[] offsets = new int[RADIX + 1];
+		for (int position = length - 1; 0 <= position; position--)
+		{
+			for (int shift = 0; shift < Character.SIZE; shift += DIGIT_BITS)
+			{
+				Arrays.fill(offsets, 0);
+				for (final String key : keys)
+				{
+					offsets[((key.charAt(position) >>> shift) & DIGIT_MASK) + 1]++;
+				}
+				if (isSingleBucket(offsets, size))
+				{
+					continue;
+				}
+				toOffsets(offsets);
+				for (int i = 0; i < size; i++)
+				{
+					final int target = offsets[(keys[i].charAt(position) >>> shift) & DIGIT_MASK]++;
+					keyBuffer[target] = keys[i];
+					elementBuffer[target] = elements[i];
+				}
+				final String[] sortedKeys = keyBuffer;
+				keyBuffer = keys;
+				keys = sortedKeys;
+				final Object[] sortedElements = elementBuffer;
+				elementBuffer = elements;
+				elements = sortedElements;
+			}
+		}
+		writeBack(list, elements);
+	}
+
+	/**
+	 * Sorts the given list stable by the int key that is extracted with the given function
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param list
+	 *            the list to sort
+	 * @param keyExtractor
+	 *            the function that extracts the int key
+	 */
+	public static <T> void radixSortByIntKey(final List<T> list,
+		final ToIntFunction<? super T> keyExtractor)
+	{
+		Objects.requireNonNull(keyExtractor);
+		final int size = list.size();
+		if (size < 2)
+		{
+			return;
+		}
+		Object[] elements = list.toArray();
+		int[] keys = new int[size];
+		for (int i = 0; i < size; i++)
+		{
+			// flipping the sign bit orders the negative keys before the positive keys
+			keys[i] = keyExtractor.applyAsInt(elementAt(elements[i])) ^ Integer.MIN_VALUE;
+		}
+		Object[] elementBuffer = new Object[size];
+		int[] keyBuffer = new int[size];
+		final int[] offsets = new int[RADIX + 1];
+		for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS)
+		{
+			Arrays.fill(offsets, 0);
+			for (final int key : keys)
+			{
+				offsets[((key >>> shift) & DIGIT_MASK) + 1]++;
+			}
+			if (isSingleBucket(offsets, size))
+			{
+				continue;
+			}
+			toOffsets(offsets);
+			for (int i = 0; i < size; i++)
+			{
+				final int target = offsets[(keys[i] >>> shift) & DIGIT_MASK]++;
+				keyBuffer[target] = keys[i];
+				elementBuffer[target] = elements[i];
+			}
+			final int[] sortedKeys = keyBuffer;
+			keyBuffer = keys;
+			keys = sortedKeys;
+			final Object[] sortedElements = elementBuffer;
+			elementBuffer = elements;
+			elements = sortedElements;
+		}
+		writeBack(list, elements);
+	}
+
+	/**
+	 * Sorts the given list stable by the long key that is extracted with the given function
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param list
+	 *            the list to sort
+	 * @param keyExtractor
+	 *            the function that extracts the long key
+	 */
+	public static <T> void radixSortByLongKey(final List<T> list,
+		final ToLongFunction<? super T> keyExtractor)
+	{
+		Objects.requireNonNull(keyExtractor);
+		final int size = list.size();
+		if (size < 2)
+		{
+			return;
+		}
+		Object[] elements = list.toArray();
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++)
+		{
+			// flipping the sign bit orders the negative keys before the positive keys
+			keys[i] = keyExtractor.applyAsLong(elementAt(elements[i])) ^ Long.MIN_VALUE;
+		}
+		Object[] elementBuffer = new Object[size];
+		long[] keyBuffer = new long[size];
+		final int[] offsets = new int[RADIX + 1];
+		for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS)
+		{
+			Arrays.fill(offsets, 0);
+			for (final long key : keys)
+			{
+				offsets[(int)((key >>> shift) & DIGIT_MASK) + 1]++;
+			}
+			if (isSingleBucket(offsets, size))
+			{
+				continue;
+			}
+			toOffsets(offsets);
+			for (int i = 0; i < size; i++)
+			{
+				final int target = offsets[(int)((keys[i] >>> shift) & DIGIT_MASK)]++;
+				keyBuffer[target] = keys[i];
+				elementBuffer[target] = elements[i];
+			}
+			final long[] sortedKeys = keyBuffer;
+			keyBuffer = keys;
+			keys = sortedKeys;
+			final Object[] sortedElements = elementBuffer;
+			elementBuffer = elements;
+			elements = sortedElements;
+		}
+		writeBack(list, elements);
+	}
+
+	/**
+	 * Sorts the given list stable by the natural order of the derived key that is computed once
+	 * for every element with the given function. This decorate sort undecorate pays the cost of an
+	 * expensive key only n times instead of n log n times, for instance with the
+	 * {@link java.text.CollationKey} of a locale aware string
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param <D>
+	 *            the generic type of the derived keys
+	 * @param list
+	 *            the list to sort
+	 * @param keyDeriver
+	 *            the function that computes the derived key of an element
+	 */
+	public static <T, D extends Comparable<? super D>> void sortByDerivedKey(final List<T> list,
+		final Function<? super T, ? extends D> keyDeriver)
+	{
+		sortByDerivedKey(list, keyDeriver, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Sorts the given list stable by the derived key that is computed once for every element with
+	 * the given function. This decorate sort undecorate pays the cost of an expensive key only n
+	 * times instead of n log n times
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param <D>
+	 *            the generic type of the derived keys
+	 * @param list
+	 *            the list to sort
+	 * @param keyDeriver
+	 *            the function that computes the derived key of an element
+	 * @param comparator
+	 *            the comparator for the derived keys
+	 */
+	public static <T, D> void sortByDerivedKey(final List<T> list,
+		final Function<? super T, ? extends D> keyDeriver, final Comparator<? super D> comparator)
+	{
+		Objects.requireNonNull(comparator);
+		final DerivedKey<T, D>[] decorated = decorate(list, keyDeriver);
+		Arrays.sort(decorated, (left, right) -> comparator.compare(left.key, right.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Casts the given array element to the generic type
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param element
+	 *            the array element
+	 * @return the casted element
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object element)
+	{
+		return (T)element;
+	}
+
+	/**
+	 * Computes the derived key of every element of the given list
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param <D>
+	 *            the generic type of the derived keys
+	 * @param list
+	 *            the list
+	 * @param keyDeriver
+	 *            the function that computes the derived key of an element
+	 * @return the elements decorated with their derived keys
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T, D> DerivedKey<T, D>[] decorate(final List<T> list,
+		final Function<? super T, ? extends D> keyDeriver)
+	{
+		Objects.requireNonNull(keyDeriver);
+		final DerivedKey<T, D>[] decorated = (DerivedKey<T, D>[])new DerivedKey<?, ?>[list.size()];
+		int index = 0;
+		for (final T element : list)
+		{
+			decorated[index++] = new DerivedKey<>(keyDeriver.apply(element), element);
+		}
+		return decorated;
+	}
+
+	/**
+	 * Checks if all elements fall into the same bucket, then the pass over the digit can be
+	 * skipped
+	 *
+	 * @param counts
+	 *            the counts of the buckets shifted by one
+	 * @param size
+	 *            the number of elements
+	 * @return true, if one bucket holds all elements
+	 */
+	private static boolean isSingleBucket(final int[] counts, final int size)
+	{
+		for (int bucket = 1; bucket <= RADIX; bucket++)
+		{
+			if (counts[bucket] != 0)
+			{
+				return counts[bucket] == size;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Transforms the counts of the buckets that are shifted by one into the start offsets of the
+	 * buckets
+	 *
+	 * @param offsets
+	 *            the counts of the buckets shifted by one
+	 */
+	private static void toOffsets(final int[] offsets)
+	{
+		for (int bucket = 0; bucket < RADIX; bucket++)
+		{
+			offsets[bucket + 1] += offsets[bucket];
+		}
+	}
+
+	/**
+	 * Writes the elements of the given sorted decorated elements back into the given list
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param <D>
+	 *            the generic type of the derived keys
+	 * @param list
+	 *            the list
+	 * @param decorated
+	 *            the sorted decorated elements
+	 */
+	private static <T, D> void undecorate(final List<T> list, final DerivedKey<T, D>[] decorated)
+	{
+		final ListIterator<T> iterator = list.listIterator();
+		for (final DerivedKey<T, D> derivedKey : decorated)
+		{
+			iterator.next();
+			iterator.set(derivedKey.element);
+		}
+	}
+
+	/**
+	 * Writes the given sorted elements back into the given list
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param list
+	 *            the list
+	 * @param elements
+	 *            the sorted elements
+	 */
+	private static <T> void writeBack(final List<T> list, final Object[] elements)
+	{
+		final ListIterator<T> iterator = list.listIterator();
+		for (final Object element : elements)
+		{
+			iterator.next();
+			iterator.set(elementAt(element));
+		}
+	}
+
+	/**
+	 * An element decorated with its derived sort key
+	 *
+	 * @param <T>
+	 *            the generic type of the element
+	 * @param <D>
+	 *            the generic type of the derived key
+	 */
+	private static final class DerivedKey<T, D>
+	{
+
+		/** The derived key. */
+		final D key;
+
+		/** The element. */
+		final T element;
+
+		DerivedKey(final D key, final T element)
+		{
+			this.key = key;
+			this.element = element;
+		}
+	}
+}
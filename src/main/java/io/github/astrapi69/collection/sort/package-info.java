@@ -0,0 +1,4 @@
+/**
+ * This package provides parallel and radix sorting utilities for lists of pairs
+ */
+package io.github.astrapi69.collection.sort;
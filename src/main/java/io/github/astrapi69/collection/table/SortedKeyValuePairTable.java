@@ -0,0 +1,715 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.table;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+
+/**
+ * The class {@link SortedKeyValuePairTable} is an immutable lookup table that stores the keys and
+ * the values of {@link KeyValuePair}'s in two parallel arrays that are sorted by the key. A lookup
+ * is a binary search over the key array, so the table gives map like lookups with the footprint of
+ * two object arrays instead of one node object for every entry of a {@link java.util.TreeMap}. A
+ * {@link KeyValuePair} is only created when an entry is requested. <br>
+ * <br>
+ * The range methods return sub tables that share the arrays of this table, so they are created in
+ * constant time and memory. All indexes are relative to the table they are called on. Null keys
+ * are not allowed, null values are allowed. The table is thread safe
+ *
+ * @param <K>
+ *            The generic type of the key
+ * @param <V>
+ *            The generic type of the value
+ */
+public final class SortedKeyValuePairTable<K, V> implements Iterable<KeyValuePair<K, V>>
+{
+
+	/** The sorted keys. */
+	private final Object[] keys;
+
+	/** The values in the order of the keys. */
+	private final Object[] values;
+
+	/** The comparator that defines the order of the keys. */
+	private final Comparator<? super K> comparator;
+
+	/** The index of the first entry of this table in the arrays. */
+	private final int from;
+
+	/** The index after the last entry of this table in the arrays. */
+	private final int to;
+
+	/**
+	 * Instantiates a new {@link SortedKeyValuePairTable}
+	 *
+	 * @param keys
+	 *            the sorted keys
+	 * @param values
+	 *            the values in the order of the keys
+	 * @param comparator
+	 *            the comparator that defines the order of the keys
+	 * @param from
+	 *            the index of the first entry in the arrays
+	 * @param to
+	 *            the index after the last entry in the arrays
+	 */
+	private SortedKeyValuePairTable(final Object[] keys, final Object[] values,
+		final Comparator<? super K> comparator, final int from, final int to)
+	{
+		this.keys = keys;
+		this.values = values;
+		this.comparator = comparator;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Factory method for create a new {@link SortedKeyValuePairTable} from the given key value
+	 * pairs that are sorted by the natural order of the keys. If a key occurs more than once the
+	 * last value in the order of the given collection wins
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param keyValuePairs
+	 *            the key value pairs in any order
+	 * @return the new {@link SortedKeyValuePairTable}
+	 */
+	public static <K extends Comparable<? super K>, V> SortedKeyValuePairTable<K, V> of(
+		final Collection<? extends KeyValuePair<? extends K, ? extends V>> keyValuePairs)
+	{
+		return of(keyValuePairs, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Factory method for create a new {@link SortedKeyValuePairTable} from the given key value
+	 * pairs that are sorted with the given comparator. If a key occurs more than once the last
+	 * value in the order of the given collection wins
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param keyValuePairs
+	 *            the key value pairs in any order
+	 * @param comparator
+	 *            the comparator that defines the order of the keys
+	 * @return the new {@link SortedKeyValuePairTable}
+	 */
+	public static <K, V> SortedKeyValuePairTable<K, V> of(
+		final Collection<? extends KeyValuePair<? extends K, ? extends V>> keyValuePairs,
+		final Comparator<? super K> comparator)
+	{
+		Objects.requireNonNull(comparator);
+		final KeyValuePair<?, ?>[] sorted = keyValuePairs.toArray(new KeyValuePair<?, ?>[0]);
+		for (final KeyValuePair<?, ?> keyValuePair : sorted)
+		{
+			Objects.requireNonNull(keyValuePair.getKey(), "key is marked non-null but is null");
+		}
+		// the sort is stable, so the last of equal keys is the last in the order of the input
+		Arrays.sort(sorted, (left, right) -> comparator.compare(keyOf(left), keyOf(right)));
+		final Object[] keys = new Object[sorted.length];
+		final Object[] values = new Object[sorted.length];
+		int size = 0;
+		for (final KeyValuePair<?, ?> keyValuePair : sorted)
+		{
+			final K key = keyOf(keyValuePair);
+			if (0 < size && comparator.compare(keyAt(keys, size - 1), key) == 0)
+			{
+				size--;
+			}
+			keys[size] = key;
+			values[size] = keyValuePair.getValue();
+			size++;
+		}
+		return new SortedKeyValuePairTable<>(trim(keys, size), trim(values, size), comparator, 0,
+			size);
+	}
+
+	/**
+	 * Factory method for create a new {@link SortedKeyValuePairTable} from the given key value
+	 * pairs that are already sorted by the natural order of the keys. The order is only verified
+	 * and not sorted again
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param keyValuePairs
+	 *            the key value pairs in strictly ascending order of the keys
+	 * @return the new {@link SortedKeyValuePairTable}
+	 * @throws IllegalArgumentException
+	 *             if the keys are not strictly ascending
+	 */
+	public static <K extends Comparable<? super K>, V> SortedKeyValuePairTable<K, V> ofSorted(
+		final Collection<? extends KeyValuePair<? extends K, ? extends V>> keyValuePairs)
+	{
+		return ofSorted(keyValuePairs, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Factory method for create a new {@link SortedKeyValuePairTable} from the given key value
+	 * pairs that are already sorted with the given comparator. The order is only verified and not
+	 * sorted again
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param <V>
+	 *            The generic type of the value
+	 * @param keyValuePairs
+	 *            the key value pairs in strictly ascending order of the keys
+	 * @param comparator
+	 *            the comparator that defines the order of the keys
+	 * @return the new {@link SortedKeyValuePairTable}
+	 * @throws IllegalArgumentException
+	 *             if the keys are not strictly ascending
+	 */
+	public static <K, V> SortedKeyValuePairTable<K, V> ofSorted(
+		final Collection<? extends KeyValuePair<? extends K, ? extends V>> keyValuePairs,
+		final Comparator<? super K> comparator)
+	{
+		Objects.requireNonNull(comparator);
+		final Object[] keys = new Object[keyValuePairs.size()];
+		final Object[] values = new Object[keys.length];
+		int size = 0;
+		for (final KeyValuePair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+		{
+			final K key = Objects.requireNonNull(keyValuePair.getKey(),
+				"key is marked non-null but is null");
+			if (0 < size && comparator.compare(keyAt(keys, size - 1), key) >= 0)
+			{
+				throw new IllegalArgumentException(
+					"The keys are not strictly ascending at index " + size + ": " + key);
+			}
+			keys[size] = key;
+			values[size] = keyValuePair.getValue();
+			size++;
+		}
+		return new SortedKeyValuePairTable<>(keys, values, comparator, 0, size);
+	}
+
+	/**
+	 * Casts the given array element to the generic type
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param element
+	 *            the array element
+	 * @return the casted element
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T elementAt(final Object element)
+	{
+		return (T)element;
+	}
+
+	/**
+	 * Gets the key at the given index of the given key array
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param keys
+	 *            the key array
+	 * @param index
+	 *            the index
+	 * @return the key
+	 */
+	private static <K> K keyAt(final Object[] keys, final int index)
+	{
+		return elementAt(keys[index]);
+	}
+
+	/**
+	 * Gets the key of the given key value pair
+	 *
+	 * @param <K>
+	 *            The generic type of the key
+	 * @param keyValuePair
+	 *            the key value pair
+	 * @return the key
+	 */
+	private static <K> K keyOf(final KeyValuePair<?, ?> keyValuePair)
+	{
+		return elementAt(keyValuePair.getKey());
+	}
+
+	/**
+	 * Trims the given array to the given length
+	 *
+	 * @param array
+	 *            the array
+	 * @param length
+	 *            the length
+	 * @return the given array if it has the given length, otherwise a trimmed copy
+	 */
+	private static Object[] trim(final Object[] array, final int length)
+	{
+		return array.length == length ? array : Arrays.copyOf(array, length);
+	}
+
+	/**
+	 * Gets the list view of the key value pairs of this table
+	 *
+	 * @return the unmodifiable list view of the key value pairs
+	 */
+	public List<KeyValuePair<K, V>> asList()
+	{
+		return new ColumnList<>(this::getKeyValuePair);
+	}
+
+	/**
+	 * Gets the key value pair with the least key greater than or equal to the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the key value pair or null if there is no such key
+	 */
+	public KeyValuePair<K, V> ceiling(final K key)
+	{
+		return keyValuePairAt(ceilingIndex(key));
+	}
+
+	/**
+	 * Checks if this table contains the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return true, if this table contains the given key
+	 */
+	public boolean containsKey(final K key)
+	{
+		return 0 <= search(key);
+	}
+
+	/**
+	 * Gets the key value pair with the greatest key less than or equal to the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the key value pair or null if there is no such key
+	 */
+	public KeyValuePair<K, V> floor(final K key)
+	{
+		return keyValuePairAt(floorIndex(key));
+	}
+
+	/**
+	 * Performs the given action for every key and value of this table in ascending order of the
+	 * keys without creating {@link KeyValuePair} objects
+	 *
+	 * @param action
+	 *            the action
+	 */
+	public void forEach(final BiConsumer<? super K, ? super V> action)
+	{
+		Objects.requireNonNull(action);
+		for (int i = from; i < to; i++)
+		{
+			action.accept(elementAt(keys[i]), elementAt(values[i]));
+		}
+	}
+
+	/**
+	 * Gets the value of the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the value or null if this table does not contain the given key
+	 */
+	public V get(final K key)
+	{
+		final int index = search(key);
+		return index < 0 ? null : elementAt(values[index]);
+	}
+
+	/**
+	 * Gets the key at the given index
+	 *
+	 * @param index
+	 *            the index
+	 * @return the key
+	 */
+	public K getKey(final int index)
+	{
+		return elementAt(keys[from + Objects.checkIndex(index, size())]);
+	}
+
+	/**
+	 * Gets the key value pair at the given index
+	 *
+	 * @param index
+	 *            the index
+	 * @return the new key value pair
+	 */
+	public KeyValuePair<K, V> getKeyValuePair(final int index)
+	{
+		return keyValuePairAt(from + Objects.checkIndex(index, size()));
+	}
+
+	/**
+	 * Gets the value at the given index
+	 *
+	 * @param index
+	 *            the index
+	 * @return the value
+	 */
+	public V getValue(final int index)
+	{
+		return elementAt(values[from + Objects.checkIndex(index, size())]);
+	}
+
+	/**
+	 * Gets the sub table with the keys less than, or equal to if inclusive, the given key
+	 *
+	 * @param toKey
+	 *            the upper bound
+	 * @param inclusive
+	 *            the flag if the upper bound is included
+	 * @return the sub table
+	 */
+	public SortedKeyValuePairTable<K, V> headTable(final K toKey, final boolean inclusive)
+	{
+		return subTable(from, inclusive ? higherIndex(toKey) : ceilingIndex(toKey));
+	}
+
+	/**
+	 * Searches the index of the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the index of the key, if it is contained in this table; otherwise,
+	 *         <code>(-(insertion point) - 1)</code> like {@link Arrays#binarySearch(Object[],
+	 *         Object)}
+	 */
+	public int indexOf(final K key)
+	{
+		final int index = search(key);
+		return index < 0 ? index + from : index - from;
+	}
+
+	/**
+	 * Checks if this table is empty
+	 *
+	 * @return true, if this table has no entries
+	 */
+	public boolean isEmpty()
+	{
+		return from == to;
+	}
+
+	/**
+	 * Creates an iterator over the key value pairs in ascending order of the keys, every
+	 * {@link KeyValuePair} is created on access
+	 *
+	 * @return the iterator
+	 */
+	@Override
+	public Iterator<KeyValuePair<K, V>> iterator()
+	{
+		return new Iterator<>()
+		{
+			private int cursor = from;
+
+			@Override
+			public boolean hasNext()
+			{
+				return cursor < to;
+			}
+
+			@Override
+			public KeyValuePair<K, V> next()
+			{
+				if (to <= cursor)
+				{
+					throw new NoSuchElementException();
+				}
+				return keyValuePairAt(cursor++);
+			}
+		};
+	}
+
+	/**
+	 * Gets the list view of the keys of this table
+	 *
+	 * @return the unmodifiable list view of the keys
+	 */
+	public List<K> keys()
+	{
+		return new ColumnList<>(this::getKey);
+	}
+
+	/**
+	 * Gets the sub table with the keys that start with the given prefix. The keys with a common
+	 * prefix have to be contiguous in the order of this table, like the strings with a common
+	 * prefix in the natural order of strings
+	 *
+	 * @param prefix
+	 *            the prefix
+	 * @param startsWith
+	 *            the predicate that checks if the first argument starts with the second argument,
+	 *            for instance <code>String::startsWith</code>
+	 * @return the sub table
+	 */
+	public SortedKeyValuePairTable<K, V> prefixTable(final K prefix,
+		final BiPredicate<? super K, ? super K> startsWith)
+	{
+		Objects.requireNonNull(startsWith);
+		final int start = ceilingIndex(prefix);
+		int low = start;
+		int high = to;
+		while (low < high)
+		{
+			final int middle = (low + high) >>> 1;
+			if (startsWith.test(elementAt(keys[middle]), prefix))
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return subTable(start, low);
+	}
+
+	/**
+	 * Gets the number of entries
+	 *
+	 * @return the number of entries
+	 */
+	public int size()
+	{
+		return to - from;
+	}
+
+	/**
+	 * Gets the sub table with the keys between the given keys
+	 *
+	 * @param fromKey
+	 *            the lower bound
+	 * @param fromInclusive
+	 *            the flag if the lower bound is included
+	 * @param toKey
+	 *            the upper bound
+	 * @param toInclusive
+	 *            the flag if the upper bound is included
+	 * @return the sub table
+	 * @throws IllegalArgumentException
+	 *             if the lower bound is greater than the upper bound
+	 */
+	public SortedKeyValuePairTable<K, V> subTable(final K fromKey, final boolean fromInclusive,
+		final K toKey, final boolean toInclusive)
+	{
+		if (0 < comparator.compare(fromKey, toKey))
+		{
+			throw new IllegalArgumentException("fromKey > toKey");
+		}
+		final int start = fromInclusive ? ceilingIndex(fromKey) : higherIndex(fromKey);
+		final int end = toInclusive ? higherIndex(toKey) : ceilingIndex(toKey);
+		return subTable(start, Math.max(start, end));
+	}
+
+	/**
+	 * Gets the sub table with the keys greater than, or equal to if inclusive, the given key
+	 *
+	 * @param fromKey
+	 *            the lower bound
+	 * @param inclusive
+	 *            the flag if the lower bound is included
+	 * @return the sub table
+	 */
+	public SortedKeyValuePairTable<K, V> tailTable(final K fromKey, final boolean inclusive)
+	{
+		return subTable(inclusive ? ceilingIndex(fromKey) : higherIndex(fromKey), to);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "SortedKeyValuePairTable(size=" + size() + ")";
+	}
+
+	/**
+	 * Gets the list view of the values of this table in the order of the keys
+	 *
+	 * @return the unmodifiable list view of the values
+	 */
+	public List<V> values()
+	{
+		return new ColumnList<>(this::getValue);
+	}
+
+	/**
+	 * Gets the array index of the least key greater than or equal to the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the array index, {@link #to} if there is no such key
+	 */
+	private int ceilingIndex(final K key)
+	{
+		final int index = search(key);
+		return index < 0 ? -index - 1 : index;
+	}
+
+	/**
+	 * Gets the array index of the greatest key less than or equal to the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the array index, <code>from - 1</code> if there is no such key
+	 */
+	private int floorIndex(final K key)
+	{
+		final int index = search(key);
+		return index < 0 ? -index - 2 : index;
+	}
+
+	/**
+	 * Gets the array index of the least key strictly greater than the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the array index, {@link #to} if there is no such key
+	 */
+	private int higherIndex(final K key)
+	{
+		final int index = search(key);
+		return index < 0 ? -index - 1 : index + 1;
+	}
+
+	/**
+	 * Creates the key value pair at the given array index
+	 *
+	 * @param index
+	 *            the array index
+	 * @return the new key value pair or null if the index is out of the range of this table
+	 */
+	private KeyValuePair<K, V> keyValuePairAt(final int index)
+	{
+		if (index < from || to <= index)
+		{
+			return null;
+		}
+		return new KeyValuePair<>(elementAt(keys[index]), elementAt(values[index]));
+	}
+
+	/**
+	 * Searches the given key with a binary search in the range of this table
+	 *
+	 * @param key
+	 *            the key
+	 * @return the array index of the key, if it is contained in this table; otherwise,
+	 *         <code>(-(array insertion point) - 1)</code>
+	 */
+	private int search(final K key)
+	{
+		Objects.requireNonNull(key, "key is marked non-null but is null");
+		int low = from;
+		int high = to - 1;
+		while (low <= high)
+		{
+			final int middle = (low + high) >>> 1;
+			final int comparison = comparator.compare(elementAt(keys[middle]), key);
+			if (comparison < 0)
+			{
+				low = middle + 1;
+			}
+			else if (0 < comparison)
+			{
+				high = middle - 1;
+			}
+			else
+			{
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Creates the sub table for the given array range
+	 *
+	 * @param start
+	 *            the array index of the first entry
+	 * @param end
+	 *            the array index after the last entry
+	 * @return the sub table or this table if the range is the same
+	 */
+	private SortedKeyValuePairTable<K, V> subTable(final int start, final int end)
+	{
+		if (start == from && end == to)
+		{
+			return this;
+		}
+		return new SortedKeyValuePairTable<>(keys, values, comparator, start, end);
+	}
+
+	/**
+	 * The unmodifiable list view of one column
+	 *
+	 * @param <T>
+	 *            the generic type of the column elements
+	 */
+	private final class ColumnList<T> extends AbstractList<T> implements RandomAccess
+	{
+
+		/** The accessor of the column elements. */
+		private final IntFunction<T> column;
+
+		ColumnList(final IntFunction<T> column)
+		{
+			this.column = column;
+		}
+
+		@Override
+		public T get(final int index)
+		{
+			return this.column.apply(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return SortedKeyValuePairTable.this.size();
+		}
+	}
+}
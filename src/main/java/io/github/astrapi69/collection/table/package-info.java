@@ -0,0 +1,5 @@
+/**
+ * This package provides immutable lookup tables that store the keys and values of key value pairs
+ * in sorted parallel arrays
+ */
+package io.github.astrapi69.collection.table;
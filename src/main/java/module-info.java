@@ -22,6 +22,13 @@ module io.github.astrapisixtynine.silly.bean
 {
 	exports io.github.astrapi69.annotation;
 	exports io.github.astrapi69.bean.enumeration;
+	exports io.github.astrapi69.collection.codec;
+	exports io.github.astrapi69.collection.column;
+	exports io.github.astrapi69.collection.compact;
 	exports io.github.astrapi69.collection.comparator;
+	exports io.github.astrapi69.collection.multimap;
+	exports io.github.astrapi69.collection.offheap;
 	exports io.github.astrapi69.collection.pair;
+	exports io.github.astrapi69.collection.sort;
+	exports io.github.astrapi69.collection.table;
 }
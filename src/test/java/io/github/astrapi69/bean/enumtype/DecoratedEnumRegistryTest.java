@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.bean.enumtype;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.bean.enumeration.DecoratedEnum;
+import io.github.astrapi69.bean.enumeration.DecoratedEnumRegistry;
+import io.github.astrapi69.test.object.enumeration.Brand;
+import io.github.astrapi69.test.object.enumeration.Gender;
+
+/**
+ * The unit test class for the class {@link DecoratedEnumRegistry}
+ */
+public class DecoratedEnumRegistryTest
+{
+
+	/**
+	 * Test method for {@link DecoratedEnumRegistry#get(Enum)} and {@link DecoratedEnum#of(Enum)}
+	 */
+	@Test
+	public void testGet()
+	{
+		final DecoratedEnumRegistry<Brand> registry = DecoratedEnumRegistry.of(Brand.class);
+		final DecoratedEnum<Brand, String> ferrari = registry.get(Brand.FERRARI);
+
+		assertSame(registry, DecoratedEnumRegistry.of(Brand.class));
+		assertSame(Brand.class, registry.getEnumType());
+		assertSame(Brand.FERRARI, ferrari.getEnumtype());
+		assertNull(ferrari.getValue());
+		assertSame(ferrari, registry.get(Brand.FERRARI));
+		assertSame(ferrari, DecoratedEnum.of(Brand.FERRARI));
+		assertEquals(new DecoratedEnum<>(Brand.FERRARI, null), ferrari);
+		assertSame(DecoratedEnum.of(Gender.MALE), DecoratedEnumRegistry.of(Gender.class)
+			.get(Gender.MALE));
+		for (final Brand brand : Brand.values())
+		{
+			assertSame(brand, registry.get(brand).getEnumtype());
+		}
+		assertThrows(NullPointerException.class, () -> registry.get(null));
+		assertThrows(NullPointerException.class, () -> DecoratedEnum.of(null));
+		assertThrows(NullPointerException.class, () -> DecoratedEnumRegistry.of(null));
+	}
+
+	/**
+	 * Test method for {@link DecoratedEnumRegistry#intern(Object)} and
+	 * {@link DecoratedEnum#ofValue(Class, Object)}
+	 */
+	@Test
+	public void testIntern()
+	{
+		final DecoratedEnumRegistry<Gender> registry = DecoratedEnumRegistry.of(Gender.class);
+		final int internedSize = registry.internedSize();
+		final DecoratedEnum<Gender, String> diverse = registry.intern("DIVERSE");
+
+		assertNull(diverse.getEnumtype());
+		assertEquals("DIVERSE", diverse.name());
+		assertSame(diverse, registry.intern(new String("DIVERSE")));
+		assertSame(diverse, DecoratedEnum.ofValue(Gender.class, "DIVERSE"));
+		assertEquals(internedSize + 1, registry.internedSize());
+		assertThrows(NullPointerException.class, () -> registry.intern(null));
+	}
+
+	/**
+	 * Test method for {@link DecoratedEnumRegistry#intern(Object)} with concurrent callers
+	 *
+	 * @throws Exception
+	 *             is thrown if a task fails
+	 */
+	@Test
+	public void testConcurrentIntern() throws Exception
+	{
+		final DecoratedEnumRegistry<Brand> registry = DecoratedEnumRegistry.of(Brand.class);
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try
+		{
+			final List<Future<List<DecoratedEnum<Brand, String>>>> futures = new ArrayList<>();
+			for (int task = 0; task < 4; task++)
+			{
+				futures.add(executorService.submit(() -> {
+					final List<DecoratedEnum<Brand, String>> interned = new ArrayList<>();
+					for (int i = 0; i < 100; i++)
+					{
+						interned.add(registry.intern("BRAND_" + i));
+					}
+					return interned;
+				}));
+			}
+			final List<DecoratedEnum<Brand, String>> first = futures.get(0).get();
+			for (final Future<List<DecoratedEnum<Brand, String>>> future : futures)
+			{
+				final List<DecoratedEnum<Brand, String>> interned = future.get();
+				for (int i = 0; i < interned.size(); i++)
+				{
+					assertSame(first.get(i), interned.get(i));
+				}
+			}
+		}
+		finally
+		{
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for the deserialization of a canonical {@link DecoratedEnum}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final DecoratedEnum<Brand, String> ferrari = DecoratedEnum.of(Brand.FERRARI);
+		final DecoratedEnum<Brand, String> jaguar = DecoratedEnum.ofValue(Brand.class, "JAGUAR");
+
+		assertSame(ferrari, SerializationUtils.roundtrip(ferrari));
+		assertSame(ferrari, SerializationUtils.roundtrip(new DecoratedEnum<>(Brand.FERRARI, null)));
+		final DecoratedEnum<Brand, String> copy = SerializationUtils.roundtrip(jaguar);
+		assertNotSame(jaguar, copy);
+		assertEquals(jaguar, copy);
+	}
+
+}
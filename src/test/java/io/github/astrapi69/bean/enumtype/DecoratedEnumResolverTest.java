@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.bean.enumtype;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.bean.enumeration.DecoratedEnum;
+import io.github.astrapi69.bean.enumeration.DecoratedEnumResolver;
+import io.github.astrapi69.test.object.enumeration.Brand;
+
+/**
+ * The unit test class for the class {@link DecoratedEnumResolver}
+ */
+public class DecoratedEnumResolverTest
+{
+
+	/**
+	 * An enum with names that have the same {@link String#hashCode()}
+	 */
+	enum CollidingName
+	{
+		Aa, BB, AaAa, AaBB, BBAa, BBBB, Ärger
+	}
+
+	/**
+	 * Test method for {@link DecoratedEnumResolver#resolve(CharSequence)}
+	 */
+	@Test
+	public void testResolve()
+	{
+		final DecoratedEnumResolver<Brand> resolver = DecoratedEnumResolver.of(Brand.class);
+
+		assertSame(resolver, DecoratedEnumResolver.of(Brand.class));
+		assertSame(Brand.class, resolver.getEnumType());
+		assertTrue(resolver.isPerfect());
+		for (final Brand brand : Brand.values())
+		{
+			assertSame(DecoratedEnum.of(brand), resolver.resolve(brand.name()));
+			assertSame(DecoratedEnum.of(brand), resolver.resolve(new StringBuilder(brand.name())));
+			assertSame(brand, resolver.resolveConstant(brand.name()));
+		}
+		final DecoratedEnum<Brand, String> jaguar = resolver.resolve("JAGUAR");
+		assertNull(jaguar.getEnumtype());
+		assertEquals("JAGUAR", jaguar.getValue());
+		assertNull(resolver.resolveConstant("JAGUAR"));
+		assertNull(resolver.resolveConstant(""));
+		assertNull(resolver.resolveConstant(Brand.FERRARI.name().toLowerCase()));
+		assertThrows(NullPointerException.class, () -> resolver.resolve((CharSequence)null));
+		assertThrows(NullPointerException.class, () -> DecoratedEnumResolver.of(null));
+	}
+
+	/**
+	 * Test method for {@link DecoratedEnumResolver#resolve(byte[], int, int)}
+	 */
+	@Test
+	public void testResolveBytes()
+	{
+		final DecoratedEnumResolver<TimeUnit> resolver = DecoratedEnumResolver.of(TimeUnit.class);
+		final byte[] bytes = "SECONDS,MINUTES;HOURS,WEEKS".getBytes(StandardCharsets.US_ASCII);
+
+		assertSame(DecoratedEnum.of(TimeUnit.SECONDS), resolver.resolve(bytes, 0, 7));
+		assertSame(TimeUnit.MINUTES, resolver.resolveConstant(bytes, 8, 7));
+		assertSame(TimeUnit.HOURS, resolver.resolveConstant(bytes, 16, 5));
+		assertNull(resolver.resolveConstant(bytes, 16, 4));
+		assertNull(resolver.resolveConstant(bytes, 22, 5));
+		assertEquals("WEEKS", resolver.resolve(bytes, 22, 5).getValue());
+		assertNull(resolver.resolveConstant("HÖURS".getBytes(StandardCharsets.UTF_8), 0, 6));
+		assertThrows(IndexOutOfBoundsException.class, () -> resolver.resolve(bytes, 22, 6));
+		assertThrows(IndexOutOfBoundsException.class, () -> resolver.resolve(bytes, -1, 2));
+		assertThrows(NullPointerException.class, () -> resolver.resolve(null, 0, 0));
+	}
+
+	/**
+	 * Test method for {@link DecoratedEnumResolver} with names that have the same hash
+	 */
+	@Test
+	public void testResolveCollidingNames()
+	{
+		final DecoratedEnumResolver<CollidingName> resolver = DecoratedEnumResolver
+			.of(CollidingName.class);
+
+		assertFalse(resolver.isPerfect());
+		for (final CollidingName collidingName : CollidingName.values())
+		{
+			final String name = collidingName.name();
+			assertSame(collidingName, resolver.resolveConstant(name));
+			assertSame(collidingName, resolver.resolveConstant(new StringBuilder(name)));
+			final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+			assertSame(collidingName, resolver.resolveConstant(bytes, 0, bytes.length));
+		}
+		assertNull(resolver.resolveConstant("AaAb"));
+		assertNull(resolver.resolveConstant("CC"));
+	}
+
+}
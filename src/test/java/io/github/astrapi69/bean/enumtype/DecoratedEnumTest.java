@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -160,6 +161,30 @@ public class DecoratedEnumTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for the serialization of {@link DecoratedEnum}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final DecoratedEnum<Brand, String> enumtypeOnly = new DecoratedEnum<>(Brand.FERRARI, null);
+		final DecoratedEnum<Brand, String> valueOnly = new DecoratedEnum<>(null, "JAGUAR");
+		final DecoratedEnum<Brand, String> both = new DecoratedEnum<>(Brand.FERRARI, "JAGUAR");
+
+		DecoratedEnum<Brand, String> copy = SerializationUtils.roundtrip(enumtypeOnly);
+		assertNotSame(enumtypeOnly, copy);
+		assertEquals(enumtypeOnly, copy);
+		assertEquals(Brand.FERRARI.name(), copy.name());
+
+		copy = SerializationUtils.roundtrip(valueOnly);
+		assertEquals(valueOnly, copy);
+		assertEquals("JAGUAR", copy.name());
+
+		copy = SerializationUtils.roundtrip(both);
+		assertEquals(both, copy);
+		assertEquals(both.hashCode(), copy.hashCode());
+	}
+
 	/**
 	 * Test method for {@link DecoratedEnum#toString()}
 	 */
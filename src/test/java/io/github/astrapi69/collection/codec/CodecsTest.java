@@ -0,0 +1,113 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link Codecs}
+ */
+public class CodecsTest
+{
+
+	/**
+	 * Encodes the given value at the given offset and decodes it back
+	 */
+	private static <T> T roundTrip(final Codec<T> codec, final T value, final ByteBuffer buffer)
+	{
+		final int offset = 3;
+		final int length = codec.encodedLength(value);
+		codec.encode(value, buffer, offset);
+		assertEquals(0, buffer.position());
+		return codec.decode(buffer, offset, length);
+	}
+
+	/**
+	 * Test method for the fixed width codecs
+	 */
+	@Test
+	public void testFixedWidthCodecs()
+	{
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+		assertEquals(Integer.valueOf(-42), roundTrip(Codecs.INTEGER, -42, buffer));
+		assertEquals(Long.valueOf(Long.MIN_VALUE), roundTrip(Codecs.LONG, Long.MIN_VALUE, buffer));
+		assertEquals(Double.valueOf(1.5d), roundTrip(Codecs.DOUBLE, 1.5d, buffer));
+		assertTrue(Codecs.INTEGER.isFixedWidth());
+		assertEquals(Long.BYTES, Codecs.LONG.fixedWidth());
+	}
+
+	/**
+	 * Test method for {@link Codecs#STRING}
+	 */
+	@Test
+	public void testStringCodec()
+	{
+		final ByteBuffer heapBuffer = ByteBuffer.allocate(64);
+		final ByteBuffer directBuffer = ByteBuffer.allocateDirect(64);
+		for (final String value : new String[] { "", "foo", "\u00e4\u00f6\u00fc",
+				"\u20ac", "a\ud83d\ude00b", "lone\ud800surrogate" })
+		{
+			final byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+			assertEquals(expected.length, Codecs.STRING.encodedLength(value));
+			assertEquals(new String(expected, StandardCharsets.UTF_8),
+				roundTrip(Codecs.STRING, value, heapBuffer));
+			assertEquals(new String(expected, StandardCharsets.UTF_8),
+				roundTrip(Codecs.STRING, value, directBuffer));
+		}
+		assertFalse(Codecs.STRING.isFixedWidth());
+	}
+
+	/**
+	 * Test method for {@link Codecs#BYTE_ARRAY} and {@link Codecs#nullable(Codec)}
+	 */
+	@Test
+	public void testByteArrayAndNullableCodec()
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(32);
+		assertArrayEquals(new byte[] { 1, 2, 3 },
+			roundTrip(Codecs.BYTE_ARRAY, new byte[] { 1, 2, 3 }, buffer));
+
+		final Codec<String> nullableString = Codecs.nullable(Codecs.STRING);
+		assertNull(roundTrip(nullableString, null, buffer));
+		assertEquals(1, nullableString.encodedLength(null));
+		assertEquals("bar", roundTrip(nullableString, "bar", buffer));
+
+		final Codec<Integer> nullableInteger = Codecs.nullable(Codecs.INTEGER);
+		assertEquals(Integer.BYTES + 1, nullableInteger.fixedWidth());
+		assertEquals(Integer.BYTES + 1, nullableInteger.encodedLength(null));
+		assertNull(roundTrip(nullableInteger, null, buffer));
+		assertEquals(Integer.valueOf(7), roundTrip(nullableInteger, 7, buffer));
+	}
+
+}
@@ -0,0 +1,129 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.Pair;
+import io.github.astrapi69.collection.pair.Quattro;
+import io.github.astrapi69.collection.pair.Triple;
+
+/**
+ * The unit test class for the class {@link TupleCodecs}
+ */
+public class TupleCodecsTest
+{
+
+	/**
+	 * Encodes the given value at the given offset and decodes it back
+	 */
+	private static <T> T roundTrip(final Codec<T> codec, final T value)
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(128);
+		final int offset = 5;
+		final int length = codec.encodedLength(value);
+		codec.encode(value, buffer, offset);
+		assertEquals(0, buffer.position());
+		return codec.decode(buffer, offset, length);
+	}
+
+	/**
+	 * Test method for {@link TupleCodecs#keyValuePair(Codec, Codec)}
+	 */
+	@Test
+	public void testKeyValuePair()
+	{
+		final Codec<KeyValuePair<String, Long>> codec = TupleCodecs.keyValuePair(Codecs.STRING,
+			Codecs.LONG);
+		final KeyValuePair<String, Long> keyValuePair = new KeyValuePair<>("äkey", 42L);
+		assertEquals(keyValuePair, roundTrip(codec, keyValuePair));
+		assertFalse(codec.isFixedWidth());
+		assertEquals(Integer.BYTES + 5 + Long.BYTES, codec.encodedLength(keyValuePair));
+	}
+
+	/**
+	 * Test method for {@link TupleCodecs#pair(Codec, Codec)}
+	 */
+	@Test
+	public void testPair()
+	{
+		final Codec<Pair<Integer, Double>> codec = TupleCodecs.pair(Codecs.INTEGER,
+			Codecs.DOUBLE);
+		final Pair<Integer, Double> pair = new Pair<>(-1, 2.5d);
+		assertEquals(pair, roundTrip(codec, pair));
+		assertTrue(codec.isFixedWidth());
+		assertEquals(Integer.BYTES + Double.BYTES, codec.fixedWidth());
+		assertEquals(codec.fixedWidth(), codec.encodedLength(pair));
+	}
+
+	/**
+	 * Test method for {@link TupleCodecs#pair(Codec, Codec)} with nullable components
+	 */
+	@Test
+	public void testPairWithNullableComponents()
+	{
+		final Codec<Pair<String, Integer>> codec = TupleCodecs
+			.pair(Codecs.nullable(Codecs.STRING), Codecs.nullable(Codecs.INTEGER));
+		final Pair<String, Integer> pair = roundTrip(codec, new Pair<>(null, null));
+		assertNull(pair.getLeftContent());
+		assertNull(pair.getRightContent());
+		assertEquals(new Pair<>("left", 1), roundTrip(codec, new Pair<>("left", 1)));
+	}
+
+	/**
+	 * Test method for {@link TupleCodecs#quattro(Codec, Codec, Codec, Codec)}
+	 */
+	@Test
+	public void testQuattro()
+	{
+		final Codec<Quattro<String, Integer, String, Long>> codec = TupleCodecs
+			.quattro(Codecs.STRING, Codecs.INTEGER, Codecs.STRING, Codecs.LONG);
+		final Quattro<String, Integer, String, Long> quattro = Quattro
+			.<String, Integer, String, Long> builder().topLeft("topLeft").topRight(1)
+			.bottomLeft("").bottomRight(Long.MAX_VALUE).build();
+		assertEquals(quattro, roundTrip(codec, quattro));
+	}
+
+	/**
+	 * Test method for {@link TupleCodecs#triple(Codec, Codec, Codec)}
+	 */
+	@Test
+	public void testTriple()
+	{
+		final Codec<Triple<String, Integer, String>> codec = TupleCodecs.triple(Codecs.STRING,
+			Codecs.INTEGER, Codecs.STRING);
+		final Triple<String, Integer, String> triple = new Triple<>("left", 7, "right");
+		assertEquals(triple, roundTrip(codec, triple));
+		assertEquals(Codec.VARIABLE_WIDTH, codec.fixedWidth());
+	}
+}
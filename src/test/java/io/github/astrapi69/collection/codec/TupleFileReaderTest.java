@@ -0,0 +1,220 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.Triple;
+
+/**
+ * The unit test class for the class {@link TupleFileReader}
+ */
+public class TupleFileReaderTest
+{
+
+	/** The temporary directory. */
+	@TempDir
+	Path directory;
+
+	/**
+	 * Writes the given number of key value pairs with the given buffer size
+	 */
+	private List<KeyValuePair<String, Long>> write(final Path path,
+		final Codec<KeyValuePair<String, Long>> codec, final int count, final int bufferSize)
+		throws IOException
+	{
+		final List<KeyValuePair<String, Long>> written = new ArrayList<>(count);
+		try (TupleFileWriter<KeyValuePair<String, Long>> writer = TupleFileWriter.open(path,
+			codec, bufferSize))
+		{
+			for (int i = 0; i < count; i++)
+			{
+				final KeyValuePair<String, Long> keyValuePair = new KeyValuePair<>("key" + i,
+					(long)i);
+				writer.write(keyValuePair);
+				written.add(keyValuePair);
+			}
+			assertEquals(count, writer.getCount());
+		}
+		return written;
+	}
+
+	/**
+	 * Test method for {@link TupleFileReader#iterator()} with a variable width codec and small
+	 * buffers, so the buffers are refilled many times
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testIteratorWithVariableWidthCodec() throws IOException
+	{
+		final Path path = directory.resolve("pairs.bin");
+		final Codec<KeyValuePair<String, Long>> codec = TupleCodecs.keyValuePair(Codecs.STRING,
+			Codecs.LONG);
+		final List<KeyValuePair<String, Long>> written = write(path, codec, 10000, 64);
+
+		final List<KeyValuePair<String, Long>> read = new ArrayList<>();
+		try (TupleFileReader<KeyValuePair<String, Long>> reader = TupleFileReader.open(path,
+			codec, 32))
+		{
+			for (final KeyValuePair<String, Long> keyValuePair : reader)
+			{
+				read.add(keyValuePair);
+			}
+		}
+		assertEquals(written, read);
+	}
+
+	/**
+	 * Test method for {@link TupleFileReader#iterator()} with a fixed width codec
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testIteratorWithFixedWidthCodec() throws IOException
+	{
+		final Path path = directory.resolve("triples.bin");
+		final Codec<Triple<Integer, Long, Double>> codec = TupleCodecs.triple(Codecs.INTEGER,
+			Codecs.LONG, Codecs.DOUBLE);
+		try (TupleFileWriter<Triple<Integer, Long, Double>> writer = TupleFileWriter.open(path,
+			codec))
+		{
+			for (int i = 0; i < 1000; i++)
+			{
+				writer.write(new Triple<>(i, (long)i * i, i / 2.0d));
+			}
+		}
+		assertEquals(TupleFileWriter.HEADER_LENGTH + 1000L * codec.fixedWidth(),
+			Files.size(path));
+
+		try (TupleFileReader<Triple<Integer, Long, Double>> reader = TupleFileReader.open(path,
+			codec, 100))
+		{
+			final Iterator<Triple<Integer, Long, Double>> iterator = reader.iterator();
+			for (int i = 0; i < 1000; i++)
+			{
+				assertTrue(iterator.hasNext());
+				assertEquals(new Triple<>(i, (long)i * i, i / 2.0d), iterator.next());
+			}
+			assertFalse(iterator.hasNext());
+			assertThrows(NoSuchElementException.class, iterator::next);
+			assertThrows(IllegalStateException.class, reader::iterator);
+		}
+	}
+
+	/**
+	 * Test method for {@link TupleFileReader#stream()}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testStream() throws IOException
+	{
+		final Path path = directory.resolve("stream.bin");
+		final Codec<KeyValuePair<String, Long>> codec = TupleCodecs.keyValuePair(Codecs.STRING,
+			Codecs.LONG);
+		write(path, codec, 100, 1024);
+
+		final TupleFileReader<KeyValuePair<String, Long>> reader = TupleFileReader.open(path,
+			codec);
+		final long sum;
+		try (Stream<KeyValuePair<String, Long>> stream = reader.stream())
+		{
+			sum = stream.collect(Collectors.summingLong(KeyValuePair::getValue));
+		}
+		assertEquals(99L * 100 / 2, sum);
+	}
+
+	/**
+	 * Test method for {@link TupleFileReader#open(Path, Codec)} with invalid files
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testOpenInvalidFile() throws IOException
+	{
+		final Path path = directory.resolve("invalid.bin");
+		Files.write(path, new byte[] { 1, 2, 3 });
+		assertThrows(IOException.class, () -> TupleFileReader.open(path, Codecs.INTEGER));
+
+		final Path fixedWidth = directory.resolve("fixed.bin");
+		try (TupleFileWriter<Integer> writer = TupleFileWriter.open(fixedWidth, Codecs.INTEGER))
+		{
+			writer.write(1);
+		}
+		assertThrows(IOException.class, () -> TupleFileReader.open(fixedWidth, Codecs.LONG));
+	}
+
+	/**
+	 * Test method for {@link TupleFileReader#iterator()} with a truncated file
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testTruncatedFile() throws IOException
+	{
+		final Path path = directory.resolve("truncated.bin");
+		final Codec<KeyValuePair<String, Long>> codec = TupleCodecs.keyValuePair(Codecs.STRING,
+			Codecs.LONG);
+		write(path, codec, 2, 1024);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE))
+		{
+			channel.truncate(Files.size(path) - 3);
+		}
+
+		try (TupleFileReader<KeyValuePair<String, Long>> reader = TupleFileReader.open(path,
+			codec))
+		{
+			final Iterator<KeyValuePair<String, Long>> iterator = reader.iterator();
+			assertEquals(new KeyValuePair<>("key0", 0L), iterator.next());
+			assertThrows(UncheckedIOException.class, iterator::hasNext);
+		}
+	}
+}
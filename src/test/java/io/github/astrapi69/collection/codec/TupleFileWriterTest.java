@@ -0,0 +1,103 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The unit test class for the class {@link TupleFileWriter}
+ */
+public class TupleFileWriterTest
+{
+
+	/** The temporary directory. */
+	@TempDir
+	Path directory;
+
+	/**
+	 * Test method for {@link TupleFileWriter#write(Object)} with a record that is larger than the
+	 * buffer
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testWriteRecordLargerThanBuffer() throws IOException
+	{
+		final Path path = directory.resolve("large.bin");
+		final char[] chars = new char[1000];
+		Arrays.fill(chars, 'x');
+		final String large = new String(chars);
+		try (TupleFileWriter<String> writer = TupleFileWriter.open(path, Codecs.STRING, 16))
+		{
+			writer.write("small");
+			writer.write(large);
+			writer.write("small");
+		}
+		assertEquals(TupleFileWriter.HEADER_LENGTH + 3 * Integer.BYTES + 1010, Files.size(path));
+
+		try (TupleFileReader<String> reader = TupleFileReader.open(path, Codecs.STRING, 16))
+		{
+			final Iterator<String> iterator = reader.iterator();
+			assertEquals("small", iterator.next());
+			assertEquals(large, iterator.next());
+			assertEquals("small", iterator.next());
+		}
+	}
+
+	/**
+	 * Test method for {@link TupleFileWriter#flush()} and {@link TupleFileWriter#close()}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testFlushAndClose() throws IOException
+	{
+		final Path path = directory.resolve("flush.bin");
+		final TupleFileWriter<Integer> writer = TupleFileWriter.open(path, Codecs.INTEGER);
+		writer.writeAll(Arrays.asList(1, 2, 3));
+		assertEquals(0, Files.size(path));
+		writer.flush();
+		assertEquals(TupleFileWriter.HEADER_LENGTH + 3 * Integer.BYTES, Files.size(path));
+		assertEquals("TupleFileWriter(count=3, bufferSize=" + TupleFileWriter.DEFAULT_BUFFER_SIZE
+			+ ", closed=false)", writer.toString());
+		writer.close();
+		writer.close();
+		assertThrows(IllegalStateException.class, () -> writer.write(4));
+		assertThrows(IllegalArgumentException.class,
+			() -> TupleFileWriter.open(path, Codecs.INTEGER, 1));
+	}
+}
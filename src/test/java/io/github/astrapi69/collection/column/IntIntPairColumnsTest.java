@@ -0,0 +1,88 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.IntIntDoubleTriple;
+import io.github.astrapi69.collection.pair.IntIntPair;
+
+/**
+ * The unit test class for the classes {@link IntIntPairColumns} and
+ * {@link IntIntDoubleTripleColumns}
+ */
+public class IntIntPairColumnsTest
+{
+
+	/**
+	 * Test method for {@link IntIntPairColumns}
+	 */
+	@Test
+	public void testIntIntPairColumns()
+	{
+		final IntIntPairColumns columns = new IntIntPairColumns(2);
+		for (int i = 0; i < 100; i++)
+		{
+			columns.add(i, -i);
+		}
+		columns.addAll(Arrays.asList(new IntIntPair(100, -100), new IntIntPair(101, -101)));
+
+		assertEquals(102, columns.size());
+		assertEquals(new IntIntPair(50, -50), columns.get(50));
+		assertEquals(101 * 102 / 2, columns.leftColumn().sum());
+		assertEquals(-101, columns.rightColumn().min().getAsInt());
+
+		columns.setRightContent(0, 7);
+		assertEquals(7, columns.getRightContent(0));
+		assertEquals(new IntIntPair(0, 7), columns.asList().get(0));
+
+		columns.clear();
+		assertEquals(0, columns.leftColumn().count());
+	}
+
+	/**
+	 * Test method for {@link IntIntDoubleTripleColumns}
+	 */
+	@Test
+	public void testIntIntDoubleTripleColumns()
+	{
+		final IntIntDoubleTripleColumns columns = new IntIntDoubleTripleColumns();
+		columns.add(1, 2, 0.5);
+		columns.add(new IntIntDoubleTriple(3, 4, 1.5));
+		columns.addAll(columns);
+		columns.trimToSize();
+
+		assertEquals(4, columns.size());
+		assertEquals(new IntIntDoubleTriple(3, 4, 1.5), columns.get(3));
+		assertArrayEquals(new double[] { 0.5, 1.5, 0.5, 1.5 }, columns.rightColumn().toArray());
+		assertEquals(4.0, columns.rightColumn().sum());
+	}
+
+}
@@ -0,0 +1,125 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.Pair;
+
+/**
+ * The unit test class for the class {@link PairColumns}
+ */
+public class PairColumnsTest
+{
+
+	/**
+	 * Test method for {@link PairColumns#add(Object, Object)} and {@link PairColumns#get(int)}
+	 */
+	@Test
+	public void testAddAndGet()
+	{
+		final PairColumns<String, Integer> columns = new PairColumns<>(1);
+		assertTrue(columns.isEmpty());
+
+		columns.add("1", 1);
+		columns.add(new Pair<>("2", 2));
+		columns.add("3", null);
+
+		assertEquals(3, columns.size());
+		assertEquals(new Pair<>("2", 2), columns.get(1));
+		assertEquals("3", columns.getLeftContent(2));
+		assertEquals(null, columns.getRightContent(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> columns.get(3));
+
+		columns.setRightContent(2, 3);
+		assertEquals(new Pair<>("3", 3), columns.get(2));
+	}
+
+	/**
+	 * Test method for {@link PairColumns#addAll(java.util.Collection)} and
+	 * {@link PairColumns#addAll(PairColumns)}
+	 */
+	@Test
+	public void testAddAll()
+	{
+		final List<Pair<String, Integer>> pairs = Arrays.asList(new Pair<>("1", 1),
+			new Pair<>("2", 2), new Pair<>("3", 3));
+		final PairColumns<String, Integer> columns = new PairColumns<>();
+		columns.addAll(pairs);
+		columns.addAll(columns);
+
+		assertEquals(6, columns.size());
+		assertEquals(new Pair<>("3", 3), columns.get(5));
+		assertEquals(pairs, columns.asList().subList(0, 3));
+	}
+
+	/**
+	 * Test method for {@link PairColumns#leftColumn()} and {@link PairColumns#rightColumn()}
+	 */
+	@Test
+	public void testColumns()
+	{
+		final PairColumns<String, Integer> columns = new PairColumns<>(0);
+		final List<String> leftColumn = columns.leftColumn();
+		columns.add("1", 1);
+		columns.add("2", 2);
+
+		assertEquals(Arrays.asList("1", "2"), leftColumn);
+		assertEquals(Arrays.asList(1, 2), columns.rightColumn());
+		assertThrows(UnsupportedOperationException.class, () -> leftColumn.set(0, "3"));
+
+		columns.clear();
+		assertTrue(leftColumn.isEmpty());
+	}
+
+	/**
+	 * Test method for {@link PairColumns#asList()}
+	 */
+	@Test
+	public void testAsList()
+	{
+		final PairColumns<String, Integer> columns = new PairColumns<>();
+		final List<Pair<String, Integer>> rows = columns.asList();
+		rows.add(new Pair<>("1", 1));
+		rows.add(new Pair<>("2", 2));
+
+		assertEquals(2, columns.size());
+		assertEquals(new Pair<>("1", 1), rows.set(0, new Pair<>("0", 0)));
+		assertEquals("0", columns.getLeftContent(0));
+		assertThrows(UnsupportedOperationException.class,
+			() -> rows.add(0, new Pair<>("3", 3)));
+
+		columns.trimToSize();
+		assertEquals(new Pair<>("2", 2), rows.get(1));
+	}
+
+}
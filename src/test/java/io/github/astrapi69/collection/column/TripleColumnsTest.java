@@ -0,0 +1,80 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.column;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.Quattro;
+import io.github.astrapi69.collection.pair.Triple;
+
+/**
+ * The unit test class for the classes {@link TripleColumns} and {@link QuattroColumns}
+ */
+public class TripleColumnsTest
+{
+
+	/**
+	 * Test method for {@link TripleColumns}
+	 */
+	@Test
+	public void testTripleColumns()
+	{
+		final TripleColumns<String, Integer, Boolean> columns = new TripleColumns<>();
+		columns.add("1", 1, true);
+		columns.addAll(Arrays.asList(new Triple<>("2", 2, false), new Triple<>("3", 3, true)));
+
+		assertEquals(3, columns.size());
+		assertEquals(new Triple<>("2", 2, false), columns.get(1));
+		assertEquals(Arrays.asList(1, 2, 3), columns.middleColumn());
+		assertEquals(Arrays.asList(true, false, true), columns.rightColumn());
+
+		columns.set(0, new Triple<>("0", 0, false));
+		assertEquals("0", columns.getLeft(0));
+	}
+
+	/**
+	 * Test method for {@link QuattroColumns}
+	 */
+	@Test
+	public void testQuattroColumns()
+	{
+		final Quattro<String, Integer, Long, Boolean> quattro = Quattro
+			.<String, Integer, Long, Boolean> builder().topLeft("tl").topRight(1).bottomLeft(2L)
+			.bottomRight(true).build();
+		final QuattroColumns<String, Integer, Long, Boolean> columns = new QuattroColumns<>();
+		columns.add(quattro);
+		columns.add("a", 3, 4L, false);
+
+		assertEquals(quattro, columns.get(0));
+		assertEquals(Arrays.asList(2L, 4L), columns.bottomLeftColumn());
+		assertEquals(Boolean.FALSE, columns.getBottomRight(1));
+		assertEquals(Arrays.asList(quattro, columns.get(1)), columns.asList());
+	}
+
+}
@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.compact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link CompactImmutableList}
+ */
+public class CompactImmutableListTest
+{
+
+	/**
+	 * Test method for {@link CompactImmutableList#copyOf(java.util.Collection)}
+	 */
+	@Test
+	public void testCopyOf()
+	{
+		final List<String> source = new ArrayList<>(Arrays.asList("a", null, "b", "a"));
+		final CompactImmutableList<String> list = CompactImmutableList.copyOf(source);
+		source.clear();
+
+		assertEquals(Arrays.asList("a", null, "b", "a"), list);
+		assertEquals(Arrays.asList("a", null, "b", "a").hashCode(), list.hashCode());
+		assertEquals(4, list.size());
+		assertEquals("b", list.get(2));
+		assertEquals(0, list.indexOf("a"));
+		assertEquals(3, list.lastIndexOf("a"));
+		assertTrue(list.contains(null));
+		assertFalse(list.contains("c"));
+		assertEquals("a,null,b,a",
+			list.stream().map(String::valueOf).collect(Collectors.joining(",")));
+		assertSame(list, CompactImmutableList.copyOf(list));
+		assertSame(CompactImmutableList.of(), CompactImmutableList.copyOf(new ArrayList<>()));
+		assertEquals(Object[].class, CompactImmutableList.of("a", "b").toArray().getClass());
+	}
+
+	/**
+	 * Test method for the immutability of {@link CompactImmutableList}
+	 */
+	@Test
+	public void testImmutable()
+	{
+		final CompactImmutableList<String> list = CompactImmutableList.of("a", "b");
+		assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+		assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+		assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+		final Iterator<String> iterator = list.iterator();
+		iterator.next();
+		assertThrows(UnsupportedOperationException.class, iterator::remove);
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+	}
+}
@@ -0,0 +1,136 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.compact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link CompactImmutableMap}
+ */
+public class CompactImmutableMapTest
+{
+
+	/**
+	 * Test method for {@link CompactImmutableMap.Builder} with a small map that is searched with a
+	 * linear scan
+	 */
+	@Test
+	public void testSmallMap()
+	{
+		final CompactImmutableMap<String, Integer> map = CompactImmutableMap
+			.<String, Integer> builder().put("b", 1).put("a", 2).put(null, 3).put("b", 4)
+			.put("c", null).build();
+		final Map<String, Integer> expected = new LinkedHashMap<>();
+		expected.put("b", 4);
+		expected.put("a", 2);
+		expected.put(null, 3);
+		expected.put("c", null);
+
+		assertEquals(expected, map);
+		assertEquals(map, expected);
+		assertEquals(expected.hashCode(), map.hashCode());
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+		assertEquals(4, map.size());
+		assertEquals(4, map.get("b").intValue());
+		assertEquals(3, map.get(null).intValue());
+		assertNull(map.get("c"));
+		assertTrue(map.containsKey("c"));
+		assertFalse(map.containsKey("d"));
+		assertEquals(9, map.getOrDefault("d", 9).intValue());
+		assertTrue(map.containsValue(null));
+		assertTrue(map.entrySet().contains(new AbstractMap.SimpleEntry<>("a", 2)));
+		assertFalse(map.entrySet().contains(new AbstractMap.SimpleEntry<>("a", 3)));
+		assertTrue(CompactImmutableMap.of().isEmpty());
+	}
+
+	/**
+	 * Test method for {@link CompactImmutableMap#copyOf(Map)} with a large map that is searched
+	 * with the hash table
+	 */
+	@Test
+	public void testLargeMap()
+	{
+		final Map<Integer, String> expected = new HashMap<>();
+		final CompactImmutableMap.Builder<Integer, String> builder = CompactImmutableMap.builder();
+		for (int i = 0; i < 1000; i++)
+		{
+			// colliding hash codes in the low bits and duplicates
+			final int key = (i % 300) << 16;
+			expected.put(key, "value" + i);
+			builder.put(key, "value" + i);
+		}
+		final CompactImmutableMap<Integer, String> map = builder.build();
+		assertEquals(300, map.size());
+		assertEquals(expected, map);
+		assertEquals("value999", map.get(99 << 16));
+		assertNull(map.get(1));
+		assertFalse(map.containsKey("0"));
+		assertEquals(map, CompactImmutableMap.copyOf(expected));
+		assertSame(map, CompactImmutableMap.copyOf(map));
+
+		// the builder can be reused
+		assertEquals(Map.of(1, "one"), builder.clear().put(1, "one").build());
+		assertEquals(300, map.size());
+	}
+
+	/**
+	 * Test method for the immutability and the serialization of {@link CompactImmutableMap}
+	 */
+	@Test
+	public void testImmutableAndSerializable()
+	{
+		final CompactImmutableMap.Builder<String, Integer> builder = CompactImmutableMap.builder();
+		for (int i = 0; i < 20; i++)
+		{
+			builder.put("key" + i, i);
+		}
+		final CompactImmutableMap<String, Integer> map = builder.build();
+		assertThrows(UnsupportedOperationException.class, () -> map.put("key", 1));
+		assertThrows(UnsupportedOperationException.class, () -> map.remove("key1"));
+		assertThrows(UnsupportedOperationException.class, () -> map.clear());
+		assertThrows(UnsupportedOperationException.class,
+			() -> map.entrySet().iterator().next().setValue(1));
+
+		final CompactImmutableMap<String, Integer> copy = SerializationUtils.clone(map);
+		assertEquals(map, copy);
+		assertEquals(Arrays.asList(map.keySet().toArray()), Arrays.asList(copy.keySet().toArray()));
+		assertEquals(19, copy.get("key19").intValue());
+	}
+}
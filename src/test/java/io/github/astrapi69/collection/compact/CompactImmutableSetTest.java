@@ -0,0 +1,129 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.compact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link CompactImmutableSet}
+ */
+public class CompactImmutableSetTest
+{
+
+	/**
+	 * Test method for {@link CompactImmutableSet#of(Object...)} with a small set that is searched
+	 * with a linear scan
+	 */
+	@Test
+	public void testSmallSet()
+	{
+		final CompactImmutableSet<String> set = CompactImmutableSet.of("b", "a", null, "b", "c");
+		assertEquals(Arrays.asList("b", "a", null, "c"), new ArrayList<>(set));
+		assertEquals(new HashSet<>(Arrays.asList("a", "b", "c", null)), set);
+		assertEquals(new HashSet<>(Arrays.asList("a", "b", "c", null)).hashCode(), set.hashCode());
+		assertTrue(set.contains(null));
+		assertTrue(set.contains("c"));
+		assertFalse(set.contains("d"));
+		assertEquals(0, CompactImmutableSet.of().size());
+	}
+
+	/**
+	 * Test method for {@link CompactImmutableSet#copyOf(java.util.Collection)} with a large set
+	 * that is searched with the hash table
+	 */
+	@Test
+	public void testLargeSet()
+	{
+		final List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+		{
+			// colliding hash codes in the low bits and duplicates
+			values.add((i % 500) << 16);
+		}
+		values.add(null);
+		final CompactImmutableSet<Integer> set = CompactImmutableSet.copyOf(values);
+		final Set<Integer> expected = new LinkedHashSet<>(values);
+		assertEquals(501, set.size());
+		assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+		assertEquals(expected, set);
+		for (int i = 0; i < 500; i++)
+		{
+			assertTrue(set.contains(i << 16));
+			assertFalse(set.contains((i << 16) + 1));
+		}
+		assertTrue(set.contains(null));
+		assertFalse(set.contains("0"));
+	}
+
+	/**
+	 * Test method for the deduplication of {@link CompactImmutableSet} where many duplicates
+	 * shrink a large input to a small set
+	 */
+	@Test
+	public void testDuplicates()
+	{
+		final List<String> values = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+		{
+			values.add("v" + (i % 3));
+		}
+		final CompactImmutableSet<String> set = CompactImmutableSet.copyOf(values);
+		assertEquals(Arrays.asList("v0", "v1", "v2"), new ArrayList<>(set));
+	}
+
+	/**
+	 * Test method for the immutability and the serialization of {@link CompactImmutableSet}
+	 */
+	@Test
+	public void testImmutableAndSerializable()
+	{
+		final List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < 20; i++)
+		{
+			values.add(i);
+		}
+		final CompactImmutableSet<Integer> set = CompactImmutableSet.copyOf(values);
+		assertThrows(UnsupportedOperationException.class, () -> set.add(20));
+		assertThrows(UnsupportedOperationException.class, () -> set.remove(1));
+		assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+
+		final CompactImmutableSet<Integer> copy = SerializationUtils.clone(set);
+		assertEquals(values, new ArrayList<>(copy));
+		assertTrue(copy.contains(19));
+	}
+}
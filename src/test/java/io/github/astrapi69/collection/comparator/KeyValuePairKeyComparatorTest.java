@@ -0,0 +1,68 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+
+/**
+ * The unit test class for the class {@link KeyValuePairKeyComparator}
+ */
+public class KeyValuePairKeyComparatorTest
+{
+
+	/**
+	 * Test method for {@link KeyValuePairKeyComparator#compare(KeyValuePair, KeyValuePair)}
+	 */
+	@Test
+	public void testCompare()
+	{
+		final KeyValuePair<String, Integer> nullKey = new KeyValuePair<>(null, 0);
+		final KeyValuePair<String, Integer> a = new KeyValuePair<>("a", 1);
+		final KeyValuePair<String, Integer> b = new KeyValuePair<>("b", 2);
+		final List<KeyValuePair<String, Integer>> keyValuePairs = new ArrayList<>(
+			Arrays.asList(b, nullKey, a));
+
+		keyValuePairs.sort(new KeyValuePairKeyComparator<>(NullOrdering.NULLS_FIRST));
+		assertEquals(Arrays.asList(nullKey, a, b), keyValuePairs);
+
+		keyValuePairs.sort(new KeyValuePairKeyComparator<>(NullOrdering.NULLS_LAST));
+		assertEquals(Arrays.asList(a, b, nullKey), keyValuePairs);
+
+		final KeyValuePairKeyComparator<String, Integer> nonNull;
+		nonNull = new KeyValuePairKeyComparator<>();
+		assertEquals(NullOrdering.NON_NULL, nonNull.getNullOrdering());
+		assertThrows(NullPointerException.class, () -> keyValuePairs.sort(nonNull));
+		assertThrows(NullPointerException.class, () -> new KeyValuePairKeyComparator<>(null));
+	}
+}
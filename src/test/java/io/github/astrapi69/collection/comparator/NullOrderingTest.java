@@ -0,0 +1,64 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link NullOrdering}
+ */
+public class NullOrderingTest
+{
+
+	/**
+	 * Test method for {@link NullOrdering#compare(Comparable, Comparable)}
+	 */
+	@Test
+	public void testCompare()
+	{
+		for (final NullOrdering nullOrdering : NullOrdering.values())
+		{
+			assertTrue(nullOrdering.compare("a", "b") < 0);
+			assertTrue(nullOrdering.compare("b", "a") > 0);
+			assertEquals(0, nullOrdering.compare("a", "a"));
+		}
+		assertThrows(NullPointerException.class, () -> NullOrdering.NON_NULL.compare(null, "a"));
+		assertThrows(NullPointerException.class, () -> NullOrdering.NON_NULL.compare("a", null));
+		assertThrows(NullPointerException.class,
+			() -> NullOrdering.NON_NULL.<String> compare(null, null));
+
+		assertTrue(NullOrdering.NULLS_FIRST.compare(null, "a") < 0);
+		assertTrue(NullOrdering.NULLS_FIRST.compare("a", null) > 0);
+		assertEquals(0, NullOrdering.NULLS_FIRST.<String> compare(null, null));
+
+		assertTrue(NullOrdering.NULLS_LAST.compare(null, "a") > 0);
+		assertTrue(NullOrdering.NULLS_LAST.compare("a", null) < 0);
+		assertEquals(0, NullOrdering.NULLS_LAST.<String> compare(null, null));
+	}
+}
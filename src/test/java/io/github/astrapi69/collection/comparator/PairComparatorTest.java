@@ -0,0 +1,72 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.Pair;
+
+/**
+ * The unit test class for the class {@link PairComparator}
+ */
+public class PairComparatorTest
+{
+
+	/**
+	 * Test method for {@link PairComparator#compare(Pair, Pair)}
+	 */
+	@Test
+	public void testCompare()
+	{
+		final PairComparator<String, Integer> comparator = new PairComparator<>();
+		assertEquals(NullOrdering.NULLS_FIRST, comparator.getNullOrdering());
+		assertEquals(0, comparator.compare(new Pair<>("a", 1), new Pair<>("a", 1)));
+		assertTrue(comparator.compare(new Pair<>("a", 2), new Pair<>("b", 1)) < 0);
+		assertTrue(comparator.compare(new Pair<>("a", 2), new Pair<>("a", 1)) > 0);
+		assertTrue(comparator.compare(new Pair<>(null, 2), new Pair<>("a", 1)) < 0);
+
+		final List<Pair<String, Integer>> pairs = new ArrayList<>(Arrays.asList(
+			new Pair<>("b", 1), new Pair<>(null, 3), new Pair<>("a", 2), new Pair<>("a", null)));
+		pairs.sort(new PairComparator<>(NullOrdering.NULLS_LAST, Comparator.reverseOrder(),
+			Comparator.naturalOrder()));
+		assertEquals(Arrays.asList(new Pair<>("b", 1), new Pair<>("a", 2), new Pair<>("a", null),
+			new Pair<>(null, 3)), pairs);
+
+		assertThrows(NullPointerException.class,
+			() -> new PairComparator<String, Integer>(NullOrdering.NON_NULL)
+				.compare(new Pair<>(null, 2), new Pair<>("a", 1)));
+		assertThrows(NullPointerException.class,
+			() -> new PairComparator<String, Integer>(null, Comparator.naturalOrder()));
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.IntIntDoubleTriple;
+import io.github.astrapi69.collection.pair.IntIntPair;
+import io.github.astrapi69.collection.pair.IntLongPair;
+import io.github.astrapi69.collection.pair.LongObjPair;
+
+/**
+ * The unit test class for the class {@link PrimitiveTupleComparators}
+ */
+public class PrimitiveTupleComparatorsTest
+{
+
+	/**
+	 * Test method for {@link PrimitiveTupleComparators#INT_INT_PAIR},
+	 * {@link PrimitiveTupleComparators#INT_LONG_PAIR} and
+	 * {@link PrimitiveTupleComparators#INT_INT_DOUBLE_TRIPLE}
+	 */
+	@Test
+	public void testPrimitiveComparators()
+	{
+		final Comparator<IntIntPair> intIntPair = PrimitiveTupleComparators.INT_INT_PAIR;
+		assertEquals(0, intIntPair.compare(new IntIntPair(1, 2), new IntIntPair(1, 2)));
+		assertTrue(intIntPair.compare(new IntIntPair(-1, 9), new IntIntPair(1, 2)) < 0);
+		assertTrue(intIntPair.compare(new IntIntPair(1, Integer.MAX_VALUE),
+			new IntIntPair(1, Integer.MIN_VALUE)) > 0);
+
+		final Comparator<IntLongPair> intLongPair = PrimitiveTupleComparators.INT_LONG_PAIR;
+		assertTrue(intLongPair.compare(new IntLongPair(1, Long.MIN_VALUE),
+			new IntLongPair(1, Long.MAX_VALUE)) < 0);
+
+		final Comparator<IntIntDoubleTriple> triple;
+		triple = PrimitiveTupleComparators.INT_INT_DOUBLE_TRIPLE;
+		final IntIntDoubleTriple intIntDoubleTriple = new IntIntDoubleTriple(1, 2, 0.5);
+		assertEquals(0, triple.compare(intIntDoubleTriple, new IntIntDoubleTriple(1, 2, 0.5)));
+		assertTrue(triple.compare(intIntDoubleTriple, new IntIntDoubleTriple(1, 3, 0.1)) < 0);
+		assertTrue(
+			triple.compare(intIntDoubleTriple, new IntIntDoubleTriple(1, 2, Double.NaN)) < 0);
+	}
+
+	/**
+	 * Test method for {@link PrimitiveTupleComparators#longObjPair(NullOrdering, Comparator)}
+	 */
+	@Test
+	public void testLongObjPair()
+	{
+		final Comparator<LongObjPair<String>> comparator = PrimitiveTupleComparators.longObjPair();
+		assertTrue(comparator.compare(new LongObjPair<>(1L, "b"), new LongObjPair<>(2L, "a")) < 0);
+		assertTrue(comparator.compare(new LongObjPair<>(1L, "b"), new LongObjPair<>(1L, "a")) > 0);
+		assertTrue(comparator.compare(new LongObjPair<>(1L, null), new LongObjPair<>(1L, "a")) < 0);
+
+		final Comparator<LongObjPair<String>> nullsLast = PrimitiveTupleComparators
+			.longObjPair(NullOrdering.NULLS_LAST, Comparator.<String> naturalOrder());
+		assertTrue(nullsLast.compare(new LongObjPair<>(1L, null), new LongObjPair<>(1L, "a")) > 0);
+	}
+}
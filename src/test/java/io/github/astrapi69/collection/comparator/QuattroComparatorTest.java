@@ -0,0 +1,70 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.Quattro;
+
+/**
+ * The unit test class for the class {@link QuattroComparator}
+ */
+public class QuattroComparatorTest
+{
+
+	/**
+	 * Test method for {@link QuattroComparator#compare(Quattro, Quattro)}
+	 */
+	@Test
+	public void testCompare()
+	{
+		final QuattroComparator<Integer, Integer, Integer, String> comparator;
+		comparator = new QuattroComparator<>();
+		// the constructor order is bottom left, bottom right, top left, top right
+		final Quattro<Integer, Integer, Integer, String> quattro = new Quattro<>(3, "d", 1, 2);
+		assertEquals(0, comparator.compare(quattro, new Quattro<>(3, "d", 1, 2)));
+		assertTrue(comparator.compare(quattro, new Quattro<>(0, "a", 2, 0)) < 0);
+		assertTrue(comparator.compare(quattro, new Quattro<>(0, "a", 1, 3)) < 0);
+		assertTrue(comparator.compare(quattro, new Quattro<>(4, "a", 1, 2)) < 0);
+		assertTrue(comparator.compare(quattro, new Quattro<>(3, "e", 1, 2)) < 0);
+		assertTrue(comparator.compare(quattro, new Quattro<>(3, null, 1, 2)) > 0);
+
+		final QuattroComparator<Integer, Integer, Integer, String> reversed;
+		reversed = new QuattroComparator<>(NullOrdering.NULLS_LAST, Comparator.naturalOrder(),
+			Comparator.naturalOrder(), Comparator.naturalOrder(), Comparator.reverseOrder());
+		assertTrue(reversed.compare(quattro, new Quattro<>(3, "e", 1, 2)) > 0);
+		assertTrue(reversed.compare(quattro, new Quattro<>(3, null, 1, 2)) < 0);
+
+		assertThrows(NullPointerException.class,
+			() -> new QuattroComparator<Integer, Integer, Integer, String>(NullOrdering.NON_NULL)
+				.compare(quattro, new Quattro<>(3, null, 1, 2)));
+	}
+}
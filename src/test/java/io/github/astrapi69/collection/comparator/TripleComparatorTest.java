@@ -24,8 +24,15 @@
  */
 package io.github.astrapi69.collection.comparator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.meanbean.test.BeanTester;
 
@@ -72,6 +79,33 @@ public class TripleComparatorTest
 		assertTrue(expected);
 	}
 
+	/**
+	 * Test method for {@link TripleComparator#compare(Triple, Triple)} with comparable contents,
+	 * null contents and given comparators
+	 */
+	@Test
+	public void testCompareWithComparators()
+	{
+		final TripleComparator<String, Integer, String> comparator = new TripleComparator<>();
+		assertEquals(NullOrdering.NULLS_FIRST, comparator.getNullOrdering());
+		assertTrue(comparator.compare(new Triple<>("a", 2, "a"), new Triple<>("b", 1, "a")) < 0);
+		assertTrue(comparator.compare(new Triple<>("a", 2, "a"), new Triple<>("a", 1, "b")) > 0);
+		assertTrue(comparator.compare(new Triple<>("a", 1, "b"), new Triple<>("a", 1, "a")) > 0);
+		assertTrue(comparator.compare(new Triple<>("a", null, "b"), new Triple<>("a", 1, "a")) < 0);
+
+		final List<Triple<String, Integer, String>> triples = new ArrayList<>(
+			Arrays.asList(new Triple<>("a", 1, "x"), new Triple<>("a", null, "y"),
+				new Triple<>("b", 2, "z"), new Triple<>("a", 3, "w")));
+		triples.sort(new TripleComparator<>(NullOrdering.NULLS_LAST, Comparator.naturalOrder(),
+			Comparator.reverseOrder(), Comparator.naturalOrder()));
+		assertEquals(Arrays.asList(new Triple<>("a", 3, "w"), new Triple<>("a", 1, "x"),
+			new Triple<>("a", null, "y"), new Triple<>("b", 2, "z")), triples);
+
+		assertThrows(NullPointerException.class,
+			() -> new TripleComparator<String, Integer, String>(NullOrdering.NON_NULL)
+				.compare(new Triple<>("a", null, "b"), new Triple<>("a", 1, "a")));
+	}
+
 	/**
 	 * Test method for {@link TripleComparator}
 	 */
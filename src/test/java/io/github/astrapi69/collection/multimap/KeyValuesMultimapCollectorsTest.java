@@ -0,0 +1,109 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.multimap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The unit test class for the class {@link KeyValuesMultimapCollectors}
+ */
+public class KeyValuesMultimapCollectorsTest
+{
+
+	/**
+	 * Test method for {@link KeyValuesMultimapCollectors#toMultimap()}
+	 */
+	@Test
+	public void testToMultimap()
+	{
+		final KeyValuesMultimap<Integer, Integer> multimap = IntStream.range(0, 10000).parallel()
+			.mapToObj(i -> new KeyValuePair<>(i % 3, i))
+			.collect(KeyValuesMultimapCollectors.toMultimap());
+		assertEquals(Arrays.asList(0, 1, 2), new ArrayList<>(multimap.keys()));
+		assertEquals(10000, multimap.size());
+		final List<Integer> values = multimap.getValues(1);
+		for (int i = 1; i < values.size(); i++)
+		{
+			// the parallel collect keeps the encounter order
+			assertEquals(values.get(i - 1) + 3, values.get(i).intValue());
+		}
+	}
+
+	/**
+	 * Test method for {@link KeyValuesMultimapCollectors#toConcurrentMultimap()}
+	 */
+	@Test
+	public void testToConcurrentMultimap()
+	{
+		final KeyValuesMultimap<Integer, Integer> multimap = IntStream.range(0, 10000).parallel()
+			.mapToObj(i -> new KeyValuePair<>(i % 3, i))
+			.collect(KeyValuesMultimapCollectors.toConcurrentMultimap());
+		assertTrue(multimap.isConcurrent());
+		assertEquals(3, multimap.keySize());
+		final List<Integer> values = new ArrayList<>(multimap.getValues(2));
+		Collections.sort(values);
+		assertEquals(3333, values.size());
+		assertEquals(2, values.get(0).intValue());
+	}
+
+	/**
+	 * Test method for {@link KeyValuesMultimapCollectors#toKeyValuesPairs()}
+	 */
+	@Test
+	public void testToKeyValuesPairs()
+	{
+		final List<KeyValuesPair<String, Integer>> keyValuesPairs = Stream
+			.of(new KeyValuePair<>("b", 1), new KeyValuePair<>("a", 2), new KeyValuePair<>("b", 3))
+			.collect(KeyValuesMultimapCollectors.toKeyValuesPairs());
+		assertEquals(Arrays.asList(new KeyValuesPair<>("b", Arrays.asList(1, 3)),
+			new KeyValuesPair<>("a", Arrays.asList(2))), keyValuesPairs);
+	}
+
+	/**
+	 * Test method for {@link KeyValuesMultimapCollectors#groupingBy(Function, Function)}
+	 */
+	@Test
+	public void testGroupingBy()
+	{
+		final KeyValuesMultimap<Integer, String> multimap = Stream.of("a", "bb", "cc", "d")
+			.collect(KeyValuesMultimapCollectors.groupingBy(String::length, String::toUpperCase));
+		assertEquals(Arrays.asList("A", "D"), multimap.getValues(1));
+		assertEquals(Arrays.asList("BB", "CC"), multimap.getValues(2));
+	}
+}
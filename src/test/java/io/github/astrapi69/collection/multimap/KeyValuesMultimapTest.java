@@ -0,0 +1,169 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.multimap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The unit test class for the class {@link KeyValuesMultimap}
+ */
+public class KeyValuesMultimapTest
+{
+
+	/**
+	 * Test method for {@link KeyValuesMultimap#put(Object, Object)} and
+	 * {@link KeyValuesMultimap#get(Object)}
+	 */
+	@Test
+	public void testPutAndGet()
+	{
+		final KeyValuesMultimap<String, Integer> multimap = KeyValuesMultimap.create();
+		assertTrue(multimap.isEmpty());
+		assertFalse(multimap.isConcurrent());
+		multimap.put("b", 1).put("a", 2).put("b", 3).add(new KeyValuePair<>("c", 4));
+		multimap.putAll("a", Arrays.asList(5, 6));
+
+		assertEquals(3, multimap.keySize());
+		assertEquals(6, multimap.size());
+		assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(multimap.keys()));
+		assertTrue(multimap.containsKey("a"));
+		assertFalse(multimap.containsKey("d"));
+		assertEquals(new KeyValuesPair<>("b", Arrays.asList(1, 3)), multimap.get("b"));
+		assertEquals(Arrays.asList(2, 5, 6), multimap.getValues("a"));
+		assertNull(multimap.get("d"));
+		assertEquals(Collections.emptyList(), multimap.getValues("d"));
+		assertEquals("KeyValuesMultimap(keySize=3, size=6)", multimap.toString());
+
+		assertEquals(Arrays.asList(2, 5, 6), multimap.remove("a"));
+		assertEquals(Collections.emptyList(), multimap.remove("a"));
+		assertEquals(3, multimap.size());
+	}
+
+	/**
+	 * Test method for {@link KeyValuesMultimap#toKeyValuesPairs()}
+	 */
+	@Test
+	public void testToKeyValuesPairs()
+	{
+		final KeyValuesMultimap<String, Integer> multimap = KeyValuesMultimap.create();
+		multimap.put("a", 1).put("b", 2).put("a", 3);
+		final List<KeyValuesPair<String, Integer>> keyValuesPairs = multimap.toKeyValuesPairs();
+		assertEquals(Arrays.asList(new KeyValuesPair<>("a", Arrays.asList(1, 3)),
+			new KeyValuesPair<>("b", Arrays.asList(2))), keyValuesPairs);
+
+		// the views are not copies and reflect later appends
+		multimap.put("a", 4);
+		assertEquals(Arrays.asList(1, 3, 4), keyValuesPairs.get(0).getValues());
+		assertThrows(UnsupportedOperationException.class,
+			() -> keyValuesPairs.get(0).getValues().add(5));
+		assertThrows(UnsupportedOperationException.class, () -> multimap.getValues("b").clear());
+		assertThrows(UnsupportedOperationException.class, () -> multimap.keys().remove("b"));
+	}
+
+	/**
+	 * Test method for {@link KeyValuesMultimap#putAll(KeyValuesMultimap)} and
+	 * {@link KeyValuesMultimap#forEach(java.util.function.BiConsumer)}
+	 */
+	@Test
+	public void testPutAllAndForEach()
+	{
+		final KeyValuesMultimap<String, Integer> multimap = KeyValuesMultimap.create();
+		multimap.put("a", 1);
+		final KeyValuesMultimap<String, Integer> other = KeyValuesMultimap.create();
+		other.put("b", 2).put("a", 3);
+		multimap.putAll(other);
+
+		final List<String> visited = new ArrayList<>();
+		multimap.forEach((key, values) -> visited.add(key + values));
+		assertEquals(Arrays.asList("a[1, 3]", "b[2]"), visited);
+	}
+
+	/**
+	 * Test method for {@link KeyValuesMultimap#concurrent()}
+	 */
+	@Test
+	public void testConcurrent()
+	{
+		final KeyValuesMultimap<Integer, Integer> multimap = KeyValuesMultimap.concurrent();
+		assertTrue(multimap.isConcurrent());
+		IntStream.range(0, 100000).parallel().forEach(i -> multimap.put(i % 10, i));
+
+		assertEquals(10, multimap.keySize());
+		assertEquals(100000, multimap.size());
+		for (int key = 0; key < 10; key++)
+		{
+			final List<Integer> values = new ArrayList<>(multimap.getValues(key));
+			assertEquals(10000, values.size());
+			Collections.sort(values);
+			assertEquals(key, values.get(0).intValue());
+			assertEquals(99990 + key, values.get(values.size() - 1).intValue());
+		}
+
+		// the groups of a concurrent multimap are exposed as snapshots
+		final KeyValuesPair<Integer, Integer> group = multimap.get(0);
+		multimap.put(0, -1);
+		assertEquals(10000, group.getValues().size());
+		assertEquals(10001, multimap.getValues(0).size());
+		final List<Integer> removed = multimap.remove(0);
+		assertEquals(10001, removed.size());
+		assertThrows(UnsupportedOperationException.class, () -> removed.add(1));
+	}
+
+	/**
+	 * Test method for {@link KeyValuesMultimap#remove(Object)} while other threads append values
+	 * to the same key
+	 */
+	@Test
+	public void testConcurrentRemove()
+	{
+		final KeyValuesMultimap<Integer, Integer> multimap = KeyValuesMultimap.concurrent();
+		final AtomicInteger removed = new AtomicInteger();
+		IntStream.range(0, 100000).parallel().forEach(i -> {
+			multimap.put(0, i);
+			if (i % 100 == 0)
+			{
+				removed.addAndGet(multimap.remove(0).size());
+			}
+		});
+
+		assertEquals(100000, removed.get() + multimap.size());
+	}
+}
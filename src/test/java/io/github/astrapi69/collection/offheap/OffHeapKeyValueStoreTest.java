@@ -0,0 +1,164 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.codec.Codecs;
+import io.github.astrapi69.collection.pair.KeyValuePair;
+
+/**
+ * The unit test class for the class {@link OffHeapKeyValueStore}
+ */
+public class OffHeapKeyValueStoreTest
+{
+
+	/**
+	 * Test method for {@link OffHeapKeyValueStore#put(Object, Object)} and
+	 * {@link OffHeapKeyValueStore#get(Object)}
+	 */
+	@Test
+	public void testPutAndGet()
+	{
+		try (OffHeapKeyValueStore<String, byte[]> store = OffHeapKeyValueStore
+			.<String, byte[]> builder().keyCodec(Codecs.STRING).valueCodec(Codecs.BYTE_ARRAY)
+			.build())
+		{
+			assertTrue(store.isEmpty());
+			store.put("foo", "bar".getBytes(StandardCharsets.UTF_8));
+			store.put("bla", new byte[0]);
+
+			assertEquals(2, store.size());
+			assertArrayEquals("bar".getBytes(StandardCharsets.UTF_8), store.get("foo"));
+			assertArrayEquals(new byte[0], store.get("bla"));
+			assertNull(store.get("fasel"));
+			assertFalse(store.containsKey("fasel"));
+
+			store.put("foo", new byte[] { 1 });
+			assertEquals(2, store.size());
+			assertArrayEquals(new byte[] { 1 }, store.get("foo"));
+			final KeyValuePair<String, byte[]> keyValuePair = store.getKeyValuePair("foo");
+			assertEquals("foo", keyValuePair.getKey());
+			assertArrayEquals(new byte[] { 1 }, keyValuePair.getValue());
+		}
+	}
+
+	/**
+	 * Test method for {@link OffHeapKeyValueStore} with byte array keys that are equal by their
+	 * content but not by their identity
+	 */
+	@Test
+	public void testByteArrayKeys()
+	{
+		try (OffHeapKeyValueStore<byte[], String> store = OffHeapKeyValueStore
+			.<byte[], String> builder().keyCodec(Codecs.BYTE_ARRAY).valueCodec(Codecs.STRING)
+			.build())
+		{
+			store.put(new byte[] { 1, 2 }, "first");
+			store.put(new byte[] { 1, 2 }, "second");
+			store.put(new byte[0], "empty");
+
+			assertEquals(2, store.size());
+			assertEquals("second", store.get(new byte[] { 1, 2 }));
+			assertTrue(store.containsKey(new byte[] { 1, 2 }));
+			assertEquals("empty", store.get(new byte[0]));
+			assertNull(store.get(new byte[] { 2, 1 }));
+			for (int i = 0; i < 1000; i++)
+			{
+				store.put(new byte[] { (byte)i, (byte)(i >> 8) }, "value" + i);
+			}
+			for (int i = 0; i < 1000; i++)
+			{
+				assertEquals("value" + i, store.get(new byte[] { (byte)i, (byte)(i >> 8) }));
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link OffHeapKeyValueStore} with many entries over several segments and
+	 * index resizes
+	 */
+	@Test
+	public void testManyEntries()
+	{
+		final Map<Integer, String> expected = new HashMap<>();
+		final OffHeapKeyValueStore<Integer, String> store = OffHeapKeyValueStore
+			.<Integer, String> builder().keyCodec(Codecs.INTEGER)
+			.valueCodec(Codecs.nullable(Codecs.STRING)).segmentSize(4096).expectedSize(0).build();
+		for (int i = 0; i < 20000; i++)
+		{
+			final String value = i % 7 == 0 ? null : "value" + i;
+			store.put(i * 31, value);
+			expected.put(i * 31, value);
+		}
+		store.putAll(Arrays.asList(new KeyValuePair<>(0, "zero"), new KeyValuePair<>(-1, "-1")));
+		expected.put(0, "zero");
+		expected.put(-1, "-1");
+
+		assertEquals(expected.size(), store.size());
+		for (final Map.Entry<Integer, String> entry : expected.entrySet())
+		{
+			assertEquals(entry.getValue(), store.get(entry.getKey()));
+		}
+		final Map<Integer, String> iterated = new HashMap<>();
+		for (final KeyValuePair<Integer, String> keyValuePair : store)
+		{
+			iterated.put(keyValuePair.getKey(), keyValuePair.getValue());
+		}
+		assertEquals(expected, iterated);
+		assertTrue(store.allocatedBytes() > 4096);
+	}
+
+	/**
+	 * Test method for {@link OffHeapKeyValueStore} with invalid arguments
+	 */
+	@Test
+	public void testInvalidArguments()
+	{
+		assertThrows(NullPointerException.class,
+			() -> OffHeapKeyValueStore.<String, String> builder().keyCodec(Codecs.STRING).build());
+		final OffHeapKeyValueStore<String, String> store = OffHeapKeyValueStore
+			.<String, String> builder().keyCodec(Codecs.STRING).valueCodec(Codecs.STRING)
+			.segmentSize(16).build();
+		assertThrows(NullPointerException.class, () -> store.put(null, "value"));
+		assertThrows(IllegalArgumentException.class,
+			() -> store.put("key", "a value that does not fit in a segment"));
+		store.close();
+		assertThrows(IllegalStateException.class, () -> store.put("key", "value"));
+	}
+
+}
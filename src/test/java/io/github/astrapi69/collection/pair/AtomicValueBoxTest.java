@@ -0,0 +1,130 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link AtomicValueBox}.
+ */
+public class AtomicValueBoxTest
+{
+
+	/**
+	 * Test method for {@link AtomicValueBox#equals(Object)} , {@link AtomicValueBox#hashCode()}
+	 * and {@link AtomicValueBox#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+		final AtomicValueBox<Integer> first = AtomicValueBox.<Integer> builder().value(2).build();
+		final AtomicValueBox<String> second = new AtomicValueBox<>("Hello");
+		final AtomicValueBox<Integer> third = new AtomicValueBox<>(2);
+		final AtomicValueBox<Integer> fourth = new AtomicValueBox<>(2);
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+		assertEquals("AtomicValueBox(value=2)", first.toString());
+		assertEquals(new ValueBox<>(2).hashCode(), first.hashCode());
+		assertFalse(first.equals(new ValueBox<>(2)));
+	}
+
+	/**
+	 * Test method for {@link AtomicValueBox#compareAndSet(Object, Object)} and the update methods
+	 */
+	@Test
+	public void testAtomicOperations()
+	{
+		final String initial = new String("a");
+		final AtomicValueBox<String> box = new AtomicValueBox<>(initial);
+		// the values are compared by identity
+		assertFalse(box.compareAndSet(new String("a"), "b"));
+		assertTrue(box.compareAndSet(initial, "b"));
+		assertEquals("b", box.getAndSet("c"));
+		assertEquals("c", box.getAndUpdate(value -> value + "d"));
+		assertEquals("cde", box.updateAndGet(value -> value + "e"));
+		assertEquals("cde", box.getAndAccumulate("f", String::concat));
+		assertEquals("cdefg", box.accumulateAndGet("g", String::concat));
+
+		box.setRelease("h");
+		assertEquals("h", box.getAcquire());
+		box.setOpaque("i");
+		assertEquals("i", box.getOpaque());
+		assertEquals(new ValueBox<>("i"), box.toValueBox());
+		assertEquals(box, box.toBuilder().build());
+	}
+
+	/**
+	 * Test method for {@link AtomicValueBox#updateAndGet(java.util.function.UnaryOperator)} with
+	 * contended updates of several threads
+	 */
+	@Test
+	public void testContendedUpdates()
+	{
+		final AtomicValueBox<Integer> box = new AtomicValueBox<>(0);
+		IntStream.range(0, 100000).parallel().forEach(i -> box.updateAndGet(value -> value + 1));
+		assertEquals(100000, box.getValue().intValue());
+		IntStream.range(0, 1000).parallel().forEach(i -> box.accumulateAndGet(i, Math::max));
+		assertEquals(100000, box.getValue().intValue());
+	}
+
+	/**
+	 * Test method for the serialization of {@link AtomicValueBox}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final AtomicValueBox<String> box = new AtomicValueBox<>("value");
+		final AtomicValueBox<String> copy = SerializationUtils.clone(box);
+		assertNotSame(box, copy);
+		assertEquals(box, copy);
+	}
+
+	/**
+	 * Test method for {@link AtomicValueBox}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(AtomicValueBox.class);
+	}
+
+}
@@ -0,0 +1,107 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link DoubleBox}.
+ */
+public class DoubleBoxTest
+{
+
+	/**
+	 * Test method for {@link DoubleBox#equals(Object)} , {@link DoubleBox#hashCode()} and
+	 * {@link DoubleBox#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+		final DoubleBox first = DoubleBox.builder().value(2.5).build();
+		final DoubleBox second = new DoubleBox(1.5);
+		final DoubleBox third = new DoubleBox(2.5);
+		final DoubleBox fourth = new DoubleBox(2.5);
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+		assertEquals(new ValueBox<>(2.5).hashCode(), first.hashCode());
+	}
+
+	/**
+	 * Test method for the in place operations of {@link DoubleBox}
+	 */
+	@Test
+	public void testOperations()
+	{
+		final DoubleBox box = new DoubleBox(1.5);
+		assertEquals(4.0, box.addAndGet(2.5));
+		assertEquals(4.0, box.getAndAdd(-5.0));
+		assertEquals(-1.0, box.getValue());
+		assertEquals(3.0, box.max(3.0));
+		assertEquals(3.0, box.max(1.0));
+		assertEquals(-2.0, box.min(-2.0));
+		assertEquals(-2.0, box.min(0.0));
+
+		final DoubleBox sum = new DoubleBox();
+		IntStream.range(0, 1000).forEach(i -> sum.addAndGet(0.5));
+		assertEquals(500.0, sum.getValue());
+		assertEquals(new DoubleBox(Double.NaN), new DoubleBox(Double.NaN));
+	}
+
+	/**
+	 * Test method for {@link DoubleBox#of(ValueBox)} and {@link DoubleBox#toValueBox()}
+	 */
+	@Test
+	public void testValueBoxConversion()
+	{
+		assertEquals(new ValueBox<>(2.5), new DoubleBox(2.5).toValueBox());
+		assertEquals(new DoubleBox(2.5), DoubleBox.of(new ValueBox<>(2.5)));
+		assertEquals(new DoubleBox(2.5), new DoubleBox(2.5).toBuilder().build());
+		assertThrows(NullPointerException.class, () -> DoubleBox.of(new ValueBox<>()));
+	}
+
+	/**
+	 * Test method for {@link DoubleBox}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(DoubleBox.class);
+	}
+
+}
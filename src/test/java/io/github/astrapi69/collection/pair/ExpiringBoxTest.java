@@ -0,0 +1,252 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ExpiringBox}.
+ */
+public class ExpiringBoxTest
+{
+
+	/**
+	 * Test method for {@link ExpiringBox#getValue()} without asynchronous reloads
+	 */
+	@Test
+	public void testGetValue()
+	{
+		final AtomicLong ticker = new AtomicLong();
+		final AtomicInteger loads = new AtomicInteger();
+		final ExpiringBox<String> expiringBox = ExpiringBox.<String> builder()
+			.loader(() -> "value" + loads.incrementAndGet()).timeToLive(Duration.ofNanos(100))
+			.ticker(ticker::get).build();
+
+		assertTrue(expiringBox.isExpired());
+		assertEquals("ExpiringBox(value=<not loaded>, timeToLive=PT0.0000001S)",
+			expiringBox.toString());
+		assertEquals("value1", expiringBox.getValue());
+		assertFalse(expiringBox.isExpired());
+		ticker.set(99);
+		assertEquals("value1", expiringBox.get());
+		ticker.set(100);
+		assertTrue(expiringBox.isExpired());
+		assertEquals("value2", expiringBox.getValue());
+		assertEquals("ExpiringBox(value=value2, timeToLive=PT0.0000001S)", expiringBox.toString());
+		assertEquals(2, expiringBox.getLoadCount());
+		assertEquals(0, expiringBox.getFailureCount());
+		assertFalse(expiringBox.isRefreshing());
+	}
+
+	/**
+	 * Test method for {@link ExpiringBox#getValue()} in the refresh ahead window
+	 */
+	@Test
+	public void testRefreshAhead()
+	{
+		final AtomicLong ticker = new AtomicLong();
+		final AtomicInteger loads = new AtomicInteger();
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+		final ExpiringBox<String> expiringBox = ExpiringBox.<String> builder().loader(() -> {
+			ticker.addAndGet(5);
+			return "value" + loads.incrementAndGet();
+		}).timeToLive(Duration.ofNanos(100)).refreshAhead(Duration.ofNanos(20)).executor(tasks::add)
+			.ticker(ticker::get).build();
+
+		assertEquals("value1", expiringBox.getValue());
+		assertEquals(Duration.ofNanos(5), expiringBox.getLastLoadLatency());
+		ticker.set(84);
+		assertEquals("value1", expiringBox.getValue());
+		assertTrue(tasks.isEmpty());
+		ticker.set(85);
+		// the stale value is returned and one reload is started
+		assertEquals("value1", expiringBox.getValue());
+		assertEquals("value1", expiringBox.getValue());
+		assertEquals(1, tasks.size());
+		assertTrue(expiringBox.isRefreshing());
+		assertFalse(expiringBox.refresh());
+		tasks.poll().run();
+		assertFalse(expiringBox.isRefreshing());
+		assertEquals(2, expiringBox.getLoadCount());
+		assertEquals("value2", expiringBox.getValue());
+		assertTrue(tasks.isEmpty());
+		assertTrue(expiringBox.refresh());
+		assertEquals(1, tasks.size());
+	}
+
+	/**
+	 * Test method for the failure statistics of {@link ExpiringBox}
+	 */
+	@Test
+	public void testFailures()
+	{
+		final AtomicLong ticker = new AtomicLong();
+		final AtomicInteger loads = new AtomicInteger();
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+		final ExpiringBox<String> expiringBox = ExpiringBox.<String> builder().loader(() -> {
+			if (loads.incrementAndGet() % 2 == 0)
+			{
+				throw new IllegalStateException("reload failed");
+			}
+			return "value" + loads.get();
+		}).timeToLive(Duration.ofNanos(100)).refreshAhead(Duration.ofNanos(50)).executor(tasks::add)
+			.ticker(ticker::get).build();
+
+		assertNull(expiringBox.getLastFailure());
+		assertEquals("value1", expiringBox.getValue());
+		ticker.set(60);
+		assertEquals("value1", expiringBox.getValue());
+		tasks.poll().run();
+		// the failed reload keeps the current value
+		assertEquals(1, expiringBox.getFailureCount());
+		assertTrue(expiringBox.getLastFailure() instanceof IllegalStateException);
+		assertFalse(expiringBox.isRefreshing());
+		// the failed reload is not retried on every read but after the default retry backoff of
+		// a quarter of the refresh ahead window
+		for (long time = 60; time < 72; time++)
+		{
+			ticker.set(time);
+			assertEquals("value1", expiringBox.getValue());
+		}
+		assertTrue(tasks.isEmpty());
+		ticker.set(72);
+		assertEquals("value1", expiringBox.getValue());
+		assertEquals(1, tasks.size());
+		tasks.poll().run();
+		assertEquals("value3", expiringBox.getValue());
+		assertEquals(1, expiringBox.getFailureCount());
+
+		final ExpiringBox<String> rejecting = ExpiringBox.<String> builder().loader(() -> "value")
+			.timeToLive(Duration.ofNanos(100)).refreshAhead(Duration.ofNanos(50))
+			.executor(task -> {
+				throw new RejectedExecutionException("shutdown");
+			}).ticker(ticker::get).build();
+		assertEquals("value", rejecting.getValue());
+		ticker.addAndGet(60);
+		assertEquals("value", rejecting.getValue());
+		assertEquals("value", rejecting.getValue());
+		assertEquals(1, rejecting.getFailureCount());
+		assertFalse(rejecting.isRefreshing());
+
+		final ExpiringBox<String> nullBox = ExpiringBox.of(() -> null, Duration.ofSeconds(1));
+		assertThrows(NullPointerException.class, nullBox::getValue);
+		assertEquals(1, nullBox.getFailureCount());
+	}
+
+	/**
+	 * Test method for the retry backoff of a failed asynchronous reload
+	 */
+	@Test
+	public void testRetryBackoff()
+	{
+		final AtomicLong ticker = new AtomicLong();
+		final AtomicInteger loads = new AtomicInteger();
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+		final ExpiringBox<String> expiringBox = ExpiringBox.<String> builder().loader(() -> {
+			if (1 < loads.incrementAndGet())
+			{
+				throw new IllegalStateException("backend down");
+			}
+			return "value";
+		}).timeToLive(Duration.ofNanos(1000)).refreshAhead(Duration.ofNanos(500))
+			.retryBackoff(Duration.ofNanos(100)).executor(tasks::add).ticker(ticker::get).build();
+
+		assertEquals("value", expiringBox.getValue());
+		// every read in the refresh ahead window starts at most one reload per retry backoff
+		for (long time = 500; time < 1000; time++)
+		{
+			ticker.set(time);
+			assertEquals("value", expiringBox.getValue());
+			final Runnable task = tasks.poll();
+			if (task != null)
+			{
+				task.run();
+			}
+		}
+		assertEquals(5, expiringBox.getFailureCount());
+		assertEquals(6, loads.get());
+	}
+
+	/**
+	 * Test method for an asynchronous reload that is skipped, because the expired value was
+	 * loaded in the calling thread in the meantime
+	 */
+	@Test
+	public void testRefreshSkippedAfterExpiredLoad()
+	{
+		final AtomicLong ticker = new AtomicLong();
+		final AtomicInteger loads = new AtomicInteger();
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+		final ExpiringBox<String> expiringBox = ExpiringBox.<String> builder()
+			.loader(() -> "value" + loads.incrementAndGet()).timeToLive(Duration.ofNanos(100))
+			.refreshAhead(Duration.ofNanos(20)).executor(tasks::add).ticker(ticker::get).build();
+
+		assertEquals("value1", expiringBox.getValue());
+		ticker.set(90);
+		assertEquals("value1", expiringBox.getValue());
+		assertEquals(1, tasks.size());
+		ticker.set(100);
+		assertEquals("value2", expiringBox.getValue());
+		tasks.poll().run();
+		assertEquals(2, loads.get());
+		assertFalse(expiringBox.isRefreshing());
+		assertEquals("value2", expiringBox.getValue());
+	}
+
+	/**
+	 * Test method for the validation of the {@link ExpiringBox.ExpiringBoxBuilder}
+	 */
+	@Test
+	public void testBuilderValidation()
+	{
+		assertThrows(NullPointerException.class,
+			() -> ExpiringBox.<String> builder().timeToLive(Duration.ofSeconds(1)).build());
+		assertThrows(NullPointerException.class, () -> ExpiringBox.of(() -> "value", null));
+		assertThrows(IllegalArgumentException.class,
+			() -> ExpiringBox.of(() -> "value", Duration.ZERO));
+		assertThrows(IllegalArgumentException.class,
+			() -> ExpiringBox.<String> builder().loader(() -> "value")
+				.timeToLive(Duration.ofSeconds(1)).refreshAhead(Duration.ofSeconds(1)).build());
+		assertThrows(IllegalArgumentException.class,
+			() -> ExpiringBox.<String> builder().loader(() -> "value")
+				.timeToLive(Duration.ofSeconds(1)).retryBackoff(Duration.ofSeconds(-1)).build());
+		assertEquals(Duration.ofSeconds(1),
+			ExpiringBox.of(() -> "value", Duration.ofSeconds(1)).getTimeToLive());
+	}
+
+}
@@ -0,0 +1,102 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link ImmutableKeyMapPair}
+ */
+public class ImmutableKeyMapPairTest
+{
+
+	/**
+	 * Test method for {@link ImmutableKeyMapPair#equals(Object)} ,
+	 * {@link ImmutableKeyMapPair#hashCode()} and {@link ImmutableKeyMapPair#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final ImmutableKeyMapPair<String, String, Integer> first = ImmutableKeyMapPair
+			.<String, String, Integer> builder().key("key").values(Map.of("one", 1)).build();
+		final ImmutableKeyMapPair<String, String, Integer> second = new ImmutableKeyMapPair<>(
+			"key", Map.of("two", 2));
+		final ImmutableKeyMapPair<String, String, Integer> third = new ImmutableKeyMapPair<>(
+			"key", Map.of("one", 1));
+		final ImmutableKeyMapPair<String, String, Integer> fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link KeyMapPair#freeze()} and {@link ImmutableKeyMapPair#thaw()}
+	 */
+	@Test
+	public void testFreezeAndThaw()
+	{
+		final Map<String, Integer> values = new LinkedHashMap<>(Map.of("one", 1));
+		final KeyMapPair<String, String, Integer> keyMapPair = new KeyMapPair<>("key", values);
+		final ImmutableKeyMapPair<String, String, Integer> frozen = keyMapPair.freeze();
+
+		assertEquals(keyMapPair.hashCode(), frozen.hashCode());
+		values.put("two", 2);
+		assertEquals(1, frozen.getValues().size());
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getValues().put("two", 2));
+		assertEquals(new KeyMapPair<>("key", Map.of("one", 1)), frozen.thaw());
+	}
+
+	/**
+	 * Test method for the serialization of {@link ImmutableKeyMapPair}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final ImmutableKeyMapPair<String, String, Integer> keyMapPair = new ImmutableKeyMapPair<>(
+			"key", Map.of("one", 1));
+		final ImmutableKeyMapPair<String, String, Integer> copy = SerializationUtils
+			.roundtrip(keyMapPair);
+
+		assertNotSame(keyMapPair, copy);
+		assertEquals(keyMapPair, copy);
+		assertEquals(keyMapPair.hashCode(), copy.hashCode());
+	}
+
+}
@@ -0,0 +1,102 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link ImmutableKeySetPair}
+ */
+public class ImmutableKeySetPairTest
+{
+
+	/**
+	 * Test method for {@link ImmutableKeySetPair#equals(Object)} ,
+	 * {@link ImmutableKeySetPair#hashCode()} and {@link ImmutableKeySetPair#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final ImmutableKeySetPair<String, String> first = ImmutableKeySetPair
+			.<String, String> builder().key("key").value("first").value("second").build();
+		final ImmutableKeySetPair<String, String> second = ImmutableKeySetPair
+			.<String, String> builder().key("key").value("first").build();
+		final ImmutableKeySetPair<String, String> third = ImmutableKeySetPair
+			.<String, String> builder().key("key").values(Set.of("first", "second")).build();
+		final ImmutableKeySetPair<String, String> fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link KeySetPair#freeze()} and {@link ImmutableKeySetPair#thaw()}
+	 */
+	@Test
+	public void testFreezeAndThaw()
+	{
+		final LinkedHashSet<String> values = new LinkedHashSet<>(Set.of("first", "second"));
+		final KeySetPair<String, String> keySetPair = new KeySetPair<>("key", values);
+		final ImmutableKeySetPair<String, String> frozen = keySetPair.freeze();
+
+		assertEquals(keySetPair.hashCode(), frozen.hashCode());
+		values.add("third");
+		assertEquals(2, frozen.getValues().size());
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getValues().add("third"));
+		assertEquals(new KeySetPair<>("key", Set.of("first", "second")), frozen.thaw());
+	}
+
+	/**
+	 * Test method for the serialization of {@link ImmutableKeySetPair}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final ImmutableKeySetPair<String, String> keySetPair = new ImmutableKeySetPair<>(
+			"key", Set.of("first", "second"));
+		final ImmutableKeySetPair<String, String> copy = SerializationUtils
+			.roundtrip(keySetPair);
+
+		assertNotSame(keySetPair, copy);
+		assertEquals(keySetPair, copy);
+		assertEquals(keySetPair.hashCode(), copy.hashCode());
+	}
+
+}
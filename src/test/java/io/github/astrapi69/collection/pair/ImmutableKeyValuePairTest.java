@@ -0,0 +1,97 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link ImmutableKeyValuePair}
+ */
+public class ImmutableKeyValuePairTest
+{
+
+	/**
+	 * Test method for {@link ImmutableKeyValuePair#equals(Object)} ,
+	 * {@link ImmutableKeyValuePair#hashCode()} and {@link ImmutableKeyValuePair#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final ImmutableKeyValuePair<String, String> first = ImmutableKeyValuePair
+			.<String, String> builder().key("key").value("value").build();
+		final ImmutableKeyValuePair<String, String> second = new ImmutableKeyValuePair<>("key",
+			"other");
+		final ImmutableKeyValuePair<String, String> third = new ImmutableKeyValuePair<>("key",
+			"value");
+		final ImmutableKeyValuePair<String, String> fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+		assertEquals("ImmutableKeyValuePair(key=key, value=value)", first.toString());
+	}
+
+	/**
+	 * Test method for {@link KeyValuePair#freeze()} and {@link ImmutableKeyValuePair#thaw()}
+	 */
+	@Test
+	public void testFreezeAndThaw()
+	{
+		final KeyValuePair<String, String> keyValuePair = new KeyValuePair<>("key", "value");
+		final ImmutableKeyValuePair<String, String> frozen = keyValuePair.freeze();
+
+		assertEquals(keyValuePair.hashCode(), frozen.hashCode());
+		keyValuePair.setValue("changed");
+		assertEquals("value", frozen.getValue());
+		assertEquals(new KeyValuePair<>("key", "value"), frozen.thaw());
+	}
+
+	/**
+	 * Test method for the serialization of {@link ImmutableKeyValuePair}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final ImmutableKeyValuePair<String, String> keyValuePair = new ImmutableKeyValuePair<>(
+			"key", "value");
+		final ImmutableKeyValuePair<String, String> copy = SerializationUtils
+			.roundtrip(keyValuePair);
+
+		assertNotSame(keyValuePair, copy);
+		assertEquals(keyValuePair, copy);
+		assertEquals(keyValuePair.hashCode(), copy.hashCode());
+	}
+
+}
@@ -0,0 +1,126 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link ImmutableKeyValuesPair}
+ */
+public class ImmutableKeyValuesPairTest
+{
+
+	/**
+	 * Test method for {@link ImmutableKeyValuesPair#equals(Object)} ,
+	 * {@link ImmutableKeyValuesPair#hashCode()} and {@link ImmutableKeyValuesPair#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final ImmutableKeyValuesPair<String, String> first = ImmutableKeyValuesPair
+			.<String, String> builder().key("key").value("first").value("second").build();
+		final ImmutableKeyValuesPair<String, String> second = ImmutableKeyValuesPair
+			.<String, String> builder().key("key").value("first").build();
+		final ImmutableKeyValuesPair<String, String> third = ImmutableKeyValuesPair
+			.<String, String> builder().key("key").values(List.of("first", "second")).build();
+		final ImmutableKeyValuesPair<String, String> fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link KeyValuesPair#freeze()} and {@link ImmutableKeyValuesPair#thaw()}
+	 */
+	@Test
+	public void testFreezeAndThaw()
+	{
+		final ArrayList<String> values = new ArrayList<>(List.of("first", "second"));
+		final KeyValuesPair<String, String> keyValuesPair = new KeyValuesPair<>("key", values);
+		final ImmutableKeyValuesPair<String, String> frozen = keyValuesPair.freeze();
+
+		assertEquals(keyValuesPair.hashCode(), frozen.hashCode());
+		values.add("third");
+		assertEquals(2, frozen.getValues().size());
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getValues().add("third"));
+		assertEquals(new KeyValuesPair<>("key", List.of("first", "second")), frozen.thaw());
+	}
+
+	/**
+	 * Test method for {@link KeyValuesPair#freeze()} and {@link ImmutableKeyValuesPair#thaw()}
+	 * with values that are a set
+	 */
+	@Test
+	public void testFreezeAndThawWithSet()
+	{
+		final Set<String> values = new LinkedHashSet<>(List.of("first", "second"));
+		final KeyValuesPair<String, String> keyValuesPair = new KeyValuesPair<>("key", values);
+		final ImmutableKeyValuesPair<String, String> frozen = keyValuesPair.freeze();
+
+		assertTrue(frozen.getValues() instanceof Set);
+		assertEquals(values, frozen.getValues());
+		assertEquals(keyValuesPair.hashCode(), frozen.hashCode());
+		assertEquals(keyValuesPair, frozen.thaw());
+
+		final ImmutableKeyValuesPair<String, String> copy = SerializationUtils.roundtrip(frozen);
+		assertTrue(copy.getValues() instanceof Set);
+		assertEquals(frozen, copy);
+	}
+
+	/**
+	 * Test method for the serialization of {@link ImmutableKeyValuesPair}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final ImmutableKeyValuesPair<String, String> keyValuesPair = new ImmutableKeyValuesPair<>(
+			"key", List.of("first", "second"));
+		final ImmutableKeyValuesPair<String, String> copy = SerializationUtils
+			.roundtrip(keyValuesPair);
+
+		assertNotSame(keyValuesPair, copy);
+		assertEquals(keyValuesPair, copy);
+		assertEquals(keyValuesPair.hashCode(), copy.hashCode());
+	}
+
+}
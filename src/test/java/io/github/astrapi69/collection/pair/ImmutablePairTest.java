@@ -0,0 +1,103 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link ImmutablePair}
+ */
+public class ImmutablePairTest
+{
+
+	/**
+	 * Test method for {@link ImmutablePair#equals(Object)} , {@link ImmutablePair#hashCode()} and
+	 * {@link ImmutablePair#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final ImmutablePair<String, String> first = ImmutablePair.<String, String> builder()
+			.leftContent("left").rightContent("right").build();
+		final ImmutablePair<String, String> second = new ImmutablePair<>("left", "other");
+		final ImmutablePair<String, String> third = new ImmutablePair<>("left", "right");
+		final ImmutablePair<String, String> fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+		assertEquals("ImmutablePair(leftContent=left, rightContent=right)", first.toString());
+	}
+
+	/**
+	 * Test method for {@link Pair#freeze()} and {@link ImmutablePair#thaw()}
+	 */
+	@Test
+	public void testFreezeAndThaw()
+	{
+		final Pair<String, Integer> pair = new Pair<>("left", 1);
+		final ImmutablePair<String, Integer> frozen = pair.freeze();
+
+		assertEquals(pair.hashCode(), frozen.hashCode());
+		assertEquals("left", frozen.getLeftContent());
+		assertEquals(Integer.valueOf(1), frozen.getRightContent());
+		assertNotEquals(pair, frozen);
+
+		pair.setRightContent(2);
+		assertEquals(Integer.valueOf(1), frozen.getRightContent());
+
+		final Pair<String, Integer> thawed = frozen.thaw();
+		assertNotSame(pair, thawed);
+		assertEquals(new Pair<>("left", 1), thawed);
+		assertEquals(new ImmutablePair<String, Integer>(null, null).hashCode(),
+			new Pair<String, Integer>(null, null).hashCode());
+	}
+
+	/**
+	 * Test method for the serialization of {@link ImmutablePair}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final ImmutablePair<String, Integer> pair = new ImmutablePair<>("left", 1);
+		final ImmutablePair<String, Integer> copy = SerializationUtils.roundtrip(pair);
+
+		assertNotSame(pair, copy);
+		assertEquals(pair, copy);
+		assertEquals(pair.hashCode(), copy.hashCode());
+	}
+
+}
@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link ImmutableQuattro}
+ */
+public class ImmutableQuattroTest
+{
+
+	/**
+	 * Test method for {@link ImmutableQuattro#equals(Object)} ,
+	 * {@link ImmutableQuattro#hashCode()} and {@link ImmutableQuattro#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final ImmutableQuattro<String, String, String, String> first = ImmutableQuattro
+			.<String, String, String, String> builder().topLeft("tl").topRight("tr")
+			.bottomLeft("bl").bottomRight("br").build();
+		final ImmutableQuattro<String, String, String, String> second = new ImmutableQuattro<>(
+			"bl", "br", "tl", "other");
+		final ImmutableQuattro<String, String, String, String> third = new ImmutableQuattro<>(
+			"bl", "br", "tl", "tr");
+		final ImmutableQuattro<String, String, String, String> fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link Quattro#freeze()} and {@link ImmutableQuattro#thaw()}
+	 */
+	@Test
+	public void testFreezeAndThaw()
+	{
+		final Quattro<String, String, String, String> quattro = new Quattro<>("bl", "br", "tl",
+			"tr");
+		final ImmutableQuattro<String, String, String, String> frozen = quattro.freeze();
+
+		assertEquals(quattro.hashCode(), frozen.hashCode());
+		assertEquals("tl", frozen.getTopLeft());
+		assertEquals("br", frozen.getBottomRight());
+		quattro.setTopLeft("changed");
+		assertEquals("tl", frozen.getTopLeft());
+		assertEquals(new Quattro<>("bl", "br", "tl", "tr"), frozen.thaw());
+	}
+
+	/**
+	 * Test method for the serialization of {@link ImmutableQuattro}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final ImmutableQuattro<String, String, String, String> quattro = new ImmutableQuattro<>(
+			"bl", "br", "tl", "tr");
+		final ImmutableQuattro<String, String, String, String> copy = SerializationUtils
+			.roundtrip(quattro);
+
+		assertNotSame(quattro, copy);
+		assertEquals(quattro, copy);
+		assertEquals(quattro.hashCode(), copy.hashCode());
+	}
+
+}
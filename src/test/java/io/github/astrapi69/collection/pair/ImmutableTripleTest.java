@@ -0,0 +1,95 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link ImmutableTriple}
+ */
+public class ImmutableTripleTest
+{
+
+	/**
+	 * Test method for {@link ImmutableTriple#equals(Object)} , {@link ImmutableTriple#hashCode()}
+	 * and {@link ImmutableTriple#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final ImmutableTriple<String, Integer, String> first = ImmutableTriple
+			.<String, Integer, String> builder().left("left").middle(2).right("right").build();
+		final ImmutableTriple<String, Integer, String> second = new ImmutableTriple<>("left", 3,
+			"right");
+		final ImmutableTriple<String, Integer, String> third = new ImmutableTriple<>("left", 2,
+			"right");
+		final ImmutableTriple<String, Integer, String> fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link Triple#freeze()} and {@link ImmutableTriple#thaw()}
+	 */
+	@Test
+	public void testFreezeAndThaw()
+	{
+		final Triple<String, Integer, String> triple = new Triple<>("left", 2, null);
+		final ImmutableTriple<String, Integer, String> frozen = triple.freeze();
+
+		assertEquals(triple.hashCode(), frozen.hashCode());
+		triple.setMiddle(3);
+		assertEquals(Integer.valueOf(2), frozen.getMiddle());
+		assertEquals(new Triple<>("left", 2, null), frozen.thaw());
+	}
+
+	/**
+	 * Test method for the serialization of {@link ImmutableTriple}
+	 */
+	@Test
+	public void testSerialization()
+	{
+		final ImmutableTriple<String, Integer, String> triple = new ImmutableTriple<>("left", 2,
+			"right");
+		final ImmutableTriple<String, Integer, String> copy = SerializationUtils.roundtrip(triple);
+
+		assertNotSame(triple, copy);
+		assertEquals(triple, copy);
+		assertEquals(triple.hashCode(), copy.hashCode());
+	}
+
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link IntBox}.
+ */
+public class IntBoxTest
+{
+
+	/**
+	 * Test method for {@link IntBox#equals(Object)} , {@link IntBox#hashCode()} and
+	 * {@link IntBox#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+		final IntBox first = IntBox.builder().value(2).build();
+		final IntBox second = new IntBox(1);
+		final IntBox third = new IntBox(2);
+		final IntBox fourth = new IntBox(2);
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+		assertEquals(new ValueBox<>(2).hashCode(), first.hashCode());
+	}
+
+	/**
+	 * Test method for the in place operations of {@link IntBox}
+	 */
+	@Test
+	public void testOperations()
+	{
+		final IntBox box = new IntBox(5);
+		assertEquals(5, box.getAndIncrement());
+		assertEquals(7, box.incrementAndGet());
+		assertEquals(7, box.getAndDecrement());
+		assertEquals(5, box.decrementAndGet());
+		assertEquals(15, box.addAndGet(10));
+		assertEquals(15, box.getAndAdd(-20));
+		assertEquals(-5, box.getValue());
+		assertEquals(3, box.max(3));
+		assertEquals(3, box.max(1));
+		assertEquals(-2, box.min(-2));
+		assertEquals(-2, box.min(0));
+
+		final IntBox counter = new IntBox();
+		IntStream.range(0, 1000).forEach(i -> counter.incrementAndGet());
+		assertEquals(1000, counter.getValue());
+	}
+
+	/**
+	 * Test method for {@link IntBox#of(ValueBox)} and {@link IntBox#toValueBox()}
+	 */
+	@Test
+	public void testValueBoxConversion()
+	{
+		assertEquals(new ValueBox<>(2), new IntBox(2).toValueBox());
+		assertEquals(new IntBox(2), IntBox.of(new ValueBox<>(2)));
+		assertEquals(new IntBox(2), new IntBox(2).toBuilder().build());
+		assertThrows(NullPointerException.class, () -> IntBox.of(new ValueBox<>()));
+	}
+
+	/**
+	 * Test method for {@link IntBox}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(IntBox.class);
+	}
+
+}
@@ -0,0 +1,94 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link IntIntDoubleTriple}.
+ */
+public class IntIntDoubleTripleTest
+{
+
+	/**
+	 * Test method for {@link IntIntDoubleTriple#equals(Object)} ,
+	 * {@link IntIntDoubleTriple#hashCode()} and {@link IntIntDoubleTriple#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final IntIntDoubleTriple first = IntIntDoubleTriple.builder().left(1).middle(2).right(0.5)
+			.build();
+		final IntIntDoubleTriple second = new IntIntDoubleTriple();
+		second.setLeft(1);
+		second.setMiddle(2);
+		second.setRight(1.5);
+		final IntIntDoubleTriple third = new IntIntDoubleTriple(1, 2, 0.5);
+		final IntIntDoubleTriple fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+		assertNotEquals(new IntIntDoubleTriple(0, 0, 0.0d), new IntIntDoubleTriple(0, 0, -0.0d));
+		assertEquals(new IntIntDoubleTriple(0, 0, Double.NaN),
+			new IntIntDoubleTriple(0, 0, Double.NaN));
+	}
+
+	/**
+	 * Test method for {@link IntIntDoubleTriple#toTriple()} and
+	 * {@link IntIntDoubleTriple#of(Triple)}
+	 */
+	@Test
+	public void testToTripleAndOf()
+	{
+		final IntIntDoubleTriple intIntDoubleTriple = new IntIntDoubleTriple(7, 8, 9.25);
+		final Triple<Integer, Integer, Double> triple = intIntDoubleTriple.toTriple();
+
+		assertEquals(new Triple<>(7, 8, 9.25), triple);
+		assertEquals(triple.hashCode(), intIntDoubleTriple.hashCode());
+		assertEquals(intIntDoubleTriple, IntIntDoubleTriple.of(triple));
+	}
+
+	/**
+	 * Test method for {@link IntIntDoubleTriple}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(IntIntDoubleTriple.class);
+	}
+
+}
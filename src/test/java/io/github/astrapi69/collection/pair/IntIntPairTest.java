@@ -0,0 +1,108 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link IntIntPair}.
+ */
+public class IntIntPairTest
+{
+
+	/**
+	 * Test method for {@link IntIntPair#equals(Object)} , {@link IntIntPair#hashCode()} and
+	 * {@link IntIntPair#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final IntIntPair first = IntIntPair.builder().leftContent(1).rightContent(2).build();
+		final IntIntPair second = new IntIntPair();
+		second.setLeftContent(2);
+		second.setRightContent(1);
+
+		final IntIntPair third = new IntIntPair(1, 2);
+
+		final IntIntPair fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link IntIntPair#toPair()} and {@link IntIntPair#of(Pair)}
+	 */
+	@Test
+	public void testToPairAndOf()
+	{
+		final IntIntPair intIntPair = new IntIntPair(3, -7);
+		final Pair<Integer, Integer> pair = intIntPair.toPair();
+
+		assertEquals(Pair.<Integer, Integer> builder().leftContent(3).rightContent(-7).build(),
+			pair);
+		assertEquals(pair.hashCode(), intIntPair.hashCode());
+		assertEquals(intIntPair, IntIntPair.of(pair));
+	}
+
+	/**
+	 * Test method for {@link IntIntPair#toLong()} and {@link IntIntPair#fromLong(long)}
+	 */
+	@Test
+	public void testPackAndUnpack()
+	{
+		long packed;
+		final IntIntPair intIntPair = new IntIntPair(Integer.MIN_VALUE, -1);
+
+		packed = intIntPair.toLong();
+		assertEquals(Integer.MIN_VALUE, IntIntPair.unpackLeft(packed));
+		assertEquals(-1, IntIntPair.unpackRight(packed));
+		assertEquals(intIntPair, IntIntPair.fromLong(packed));
+
+		packed = IntIntPair.pack(42, Integer.MAX_VALUE);
+		assertEquals(new IntIntPair(42, Integer.MAX_VALUE), IntIntPair.fromLong(packed));
+	}
+
+	/**
+	 * Test method for {@link IntIntPair}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(IntIntPair.class);
+	}
+
+}
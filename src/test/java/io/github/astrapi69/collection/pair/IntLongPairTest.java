@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link IntLongPair}.
+ */
+public class IntLongPairTest
+{
+
+	/**
+	 * Test method for {@link IntLongPair#equals(Object)} , {@link IntLongPair#hashCode()} and
+	 * {@link IntLongPair#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final IntLongPair first = IntLongPair.builder().leftContent(1).rightContent(2L).build();
+		final IntLongPair second = new IntLongPair();
+		second.setLeftContent(2);
+		second.setRightContent(1L);
+
+		final IntLongPair third = new IntLongPair(1, 2L);
+
+		final IntLongPair fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link IntLongPair#toPair()} and {@link IntLongPair#of(Pair)}
+	 */
+	@Test
+	public void testToPairAndOf()
+	{
+		final IntLongPair intLongPair = new IntLongPair(3, Long.MAX_VALUE);
+		final Pair<Integer, Long> pair = intLongPair.toPair();
+
+		assertEquals(new Pair<>(3, Long.MAX_VALUE), pair);
+		assertEquals(pair.hashCode(), intLongPair.hashCode());
+		assertEquals(intLongPair, IntLongPair.of(pair));
+	}
+
+	/**
+	 * Test method for {@link IntLongPair}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(IntLongPair.class);
+	}
+
+}
@@ -25,6 +25,7 @@
 package io.github.astrapi69.collection.pair;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -32,6 +33,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.meanbean.test.BeanTester;
 
+import io.github.astrapi69.collection.compact.CompactImmutableMap;
 import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
 import io.github.astrapi69.test.object.Customer;
 import io.github.astrapi69.test.object.Employee;
@@ -91,4 +93,30 @@ public class KeyMapPairTest
 		beanTester.testBean(KeyMapPair.class);
 	}
 
+	/**
+	 * Test method for {@link KeyMapPair.KeyMapPairBuilder#entry(Object, Object)} and
+	 * {@link KeyMapPair.KeyMapPairBuilder#compact()}
+	 */
+	@Test
+	public void testBuilderWithCompactMap()
+	{
+		final Map<String, Integer> map = new HashMap<>();
+		map.put("a", 1);
+		map.put("b", 2);
+
+		final KeyMapPair<String, String, Integer> compact = KeyMapPair
+			.<String, String, Integer> builder().key("key").values(map).compact().build();
+		assertEquals(CompactImmutableMap.class, compact.getValues().getClass());
+		assertEquals(map, compact.getValues());
+
+		final KeyMapPair<String, String, Integer> entries = KeyMapPair
+			.<String, String, Integer> builder().key("key").values(map).entry("c", 3).entry("a", 4)
+			.build();
+		assertEquals(CompactImmutableMap.class, entries.getValues().getClass());
+		assertEquals(Map.of("a", 4, "b", 2, "c", 3), entries.getValues());
+
+		final KeyMapPair<String, String, Integer> plain = KeyMapPair
+			.<String, String, Integer> builder().key("key").values(map).build();
+		assertSame(map, plain.getValues());
+	}
 }
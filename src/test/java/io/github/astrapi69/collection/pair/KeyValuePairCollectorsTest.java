@@ -0,0 +1,135 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link KeyValuePairCollectors}
+ */
+public class KeyValuePairCollectorsTest
+{
+
+	/**
+	 * Test method for {@link KeyValuePairCollectors#toMap()}
+	 */
+	@Test
+	public void testToMap()
+	{
+		final Map<String, Integer> map = Stream
+			.of(new KeyValuePair<>("a", 1), new KeyValuePair<>("b", 2),
+				new KeyValuePair<>("a", 3), new KeyValuePair<String, Integer>("c", null))
+			.collect(KeyValuePairCollectors.toMap());
+		assertEquals(3, map.size());
+		assertEquals(Integer.valueOf(3), map.get("a"));
+		assertTrue(map.containsKey("c"));
+		assertNull(map.get("c"));
+	}
+
+	/**
+	 * Test method for {@link KeyValuePairCollectors#toMap(BinaryOperator)} and
+	 * {@link KeyValuePairCollectors#toMap(BinaryOperator, Supplier)}
+	 */
+	@Test
+	public void testToMapWithMergeFunction()
+	{
+		final Map<Integer, Integer> map = IntStream.range(0, 10000).parallel()
+			.mapToObj(i -> new KeyValuePair<>(i % 10, 1))
+			.collect(KeyValuePairCollectors.toMap(Integer::sum));
+		assertEquals(10, map.size());
+		map.values().forEach(value -> assertEquals(Integer.valueOf(1000), value));
+
+		final TreeMap<String, String> treeMap = Stream
+			.of(new KeyValuePair<>("b", "x"), new KeyValuePair<>("a", "y"),
+				new KeyValuePair<>("b", "z"))
+			.collect(KeyValuePairCollectors.toMap(String::concat, TreeMap::new));
+		assertEquals(Arrays.asList("a", "b"), new ArrayList<>(treeMap.keySet()));
+		assertEquals("xz", treeMap.get("b"));
+	}
+
+	/**
+	 * Test method for {@link KeyValuePairCollectors#toMap(BinaryOperator)} and
+	 * {@link KeyValuePairCollectors#toConcurrentMap(BinaryOperator)} with a merge function that
+	 * returns null
+	 */
+	@Test
+	public void testMergeFunctionReturnsNull()
+	{
+		final List<KeyValuePair<String, String>> keyValuePairs = Arrays.asList(
+			new KeyValuePair<>("a", "x"), new KeyValuePair<>("b", "y"),
+			new KeyValuePair<>("a", "z"));
+		final BinaryOperator<String> removing = (previous, value) -> null;
+
+		final Map<String, String> map = keyValuePairs.stream()
+			.collect(KeyValuePairCollectors.toMap(removing));
+		assertFalse(map.containsKey("a"));
+		assertEquals(Map.of("b", "y"), map);
+		assertEquals(map, keyValuePairs.stream()
+			.collect(KeyValuePairCollectors.toConcurrentMap(removing)));
+		assertEquals(map, KeyValuePair.toMap(keyValuePairs, removing, HashMap::new));
+	}
+
+	/**
+	 * Test method for {@link KeyValuePairCollectors#toConcurrentMap(BinaryOperator)} and
+	 * {@link KeyValuePairCollectors#toConcurrentMap(BinaryOperator, Supplier)}
+	 */
+	@Test
+	public void testToConcurrentMap()
+	{
+		final List<KeyValuePair<Integer, Long>> keyValuePairs = new ArrayList<>();
+		for (int i = 0; i < 10000; i++)
+		{
+			keyValuePairs.add(new KeyValuePair<>(i % 10, (long)i));
+		}
+		final ConcurrentMap<Integer, Long> map = keyValuePairs.parallelStream()
+			.collect(KeyValuePairCollectors.toConcurrentMap(Long::sum));
+		assertEquals(10, map.size());
+		assertEquals(Long.valueOf(10000L * 9999 / 2),
+			map.values().stream().reduce(0L, Long::sum));
+
+		final ConcurrentSkipListMap<Integer, Long> sortedMap = keyValuePairs.parallelStream()
+			.collect(KeyValuePairCollectors.toConcurrentMap(Long::max, ConcurrentSkipListMap::new));
+		assertEquals(Integer.valueOf(0), sortedMap.firstKey());
+		assertEquals(Long.valueOf(9999L), sortedMap.get(9));
+	}
+}
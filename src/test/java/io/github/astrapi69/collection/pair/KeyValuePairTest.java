@@ -27,13 +27,19 @@ package io.github.astrapi69.collection.pair;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
 
 import org.junit.jupiter.api.Test;
 
@@ -156,6 +162,50 @@ public class KeyValuePairTest
 		assertTrue(map.size() == 4);
 	}
 
+	/**
+	 * Test method for {@link KeyValuePair#toMap(java.util.Collection, BinaryOperator)} and
+	 * {@link KeyValuePair#toMap(java.util.Collection, BinaryOperator, IntFunction)}
+	 */
+	@Test
+	public void testToMapWithMergeFunction()
+	{
+		List<KeyValuePair<String, Integer>> list = new ArrayList<>();
+		list.add(new KeyValuePair<>("b", 1));
+		list.add(new KeyValuePair<>("a", 2));
+		list.add(new KeyValuePair<>("b", 3));
+		list.add(new KeyValuePair<>("c", null));
+
+		Map<String, Integer> map = KeyValuePair.toMap(list, Integer::sum);
+		assertEquals(3, map.size());
+		assertEquals(Integer.valueOf(4), map.get("b"));
+		assertEquals(Integer.valueOf(2), map.get("a"));
+		assertTrue(map.containsKey("c"));
+
+		LinkedHashMap<String, Integer> linkedMap = KeyValuePair.toMap(list, Integer::max,
+			LinkedHashMap::new);
+		assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(linkedMap.keySet()));
+		assertEquals(Integer.valueOf(3), linkedMap.get("b"));
+	}
+
+	/**
+	 * Test method for {@link KeyValuePair#toConcurrentMap(java.util.Collection, BinaryOperator)}
+	 */
+	@Test
+	public void testToConcurrentMap()
+	{
+		List<KeyValuePair<Integer, Long>> list = new ArrayList<>();
+		for (int i = 0; i < 10000; i++)
+		{
+			list.add(new KeyValuePair<>(i % 100, 1L));
+		}
+		ConcurrentMap<Integer, Long> map = KeyValuePair.toConcurrentMap(list, Long::sum);
+		assertEquals(100, map.size());
+		for (int i = 0; i < 100; i++)
+		{
+			assertEquals(Long.valueOf(100L), map.get(i));
+		}
+	}
+
 	/**
 	 * Test method for {@link KeyValuePair#toString()}
 	 */
@@ -176,4 +226,27 @@ public class KeyValuePairTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for {@link KeyValuePair#reusableBuilder()},
+	 * {@link KeyValuePair.KeyValuePairBuilder#reset()} and
+	 * {@link KeyValuePair.KeyValuePairBuilder#buildAndReset()}
+	 */
+	@Test
+	public void testReusableBuilder()
+	{
+		final KeyValuePair.KeyValuePairBuilder<String, Integer> builder = KeyValuePair
+			.reusableBuilder();
+		final KeyValuePair<String, Integer> first = builder.key("key").value(1).build();
+		final KeyValuePair.KeyValuePairBuilder<String, Integer> reused = KeyValuePair
+			.reusableBuilder();
+		final KeyValuePair<String, Integer> second = reused.value(2).build();
+
+		assertSame(builder, reused);
+		assertEquals(new KeyValuePair<>("key", 1), first);
+		assertEquals(new KeyValuePair<String, Integer>(null, 2), second);
+		assertEquals(new KeyValuePair<String, Integer>(), builder.reset().build());
+		assertEquals(new KeyValuePair<>("key", 1), builder.key("key").value(1).buildAndReset());
+		assertEquals(new KeyValuePair<String, Integer>(), builder.build());
+	}
+
 }
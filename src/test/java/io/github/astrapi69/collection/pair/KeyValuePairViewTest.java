@@ -0,0 +1,219 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link KeyValuePairView}
+ */
+public class KeyValuePairViewTest
+{
+
+	/**
+	 * Test method for {@link KeyValuePair#asKeyValuePairs(Map)}
+	 */
+	@Test
+	public void testAsKeyValuePairs()
+	{
+		final Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("one", 1);
+		map.put("two", 2);
+		map.put("none", null);
+
+		final List<KeyValuePair<String, Integer>> view = KeyValuePair.asKeyValuePairs(map);
+		assertEquals(3, view.size());
+		assertEquals(KeyValuePair.toKeyValuePairs(map), new ArrayList<>(view));
+		assertEquals(new KeyValuePair<>("two", 2), view.get(1));
+		assertEquals(new KeyValuePair<>("none", null), view.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> view.get(3));
+		assertEquals(KeyValuePair.toKeyValuePairs(map), view);
+		assertThrows(UnsupportedOperationException.class,
+			() -> view.add(new KeyValuePair<>("three", 3)));
+
+		final Iterator<KeyValuePair<String, Integer>> iterator = view.iterator();
+		assertEquals(new KeyValuePair<>("one", 1), iterator.next());
+		assertThrows(UnsupportedOperationException.class, iterator::remove);
+
+		// nothing is cached, the indexed access, the size and the iteration read the current map
+		map.put("three", 3);
+		assertEquals(4, view.size());
+		assertEquals(new KeyValuePair<>("three", 3), view.get(3));
+		assertEquals(KeyValuePair.toKeyValuePairs(map), view);
+		assertEquals(KeyValuePair.toKeyValuePairs(map).hashCode(), view.hashCode());
+		map.remove("one");
+		assertEquals(new KeyValuePair<>("two", 2), view.get(0));
+		assertEquals(new ArrayList<>(view), view.stream().collect(Collectors.toList()));
+		assertEquals(3, view.parallelStream().count());
+	}
+
+	/**
+	 * Test method for {@link KeyValuePair#asKeyValuePairs(Properties)}
+	 */
+	@Test
+	public void testAsKeyValuePairsFromProperties()
+	{
+		final Properties properties = new Properties();
+		properties.setProperty("key", "value");
+		final List<KeyValuePair<String, String>> view = KeyValuePair.asKeyValuePairs(properties);
+		assertEquals(1, view.size());
+		assertEquals(new KeyValuePair<>("key", "value"), view.get(0));
+	}
+
+	/**
+	 * Test method for {@link KeyValuePairView#stream()} and {@link KeyValuePairView#forEach}
+	 */
+	@Test
+	public void testStreamAndForEach()
+	{
+		final Map<String, Integer> map = new TreeMap<>();
+		for (int i = 0; i < 100; i++)
+		{
+			map.put("key" + i, i);
+		}
+		final List<KeyValuePair<String, Integer>> view = KeyValuePair.asKeyValuePairs(map);
+		assertEquals(99 * 100 / 2,
+			view.stream().collect(Collectors.summingInt(KeyValuePair::getValue)).intValue());
+
+		final List<KeyValuePair<String, Integer>> visited = new ArrayList<>();
+		view.forEach(visited::add);
+		assertEquals(KeyValuePair.toKeyValuePairs(map), visited);
+	}
+
+	/**
+	 * Test method for {@link KeyValuePairView#spliterator()} and
+	 * {@link KeyValuePairView#parallelStream()}
+	 */
+	@Test
+	public void testSpliterator()
+	{
+		final Map<Integer, Long> map = new HashMap<>();
+		for (int i = 0; i < 10000; i++)
+		{
+			map.put(i, (long)i);
+		}
+		final List<KeyValuePair<Integer, Long>> view = KeyValuePair.asKeyValuePairs(map);
+
+		// the sized entry spliterator of the map is split without a snapshot
+		final Spliterator<KeyValuePair<Integer, Long>> spliterator = view.spliterator();
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+		assertEquals(10000, spliterator.getExactSizeIfKnown());
+		assertNotNull(spliterator.trySplit());
+		assertEquals(Long.valueOf(10000L * 9999 / 2),
+			view.parallelStream().map(KeyValuePair::getValue).reduce(0L, Long::sum));
+
+		// the entry spliterator of a concurrent map is not sized, so a snapshot is split
+		final List<KeyValuePair<Integer, Long>> concurrentView = KeyValuePair
+			.asKeyValuePairs(new ConcurrentHashMap<>(map));
+		final Spliterator<KeyValuePair<Integer, Long>> snapshot = concurrentView.spliterator();
+		assertTrue(snapshot.hasCharacteristics(Spliterator.SIZED));
+		assertTrue(snapshot.hasCharacteristics(Spliterator.SUBSIZED));
+		assertFalse(snapshot.hasCharacteristics(Spliterator.SORTED));
+		final Spliterator<KeyValuePair<Integer, Long>> prefix = snapshot.trySplit();
+		assertNotNull(prefix);
+		assertEquals(5000, prefix.getExactSizeIfKnown());
+		assertEquals(5000, snapshot.getExactSizeIfKnown());
+		assertEquals(Long.valueOf(10000L * 9999 / 2),
+			concurrentView.parallelStream().map(KeyValuePair::getValue).reduce(0L, Long::sum));
+	}
+
+	/**
+	 * Test method for {@link KeyValuePairView#listIterator(int)},
+	 * {@link KeyValuePairView#indexOf(Object)} and {@link KeyValuePairView#lastIndexOf(Object)}
+	 */
+	@Test
+	public void testListIteratorAndIndexOf()
+	{
+		final AtomicInteger walks = new AtomicInteger();
+		final Map<String, Integer> map = new LinkedHashMap<>()
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public Set<Map.Entry<String, Integer>> entrySet()
+			{
+				walks.incrementAndGet();
+				return super.entrySet();
+			}
+		};
+		for (int i = 0; i < 100; i++)
+		{
+			map.put("key" + i, i % 50);
+		}
+		final List<KeyValuePair<String, Integer>> view = KeyValuePair.asKeyValuePairs(map);
+
+		walks.set(0);
+		assertEquals(99, view.indexOf(new KeyValuePair<>("key99", 49)));
+		assertEquals(7, view.lastIndexOf(new KeyValuePair<>("key7", 7)));
+		assertEquals(-1, view.indexOf(new KeyValuePair<>("key7", 8)));
+		assertEquals(-1, view.lastIndexOf("key7"));
+		assertEquals(4, walks.get());
+
+		final List<KeyValuePair<String, Integer>> expected = KeyValuePair.toKeyValuePairs(map)
+			.subList(10, 60);
+		walks.set(0);
+		assertEquals(expected, new ArrayList<>(view.subList(10, 60)));
+		assertEquals(1, walks.get());
+
+		final ListIterator<KeyValuePair<String, Integer>> iterator = view.listIterator(98);
+		assertTrue(iterator.hasPrevious());
+		assertEquals(98, iterator.nextIndex());
+		assertEquals(new KeyValuePair<>("key98", 48), iterator.next());
+		assertEquals(new KeyValuePair<>("key98", 48), iterator.previous());
+		assertEquals(97, iterator.previousIndex());
+		assertEquals(new KeyValuePair<>("key98", 48), iterator.next());
+		assertEquals(new KeyValuePair<>("key99", 49), iterator.next());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+		assertThrows(UnsupportedOperationException.class,
+			() -> iterator.set(new KeyValuePair<>("key", 0)));
+		assertThrows(IndexOutOfBoundsException.class, () -> view.listIterator(101));
+		assertFalse(view.listIterator(0).hasPrevious());
+		assertFalse(view.listIterator(100).hasNext());
+	}
+}
@@ -0,0 +1,182 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link LazyBox}.
+ */
+public class LazyBoxTest
+{
+
+	/**
+	 * Test method for {@link LazyBox#equals(Object)} , {@link LazyBox#hashCode()} and
+	 * {@link LazyBox#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+		final LazyBox<Integer> first = LazyBox.of(() -> 2);
+		final LazyBox<String> second = LazyBox.of(() -> "Hello");
+		final LazyBox<Integer> third = LazyBox.ofValue(2);
+		final LazyBox<Integer> fourth = new LazyBox<>(() -> 2);
+
+		assertEquals("LazyBox(value=<not computed>)", first.toString());
+		assertFalse(first.isComputed());
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+		assertTrue(first.isComputed());
+		assertEquals("LazyBox(value=2)", first.toString());
+		assertEquals(new ImmutableBox<>(2).hashCode(), first.hashCode());
+		assertNotEquals(first, new ImmutableBox<>(2));
+		assertEquals(new ImmutableBox<>(2), first.toImmutableBox());
+	}
+
+	/**
+	 * Test method for {@link LazyBox#getValue()}, {@link LazyBox#get()} and
+	 * {@link LazyBox#isComputed()}
+	 */
+	@Test
+	public void testGetValue()
+	{
+		final AtomicInteger calls = new AtomicInteger();
+		final LazyBox<String> lazyBox = LazyBox.of(() -> "value" + calls.incrementAndGet());
+
+		assertFalse(lazyBox.isComputed());
+		assertEquals(0, calls.get());
+		assertEquals("value1", lazyBox.getValue());
+		assertTrue(lazyBox.isComputed());
+		assertEquals("value1", lazyBox.get());
+		assertEquals("value1", lazyBox.getValue());
+		assertEquals(1, calls.get());
+		assertTrue(LazyBox.ofValue("value").isComputed());
+	}
+
+	/**
+	 * Test method for {@link LazyBox#getValue()} with a failing supplier
+	 */
+	@Test
+	public void testGetValueWithFailingSupplier()
+	{
+		final AtomicInteger calls = new AtomicInteger();
+		final LazyBox<String> lazyBox = LazyBox.of(() -> {
+			if (calls.incrementAndGet() == 1)
+			{
+				throw new IllegalStateException("not ready");
+			}
+			return "value";
+		});
+
+		assertThrows(IllegalStateException.class, lazyBox::getValue);
+		assertFalse(lazyBox.isComputed());
+		assertEquals("value", lazyBox.getValue());
+		assertEquals(2, calls.get());
+
+		final LazyBox<String> nullBox = LazyBox.of(() -> null);
+		assertThrows(NullPointerException.class, nullBox::getValue);
+		assertFalse(nullBox.isComputed());
+		assertThrows(NullPointerException.class, () -> LazyBox.of(null));
+		assertThrows(NullPointerException.class, () -> LazyBox.ofValue(null));
+	}
+
+	/**
+	 * Test method for {@link LazyBox#getValue()} with concurrent callers
+	 *
+	 * @throws Exception
+	 *             is thrown if a task fails
+	 */
+	@Test
+	public void testConcurrentGetValue() throws Exception
+	{
+		final AtomicInteger calls = new AtomicInteger();
+		final CountDownLatch start = new CountDownLatch(1);
+		final LazyBox<Object> lazyBox = LazyBox.of(() -> {
+			calls.incrementAndGet();
+			return new Object();
+		});
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try
+		{
+			final List<Future<Object>> futures = new ArrayList<>();
+			for (int task = 0; task < 4; task++)
+			{
+				futures.add(executorService.submit(() -> {
+					start.await();
+					return lazyBox.getValue();
+				}));
+			}
+			start.countDown();
+			final Object value = lazyBox.getValue();
+			for (final Future<Object> future : futures)
+			{
+				assertSame(value, future.get());
+			}
+		}
+		finally
+		{
+			executorService.shutdown();
+		}
+		assertEquals(1, calls.get());
+	}
+
+	/**
+	 * Test method for {@link LazyBox#map(java.util.function.Function)}
+	 */
+	@Test
+	public void testMap()
+	{
+		final LazyBox<String> lazyBox = LazyBox.of(() -> "value");
+		final LazyBox<Integer> length = lazyBox.map(String::length);
+
+		assertFalse(lazyBox.isComputed());
+		assertFalse(length.isComputed());
+		assertEquals(Integer.valueOf(5), length.getValue());
+		assertTrue(lazyBox.isComputed());
+		assertThrows(NullPointerException.class, () -> lazyBox.map(null));
+	}
+
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link LongBox}.
+ */
+public class LongBoxTest
+{
+
+	/**
+	 * Test method for {@link LongBox#equals(Object)} , {@link LongBox#hashCode()} and
+	 * {@link LongBox#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+		final LongBox first = LongBox.builder().value(2L).build();
+		final LongBox second = new LongBox(1L);
+		final LongBox third = new LongBox(2L);
+		final LongBox fourth = new LongBox(2L);
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+		assertEquals(new ValueBox<>(2L).hashCode(), first.hashCode());
+	}
+
+	/**
+	 * Test method for the in place operations of {@link LongBox}
+	 */
+	@Test
+	public void testOperations()
+	{
+		final LongBox box = new LongBox(5L);
+		assertEquals(5L, box.getAndIncrement());
+		assertEquals(7L, box.incrementAndGet());
+		assertEquals(7L, box.getAndDecrement());
+		assertEquals(5L, box.decrementAndGet());
+		assertEquals(15L, box.addAndGet(10L));
+		assertEquals(15L, box.getAndAdd(-20L));
+		assertEquals(-5L, box.getValue());
+		assertEquals(3L, box.max(3L));
+		assertEquals(3L, box.max(1L));
+		assertEquals(-2L, box.min(-2L));
+		assertEquals(-2L, box.min(0L));
+
+		final LongBox counter = new LongBox();
+		IntStream.range(0, 1000).forEach(i -> counter.incrementAndGet());
+		assertEquals(1000L, counter.getValue());
+	}
+
+	/**
+	 * Test method for {@link LongBox#of(ValueBox)} and {@link LongBox#toValueBox()}
+	 */
+	@Test
+	public void testValueBoxConversion()
+	{
+		assertEquals(new ValueBox<>(2L), new LongBox(2L).toValueBox());
+		assertEquals(new LongBox(2L), LongBox.of(new ValueBox<>(2L)));
+		assertEquals(new LongBox(2L), new LongBox(2L).toBuilder().build());
+		assertThrows(NullPointerException.class, () -> LongBox.of(new ValueBox<>()));
+	}
+
+	/**
+	 * Test method for {@link LongBox}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(LongBox.class);
+	}
+
+}
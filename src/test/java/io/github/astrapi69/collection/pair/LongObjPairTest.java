@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import io.github.astrapi69.evaluate.object.evaluator.EqualsHashCodeAndToStringEvaluator;
+
+/**
+ * The unit test class for the class {@link LongObjPair}.
+ */
+public class LongObjPairTest
+{
+
+	/**
+	 * Test method for {@link LongObjPair#equals(Object)} , {@link LongObjPair#hashCode()} and
+	 * {@link LongObjPair#toString()}
+	 */
+	@Test
+	public void testEqualsHashcodeAndToString()
+	{
+		boolean expected;
+		boolean actual;
+
+		final LongObjPair<String> first = LongObjPair.<String> builder().leftContent(1L)
+			.rightContent("value").build();
+		final LongObjPair<String> second = new LongObjPair<>();
+		second.setLeftContent(1L);
+		second.setRightContent("somevalue");
+
+		final LongObjPair<String> third = new LongObjPair<>(1L, "value");
+
+		final LongObjPair<String> fourth = first.toBuilder().build();
+
+		actual = EqualsHashCodeAndToStringEvaluator.evaluateEqualsHashcodeAndToString(first, second,
+			third, fourth);
+		expected = true;
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for {@link LongObjPair#toPair()} and {@link LongObjPair#of(Pair)}
+	 */
+	@Test
+	public void testToPairAndOf()
+	{
+		final LongObjPair<String> longObjPair = new LongObjPair<>(5L, null);
+		final Pair<Long, String> pair = longObjPair.toPair();
+
+		assertEquals(new Pair<Long, String>(5L, null), pair);
+		assertEquals(pair.hashCode(), longObjPair.hashCode());
+		assertEquals(longObjPair, LongObjPair.of(pair));
+		assertThrows(NullPointerException.class,
+			() -> LongObjPair.of(new Pair<Long, String>(null, "value")));
+	}
+
+	/**
+	 * Test method for {@link LongObjPair}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(LongObjPair.class);
+	}
+
+}
@@ -25,6 +25,7 @@
 package io.github.astrapi69.collection.pair;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 import org.meanbean.test.BeanTester;
@@ -76,4 +77,25 @@ public class PairTest
 		beanTester.testBean(Pair.class);
 	}
 
+	/**
+	 * Test method for {@link Pair#reusableBuilder()}, {@link Pair.PairBuilder#reset()} and
+	 * {@link Pair.PairBuilder#buildAndReset()}
+	 */
+	@Test
+	public void testReusableBuilder()
+	{
+		final Pair.PairBuilder<String, Integer> builder = Pair.reusableBuilder();
+		final Pair<String, Integer> first = builder.leftContent("left").rightContent(1).build();
+		final Pair.PairBuilder<String, Integer> reused = Pair.reusableBuilder();
+		final Pair<String, Integer> second = reused.rightContent(2).build();
+
+		assertSame(builder, reused);
+		assertEquals(new Pair<>("left", 1), first);
+		assertEquals(new Pair<String, Integer>(null, 2), second);
+		assertEquals(new Pair<String, Integer>(null, null), builder.reset().build());
+		assertEquals(new Pair<>("left", 1),
+			builder.leftContent("left").rightContent(1).buildAndReset());
+		assertEquals(new Pair<String, Integer>(null, null), builder.build());
+	}
+
 }
@@ -25,6 +25,7 @@
 package io.github.astrapi69.collection.pair;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -93,4 +94,28 @@ public class QuattroTest
 		beanTester.testBean(Quattro.class);
 	}
 
+	/**
+	 * Test method for {@link Quattro#reusableBuilder()}, {@link Quattro.QuattroBuilder#reset()}
+	 * and {@link Quattro.QuattroBuilder#buildAndReset()}
+	 */
+	@Test
+	public void testReusableBuilder()
+	{
+		final Quattro.QuattroBuilder<String, String, String, String> builder = Quattro
+			.reusableBuilder();
+		final Quattro<String, String, String, String> first = builder.topLeft("tl").topRight("tr")
+			.bottomLeft("bl").bottomRight("br").build();
+		final Quattro.QuattroBuilder<String, String, String, String> reused = Quattro
+			.reusableBuilder();
+		final Quattro<String, String, String, String> second = reused.topLeft("tl").build();
+
+		assertSame(builder, reused);
+		assertEquals(new Quattro<>("bl", "br", "tl", "tr"), first);
+		assertEquals(new Quattro<String, String, String, String>(null, null, "tl", null), second);
+		assertEquals(new Quattro<String, String, String, String>(), builder.reset().build());
+		assertEquals(new Quattro<>("bl", "br", "tl", "tr"), builder.topLeft("tl").topRight("tr")
+			.bottomLeft("bl").bottomRight("br").buildAndReset());
+		assertEquals(new Quattro<String, String, String, String>(), builder.build());
+	}
+
 }
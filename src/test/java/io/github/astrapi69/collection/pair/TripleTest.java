@@ -25,6 +25,7 @@
 package io.github.astrapi69.collection.pair;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -86,4 +87,27 @@ public class TripleTest
 		final BeanTester beanTester = new BeanTester();
 		beanTester.testBean(Triple.class);
 	}
+
+	/**
+	 * Test method for {@link Triple#reusableBuilder()}, {@link Triple.TripleBuilder#reset()} and
+	 * {@link Triple.TripleBuilder#buildAndReset()}
+	 */
+	@Test
+	public void testReusableBuilder()
+	{
+		final Triple.TripleBuilder<String, Integer, Long> builder = Triple.reusableBuilder();
+		final Triple<String, Integer, Long> first = builder.left("left").middle(1).right(2L)
+			.build();
+		final Triple.TripleBuilder<String, Integer, Long> reused = Triple.reusableBuilder();
+		final Triple<String, Integer, Long> second = reused.middle(3).build();
+
+		assertSame(builder, reused);
+		assertEquals(new Triple<>("left", 1, 2L), first);
+		assertEquals(new Triple<String, Integer, Long>(null, 3, null), second);
+		assertEquals(new Triple<String, Integer, Long>(null, null, null), builder.reset().build());
+		assertEquals(new Triple<>("left", 1, 2L),
+			builder.left("left").middle(1).right(2L).buildAndReset());
+		assertEquals(new Triple<String, Integer, Long>(null, null, null), builder.build());
+	}
+
 }
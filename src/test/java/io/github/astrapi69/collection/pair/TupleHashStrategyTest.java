@@ -0,0 +1,135 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link TupleHashStrategy}
+ */
+public class TupleHashStrategyTest
+{
+
+	/**
+	 * Computes the hash code of the given grid coordinate with the given strategy
+	 *
+	 * @param strategy
+	 *            the strategy
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the hash code
+	 */
+	private static int hash(final TupleHashStrategy strategy, final int x, final int y)
+	{
+		int result = strategy.seed();
+		result = strategy.combine(result, Integer.hashCode(x));
+		result = strategy.combine(result, Integer.hashCode(y));
+		return strategy.finish(result);
+	}
+
+	/**
+	 * Test method for {@link TupleHashStrategy#current()}
+	 */
+	@Test
+	public void testCurrent()
+	{
+		assertEquals(TupleHashStrategy.LEGACY, TupleHashStrategy.current());
+		assertEquals((59 + 1) * 59 + 2, new Pair<>(1, 2).hashCode());
+		assertEquals((59 + 43) * 59 + 43, new Pair<>(null, null).hashCode());
+		assertEquals(new Pair<>(1, 2).hashCode(), new IntIntPair(1, 2).hashCode());
+		assertEquals(new Triple<>(1, 2, 3.0d).hashCode(),
+			new IntIntDoubleTriple(1, 2, 3.0d).hashCode());
+	}
+
+	/**
+	 * Test method for {@link TupleHashStrategy#resolve(String)}
+	 */
+	@Test
+	public void testResolve()
+	{
+		assertEquals(TupleHashStrategy.LEGACY, TupleHashStrategy.resolve(null));
+		assertEquals(TupleHashStrategy.LEGACY, TupleHashStrategy.resolve(" "));
+		assertEquals(TupleHashStrategy.MIXED, TupleHashStrategy.resolve("mixed"));
+		assertEquals(TupleHashStrategy.LEGACY, TupleHashStrategy.resolve(" Legacy "));
+		assertThrows(IllegalArgumentException.class, () -> TupleHashStrategy.resolve("other"));
+	}
+
+	/**
+	 * Test method for {@link TupleHashStrategy#resolveOrLegacy(String)}
+	 */
+	@Test
+	public void testResolveOrLegacy()
+	{
+		assertEquals(TupleHashStrategy.LEGACY, TupleHashStrategy.resolveOrLegacy(null));
+		assertEquals(TupleHashStrategy.MIXED, TupleHashStrategy.resolveOrLegacy("MIXED"));
+		assertEquals(TupleHashStrategy.LEGACY, TupleHashStrategy.resolveOrLegacy("murmur"));
+	}
+
+	/**
+	 * Test method for {@link TupleHashStrategy#hashOf(Object)}
+	 */
+	@Test
+	public void testHashOf()
+	{
+		assertEquals(43, TupleHashStrategy.hashOf(null));
+		assertEquals("value".hashCode(), TupleHashStrategy.hashOf("value"));
+	}
+
+	/**
+	 * Test method for {@link TupleHashStrategy#MIXED} with the coordinates of a grid
+	 */
+	@Test
+	public void testMixedDistribution()
+	{
+		final Set<Integer> legacyHashes = new HashSet<>();
+		final Set<Integer> mixedHashes = new HashSet<>();
+		final Set<Integer> mixedBuckets = new HashSet<>();
+		for (int x = 0; x < 100; x++)
+		{
+			for (int y = 0; y < 100; y++)
+			{
+				legacyHashes.add(hash(TupleHashStrategy.LEGACY, x, y));
+				final int mixed = hash(TupleHashStrategy.MIXED, x, y);
+				mixedHashes.add(mixed);
+				mixedBuckets.add((mixed ^ (mixed >>> 16)) & 16383);
+			}
+		}
+		assertTrue(legacyHashes.size() < 6000);
+		assertEquals(10000, mixedHashes.size());
+		assertTrue(mixedBuckets.size() > 7000);
+		assertNotEquals(hash(TupleHashStrategy.MIXED, 1, 2), hash(TupleHashStrategy.MIXED, 2, 1));
+	}
+
+}
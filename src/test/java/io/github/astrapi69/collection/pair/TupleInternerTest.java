@@ -0,0 +1,139 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link TupleInterner}
+ */
+public class TupleInternerTest
+{
+
+	/**
+	 * Test method for {@link TupleInterner#intern(Object)}
+	 */
+	@Test
+	public void testIntern()
+	{
+		final TupleInterner<ImmutableTriple<String, String, String>> interner = new TupleInterner<>(
+			TupleInterner.DEFAULT_CONCURRENCY_LEVEL);
+		final ImmutableTriple<String, String, String> first = new ImmutableTriple<>("a", "b", "c");
+		final ImmutableTriple<String, String, String> second = new ImmutableTriple<>("a", "b", "c");
+		final ImmutableTriple<String, String, String> other = new ImmutableTriple<>("a", "b", "d");
+
+		assertNotSame(first, second);
+		assertSame(first, interner.intern(first));
+		assertSame(first, interner.intern(second));
+		assertSame(other, interner.intern(other));
+		assertTrue(interner.contains(second));
+		assertEquals(2, interner.size());
+		assertThrows(NullPointerException.class, () -> interner.intern(null));
+		assertThrows(IllegalArgumentException.class, () -> new TupleInterner<>(0));
+	}
+
+	/**
+	 * Test method for {@link TupleInterner#getHitCount()}, {@link TupleInterner#getMissCount()}
+	 * and {@link TupleInterner#getHitRate()}
+	 */
+	@Test
+	public void testStatistics()
+	{
+		final TupleInterner<ImmutableKeyValuePair<String, Integer>> interner = new TupleInterner<>(
+			1);
+		assertEquals(0.0d, interner.getHitRate());
+		for (int i = 0; i < 10; i++)
+		{
+			interner.intern(new ImmutableKeyValuePair<>("key", i % 2));
+		}
+		assertEquals(8, interner.getHitCount());
+		assertEquals(2, interner.getMissCount());
+		assertEquals(0.8d, interner.getHitRate(), 1e-9);
+		assertEquals("TupleInterner(size=2, hitCount=8, missCount=2)", interner.toString());
+
+		interner.resetStatistics();
+		interner.clear();
+		assertEquals(0, interner.getHitCount());
+		assertEquals(0, interner.size());
+		assertFalse(interner.contains(new ImmutableKeyValuePair<>("key", 0)));
+	}
+
+	/**
+	 * Test method for {@link TupleInterner#intern(Object)} with concurrent callers
+	 *
+	 * @throws Exception
+	 *             is thrown if a task fails
+	 */
+	@Test
+	public void testConcurrentIntern() throws Exception
+	{
+		final TupleInterner<ImmutablePair<Integer, Integer>> interner = new TupleInterner<>();
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try
+		{
+			final List<Future<List<ImmutablePair<Integer, Integer>>>> futures = new ArrayList<>();
+			for (int task = 0; task < 4; task++)
+			{
+				futures.add(executorService.submit(() -> {
+					final List<ImmutablePair<Integer, Integer>> canonicals = new ArrayList<>();
+					for (int i = 0; i < 1000; i++)
+					{
+						canonicals.add(interner.intern(new ImmutablePair<>(i % 100, i % 7)));
+					}
+					return canonicals;
+				}));
+			}
+			final List<ImmutablePair<Integer, Integer>> expected = futures.get(0).get();
+			for (final Future<List<ImmutablePair<Integer, Integer>>> future : futures)
+			{
+				final List<ImmutablePair<Integer, Integer>> actual = future.get();
+				for (int i = 0; i < actual.size(); i++)
+				{
+					assertSame(expected.get(i), actual.get(i));
+				}
+			}
+			assertEquals(700, interner.getMissCount());
+			assertEquals(3300, interner.getHitCount());
+		}
+		finally
+		{
+			executorService.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,195 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link TupleSerializationProxy}
+ */
+public class TupleSerializationProxyTest
+{
+
+	/**
+	 * Serializes and deserializes the given tuple and checks that the copy is equal
+	 *
+	 * @param tuple
+	 *            the tuple
+	 */
+	private static void assertRoundtrip(final Serializable tuple)
+	{
+		final Serializable copy = SerializationUtils.roundtrip(tuple);
+		assertNotSame(tuple, copy);
+		assertEquals(tuple.getClass(), copy.getClass());
+		assertEquals(tuple, copy);
+		assertEquals(tuple.hashCode(), copy.hashCode());
+	}
+
+	/**
+	 * Test method for the serialization of all tuple classes
+	 */
+	@Test
+	public void testRoundtrip()
+	{
+		final List<String> list = new ArrayList<>(Arrays.asList("first", null, "third"));
+		final Set<Integer> set = new LinkedHashSet<>(Arrays.asList(3, 1, 2));
+		final Map<String, Long> map = new LinkedHashMap<>();
+		map.put("one", 1L);
+		map.put("none", null);
+
+		assertRoundtrip(new Pair<>("left", 1));
+		assertRoundtrip(new Pair<>(null, null));
+		assertRoundtrip(new Triple<>(1L, 2.5d, Boolean.TRUE));
+		assertRoundtrip(new Quattro<>("bl", new BigDecimal("1.5"), 'c', (short)4));
+		assertRoundtrip(new KeyValuePair<>("key", "value"));
+		assertRoundtrip(new KeyValuesPair<>("key", list));
+		assertRoundtrip(new KeyValuesPair<String, String>("key", null));
+		assertRoundtrip(new KeySetPair<>("key", set));
+		assertRoundtrip(new KeyMapPair<>("key", map));
+		assertRoundtrip(new ValueBox<>("value"));
+		assertRoundtrip(new AtomicValueBox<>("value"));
+		assertRoundtrip(new IntBox(-7));
+		assertRoundtrip(new LongBox(Long.MAX_VALUE));
+		assertRoundtrip(new DoubleBox(Double.NaN));
+		assertRoundtrip(LazyBox.of(() -> "lazy"));
+		assertRoundtrip(new ImmutableBox<>(42));
+		assertRoundtrip(new IntIntPair(-1, Integer.MAX_VALUE));
+		assertRoundtrip(new IntLongPair(1, Long.MIN_VALUE));
+		assertRoundtrip(new LongObjPair<>(7L, "value"));
+		assertRoundtrip(new IntIntDoubleTriple(1, 2, Double.NaN));
+		assertRoundtrip(new ImmutablePair<>("left", 1));
+		assertRoundtrip(new ImmutableTriple<>("left", 2, 3L));
+		assertRoundtrip(new ImmutableQuattro<>("bl", "br", "tl", "tr"));
+		assertRoundtrip(new ImmutableKeyValuePair<>("key", "value"));
+		assertRoundtrip(new ImmutableKeyValuesPair<>("key", list));
+		assertRoundtrip(new ImmutableKeySetPair<>("key", set));
+		assertRoundtrip(new ImmutableKeyMapPair<>("key", map));
+	}
+
+	/**
+	 * Test method for the serialization of contents that are written as objects
+	 */
+	@Test
+	public void testRoundtripWithObjectContents()
+	{
+		final char[] chars = new char[30000];
+		Arrays.fill(chars, '€');
+		final String longString = new String(chars);
+
+		assertRoundtrip(new Pair<>(longString, new Pair<>("nested", 1)));
+		assertRoundtrip(new KeyValuesPair<>("key", List.of(new Triple<>("a", "b", "c"))));
+	}
+
+	/**
+	 * Test method for the size of the serialized form
+	 */
+	@Test
+	public void testSize()
+	{
+		final Pair<String, Integer> pair = new Pair<>("key", 1);
+		final Pair<String, Integer> defaultSerialized = new DefaultSerializedPair<>("key", 1);
+
+		final int compactLength = SerializationUtils.serialize(pair).length;
+		final int defaultLength = SerializationUtils.serialize(defaultSerialized).length;
+		assertTrue(compactLength * 2 < defaultLength,
+			"compact: " + compactLength + ", default: " + defaultLength);
+	}
+
+	/**
+	 * Test method for {@link TupleSerializationProxy#readExternal(java.io.ObjectInput)} with an
+	 * unsupported version
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	@Test
+	public void testUnsupportedVersion() throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeByte(TupleSerializationProxy.VERSION + 1);
+			out.writeByte(TupleSerializationProxy.PAIR);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(
+			new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			assertThrows(InvalidObjectException.class,
+				() -> new TupleSerializationProxy().readExternal(in));
+		}
+	}
+
+	/**
+	 * A subclass of {@link Pair} that is written with the default serialization, as the private
+	 * method writeReplace of {@link Pair} is not inherited
+	 *
+	 * @param <K>
+	 *            the generic type of the left content
+	 * @param <V>
+	 *            the generic type of the right content
+	 */
+	private static class DefaultSerializedPair<K, V> extends Pair<K, V>
+	{
+
+		/** The serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Instantiates a new {@link DefaultSerializedPair}
+		 *
+		 * @param leftContent
+		 *            the left content
+		 * @param rightContent
+		 *            the right content
+		 */
+		DefaultSerializedPair(final K leftContent, final V rightContent)
+		{
+			super(leftContent, rightContent);
+		}
+	}
+
+}
@@ -0,0 +1,238 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.KeyMapPair;
+import io.github.astrapi69.collection.pair.KeyValuePair;
+import io.github.astrapi69.collection.pair.KeyValuesPair;
+
+/**
+ * The unit test class for the class {@link PairSorter}
+ */
+public class PairSorterTest
+{
+
+	/**
+	 * Creates a list of key value pairs with random keys from the given bound and the insertion
+	 * index as value, so the stability of a sort can be verified
+	 */
+	private static List<KeyValuePair<Integer, Integer>> newKeyValuePairs(final int size,
+		final int bound)
+	{
+		final Random random = new Random(42);
+		final List<KeyValuePair<Integer, Integer>> keyValuePairs = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			keyValuePairs.add(new KeyValuePair<>(random.nextInt(bound) - bound / 2, i));
+		}
+		return keyValuePairs;
+	}
+
+	/**
+	 * Test method for {@link PairSorter#parallelSort(List, Comparator)}
+	 */
+	@Test
+	public void testParallelSort()
+	{
+		final List<KeyValuePair<Integer, Integer>> keyValuePairs = newKeyValuePairs(100000, 1000);
+		final List<KeyValuePair<Integer, Integer>> expected = new ArrayList<>(keyValuePairs);
+		expected.sort(Comparator.comparing(KeyValuePair::getKey));
+
+		PairSorter.parallelSort(keyValuePairs, Comparator.comparing(KeyValuePair::getKey));
+		assertEquals(expected, keyValuePairs);
+
+		final List<KeyValuePair<Integer, Integer>> linkedList = new LinkedList<>(
+			newKeyValuePairs(1000, 10));
+		final List<KeyValuePair<Integer, Integer>> expectedLinked = new ArrayList<>(linkedList);
+		expectedLinked.sort(Comparator.comparing(KeyValuePair::getKey));
+		PairSorter.parallelSortKeyValuePairs(linkedList);
+		assertEquals(expectedLinked, linkedList);
+	}
+
+	/**
+	 * Test method for {@link PairSorter#parallelSortKeyValuesPairs(List)} and
+	 * {@link PairSorter#parallelSortKeyMapPairs(List)}
+	 */
+	@Test
+	public void testParallelSortWithKeyComparators()
+	{
+		final List<KeyValuesPair<String, Integer>> keyValuesPairs = new ArrayList<>(
+			Arrays.asList(new KeyValuesPair<>("c", List.of(1)),
+				new KeyValuesPair<>("a", List.of(2)), new KeyValuesPair<>("b", List.of(3)),
+				new KeyValuesPair<>("a", List.of(4))));
+		PairSorter.parallelSortKeyValuesPairs(keyValuesPairs);
+		assertEquals(Arrays.asList(new KeyValuesPair<>("a", List.of(2)),
+			new KeyValuesPair<>("a", List.of(4)), new KeyValuesPair<>("b", List.of(3)),
+			new KeyValuesPair<>("c", List.of(1))), keyValuesPairs);
+
+		final List<KeyMapPair<String, String, Integer>> keyMapPairs = new ArrayList<>(
+			Arrays.asList(new KeyMapPair<>("b", Map.of("x", 1)),
+				new KeyMapPair<>("a", Map.of("y", 2))));
+		PairSorter.parallelSortKeyMapPairs(keyMapPairs);
+		assertEquals("a", keyMapPairs.get(0).getKey());
+		assertEquals("b", keyMapPairs.get(1).getKey());
+	}
+
+	/**
+	 * Test method for {@link PairSorter#radixSortByIntKey(List, java.util.function.ToIntFunction)}
+	 */
+	@Test
+	public void testRadixSortByIntKey()
+	{
+		final List<KeyValuePair<Integer, Integer>> keyValuePairs = newKeyValuePairs(10000, 1000);
+		keyValuePairs.add(new KeyValuePair<>(Integer.MIN_VALUE, -1));
+		keyValuePairs.add(new KeyValuePair<>(Integer.MAX_VALUE, -2));
+		final List<KeyValuePair<Integer, Integer>> expected = new ArrayList<>(keyValuePairs);
+		expected.sort(Comparator.comparing(KeyValuePair::getKey));
+
+		PairSorter.radixSortByIntKey(keyValuePairs, KeyValuePair::getKey);
+		assertEquals(expected, keyValuePairs);
+	}
+
+	/**
+	 * Test method for
+	 * {@link PairSorter#radixSortByLongKey(List, java.util.function.ToLongFunction)}
+	 */
+	@Test
+	public void testRadixSortByLongKey()
+	{
+		final Random random = new Random(7);
+		final List<KeyValuePair<Long, Integer>> keyValuePairs = new ArrayList<>();
+		for (int i = 0; i < 10000; i++)
+		{
+			keyValuePairs.add(new KeyValuePair<>(random.nextLong() % 100, i));
+		}
+		keyValuePairs.add(new KeyValuePair<>(Long.MIN_VALUE, -1));
+		keyValuePairs.add(new KeyValuePair<>(Long.MAX_VALUE, -2));
+		final List<KeyValuePair<Long, Integer>> expected = new ArrayList<>(keyValuePairs);
+		expected.sort(Comparator.comparing(KeyValuePair::getKey));
+
+		PairSorter.radixSortByLongKey(keyValuePairs, KeyValuePair::getKey);
+		assertEquals(expected, keyValuePairs);
+	}
+
+	/**
+	 * Test method for
+	 * {@link PairSorter#radixSortByFixedLengthStringKey(List, java.util.function.Function, int)}
+	 */
+	@Test
+	public void testRadixSortByFixedLengthStringKey()
+	{
+		final Random random = new Random(13);
+		final char[] alphabet = { 'a', 'b', 'Z', 'ä', '€', '0' };
+		final List<KeyValuePair<String, Integer>> keyValuePairs = new ArrayList<>();
+		for (int i = 0; i < 5000; i++)
+		{
+			final char[] key = new char[3];
+			for (int j = 0; j < key.length; j++)
+			{
+				key[j] = alphabet[random.nextInt(alphabet.length)];
+			}
+			keyValuePairs.add(new KeyValuePair<>(new String(key), i));
+		}
+		final List<KeyValuePair<String, Integer>> expected = new ArrayList<>(keyValuePairs);
+		expected.sort(Comparator.comparing(KeyValuePair::getKey));
+
+		PairSorter.radixSortByFixedLengthStringKey(keyValuePairs, KeyValuePair::getKey, 3);
+		assertEquals(expected, keyValuePairs);
+
+		assertThrows(IllegalArgumentException.class,
+			() -> PairSorter.radixSortByFixedLengthStringKey(
+				new ArrayList<>(Arrays.asList(new KeyValuePair<>("ab", 1),
+					new KeyValuePair<>("abc", 2))),
+				KeyValuePair::getKey, 3));
+	}
+
+	/**
+	 * Test method for {@link PairSorter#sortByDerivedKey(List, java.util.function.Function)}
+	 */
+	@Test
+	public void testSortByDerivedKey()
+	{
+		final Collator collator = Collator.getInstance(Locale.GERMAN);
+		final List<KeyValuePair<String, Integer>> keyValuePairs = new ArrayList<>();
+		final String[] keys = { "Zebra", "äpfel", "Apfel", "birne", "Äpfel", "apfel" };
+		for (int i = 0; i < 600; i++)
+		{
+			keyValuePairs.add(new KeyValuePair<>(keys[i % keys.length], i));
+		}
+		final List<KeyValuePair<String, Integer>> expected = new ArrayList<>(keyValuePairs);
+		expected.sort(Comparator.comparing(KeyValuePair::getKey, collator));
+
+		final AtomicInteger derivations = new AtomicInteger();
+		PairSorter.sortByDerivedKey(keyValuePairs, keyValuePair -> {
+			derivations.incrementAndGet();
+			return collator.getCollationKey(keyValuePair.getKey());
+		});
+		assertEquals(expected, keyValuePairs);
+		assertEquals(600, derivations.get());
+
+		final List<KeyValuePair<String, Integer>> linkedList = new LinkedList<>(
+			Arrays.asList(new KeyValuePair<>("b", 1), new KeyValuePair<>("a", 2)));
+		final KeyValuePair<String, Integer> first = linkedList.get(1);
+		PairSorter.sortByDerivedKey(linkedList, KeyValuePair::getKey);
+		assertSame(first, linkedList.get(0));
+	}
+
+	/**
+	 * Test method for
+	 * {@link PairSorter#parallelSortByDerivedKey(List, java.util.function.Function, Comparator)}
+	 */
+	@Test
+	public void testParallelSortByDerivedKey()
+	{
+		final List<KeyValuePair<Integer, Integer>> keyValuePairs = newKeyValuePairs(100000, 1000);
+		final List<KeyValuePair<Integer, Integer>> expected = new ArrayList<>(keyValuePairs);
+		expected.sort(Comparator.comparing(keyValuePair -> String.valueOf(keyValuePair.getKey())));
+
+		final AtomicInteger derivations = new AtomicInteger();
+		PairSorter.parallelSortByDerivedKey(keyValuePairs, keyValuePair -> {
+			derivations.incrementAndGet();
+			return String.valueOf(keyValuePair.getKey());
+		}, Comparator.<String> naturalOrder());
+		assertEquals(expected, keyValuePairs);
+		assertEquals(100000, derivations.get());
+
+		assertThrows(NullPointerException.class,
+			() -> PairSorter.sortByDerivedKey(keyValuePairs, null, Comparator.naturalOrder()));
+	}
+}
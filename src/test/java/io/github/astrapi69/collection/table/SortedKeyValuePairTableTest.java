@@ -0,0 +1,198 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.BiPredicate;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.pair.KeyValuePair;
+
+/**
+ * The unit test class for the class {@link SortedKeyValuePairTable}
+ */
+public class SortedKeyValuePairTableTest
+{
+
+	/**
+	 * Creates a table with the keys 0, 10, 20, ..., 90 and the values "v0", "v10", ...
+	 */
+	private static SortedKeyValuePairTable<Integer, String> newTable()
+	{
+		final List<KeyValuePair<Integer, String>> keyValuePairs = new ArrayList<>();
+		for (int i = 9; 0 <= i; i--)
+		{
+			keyValuePairs.add(new KeyValuePair<>(i * 10, "v" + i * 10));
+		}
+		return SortedKeyValuePairTable.of(keyValuePairs);
+	}
+
+	/**
+	 * Test method for {@link SortedKeyValuePairTable#of(java.util.Collection)} and the lookup
+	 * methods
+	 */
+	@Test
+	public void testOfAndGet()
+	{
+		final SortedKeyValuePairTable<Integer, String> table = newTable();
+		assertEquals(10, table.size());
+		assertFalse(table.isEmpty());
+		assertEquals(Integer.valueOf(0), table.getKey(0));
+		assertEquals("v90", table.getValue(9));
+		assertEquals(new KeyValuePair<>(50, "v50"), table.getKeyValuePair(5));
+		assertEquals("v30", table.get(30));
+		assertNull(table.get(35));
+		assertTrue(table.containsKey(90));
+		assertFalse(table.containsKey(-1));
+		assertEquals(3, table.indexOf(30));
+		assertEquals(-5, table.indexOf(35));
+		assertThrows(IndexOutOfBoundsException.class, () -> table.getKey(10));
+		assertThrows(NullPointerException.class, () -> table.get(null));
+		assertEquals("SortedKeyValuePairTable(size=10)", table.toString());
+	}
+
+	/**
+	 * Test method for {@link SortedKeyValuePairTable#of(java.util.Collection, Comparator)} with
+	 * duplicate keys
+	 */
+	@Test
+	public void testOfWithDuplicateKeys()
+	{
+		final SortedKeyValuePairTable<String, Integer> table = SortedKeyValuePairTable.of(
+			Arrays.asList(new KeyValuePair<>("b", 1), new KeyValuePair<>("a", 2),
+				new KeyValuePair<>("b", 3), new KeyValuePair<>("c", null)),
+			Comparator.reverseOrder());
+		assertEquals(Arrays.asList("c", "b", "a"), table.keys());
+		assertEquals(Arrays.asList(null, 3, 2), table.values());
+		assertThrows(NullPointerException.class, () -> SortedKeyValuePairTable
+			.of(Collections.singletonList(new KeyValuePair<String, String>(null, "value"))));
+	}
+
+	/**
+	 * Test method for {@link SortedKeyValuePairTable#ofSorted(java.util.Collection)}
+	 */
+	@Test
+	public void testOfSorted()
+	{
+		final SortedKeyValuePairTable<String, Integer> table = SortedKeyValuePairTable.ofSorted(
+			Arrays.asList(new KeyValuePair<>("a", 1), new KeyValuePair<>("b", 2)));
+		assertEquals(Integer.valueOf(2), table.get("b"));
+		assertThrows(IllegalArgumentException.class, () -> SortedKeyValuePairTable.ofSorted(
+			Arrays.asList(new KeyValuePair<>("b", 1), new KeyValuePair<>("a", 2))));
+		assertThrows(IllegalArgumentException.class, () -> SortedKeyValuePairTable.ofSorted(
+			Arrays.asList(new KeyValuePair<>("a", 1), new KeyValuePair<>("a", 2))));
+		assertTrue(SortedKeyValuePairTable.<String, Integer> ofSorted(new ArrayList<>()).isEmpty());
+	}
+
+	/**
+	 * Test method for {@link SortedKeyValuePairTable#floor(Object)} and
+	 * {@link SortedKeyValuePairTable#ceiling(Object)}
+	 */
+	@Test
+	public void testFloorAndCeiling()
+	{
+		final SortedKeyValuePairTable<Integer, String> table = newTable();
+		assertEquals(new KeyValuePair<>(30, "v30"), table.floor(35));
+		assertEquals(new KeyValuePair<>(30, "v30"), table.floor(30));
+		assertNull(table.floor(-1));
+		assertEquals(new KeyValuePair<>(40, "v40"), table.ceiling(35));
+		assertEquals(new KeyValuePair<>(90, "v90"), table.ceiling(90));
+		assertNull(table.ceiling(91));
+
+		final SortedKeyValuePairTable<Integer, String> subTable = table.subTable(20, true, 50,
+			true);
+		assertNull(subTable.floor(15));
+		assertNull(subTable.ceiling(55));
+		assertEquals(new KeyValuePair<>(50, "v50"), subTable.floor(85));
+	}
+
+	/**
+	 * Test method for the range methods of {@link SortedKeyValuePairTable}
+	 */
+	@Test
+	public void testRanges()
+	{
+		final SortedKeyValuePairTable<Integer, String> table = newTable();
+		final TreeMap<Integer, String> treeMap = new TreeMap<>();
+		table.forEach(treeMap::put);
+
+		final SortedKeyValuePairTable<Integer, String> subTable = table.subTable(15, true, 60,
+			false);
+		assertEquals(new ArrayList<>(treeMap.subMap(15, true, 60, false).keySet()),
+			subTable.keys());
+		assertEquals(Integer.valueOf(20), subTable.getKey(0));
+		assertEquals(1, subTable.indexOf(30));
+		assertEquals(-1, subTable.indexOf(10));
+		assertEquals(new ArrayList<>(treeMap.subMap(20, false, 60, true).keySet()),
+			table.subTable(20, false, 60, true).keys());
+		assertEquals(new ArrayList<>(treeMap.headMap(40, true).keySet()),
+			table.headTable(40, true).keys());
+		assertEquals(new ArrayList<>(treeMap.tailMap(40, false).keySet()),
+			table.tailTable(40, false).keys());
+		assertEquals(Arrays.asList(30, 40),
+			subTable.tailTable(30, true).headTable(40, true).keys());
+		assertTrue(table.subTable(41, true, 49, true).isEmpty());
+		assertSame(table, table.subTable(0, true, 90, true));
+		assertThrows(IllegalArgumentException.class, () -> table.subTable(50, true, 40, true));
+
+		final List<KeyValuePair<Integer, String>> iterated = new ArrayList<>();
+		for (final KeyValuePair<Integer, String> keyValuePair : subTable)
+		{
+			iterated.add(keyValuePair);
+		}
+		assertEquals(subTable.asList(), iterated);
+		assertEquals(4, iterated.size());
+	}
+
+	/**
+	 * Test method for {@link SortedKeyValuePairTable#prefixTable(Object, BiPredicate)}
+	 */
+	@Test
+	public void testPrefixTable()
+	{
+		final SortedKeyValuePairTable<String, Integer> table = SortedKeyValuePairTable.of(Arrays
+			.asList(new KeyValuePair<>("apple", 1), new KeyValuePair<>("apricot", 2),
+				new KeyValuePair<>("banana", 3), new KeyValuePair<>("ap", 4),
+				new KeyValuePair<>("a", 5), new KeyValuePair<>("aq", 6)));
+		assertEquals(Arrays.asList("ap", "apple", "apricot"),
+			table.prefixTable("ap", String::startsWith).keys());
+		assertEquals(Arrays.asList("apple"), table.prefixTable("app", String::startsWith).keys());
+		assertTrue(table.prefixTable("c", String::startsWith).isEmpty());
+		assertEquals(6, table.prefixTable("", String::startsWith).size());
+	}
+}